@@ -243,6 +243,8 @@ public interface Exchange {
     @Deprecated
     String UNIT_OF_WORK_PROCESS_SYNC = "CamelUnitOfWorkProcessSync";
 
+    String XPATH_DOCUMENT   = "CamelXPathDocument";
+
     String XSLT_FILE_NAME   = "CamelXsltFileName";
     String XSLT_ERROR       = "CamelXsltError";
     String XSLT_FATAL_ERROR = "CamelXsltFatalError";
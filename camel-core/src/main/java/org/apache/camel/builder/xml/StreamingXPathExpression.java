@@ -0,0 +1,359 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.xpath.XPathConstants;
+
+/**
+ * A pre compiled XPath expression which is evaluated directly over a {@link XMLStreamReader}
+ * without building a DOM.
+ * <p/>
+ * Only a small subset of XPath 1.0 is supported, which covers the expressions typically used in
+ * content based routers:
+ * <ul>
+ *     <li>location paths using the child axis only, such as <tt>/order/customer/name</tt> or <tt>order/*&#47;name</tt></li>
+ *     <li>optionally ending with an attribute <tt>/order/@type</tt> or a text node <tt>/order/name/text()</tt> step</li>
+ *     <li>optionally compared to a string literal using <tt>=</tt> or <tt>!=</tt>, such as <tt>/order/@type = 'gold'</tt></li>
+ * </ul>
+ * Use {@link #compile(String, NamespaceContext)} which returns <tt>null</tt> if the expression is not
+ * in the supported subset, in which case the expression must be evaluated by a regular XPath engine.
+ * <p/>
+ * Only the {@link XPathConstants#BOOLEAN}, {@link XPathConstants#STRING} and {@link XPathConstants#NUMBER}
+ * result types can be evaluated in streaming mode, as node results requires a DOM.
+ * <p/>
+ * This class is thread safe.
+ */
+public final class StreamingXPathExpression {
+
+    private final String text;
+    private final QName[] steps;
+    private final QName attribute;
+    private final boolean textNode;
+    private final String literal;
+    private final boolean notEquals;
+
+    private StreamingXPathExpression(String text, QName[] steps, QName attribute, boolean textNode, String literal, boolean notEquals) {
+        this.text = text;
+        this.steps = steps;
+        this.attribute = attribute;
+        this.textNode = textNode;
+        this.literal = literal;
+        this.notEquals = notEquals;
+    }
+
+    /**
+     * Compiles the expression into a streaming expression.
+     *
+     * @param text              the xpath expression
+     * @param namespaceContext  the namespace context used to resolve prefixes
+     * @return the streaming expression, or <tt>null</tt> if the expression is not in the supported subset.
+     */
+    public static StreamingXPathExpression compile(String text, NamespaceContext namespaceContext) {
+        if (text == null) {
+            return null;
+        }
+        String path = text.trim();
+        String literal = null;
+        boolean notEquals = false;
+
+        // the comparison must be last and be against a quoted string literal
+        if (path.endsWith("'") || path.endsWith("\"")) {
+            char quote = path.charAt(path.length() - 1);
+            int start = path.lastIndexOf(quote, path.length() - 2);
+            if (start < 0) {
+                return null;
+            }
+            literal = path.substring(start + 1, path.length() - 1);
+            String left = path.substring(0, start).trim();
+            if (left.endsWith("!=")) {
+                notEquals = true;
+                path = left.substring(0, left.length() - 2).trim();
+            } else if (left.endsWith("=")) {
+                path = left.substring(0, left.length() - 1).trim();
+            } else {
+                return null;
+            }
+        }
+
+        if (path.isEmpty() || path.startsWith("//") || path.endsWith("/")) {
+            return null;
+        }
+        if (path.startsWith("/")) {
+            // a relative path is evaluated from the document so its the same as an absolute path
+            path = path.substring(1);
+        }
+
+        List<QName> steps = new ArrayList<QName>();
+        QName attribute = null;
+        boolean textNode = false;
+        String[] parts = path.split("/", -1);
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            boolean last = i == parts.length - 1;
+            if (last && "text()".equals(part)) {
+                textNode = true;
+            } else if (last && part.startsWith("@")) {
+                attribute = toQName(part.substring(1), namespaceContext, true);
+                if (attribute == null) {
+                    return null;
+                }
+            } else {
+                QName name = toQName(part, namespaceContext, false);
+                if (name == null) {
+                    return null;
+                }
+                steps.add(name);
+            }
+        }
+        if (steps.isEmpty()) {
+            return null;
+        }
+
+        return new StreamingXPathExpression(text, steps.toArray(new QName[steps.size()]), attribute, textNode, literal, notEquals);
+    }
+
+    private static QName toQName(String name, NamespaceContext namespaceContext, boolean attribute) {
+        if ("*".equals(name)) {
+            return attribute ? null : new QName("*", "*");
+        }
+        String prefix = XMLConstants.DEFAULT_NS_PREFIX;
+        String localName = name;
+        int pos = name.indexOf(':');
+        if (pos > 0) {
+            prefix = name.substring(0, pos);
+            localName = name.substring(pos + 1);
+        }
+        if (!isNCName(prefix, true) || !isNCName(localName, false)) {
+            return null;
+        }
+        String uri = XMLConstants.NULL_NS_URI;
+        if (!prefix.isEmpty()) {
+            // unprefixed names are always in no namespace in XPath 1.0
+            uri = namespaceContext != null ? namespaceContext.getNamespaceURI(prefix) : null;
+            if (uri == null || uri.isEmpty()) {
+                return null;
+            }
+        }
+        return new QName(uri, localName, prefix);
+    }
+
+    private static boolean isNCName(String name, boolean allowEmpty) {
+        if (name.isEmpty()) {
+            return allowEmpty;
+        }
+        if (!Character.isLetter(name.charAt(0)) && name.charAt(0) != '_') {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '-' && ch != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the given result type can be evaluated in streaming mode
+     */
+    public static boolean isSupportedResultType(QName resultQName) {
+        return XPathConstants.BOOLEAN.equals(resultQName) || XPathConstants.STRING.equals(resultQName)
+            || XPathConstants.NUMBER.equals(resultQName);
+    }
+
+    /**
+     * Evaluates the expression over the reader.
+     * <p/>
+     * The reader is read only as far as needed to compute the result, and it is not closed.
+     *
+     * @param reader       the reader positioned at the start of the document
+     * @param resultQName  the result type, must be a {@link #isSupportedResultType(QName) supported} type
+     * @return the result as {@link Boolean}, {@link String} or {@link Double} depending on the result type
+     */
+    public Object evaluate(XMLStreamReader reader, QName resultQName) throws XMLStreamException {
+        if (!isSupportedResultType(resultQName)) {
+            throw new IllegalArgumentException("Result type " + resultQName + " not supported in streaming mode");
+        }
+
+        Cursor cursor = new Cursor(reader);
+        Object value;
+        if (literal != null) {
+            // a comparison of a node-set is true if any of the nodes satisfies the comparison
+            value = Boolean.FALSE;
+            String next = cursor.next(true);
+            while (next != null) {
+                if (notEquals != literal.equals(next)) {
+                    value = Boolean.TRUE;
+                    break;
+                }
+                next = cursor.next(true);
+            }
+        } else if (XPathConstants.BOOLEAN.equals(resultQName)) {
+            value = cursor.next(false) != null;
+        } else {
+            value = cursor.next(true);
+            if (value == null) {
+                value = "";
+            }
+        }
+
+        if (XPathConstants.BOOLEAN.equals(resultQName)) {
+            return value instanceof Boolean ? value : ((String) value).length() > 0;
+        } else if (XPathConstants.STRING.equals(resultQName)) {
+            return value.toString();
+        } else {
+            if (value instanceof Boolean) {
+                return (Boolean) value ? 1d : 0d;
+            }
+            try {
+                return Double.valueOf(((String) value).trim());
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * Walks the document for a single evaluation and keeps track of the current position.
+     */
+    private final class Cursor {
+        private final XMLStreamReader reader;
+        // the depth of the current element, and how many of the leading steps the current path matches
+        private int depth;
+        private int matched;
+        private StringBuilder textRun;
+
+        Cursor(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Advances the reader to the next matching node and returns its string-value, or <tt>null</tt> if
+         * there are no more matches. When the value is not needed an empty string is returned on a match.
+         */
+        String next(boolean needValue) throws XMLStreamException {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                String answer = null;
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    answer = endTextRun();
+                    depth++;
+                    if (matched == depth - 1 && depth <= steps.length && matches(steps[depth - 1], reader)) {
+                        matched = depth;
+                        if (matched == steps.length && attribute != null) {
+                            answer = attributeValue(reader, attribute);
+                        } else if (matched == steps.length && !textNode) {
+                            if (needValue) {
+                                // reading the element text consumes the end element
+                                answer = readElementText(reader);
+                                matched--;
+                                depth--;
+                            } else {
+                                answer = "";
+                            }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    answer = endTextRun();
+                    if (matched == depth) {
+                        matched--;
+                    }
+                    depth--;
+                } else if (textNode && matched == steps.length && depth == steps.length && isText(event)) {
+                    if (textRun == null) {
+                        textRun = new StringBuilder();
+                    }
+                    textRun.append(reader.getText());
+                }
+                if (answer != null) {
+                    return answer;
+                }
+            }
+            return null;
+        }
+
+        private String endTextRun() {
+            if (textRun != null) {
+                String answer = textRun.toString();
+                textRun = null;
+                return answer;
+            }
+            return null;
+        }
+    }
+
+    private static String attributeValue(XMLStreamReader reader, QName attribute) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String uri = reader.getAttributeNamespace(i);
+            if (uri == null) {
+                uri = XMLConstants.NULL_NS_URI;
+            }
+            if (attribute.getLocalPart().equals(reader.getAttributeLocalName(i)) && attribute.getNamespaceURI().equals(uri)) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(QName step, XMLStreamReader reader) {
+        if ("*".equals(step.getLocalPart()) && "*".equals(step.getNamespaceURI())) {
+            return true;
+        }
+        String uri = reader.getNamespaceURI();
+        if (uri == null) {
+            uri = XMLConstants.NULL_NS_URI;
+        }
+        return step.getLocalPart().equals(reader.getLocalName()) && step.getNamespaceURI().equals(uri);
+    }
+
+    /**
+     * Reads the string-value of the current element, which is the concatenation of all its descendant text,
+     * leaving the reader at its end element.
+     */
+    private static String readElementText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int level = 1;
+        while (level > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                level++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                level--;
+            } else if (isText(event)) {
+                sb.append(reader.getText());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA || event == XMLStreamConstants.SPACE;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingXPath: " + text;
+    }
+}
@@ -27,6 +27,8 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
 import javax.xml.xpath.XPath;
@@ -101,6 +103,9 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
     private final MessageVariableResolver variableResolver = new MessageVariableResolver(exchange);
     private final Map<String, String> namespaces = new ConcurrentHashMap<String, String>();
     private boolean threadSafety;
+    private volatile boolean streaming;
+    private volatile boolean documentCache;
+    private volatile StreamingXPathExpression streamingExpression;
     private volatile XPathFactory xpathFactory;
     private volatile Class<?> documentType = Document.class;
     // For some reason the default expression of "a/b" on a document such as
@@ -482,6 +487,42 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         return this;
     }
 
+    /**
+     * Whether to evaluate the expression directly over a StAX stream of the message, without building a DOM.
+     * <p/>
+     * Only a subset of XPath is supported in streaming mode, which is simple paths using the child axis, optionally
+     * ending with an attribute or text step, and optionally compared to a string literal, such as
+     * <tt>/order/@type = 'gold'</tt>. Only boolean, string and number results are supported.
+     * If the expression or result type is not supported, or the message is already a DOM,
+     * then the expression is evaluated as usual.
+     * <p/>
+     * Streaming is disabled by default
+     *
+     * @return the current builder.
+     * @see StreamingXPathExpression
+     */
+    public XPathBuilder streaming() {
+        setStreaming(true);
+        return this;
+    }
+
+    /**
+     * Whether to cache the DOM document parsed from the message body on the exchange, so multiple xpath expressions
+     * evaluated on the same message body, such as the predicates in a content based router, only parse the
+     * message once.
+     * <p/>
+     * The cached document is only used as long as the message body has not been changed, and is not shared
+     * with copies of the exchange.
+     * <p/>
+     * Document caching is disabled by default
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder documentCache() {
+        setDocumentCache(true);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -537,6 +578,22 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         this.threadSafety = threadSafety;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isDocumentCache() {
+        return documentCache;
+    }
+
+    public void setDocumentCache(boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
     /**
      * Gets the namespace context, can be <tt>null</tt> if no custom context has been assigned.
      * <p/>
@@ -828,6 +885,16 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
      * Evaluates the expression as the given result type
      */
     protected Object evaluateAs(Exchange exchange, QName resultQName) {
+        if (streaming && StreamingXPathExpression.isSupportedResultType(resultQName)) {
+            StreamingXPathExpression expression = getStreamingExpression();
+            if (expression != null) {
+                Object answer = doInEvaluateStreaming(expression, exchange, resultQName);
+                if (answer != null) {
+                    return answer;
+                }
+            }
+        }
+
         // pool a pre compiled expression from pool
         XPathExpression xpathExpression = pool.poll();
         if (xpathExpression == null) {
@@ -956,13 +1023,19 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
                     document = getDocument(exchange, headerObject);
                 }
             } else {
-                // only convert to input stream if really needed
-                if (isInputStreamNeeded(exchange)) {
-                    is = exchange.getIn().getBody(InputStream.class);
-                    document = getDocument(exchange, is);
-                } else {
-                    Object body = exchange.getIn().getBody();
-                    document = getDocument(exchange, body);
+                Object body = exchange.getIn().getBody();
+                document = documentCache ? getCachedDocument(exchange, body) : null;
+                if (document == null) {
+                    // only convert to input stream if really needed
+                    if (isInputStreamNeeded(exchange)) {
+                        is = exchange.getIn().getBody(InputStream.class);
+                        document = getDocument(exchange, is);
+                    } else {
+                        document = getDocument(exchange, body);
+                    }
+                    if (documentCache && document instanceof Document) {
+                        exchange.setProperty(Exchange.XPATH_DOCUMENT, new CachedDocument(exchange.getExchangeId(), body, (Document) document));
+                    }
                 }
             }
 
@@ -1022,6 +1095,94 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         return answer;
     }
 
+    /**
+     * Evaluates the expression in streaming mode.
+     *
+     * @return the result, or <tt>null</tt> if the message cannot be streamed and must be evaluated using a DOM instead
+     */
+    protected Object doInEvaluateStreaming(StreamingXPathExpression expression, Exchange exchange, QName resultQName) {
+        Object source;
+        if (ObjectHelper.isNotEmpty(getHeaderName())) {
+            source = exchange.getIn().getHeader(getHeaderName());
+        } else {
+            source = exchange.getIn().getBody();
+            if (documentCache && getCachedDocument(exchange, source) != null) {
+                // the body has already been parsed
+                return null;
+            }
+        }
+        if (source == null || source instanceof Node || source instanceof DOMSource) {
+            // already a DOM so no need for streaming
+            return null;
+        }
+
+        LOG.trace("Evaluating exchange: {} as: {} using streaming", exchange, resultQName);
+
+        InputStream is = null;
+        XMLStreamReader reader = null;
+        try {
+            if (source instanceof String) {
+                reader = exchange.getContext().getTypeConverter().convertTo(XMLStreamReader.class, exchange, source);
+            } else {
+                is = exchange.getContext().getTypeConverter().convertTo(InputStream.class, exchange, source);
+                if (is != null) {
+                    reader = exchange.getContext().getTypeConverter().convertTo(XMLStreamReader.class, exchange, is);
+                }
+            }
+            if (reader == null) {
+                LOG.trace("Cannot stream: {} so evaluating using a DOM instead", source);
+                return null;
+            }
+            Object answer = expression.evaluate(reader, resultQName);
+            LOG.trace("Done evaluating exchange: {} as: {} using streaming with result: {}", new Object[]{exchange, resultQName, answer});
+            return answer;
+        } catch (XMLStreamException e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    LOG.trace("Error closing XMLStreamReader. This exception is ignored.", e);
+                }
+            }
+            // IOHelper can handle if is is null
+            IOHelper.close(is);
+            // call the reset if the in message body is StreamCache
+            MessageHelper.resetStreamCache(exchange.getIn());
+        }
+    }
+
+    /**
+     * Gets the streaming expression, or <tt>null</tt> if the expression is not supported in streaming mode.
+     */
+    protected StreamingXPathExpression getStreamingExpression() {
+        // ensure we are started
+        try {
+            start();
+        } catch (Exception e) {
+            throw new RuntimeExpressionException("Error starting XPathBuilder", e);
+        }
+        return streamingExpression;
+    }
+
+    /**
+     * Gets the DOM document which has previously been parsed from the given message body of the exchange,
+     * if the document cache is in use.
+     */
+    protected Document getCachedDocument(Exchange exchange, Object body) {
+        if (body == null || (documentType != null && !documentType.isAssignableFrom(Document.class))) {
+            return null;
+        }
+        CachedDocument cached = exchange.getProperty(Exchange.XPATH_DOCUMENT, CachedDocument.class);
+        // the document must be parsed from this very body, and must not be shared with a copy of the exchange
+        if (cached != null && cached.body == body && exchange.getExchangeId().equals(cached.exchangeId)) {
+            LOG.trace("Using cached document for exchange: {}", exchange);
+            return cached.document;
+        }
+        return null;
+    }
+
     /**
      * Creates a new xpath expression as there we no available in the pool.
      * <p/>
@@ -1266,6 +1427,13 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         if (simpleFunction == null) {
             simpleFunction = createSimpleFunction();
         }
+
+        if (streaming && streamingExpression == null) {
+            streamingExpression = StreamingXPathExpression.compile(text, namespaceContext);
+            if (streamingExpression == null) {
+                LOG.debug("XPath expression: {} is not supported in streaming mode, and will be evaluated using a DOM", text);
+            }
+        }
     }
 
     @Override
@@ -1337,4 +1505,24 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         return factory;
     }
 
+    /**
+     * A DOM document parsed from a message body, which is stored on the exchange.
+     */
+    private static final class CachedDocument {
+        private final String exchangeId;
+        private final Object body;
+        private final Document document;
+
+        private CachedDocument(String exchangeId, Object body, Document document) {
+            this.exchangeId = exchangeId;
+            this.body = body;
+            this.document = document;
+        }
+
+        @Override
+        public String toString() {
+            return "CachedDocument[" + exchangeId + "]";
+        }
+    }
+
 }
@@ -23,6 +23,17 @@ public final class BeanConstants {
 
     public static final String BEAN_PARAMETER_MAPPING_STRATEGY = "CamelBeanParameterMappingStrategy";
 
+    /**
+     * Global option to invoke bean methods using pre compiled {@link java.lang.invoke.MethodHandle}s instead of reflection.
+     */
+    public static final String BEAN_METHOD_HANDLE_INVOCATION = "CamelBeanMethodHandleInvocation";
+
+    /**
+     * Global option to remember the bean method chosen per message body type, using a LRU cache of the given size.
+     * The cache is disabled by default.
+     */
+    public static final String BEAN_CHOSEN_METHOD_CACHE_SIZE = "CamelBeanChosenMethodCacheSize";
+
     private BeanConstants() {
         // Utility class
     }
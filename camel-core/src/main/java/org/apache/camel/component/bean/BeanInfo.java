@@ -52,6 +52,7 @@ import org.apache.camel.language.LanguageAnnotation;
 import org.apache.camel.spi.Registry;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.IntrospectionSupport;
+import org.apache.camel.util.LRUCacheFactory;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
 import org.apache.camel.util.StringQuoteHelper;
@@ -79,6 +80,9 @@ public class BeanInfo {
     private List<MethodInfo> operationsWithHandlerAnnotation = new ArrayList<MethodInfo>();
     private Map<Method, MethodInfo> methodMap = new HashMap<Method, MethodInfo>();
     private boolean publicConstructors;
+    // the methods chosen per message body type, for InOnly and InOut exchanges (only if enabled)
+    private Map<Class<?>, MethodInfo> chosenMethods;
+    private Map<Class<?>, MethodInfo> chosenOutMethods;
 
     static {
         // exclude all java.lang.Object methods as we dont want to invoke them
@@ -126,6 +130,8 @@ public class BeanInfo {
             operationsWithHandlerAnnotation = beanInfo.operationsWithHandlerAnnotation;
             methodMap = beanInfo.methodMap;
             publicConstructors = beanInfo.publicConstructors;
+            chosenMethods = beanInfo.chosenMethods;
+            chosenOutMethods = beanInfo.chosenOutMethods;
             return;
         }
 
@@ -158,6 +164,12 @@ public class BeanInfo {
         operationsWithHandlerAnnotation = Collections.unmodifiableList(operationsWithHandlerAnnotation);
         methodMap = Collections.unmodifiableMap(methodMap);
 
+        int chosenMethodCacheSize = getChosenMethodCacheSize(camelContext);
+        if (chosenMethodCacheSize > 0) {
+            chosenMethods = LRUCacheFactory.newLRUCache(16, chosenMethodCacheSize, false);
+            chosenOutMethods = LRUCacheFactory.newLRUCache(16, chosenMethodCacheSize, false);
+        }
+
         // add new bean info to cache
         component.addBeanInfoToCache(key, this);
     }
@@ -284,7 +296,11 @@ public class BeanInfo {
 
         if (methodInfo == null && methodMap.size() >= 2) {
             // only try to choose if there is at least 2 methods
-            methodInfo = chooseMethod(pojo, exchange, null);
+            if (chosenMethods != null) {
+                methodInfo = chooseMethodByBodyType(pojo, exchange);
+            } else {
+                methodInfo = chooseMethod(pojo, exchange, null);
+            }
         }
         if (methodInfo == null) {
             methodInfo = defaultMethod;
@@ -298,6 +314,33 @@ public class BeanInfo {
         return null;
     }
 
+    /**
+     * Chooses the method to invoke when no method name was given, and remembers the choice for the type of the
+     * message body, so the method selection is only done once per body type.
+     * <p/>
+     * The choice only depends on the type of the body and the exchange pattern, unless the exchange has failed
+     * or the body had to be converted to match a method, and therefore only such choices are remembered.
+     */
+    private MethodInfo chooseMethodByBodyType(Object pojo, Exchange exchange) throws AmbiguousMethodCallException {
+        Object body = exchange.getIn().getBody();
+        boolean cacheable = body != null && exchange.getException() == null && exchange.getProperty(Exchange.EXCEPTION_CAUGHT) == null;
+        Map<Class<?>, MethodInfo> chosen = exchange.getPattern().isOutCapable() ? chosenOutMethods : chosenMethods;
+
+        MethodInfo answer = cacheable ? chosen.get(body.getClass()) : null;
+        if (answer == null) {
+            answer = chooseMethod(pojo, exchange, null);
+            if (cacheable && answer != null && body == exchange.getIn().getBody()) {
+                chosen.put(body.getClass(), answer);
+            }
+        }
+        return answer;
+    }
+
+    private static int getChosenMethodCacheSize(CamelContext camelContext) {
+        String size = camelContext.getGlobalOption(BeanConstants.BEAN_CHOSEN_METHOD_CACHE_SIZE);
+        return size != null ? Integer.parseInt(size) : 0;
+    }
+
     /**
      * Introspects the given class
      *
@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationTargetException;
@@ -74,6 +77,8 @@ public class MethodInfo {
     private Method method;
     private final List<ParameterInfo> parameters;
     private final List<ParameterInfo> bodyParameters;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle methodHandle;
     private final boolean hasCustomAnnotation;
     private final boolean hasHandlerAnnotation;
     private Expression parametersExpression;
@@ -119,7 +124,12 @@ public class MethodInfo {
         this.bodyParameters = bodyParameters;
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
+        this.parameterTypes = new Class<?>[parameters.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = parameters.get(i).getType();
+        }
         this.parametersExpression = createParametersExpression();
+        this.methodHandle = isMethodHandleInvocation(camelContext) ? createMethodHandle(method, parameterTypes.length) : null;
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
 
@@ -477,6 +487,9 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (methodHandle != null && mth == method) {
+            return invokeMethodHandle(pojo, arguments, exchange);
+        }
         try {
             return mth.invoke(pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -486,6 +499,79 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Invokes the method using the pre compiled method handle, which avoids the overhead of reflection.
+     * <p/>
+     * Any exception thrown by the method itself is wrapped in a {@link InvocationTargetException} to behave as reflection,
+     * whereas failures adapting the arguments are reported as a {@link RuntimeExchangeException}.
+     */
+    private Object invokeMethodHandle(Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        // validate the arguments beforehand so we fail the same way as reflection would do
+        if (arguments != null) {
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Object argument = arguments[i];
+                Class<?> parameterType = parameterTypes[i];
+                boolean valid = argument == null
+                    ? !parameterType.isPrimitive()
+                    : ObjectHelper.convertPrimitiveTypeToWrapperType(parameterType).isInstance(argument);
+                if (!valid) {
+                    throw new RuntimeExchangeException("IllegalArgumentException occurred invoking method: " + method + " using arguments: " + Arrays.asList(arguments),
+                        exchange, new IllegalArgumentException("argument type mismatch"));
+                }
+            }
+        }
+        try {
+            return (Object) methodHandle.invokeExact(pojo, arguments);
+        } catch (InvocationTargetException e) {
+            // thrown by the method itself
+            throw e;
+        } catch (RuntimeException e) {
+            // such as ClassCastException or WrongMethodTypeException from adapting the arguments
+            throw new RuntimeExchangeException(e.getClass().getSimpleName() + " occurred invoking method: " + method + " using arguments: " + Arrays.asList(arguments), exchange, e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Used by the method handle to wrap exceptions thrown by the method itself.
+     */
+    private static Object throwTargetException(Throwable cause) throws InvocationTargetException {
+        throw new InvocationTargetException(cause);
+    }
+
+    private static boolean isMethodHandleInvocation(CamelContext camelContext) {
+        return camelContext != null && "true".equalsIgnoreCase(camelContext.getGlobalOption(BeanConstants.BEAN_METHOD_HANDLE_INVOCATION));
+    }
+
+    /**
+     * Creates a method handle with the signature <tt>(Object pojo, Object[] arguments)Object</tt> for invoking the method.
+     *
+     * @return the method handle, or <tt>null</tt> if not possible to create, in which case reflection is used.
+     */
+    private static MethodHandle createMethodHandle(Method method, int parameterCount) {
+        try {
+            MethodHandle answer = MethodHandles.publicLookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                // the pojo is not used for static methods
+                answer = MethodHandles.dropArguments(answer, 0, Object.class);
+            }
+            // wrap exceptions thrown by the method only, so they can be told apart from adapter failures
+            MethodHandle handler = MethodHandles.lookup().findStatic(MethodInfo.class, "throwTargetException",
+                MethodType.methodType(Object.class, Throwable.class));
+            handler = handler.asType(MethodType.methodType(answer.type().returnType(), Throwable.class));
+            handler = MethodHandles.dropArguments(handler, 1, answer.type().parameterList());
+            answer = MethodHandles.catchException(answer, Throwable.class, handler);
+            answer = answer.asSpreader(Object[].class, parameterCount);
+            return answer.asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (Throwable e) {
+            LOG.debug("Cannot create MethodHandle for method: {} due {}. Will use reflection instead.", method, e.getMessage());
+            return null;
+        }
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -693,7 +779,7 @@ public class MethodInfo {
                 // grab the parameter value for the given index
                 Object parameterValue = it != null && it.hasNext() ? it.next() : null;
                 // and the expected parameter type
-                Class<?> parameterType = parameters.get(i).getType();
+                Class<?> parameterType = parameterTypes[i];
                 // the value for the parameter to use
                 Object value = null;
 
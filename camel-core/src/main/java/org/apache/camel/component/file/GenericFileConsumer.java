@@ -344,6 +344,19 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
      * to be processed, for some reason (not found, or aborted etc)
      */
     protected boolean processExchange(final Exchange exchange) {
+        return processExchange(exchange, operations);
+    }
+
+    /**
+     * Processes the exchange using the given operations, which allows consumers to process
+     * several files concurrently, each using their own operations.
+     *
+     * @param exchange   the exchange
+     * @param operations the operations to use for retrieving and committing the file
+     * @return <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not started
+     * to be processed, for some reason (not found, or aborted etc)
+     */
+    protected boolean processExchange(final Exchange exchange, final GenericFileOperations<T> operations) {
         GenericFile<T> file = getExchangeFileProperty(exchange);
         log.trace("Processing file: {}", file);
 
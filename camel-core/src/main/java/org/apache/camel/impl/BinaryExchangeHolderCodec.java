@@ -0,0 +1,342 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.util.CamelObjectInputStream;
+
+/**
+ * A compact binary codec for {@link DefaultExchangeHolder} which is used by the persistent aggregation repositories.
+ * <p/>
+ * Values of the common types (String, numbers, Boolean, Character, Date, byte[], and lists of these) are written
+ * as a type tag followed by the value, without using Java serialization. Any other value, such as a custom
+ * message body or an exception, is written using Java serialization as a fallback.
+ * <p/>
+ * The encoded data starts with the {@link #MAGIC} byte and a version byte, which allows readers to detect the
+ * format and tell it apart from data written using Java serialization, see {@link #isBinary(byte[], int, int)}.
+ */
+public final class BinaryExchangeHolderCodec {
+
+    /**
+     * The first byte of encoded data. This can never be the first byte of Java serialized data, or Java serialized
+     * data which has been prefixed with its length as an int.
+     */
+    public static final byte MAGIC = (byte) 0xCB;
+    public static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte CHARACTER = 9;
+    private static final byte DATE = 10;
+    private static final byte BIG_INTEGER = 11;
+    private static final byte BIG_DECIMAL = 12;
+    private static final byte BYTES = 13;
+    private static final byte LIST = 14;
+    private static final byte SERIALIZED = 127;
+
+    private BinaryExchangeHolderCodec() {
+    }
+
+    /**
+     * Whether the data is encoded by this codec.
+     */
+    public static boolean isBinary(byte[] data, int offset, int length) {
+        return data != null && length >= 2 && data[offset] == MAGIC;
+    }
+
+    /**
+     * Encodes the holder.
+     */
+    public static byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bos);
+        encode(holder, out);
+        out.flush();
+        return bos.toByteArray();
+    }
+
+    /**
+     * Encodes the holder to the output.
+     */
+    public static void encode(DefaultExchangeHolder holder, DataOutput out) throws IOException {
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        writeString(out, holder.getExchangeId());
+        writeValue(out, holder.getInBody());
+        writeValue(out, holder.getOutBody());
+        writeFlag(out, holder.getInFaultFlag());
+        writeFlag(out, holder.getOutFaultFlag());
+        writeMap(out, holder.getInHeaders());
+        writeMap(out, holder.getOutHeaders());
+        writeMap(out, holder.getProperties());
+        writeValue(out, holder.getException());
+    }
+
+    /**
+     * Decodes the holder.
+     *
+     * @param camelContext the camel context used for loading classes of Java serialized values
+     * @param data         the encoded data
+     */
+    public static DefaultExchangeHolder decode(CamelContext camelContext, byte[] data) throws IOException {
+        return decode(camelContext, new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    /**
+     * Decodes the holder from the input.
+     *
+     * @param camelContext the camel context used for loading classes of Java serialized values
+     * @param in           the input positioned at the start of the encoded data
+     */
+    public static DefaultExchangeHolder decode(CamelContext camelContext, DataInput in) throws IOException {
+        byte magic = in.readByte();
+        if (magic != MAGIC) {
+            throw new StreamCorruptedException("Invalid magic byte: " + magic);
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported version: " + version);
+        }
+
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setExchangeId(readString(in));
+        holder.setInBody(readValue(camelContext, in));
+        holder.setOutBody(readValue(camelContext, in));
+        holder.setInFaultFlag(readFlag(in));
+        holder.setOutFaultFlag(readFlag(in));
+        holder.setInHeaders(readMap(camelContext, in));
+        holder.setOutHeaders(readMap(camelContext, in));
+        holder.setProperties(readMap(camelContext, in));
+        holder.setException((Exception) readValue(camelContext, in));
+        return holder;
+    }
+
+    private static void writeFlag(DataOutput out, Boolean flag) throws IOException {
+        out.writeByte(flag == null ? 0 : flag ? 2 : 1);
+    }
+
+    private static Boolean readFlag(DataInput in) throws IOException {
+        byte flag = in.readByte();
+        return flag == 0 ? null : flag == 2;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            // not using writeUTF as that is limited to 64kb
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeMap(DataOutput out, Map<String, Object> map) throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(CamelContext camelContext, DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<String, Object>(size);
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, readValue(camelContext, in));
+        }
+        return map;
+    }
+
+    private static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value.getClass() == BigInteger.class) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (value.getClass() == BigDecimal.class) {
+            out.writeByte(BIG_DECIMAL);
+            writeString(out, value.toString());
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value.getClass() == ArrayList.class && isSimpleList((List<?>) value)) {
+            // aggregated bodies are often lists of simple values
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else {
+            out.writeByte(SERIALIZED);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ObjectOutputStream oos = new ObjectOutputStream(bos);
+            oos.writeObject(value);
+            oos.close();
+            writeBytes(out, bos.toByteArray());
+        }
+    }
+
+    private static boolean isSimpleList(List<?> list) {
+        for (Object element : list) {
+            if (element != null && !(element instanceof String) && !(element instanceof Integer) && !(element instanceof Long)
+                && !(element instanceof Boolean) && !(element instanceof Double) && !(element instanceof byte[])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object readValue(CamelContext camelContext, DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+        case NULL:
+            return null;
+        case STRING:
+            return readString(in);
+        case INTEGER:
+            return in.readInt();
+        case LONG:
+            return in.readLong();
+        case DOUBLE:
+            return in.readDouble();
+        case FLOAT:
+            return in.readFloat();
+        case SHORT:
+            return in.readShort();
+        case BYTE:
+            return in.readByte();
+        case BOOLEAN:
+            return in.readBoolean();
+        case CHARACTER:
+            return in.readChar();
+        case DATE:
+            return new Date(in.readLong());
+        case BIG_INTEGER:
+            return new BigInteger(readBytes(in));
+        case BIG_DECIMAL:
+            return new BigDecimal(readString(in));
+        case BYTES:
+            return readBytes(in);
+        case LIST:
+            int size = in.readInt();
+            List<Object> list = new ArrayList<Object>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readValue(camelContext, in));
+            }
+            return list;
+        case SERIALIZED:
+            byte[] data = readBytes(in);
+            ObjectInputStream ois = new CamelObjectInputStream(new ByteArrayInputStream(data), camelContext);
+            try {
+                return ois.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Cannot load class of serialized value", e);
+            } finally {
+                ois.close();
+            }
+        default:
+            throw new StreamCorruptedException("Unknown value type: " + type);
+        }
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -216,6 +216,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     private ClassLoader applicationContextClassLoader;
     private EndpointRegistry<EndpointKey> endpoints;
     private final AtomicInteger endpointKeyCounter = new AtomicInteger();
+    private volatile Map<String, EndpointUriCacheEntry> endpointUriCache;
     private final List<EndpointStrategy> endpointStrategies = new ArrayList<EndpointStrategy>();
     private final Map<String, Component> components = new ConcurrentHashMap<String, Component>();
     private final Set<Route> routes = new LinkedHashSet<Route>();
@@ -637,6 +638,12 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     }
 
     public Collection<Endpoint> removeEndpoints(String uri) throws Exception {
+        // the front cache is validated against the registry on lookup, but clear it so it does not hold on to removed endpoints
+        Map<String, EndpointUriCacheEntry> cache = endpointUriCache;
+        if (cache != null) {
+            cache.clear();
+        }
+
         Collection<Endpoint> answer = new ArrayList<Endpoint>();
         Endpoint oldEndpoint = endpoints.remove(getEndpointKey(uri));
         if (oldEndpoint != null) {
@@ -681,6 +688,16 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
 
         final String rawUri = uri;
 
+        // fast path for an uri which has been resolved before, which avoids normalizing the uri again
+        Map<String, EndpointUriCacheEntry> cache = endpointUriCache;
+        if (cache != null) {
+            EndpointUriCacheEntry entry = cache.get(rawUri);
+            // the endpoint may have been removed or replaced in the registry since it was cached
+            if (entry != null && endpoints.get(entry.key) == entry.endpoint) {
+                return entry.endpoint;
+            }
+        }
+
         // normalize uri so we can do endpoint hits with minor mistakes and parameters is not in the same order
         uri = normalizeEndpointUri(uri);
 
@@ -764,6 +781,11 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
             throw new ResolveEndpointFailedException(uri, "No component found with scheme: " + scheme);
         }
 
+        // only singletons can be cached as prototype endpoints must be created per lookup
+        if (cache != null && answer != null && answer.isSingleton()) {
+            cache.put(rawUri, new EndpointUriCacheEntry(key, answer));
+        }
+
         return answer;
     }
 
@@ -3384,6 +3406,8 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         // re-create endpoint registry as the cache size limit may be set after the constructor of this instance was called.
         // and we needed to create endpoints up-front as it may be accessed before this context is started
         endpoints = new DefaultEndpointRegistry(this, endpoints);
+        // front cache from the raw uri to the endpoint
+        endpointUriCache = LRUCacheFactory.newLRUCache(CamelContextHelper.getMaximumEndpointCacheSize(this));
         // add this as service and force pre-start them
         addService(endpoints, true, true);
         // special for executorServiceManager as want to stop it manually so false in stopOnShutdown
@@ -3548,6 +3572,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
 
         shutdownServices(endpoints.values());
         endpoints.clear();
+        endpointUriCache = null;
 
         shutdownServices(components.values());
         components.clear();
@@ -4775,4 +4800,19 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     public void setHealthCheckRegistry(HealthCheckRegistry healthCheckRegistry) {
         this.healthCheckRegistry = ObjectHelper.notNull(healthCheckRegistry, "HealthCheckRegistry");
     }
+
+    /**
+     * Entry in the front cache of resolved endpoint uris, which keeps the registry key so the entry
+     * can be validated against the {@link EndpointRegistry} without normalizing the uri.
+     */
+    private static final class EndpointUriCacheEntry {
+        private final EndpointKey key;
+        private final Endpoint endpoint;
+
+        EndpointUriCacheEntry(EndpointKey key, Endpoint endpoint) {
+            this.key = key;
+            this.endpoint = endpoint;
+        }
+    }
+
 }
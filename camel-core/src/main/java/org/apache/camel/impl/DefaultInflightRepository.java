@@ -16,15 +16,17 @@
  */
 package org.apache.camel.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,39 +40,59 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The counters are striped using {@link LongAdder} so they scale with many concurrent threads. Browsing the longest
+ * running exchanges with a limit only keeps as many exchanges as requested while visiting the inflight exchanges,
+ * instead of sorting all of them. If browsing is not needed, then it can be turned off using
+ * {@link #setInflightBrowseEnabled(boolean)}, which avoids tracking the exchanges so only the counters are updated.
  *
  * @version 
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
+    private static final Comparator<Exchange> OLDEST_FIRST = Comparator.comparingLong(DefaultInflightRepository::getExchangeCreated);
     private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<String, Exchange>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<String, AtomicInteger>();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<String, LongAdder>();
+    private final LongAdder count = new LongAdder();
+    private volatile boolean inflightBrowseEnabled = true;
 
     public void add(Exchange exchange) {
-        inflight.put(exchange.getExchangeId(), exchange);
+        if (inflightBrowseEnabled) {
+            inflight.put(exchange.getExchangeId(), exchange);
+        } else {
+            count.increment();
+        }
     }
 
     public void remove(Exchange exchange) {
-        inflight.remove(exchange.getExchangeId());
+        if (inflightBrowseEnabled) {
+            inflight.remove(exchange.getExchangeId());
+        } else {
+            count.decrement();
+        }
     }
 
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            existing.increment();
         }
     }
 
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            existing.decrement();
         }
     }
 
     public int size() {
-        return inflight.size();
+        if (inflightBrowseEnabled) {
+            return inflight.size();
+        } else {
+            return count.intValue();
+        }
     }
 
     @Deprecated
@@ -80,7 +102,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger(0));
+        routeCount.putIfAbsent(routeId, new LongAdder());
     }
 
     @Override
@@ -90,8 +112,8 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
     }
 
     @Override
@@ -111,6 +133,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public Collection<InflightExchange> browse(String fromRouteId, int limit, boolean sortByLongestDuration) {
+        if (sortByLongestDuration && limit > 0) {
+            return browseOldest(fromRouteId, limit);
+        }
+
         Stream<Exchange> values;
         if (fromRouteId == null) {
             // all values
@@ -122,13 +148,8 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         }
 
         if (sortByLongestDuration) {
-            // sort by duration and grab the first
-            values = values.sorted((e1, e2) -> {
-                long d1 = getExchangeDuration(e1);
-                long d2 = getExchangeDuration(e2);
-                // need the biggest number first
-                return -1 * Long.compare(d1, d2);
-            });
+            // sort by created and grab the first
+            values = values.sorted(OLDEST_FIRST);
         } else {
             // else sort by exchange id
             values = values.sorted(Comparator.comparing(Exchange::getExchangeId));
@@ -144,30 +165,49 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public InflightExchange oldest(String fromRouteId) {
-        Stream<Exchange> values;
+        Collection<InflightExchange> answer = browse(fromRouteId, 1, true);
+        return answer.isEmpty() ? null : answer.iterator().next();
+    }
 
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
-            // only if route match
-            values = inflight.values().stream()
-                .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+    /**
+     * Finds the oldest exchanges by only keeping up till the limit number of exchanges in a heap while visiting
+     * the inflight exchanges, so only those are sorted.
+     */
+    private Collection<InflightExchange> browseOldest(String fromRouteId, int limit) {
+        // the youngest of the kept exchanges is at the head so it can be replaced by an older exchange
+        PriorityQueue<Exchange> heap = new PriorityQueue<Exchange>(limit + 1, OLDEST_FIRST.reversed());
+        for (Exchange exchange : inflight.values()) {
+            if (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId())) {
+                heap.add(exchange);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
         }
 
-        // sort by duration and grab the first
-        Exchange first = values.sorted((e1, e2) -> {
-            long d1 = getExchangeDuration(e1);
-            long d2 = getExchangeDuration(e2);
-            // need the biggest number first
-            return -1 * Long.compare(d1, d2);
-        }).findFirst().orElse(null);
+        List<InflightExchange> answer = new ArrayList<InflightExchange>(heap.size());
+        while (!heap.isEmpty()) {
+            answer.add(new InflightExchangeEntry(heap.poll()));
+        }
+        Collections.reverse(answer);
+        return Collections.unmodifiableCollection(answer);
+    }
 
-        if (first != null) {
-            return new InflightExchangeEntry(first);
-        } else {
-            return null;
+    public boolean isInflightBrowseEnabled() {
+        return inflightBrowseEnabled;
+    }
+
+    /**
+     * Whether the inflight exchanges are tracked so they can be browsed, which is enabled by default.
+     * <p/>
+     * When disabled then only the number of inflight exchanges is counted, and browsing returns no exchanges.
+     * This can only be changed while the repository is not started.
+     */
+    public void setInflightBrowseEnabled(boolean inflightBrowseEnabled) {
+        if (isStarted()) {
+            throw new IllegalStateException("Cannot change inflight browse enabled while started");
         }
+        this.inflightBrowseEnabled = inflightBrowseEnabled;
     }
 
     @Override
@@ -185,6 +225,12 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         routeCount.clear();
     }
 
+    private static long getExchangeCreated(Exchange exchange) {
+        Date created = exchange.getCreated();
+        // exchanges without a created timestamp have no duration so they are regarded as the youngest
+        return created != null ? created.getTime() : Long.MAX_VALUE;
+    }
+
     private static long getExchangeDuration(Exchange exchange) {
         long duration = 0;
         Date created = exchange.getCreated();
@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.IOException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.NoFactoryAvailableException;
+import org.apache.camel.spi.FactoryFinder;
+import org.apache.camel.spi.SendDynamicAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves the {@link SendDynamicAware} implementation for a given component by using the URI scheme and
+ * searching for a file of the URI scheme name in the <b>META-INF/services/org/apache/camel/send-dynamic/</b>
+ * directory on the classpath.
+ */
+public class SendDynamicAwareResolver {
+
+    public static final String RESOURCE_PATH = "META-INF/services/org/apache/camel/send-dynamic/";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SendDynamicAwareResolver.class);
+
+    private FactoryFinder factoryFinder;
+
+    /**
+     * Resolves the {@link SendDynamicAware} for the given component.
+     *
+     * @param context the camel context
+     * @param scheme  the component name
+     * @return the implementation, or <tt>null</tt> if the component does not support optimised toD.
+     */
+    public SendDynamicAware resolve(CamelContext context, String scheme) {
+        Class<?> type;
+        try {
+            type = findFactory(scheme, context);
+        } catch (NoFactoryAvailableException e) {
+            // not found
+            return null;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid URI, no SendDynamicAware registered for scheme: " + scheme, e);
+        }
+
+        if (type == null) {
+            return null;
+        }
+
+        LOG.debug("Found SendDynamicAware: {} via: {}{}", new Object[]{type.getName(), factoryFinder.getResourcePath(), scheme});
+        if (SendDynamicAware.class.isAssignableFrom(type)) {
+            SendDynamicAware answer = (SendDynamicAware) context.getInjector().newInstance(type);
+            answer.setScheme(scheme);
+            return answer;
+        } else {
+            throw new IllegalArgumentException("Type is not a SendDynamicAware implementation. Found: " + type.getName());
+        }
+    }
+
+    private Class<?> findFactory(String name, CamelContext context) throws ClassNotFoundException, IOException {
+        if (factoryFinder == null) {
+            factoryFinder = context.getFactoryFinder(RESOURCE_PATH);
+        }
+        return factoryFinder.findClass(name);
+    }
+
+}
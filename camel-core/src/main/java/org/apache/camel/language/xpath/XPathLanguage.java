@@ -33,6 +33,8 @@ public class XPathLanguage extends LanguageSupport {
     private Boolean useSaxon;
     private String objectModelUri;
     private Boolean threadSafety;
+    private Boolean streaming;
+    private Boolean documentCache;
 
     public Predicate createPredicate(String expression) {
         expression = loadResource(expression);
@@ -94,10 +96,32 @@ public class XPathLanguage extends LanguageSupport {
         this.threadSafety = threadSafety;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public Boolean getDocumentCache() {
+        return documentCache;
+    }
+
+    public void setDocumentCache(Boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
     protected void configureBuilder(XPathBuilder builder) {
         if (threadSafety != null) {
             builder.setThreadSafety(threadSafety);
         }
+        if (streaming != null) {
+            builder.setStreaming(streaming);
+        }
+        if (documentCache != null) {
+            builder.setDocumentCache(documentCache);
+        }
         if (resultType != null) {
             builder.setResultQName(resultType);
         }
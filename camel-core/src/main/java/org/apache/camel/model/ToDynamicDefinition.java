@@ -60,6 +60,8 @@ public class ToDynamicDefinition extends NoOutputDefinition<ToDynamicDefinition>
     private Integer cacheSize;
     @XmlAttribute
     private Boolean ignoreInvalidEndpoint;
+    @XmlAttribute @Metadata(label = "advanced", defaultValue = "true")
+    private Boolean allowOptimisedComponents;
 
     public ToDynamicDefinition() {
     }
@@ -83,6 +85,9 @@ public class ToDynamicDefinition extends NoOutputDefinition<ToDynamicDefinition>
         if (ignoreInvalidEndpoint != null) {
             processor.setIgnoreInvalidEndpoint(ignoreInvalidEndpoint);
         }
+        if (allowOptimisedComponents != null) {
+            processor.setAllowOptimisedComponents(allowOptimisedComponents);
+        }
         return processor;
     }
 
@@ -163,6 +168,16 @@ public class ToDynamicDefinition extends NoOutputDefinition<ToDynamicDefinition>
         return this;
     }
 
+    /**
+     * Whether to allow components to optimise toD if they are {@link org.apache.camel.spi.SendDynamicAware}.
+     *
+     * @return the builder
+     */
+    public ToDynamicDefinition allowOptimisedComponents(boolean allowOptimisedComponents) {
+        setAllowOptimisedComponents(allowOptimisedComponents);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -201,6 +216,17 @@ public class ToDynamicDefinition extends NoOutputDefinition<ToDynamicDefinition>
         this.ignoreInvalidEndpoint = ignoreInvalidEndpoint;
     }
 
+    public Boolean getAllowOptimisedComponents() {
+        return allowOptimisedComponents;
+    }
+
+    /**
+     * Whether to allow components to optimise toD if they are {@link org.apache.camel.spi.SendDynamicAware}.
+     */
+    public void setAllowOptimisedComponents(Boolean allowOptimisedComponents) {
+        this.allowOptimisedComponents = allowOptimisedComponents;
+    }
+
     // Utilities
     // -------------------------------------------------------------------------
 
@@ -82,6 +82,8 @@ public class JsonDataFormat extends DataFormatDefinition {
     private Boolean allowUnmarshallType;
     @XmlAttribute
     private String timezone;
+    @XmlAttribute
+    private Boolean streaming;
 
     public JsonDataFormat() {
         super("json");
@@ -364,6 +366,21 @@ public class JsonDataFormat extends DataFormatDefinition {
         this.timezone = timezone;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * If enabled then Jackson unmarshals a JSON array to an Iterator which reads the elements one at a time,
+     * instead of reading the whole array into a List. This allows to split big JSON arrays using the streaming
+     * mode of the splitter. The unmarshal type is the type of the elements.
+     * This option will have no effect on the others Json DataFormat, like gson,
+     * fastjson and xstream.
+     */
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
     @Override
     public String getDataFormatName() {
         // json data format is special as the name can be from different bundles
@@ -454,6 +471,9 @@ public class JsonDataFormat extends DataFormatDefinition {
         if (allowUnmarshallType != null) {
             setProperty(camelContext, dataFormat, "allowUnmarshallType", allowUnmarshallType);
         }
+        if (streaming != null) {
+            setProperty(camelContext, dataFormat, "streaming", streaming);
+        }
         // if we have the unmarshal type, but no permission set, then use it to
         // be allowed
         if (permissions == null && unmarshalType != null) {
@@ -59,6 +59,10 @@ public class XPathExpression extends NamespaceAwareExpression {
     private XPathFactory xpathFactory;
     @XmlAttribute @Metadata(label = "advanced")
     private Boolean threadSafety;
+    @XmlAttribute @Metadata(label = "advanced")
+    private Boolean streaming;
+    @XmlAttribute @Metadata(label = "advanced")
+    private Boolean documentCache;
 
     public XPathExpression() {
     }
@@ -200,6 +204,32 @@ public class XPathExpression extends NamespaceAwareExpression {
         this.threadSafety = threadSafety;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to evaluate the expression directly over a StAX stream of the message, without building a DOM.
+     * Only simple paths using the child axis, optionally ending with an attribute or text step, and optionally
+     * compared to a string literal are supported in streaming mode, and only for boolean, string and number results.
+     * Other expressions are evaluated as usual.
+     */
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public Boolean getDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * Whether to cache the DOM document parsed from the message body on the exchange, so multiple xpath expressions
+     * evaluated on the same message body, such as the predicates in a content based router, only parse the message once.
+     */
+    public void setDocumentCache(Boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
     @Override
     public Expression createExpression(CamelContext camelContext) {
         if (documentType == null && documentTypeName != null) {
@@ -256,6 +286,12 @@ public class XPathExpression extends NamespaceAwareExpression {
         if (threadSafety != null) {
             setProperty(expression, "threadSafety", threadSafety);
         }
+        if (streaming != null) {
+            setProperty(expression, "streaming", streaming);
+        }
+        if (documentCache != null) {
+            setProperty(expression, "documentCache", documentCache);
+        }
         if (isLogNamespaces) {
             ObjectHelper.cast(XPathBuilder.class, expression).setLogNamespaces(true);
         }
@@ -289,6 +325,12 @@ public class XPathExpression extends NamespaceAwareExpression {
         if (threadSafety != null) {
             setProperty(predicate, "threadSafety", threadSafety);
         }
+        if (streaming != null) {
+            setProperty(predicate, "streaming", streaming);
+        }
+        if (documentCache != null) {
+            setProperty(predicate, "documentCache", documentCache);
+        }
         if (isLogNamespaces) {
             ObjectHelper.cast(XPathBuilder.class, predicate).setLogNamespaces(true);
         }
@@ -26,16 +26,20 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.Expression;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.impl.EmptyProducerCache;
 import org.apache.camel.impl.ProducerCache;
+import org.apache.camel.impl.SendDynamicAwareResolver;
 import org.apache.camel.spi.EndpointUtilizationStatistics;
 import org.apache.camel.spi.IdAware;
+import org.apache.camel.spi.SendDynamicAware;
 import org.apache.camel.support.ServiceSupport;
 import org.apache.camel.util.AsyncProcessorHelper;
 import org.apache.camel.util.EndpointHelper;
 import org.apache.camel.util.ExchangeHelper;
 import org.apache.camel.util.ServiceHelper;
+import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +58,8 @@ public class SendDynamicProcessor extends ServiceSupport implements AsyncProcess
     protected String id;
     protected boolean ignoreInvalidEndpoint;
     protected int cacheSize;
+    protected boolean allowOptimisedComponents = true;
+    protected SendDynamicAware dynamicAware;
 
     public SendDynamicProcessor(Expression expression) {
         this.uri = null;
@@ -99,9 +105,31 @@ public class SendDynamicProcessor extends ServiceSupport implements AsyncProcess
 
         // use dynamic endpoint so calculate the endpoint to use
         Object recipient = null;
+        Processor preAwareProcessor = null;
+        Processor postAwareProcessor = null;
         try {
             recipient = expression.evaluate(exchange, Object.class);
-            endpoint = resolveEndpoint(exchange, recipient);
+            String staticUri = null;
+            if (dynamicAware != null && !(recipient instanceof Endpoint)) {
+                // if its the same scheme as the pre-resolved dynamic aware component then we can optimise to use it
+                String uri = resolveUri(exchange, recipient);
+                if (uri != null && dynamicAware.getScheme().equals(resolveScheme(uri))) {
+                    SendDynamicAware.DynamicAwareEntry entry = dynamicAware.prepare(exchange, uri);
+                    staticUri = dynamicAware.resolveStaticUri(exchange, entry);
+                    if (staticUri != null) {
+                        preAwareProcessor = dynamicAware.createPreProcessor(exchange, entry);
+                        postAwareProcessor = dynamicAware.createPostProcessor(exchange, entry);
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Optimising toD via SendDynamicAware component: {} to use static uri: {}", dynamicAware.getScheme(), URISupport.sanitizeUri(staticUri));
+                        }
+                    }
+                }
+            }
+            if (staticUri != null) {
+                endpoint = resolveEndpoint(exchange, staticUri);
+            } else {
+                endpoint = resolveEndpoint(exchange, recipient);
+            }
             if (endpoint == null) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Send dynamic evaluated as null so cannot send to any endpoint");
@@ -123,14 +151,35 @@ public class SendDynamicProcessor extends ServiceSupport implements AsyncProcess
             return true;
         }
 
+        final Processor preProcessor = preAwareProcessor;
+        final Processor postProcessor = postAwareProcessor;
+
         // send the exchange to the destination using the producer cache
         return producerCache.doInAsyncProducer(endpoint, exchange, pattern, callback, new AsyncProducerCallback() {
             public boolean doInAsyncProducer(Producer producer, AsyncProcessor asyncProducer, final Exchange exchange,
                                              ExchangePattern pattern, final AsyncCallback callback) {
                 final Exchange target = configureExchange(exchange, pattern, destinationExchangePattern, endpoint);
+                if (preProcessor != null) {
+                    try {
+                        // prepare the exchange with the dynamic parts of the uri
+                        preProcessor.process(target);
+                    } catch (Throwable e) {
+                        target.setException(e);
+                        target.setPattern(existingPattern);
+                        callback.done(true);
+                        return true;
+                    }
+                }
                 LOG.debug(">>>> {} {}", endpoint, exchange);
                 return asyncProducer.process(target, new AsyncCallback() {
                     public void done(boolean doneSync) {
+                        if (postProcessor != null) {
+                            try {
+                                postProcessor.process(target);
+                            } catch (Throwable e) {
+                                target.setException(e);
+                            }
+                        }
                         // restore previous MEP
                         target.setPattern(existingPattern);
                         // signal we are done
@@ -159,6 +208,40 @@ public class SendDynamicProcessor extends ServiceSupport implements AsyncProcess
         }
     }
 
+    protected static String resolveUri(Exchange exchange, Object recipient) throws Exception {
+        if (recipient == null) {
+            return null;
+        }
+        String uri;
+        // trim strings as end users might have added spaces between separators
+        if (recipient instanceof String) {
+            uri = ((String) recipient).trim();
+        } else {
+            // convert to a string type we can work with
+            uri = exchange.getContext().getTypeConverter().mandatoryConvertTo(String.class, exchange, recipient);
+        }
+        // resolve property placeholders as the uri is parsed by the dynamic aware component
+        return exchange.getContext().resolvePropertyPlaceholders(uri);
+    }
+
+    /**
+     * Resolves the component name from the uri, or <tt>null</tt> if the scheme is not a plain name, such as when
+     * the scheme is computed dynamically.
+     */
+    protected static String resolveScheme(String uri) {
+        int pos = uri.indexOf(':');
+        if (pos <= 0) {
+            return null;
+        }
+        for (int i = 0; i < pos; i++) {
+            char ch = uri.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '-' && ch != '+' && ch != '.') {
+                return null;
+            }
+        }
+        return uri.substring(0, pos);
+    }
+
     protected Exchange configureExchange(Exchange exchange, ExchangePattern pattern, ExchangePattern destinationExchangePattern, Endpoint endpoint) {
         // destination exchange pattern overrides pattern
         if (destinationExchangePattern != null) {
@@ -184,6 +267,20 @@ public class SendDynamicProcessor extends ServiceSupport implements AsyncProcess
                 LOG.debug("DynamicSendTo {} using ProducerCache with cacheSize={}", this, cacheSize);
             }
         }
+        if (isAllowOptimisedComponents() && uri != null && dynamicAware == null) {
+            String scheme = resolveScheme(uri);
+            if (scheme != null) {
+                try {
+                    dynamicAware = new SendDynamicAwareResolver().resolve(camelContext, scheme);
+                    if (dynamicAware != null) {
+                        LOG.debug("Detected SendDynamicAware component: {} optimising toD: {}", scheme, URISupport.sanitizeUri(uri));
+                    }
+                } catch (Throwable e) {
+                    // ignore as the toD then just works without optimisation
+                    LOG.trace("Error resolving SendDynamicAware for component: " + scheme + ". This exception is ignored.", e);
+                }
+            }
+        }
         ServiceHelper.startService(producerCache);
     }
 
@@ -234,4 +331,16 @@ public class SendDynamicProcessor extends ServiceSupport implements AsyncProcess
     public void setCacheSize(int cacheSize) {
         this.cacheSize = cacheSize;
     }
+
+    public boolean isAllowOptimisedComponents() {
+        return allowOptimisedComponents;
+    }
+
+    public void setAllowOptimisedComponents(boolean allowOptimisedComponents) {
+        this.allowOptimisedComponents = allowOptimisedComponents;
+    }
+
+    public SendDynamicAware getDynamicAware() {
+        return dynamicAware;
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.camel.Traceable;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.support.ServiceSupport;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.AsyncProcessorHelper;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -83,8 +84,17 @@ public class UnmarshalProcessor extends ServiceSupport implements AsyncProcessor
             exchange.setOut(null);
             exchange.setException(e);
         } finally {
-            // The Iterator will close the stream itself
-            if (!(result instanceof Iterator)) {
+            if (result instanceof Iterator) {
+                // the Iterator reads from the stream after we return, and will close the stream itself when its done,
+                // but the iterator may not be fully read, so ensure the stream is closed when the exchange is done
+                final InputStream is = stream;
+                exchange.addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        IOHelper.close(is, "input stream");
+                    }
+                });
+            } else {
                 IOHelper.close(stream, "input stream");
             }
         }
@@ -0,0 +1,335 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces exchanges which are processed concurrently by an asynchronous producer into batches, which allows
+ * the producer to send them to the remote system using a single bulk operation.
+ * <p/>
+ * Exchanges are grouped by a key, such as the SQL statement or the target collection. A batch is processed
+ * when it reaches the {@link #setBatchSize(int) batch size}, or when the {@link #setLingerTime(long) linger time}
+ * has elapsed since the first exchange was added to the batch, whatever happens first.
+ * <p/>
+ * The {@link BatchHandler} must set the result or exception on each of the exchanges in the batch,
+ * and then the {@link AsyncCallback} of each exchange is invoked. If the handler throws an exception then
+ * the exception is set on all the exchanges in the batch which do not already have an exception.
+ * An {@link AsyncBatchHandler} can be used instead when the batch is sent using a non-blocking client,
+ * in which case the callbacks of the exchanges are invoked when the handler signals the batch is done.
+ * It is also given the data added together with each exchange, such as the statement prepared for the exchange.
+ * <p/>
+ * By default the callbacks are invoked one after the other by the thread which processed the batch. Configure a
+ * {@link #setCallbackExecutor(ExecutorService) callback executor} to let the exchanges continue routing concurrently,
+ * without delaying the next batch.
+ * <p/>
+ * You must provide a {@link ScheduledExecutorService} in the constructor which is used to process the batches.
+ * The executor is not shutdown by this batcher. When the batcher is stopped, then any pending batches are
+ * processed before returning, or started when using an {@link AsyncBatchHandler}.
+ */
+public class ExchangeBatcher<K> extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeBatcher.class);
+
+    private final ScheduledExecutorService executor;
+    private final BatchHandler<K> handler;
+    private final AsyncBatchHandler<K> asyncHandler;
+    private final Map<K, Batch> batches = new LinkedHashMap<K, Batch>();
+    private ExecutorService callbackExecutor;
+    private int batchSize = 100;
+    private long lingerTime = 10;
+
+    /**
+     * Handles a batch of exchanges.
+     */
+    public interface BatchHandler<K> {
+
+        /**
+         * Processes the batch, and sets the result or exception on each exchange.
+         *
+         * @param key       the key of the batch
+         * @param exchanges the exchanges in the order they were added
+         * @throws Exception is thrown if the entire batch failed
+         */
+        void processBatch(K key, List<Exchange> exchanges) throws Exception;
+    }
+
+    /**
+     * Handles a batch of exchanges asynchronously.
+     */
+    public interface AsyncBatchHandler<K> {
+
+        /**
+         * Starts processing the batch, and invokes the callback once the result or exception has been set on each exchange.
+         *
+         * @param key       the key of the batch
+         * @param exchanges the exchanges in the order they were added
+         * @param data      the data added with each exchange, in the same order as the exchanges
+         * @param callback  the callback to invoke when the batch has been processed
+         * @throws Exception is thrown if the entire batch failed, in which case the callback must not be invoked
+         */
+        void processBatch(K key, List<Exchange> exchanges, List<Object> data, AsyncCallback callback) throws Exception;
+    }
+
+    public ExchangeBatcher(ScheduledExecutorService executor, BatchHandler<K> handler) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        ObjectHelper.notNull(handler, "BatchHandler");
+        this.executor = executor;
+        this.handler = handler;
+        this.asyncHandler = null;
+    }
+
+    public ExchangeBatcher(ScheduledExecutorService executor, AsyncBatchHandler<K> asyncHandler) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        ObjectHelper.notNull(asyncHandler, "AsyncBatchHandler");
+        this.executor = executor;
+        this.handler = null;
+        this.asyncHandler = asyncHandler;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of exchanges in a batch.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getLingerTime() {
+        return lingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to be added to a batch before it is processed.
+     */
+    public void setLingerTime(long lingerTime) {
+        this.lingerTime = lingerTime;
+    }
+
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * An optional executor used to invoke the callbacks of the exchanges of a processed batch.
+     * <p/>
+     * The executor should reject tasks when it is saturated or shutdown (eg. using the <tt>Abort</tt> rejected policy),
+     * in which case the callback is invoked by the thread which processed the batch.
+     * The executor is not shutdown by this batcher.
+     */
+    public void setCallbackExecutor(ExecutorService callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Adds the exchange to the batch with the given key.
+     * <p/>
+     * The callback is invoked when the batch has been processed, which is asynchronously unless
+     * the batcher is stopped.
+     *
+     * @param key      the key of the batch
+     * @param exchange the exchange
+     * @param callback the callback to invoke when the batch has been processed
+     * @return <tt>true</tt> if the exchange was completed synchronously, as with {@link org.apache.camel.AsyncProcessor}
+     */
+    public boolean add(K key, Exchange exchange, AsyncCallback callback) {
+        return add(key, exchange, null, callback);
+    }
+
+    /**
+     * Adds the exchange together with its data to the batch with the given key.
+     * <p/>
+     * The data is given to the {@link AsyncBatchHandler}, so the handler does not have to compute it again.
+     *
+     * @param key      the key of the batch
+     * @param exchange the exchange
+     * @param data     the data of the exchange, such as the statement to execute
+     * @param callback the callback to invoke when the batch has been processed
+     * @return <tt>true</tt> if the exchange was completed synchronously, as with {@link org.apache.camel.AsyncProcessor}
+     */
+    public boolean add(K key, Exchange exchange, Object data, AsyncCallback callback) {
+        Batch full = null;
+        Batch created = null;
+        synchronized (batches) {
+            if (!isRunAllowed()) {
+                exchange.setException(new RejectedExecutionException("Batcher is stopped"));
+                callback.done(true);
+                return true;
+            }
+            Batch batch = batches.get(key);
+            if (batch == null) {
+                batch = new Batch(key);
+                batches.put(key, batch);
+                created = batch;
+            }
+            batch.exchanges.add(exchange);
+            batch.data.add(data);
+            batch.callbacks.add(callback);
+            if (batch.exchanges.size() >= batchSize) {
+                batches.remove(key);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            LOG.trace("Batch with key {} is full with {} exchanges", key, full.exchanges.size());
+            submit(full);
+        } else if (created != null) {
+            final Batch batch = created;
+            try {
+                executor.schedule(new Runnable() {
+                    public void run() {
+                        flush(batch);
+                    }
+                }, lingerTime, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                flush(batch);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of exchanges in the pending batches
+     */
+    public int getPendingSize() {
+        synchronized (batches) {
+            int answer = 0;
+            for (Batch batch : batches.values()) {
+                answer += batch.exchanges.size();
+            }
+            return answer;
+        }
+    }
+
+    private void flush(Batch batch) {
+        synchronized (batches) {
+            // the batch may already have been processed because it was full
+            if (batches.get(batch.key) != batch) {
+                return;
+            }
+            batches.remove(batch.key);
+        }
+        LOG.trace("Batch with key {} lingered with {} exchanges", batch.key, batch.exchanges.size());
+        process(batch);
+    }
+
+    private void submit(final Batch batch) {
+        try {
+            executor.execute(new Runnable() {
+                public void run() {
+                    process(batch);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            process(batch);
+        }
+    }
+
+    private void process(final Batch batch) {
+        try {
+            if (asyncHandler != null) {
+                asyncHandler.processBatch(batch.key, batch.exchanges, batch.data, new AsyncCallback() {
+                    public void done(boolean doneSync) {
+                        complete(batch);
+                    }
+                });
+                return;
+            }
+            handler.processBatch(batch.key, batch.exchanges);
+        } catch (Throwable e) {
+            for (Exchange exchange : batch.exchanges) {
+                if (exchange.getException() == null) {
+                    exchange.setException(e);
+                }
+            }
+        }
+        complete(batch);
+    }
+
+    private void complete(Batch batch) {
+        ExecutorService executorService = callbackExecutor;
+        for (final AsyncCallback callback : batch.callbacks) {
+            if (executorService != null && !executorService.isShutdown()) {
+                try {
+                    executorService.execute(new Runnable() {
+                        public void run() {
+                            invoke(callback);
+                        }
+                    });
+                    continue;
+                } catch (RejectedExecutionException e) {
+                    LOG.trace("Callback executor rejected the callback, invoking it in the current thread");
+                }
+            }
+            invoke(callback);
+        }
+    }
+
+    private static void invoke(AsyncCallback callback) {
+        try {
+            callback.done(false);
+        } catch (Throwable e) {
+            LOG.warn("Error invoking callback. This exception is ignored.", e);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // noop
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // process the pending batches before we stop
+        List<Batch> pending;
+        synchronized (batches) {
+            pending = new ArrayList<Batch>(batches.values());
+            batches.clear();
+        }
+        for (Batch batch : pending) {
+            process(batch);
+        }
+    }
+
+    private final class Batch {
+        private final K key;
+        private final List<Exchange> exchanges = new ArrayList<Exchange>();
+        private final List<Object> data = new ArrayList<Object>();
+        private final List<AsyncCallback> callbacks = new ArrayList<AsyncCallback>();
+
+        Batch(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.runtimecatalog.RuntimeCamelCatalog;
+import org.apache.camel.spi.SendDynamicAware;
+
+/**
+ * Support class for {@link SendDynamicAware} implementations.
+ */
+public abstract class SendDynamicAwareSupport implements SendDynamicAware {
+
+    private String scheme;
+
+    @Override
+    public void setScheme(String scheme) {
+        this.scheme = scheme;
+    }
+
+    @Override
+    public String getScheme() {
+        return scheme;
+    }
+
+    /**
+     * Parses the uri into the known endpoint properties, which includes the path parameters.
+     */
+    public Map<String, String> endpointProperties(Exchange exchange, String uri) throws Exception {
+        RuntimeCamelCatalog catalog = exchange.getContext().getRuntimeCamelCatalog();
+        return catalog.endpointProperties(uri);
+    }
+
+    /**
+     * Parses the uri into the lenient properties, which are the query parameters not known by the endpoint,
+     * for endpoints that allow lenient properties.
+     */
+    public Map<String, String> endpointLenientProperties(Exchange exchange, String uri) throws Exception {
+        RuntimeCamelCatalog catalog = exchange.getContext().getRuntimeCamelCatalog();
+        return catalog.endpointLenientProperties(uri);
+    }
+}
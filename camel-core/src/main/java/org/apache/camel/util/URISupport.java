@@ -22,6 +22,7 @@ import java.net.URISyntaxException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -529,6 +530,11 @@ public final class URISupport {
      * @see #RAW_TOKEN_END
      */
     public static String normalizeUri(String uri) throws URISyntaxException, UnsupportedEncodingException {
+        // most uris are simple and can be normalized without parsing and re-encoding
+        String simple = normalizeSimpleUri(uri);
+        if (simple != null) {
+            return simple;
+        }
 
         URI u = new URI(UnsafeUriCharactersEncoder.encode(uri, true));
         String path = u.getSchemeSpecificPart();
@@ -595,6 +601,125 @@ public final class URISupport {
         }
     }
 
+    /**
+     * Normalizes the uri if its a simple uri which only uses characters that are never encoded, and where
+     * the query parameters (if any) are unique <tt>key=value</tt> pairs. This gives the same result as
+     * {@link #normalizeUri(String)} without parsing into a {@link URI} and re-encoding the uri.
+     *
+     * @param uri the uri
+     * @return the normalized uri, or <tt>null</tt> if the uri is not simple and must be normalized the regular way
+     */
+    static String normalizeSimpleUri(String uri) {
+        int colon = uri.indexOf(':');
+        if (colon <= 0 || !isAsciiLetter(uri.charAt(0))) {
+            return null;
+        }
+        for (int i = 1; i < colon; i++) {
+            char ch = uri.charAt(i);
+            if (!isAsciiLetter(ch) && !isAsciiDigit(ch) && ch != '+' && ch != '-' && ch != '.') {
+                return null;
+            }
+        }
+
+        int start = colon + 1;
+        if (uri.startsWith("//", start)) {
+            start += 2;
+        }
+        int len = uri.length();
+        int end = start;
+        while (end < len && uri.charAt(end) != '?') {
+            char ch = uri.charAt(end);
+            if (!isSimpleUriChar(ch) && ch != '/' && ch != ':') {
+                return null;
+            }
+            end++;
+        }
+        if (end == start) {
+            // no path
+            return null;
+        }
+
+        String[] parameters = null;
+        int count = 0;
+        boolean sorted = true;
+        if (end < len) {
+            // split the query into key=value pairs, which must each have a non empty key and value
+            parameters = new String[4];
+            int pos = end + 1;
+            while (pos <= len) {
+                int next = uri.indexOf('&', pos);
+                if (next == -1) {
+                    next = len;
+                }
+                int eq = -1;
+                for (int i = pos; i < next; i++) {
+                    char ch = uri.charAt(i);
+                    if (ch == '=') {
+                        if (eq != -1) {
+                            return null;
+                        }
+                        eq = i;
+                    } else if (!isSimpleUriChar(ch)) {
+                        return null;
+                    }
+                }
+                if (eq <= pos || eq == next - 1) {
+                    return null;
+                }
+                if (count == parameters.length) {
+                    parameters = Arrays.copyOf(parameters, count * 2);
+                }
+                parameters[count++] = uri.substring(pos, next);
+                pos = next + 1;
+            }
+
+            // reorder parameters a..z (by key) using an insertion sort as there are only a few parameters
+            for (int i = 1; i < count; i++) {
+                String current = parameters[i];
+                String key = current.substring(0, current.indexOf('='));
+                int j = i - 1;
+                while (j >= 0) {
+                    String other = parameters[j];
+                    int cmp = key.compareTo(other.substring(0, other.indexOf('=')));
+                    if (cmp == 0) {
+                        // multi valued keys are normalized the regular way
+                        return null;
+                    } else if (cmp > 0) {
+                        break;
+                    }
+                    parameters[j + 1] = other;
+                    j--;
+                    sorted = false;
+                }
+                parameters[j + 1] = current;
+            }
+        }
+
+        if (sorted && start == colon + 3) {
+            // already normalized
+            return uri;
+        }
+
+        StringBuilder sb = new StringBuilder(uri.length() + 2);
+        sb.append(uri, 0, colon).append("://").append(uri, start, end);
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? '?' : '&').append(parameters[i]);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isAsciiLetter(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isSimpleUriChar(char ch) {
+        return isAsciiLetter(ch) || isAsciiDigit(ch) || ch == '-' || ch == '_' || ch == '.';
+    }
+
     private static String buildUri(String scheme, String path, String query) {
         // must include :// to do a correct URI all components can work with
         return scheme + "://" + path + (query != null ? "?" + query : "");
@@ -0,0 +1,152 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.ByteArrayInputStream;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+
+import static org.apache.camel.builder.xml.XPathBuilder.xpath;
+
+public class XPathStreamingTest extends ContextTestSupport {
+
+    private static final String ORDER = "<order type='gold' xmlns:c='http://acme.com/cheese'>"
+        + "<customer><name>Claus</name><c:name>Gouda</c:name></customer>"
+        + "<line id='1'>camel</line><line id='2'>donkey<b>!</b></line>"
+        + "</order>";
+
+    public void testCompile() throws Exception {
+        DefaultNamespaceContext context = new DefaultNamespaceContext();
+        context.add("c", "http://acme.com/cheese");
+
+        assertNotNull(StreamingXPathExpression.compile("/order/customer/name", context));
+        assertNotNull(StreamingXPathExpression.compile("order/*/name", context));
+        assertNotNull(StreamingXPathExpression.compile("/order/@type = 'gold'", context));
+        assertNotNull(StreamingXPathExpression.compile("/order/line/text() != \"camel\"", context));
+        assertNotNull(StreamingXPathExpression.compile("/order/customer/c:name", context));
+
+        assertNull(StreamingXPathExpression.compile("//order", context));
+        assertNull(StreamingXPathExpression.compile("/order[@type = 'gold']", context));
+        assertNull(StreamingXPathExpression.compile("count(/order/line)", context));
+        assertNull(StreamingXPathExpression.compile("$name = 'James'", context));
+        assertNull(StreamingXPathExpression.compile("/order/x:name", context));
+        assertNull(StreamingXPathExpression.compile("/order/", context));
+    }
+
+    public void testStreamingPredicates() throws Exception {
+        assertStreamingPredicate("/order/customer/name", true);
+        assertStreamingPredicate("/order/customer/age", false);
+        assertStreamingPredicate("/order/@type = 'gold'", true);
+        assertStreamingPredicate("/order/@type = 'silver'", false);
+        assertStreamingPredicate("/order/@type != 'gold'", false);
+        assertStreamingPredicate("/order/line = 'donkey!'", true);
+        assertStreamingPredicate("/order/line/text() = 'donkey'", true);
+        assertStreamingPredicate("/order/line/@id = '2'", true);
+        assertStreamingPredicate("/order/*/name = 'Claus'", true);
+        assertStreamingPredicate("/order/customer/c:name = 'Gouda'", true);
+        assertStreamingPredicate("/order/customer/c:name = 'Claus'", false);
+    }
+
+    public void testStreamingExpressions() throws Exception {
+        XPathBuilder builder = xpath("/order/line").stringResult().streaming();
+        assertEquals("camel", builder.evaluate(createExchangeWithBody(ORDER), String.class));
+
+        builder = xpath("/order/line/@id").numberResult().streaming();
+        assertEquals(1.0d, builder.evaluate(createExchangeWithBody(ORDER), Double.class), 0.0d);
+
+        builder = xpath("/order/customer").stringResult().streaming();
+        assertEquals("ClausGouda", builder.evaluate(createExchangeWithBody(ORDER), String.class));
+
+        builder = xpath("/order/missing").stringResult().streaming();
+        assertEquals("", builder.evaluate(createExchangeWithBody(ORDER), String.class));
+    }
+
+    public void testStreamingInputStream() throws Exception {
+        XPathBuilder builder = xpath("/order/@type = 'gold'").streaming();
+        assertTrue(builder.matches(createExchangeWithBody(new ByteArrayInputStream(ORDER.getBytes()))));
+    }
+
+    public void testStreamingFallback() throws Exception {
+        // node results are not supported in streaming mode
+        XPathBuilder builder = xpath("/order/line").streaming();
+        NodeList result = assertIsInstanceOf(NodeList.class, builder.evaluate(createExchangeWithBody(ORDER)));
+        assertEquals(2, result.getLength());
+
+        // and neither is predicates
+        builder = xpath("/order/line[@id = '2']").streaming();
+        assertTrue(builder.matches(createExchangeWithBody(ORDER)));
+
+        // and a DOM body is evaluated as is
+        Document dom = context.getTypeConverter().convertTo(Document.class, ORDER);
+        builder = xpath("/order/@type = 'gold'").streaming();
+        assertTrue(builder.matches(createExchangeWithBody(dom)));
+    }
+
+    public void testDocumentCache() throws Exception {
+        Exchange exchange = createExchangeWithBody(ORDER);
+
+        assertFalse(xpath("/order/@type = 'silver'").documentCache().matches(exchange));
+        Object cached = exchange.getProperty(Exchange.XPATH_DOCUMENT);
+        assertNotNull(cached);
+        assertTrue(xpath("/order[@type = 'gold']").documentCache().matches(exchange));
+        assertSame(cached, exchange.getProperty(Exchange.XPATH_DOCUMENT));
+
+        // changing the body invalidates the cache
+        exchange.getIn().setBody("<order type='silver'/>");
+        assertTrue(xpath("/order/@type = 'silver'").documentCache().matches(exchange));
+        assertNotSame(cached, exchange.getProperty(Exchange.XPATH_DOCUMENT));
+    }
+
+    public void testContentBasedRouter() throws Exception {
+        getMockEndpoint("mock:silver").expectedMessageCount(0);
+        getMockEndpoint("mock:gold").expectedBodiesReceived(ORDER);
+        getMockEndpoint("mock:other").expectedBodiesReceived("<order type='bronze'/>");
+
+        template.sendBody("direct:start", ORDER);
+        template.sendBody("direct:start", "<order type='bronze'/>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private void assertStreamingPredicate(String text, boolean expected) {
+        XPathBuilder builder = xpath(text).namespace("c", "http://acme.com/cheese").streaming();
+        assertEquals("Streaming " + text, expected, builder.matches(createExchangeWithBody(ORDER)));
+
+        // should match the same as the DOM based evaluation
+        builder = xpath(text).namespace("c", "http://acme.com/cheese");
+        assertEquals("DOM " + text, expected, builder.matches(createExchangeWithBody(ORDER)));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .choice()
+                        .when(xpath("/order[@type = 'silver']").documentCache()).to("mock:silver")
+                        .when(xpath("/order[@type = 'gold']").documentCache()).to("mock:gold")
+                        .otherwise().to("mock:other");
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Header;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * Tests bean invocation using method handles instead of reflection.
+ */
+public class BeanMethodHandleInvocationTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(BeanConstants.BEAN_METHOD_HANDLE_INVOCATION, "true");
+        context.getGlobalOptions().put(BeanConstants.BEAN_CHOSEN_METHOD_CACHE_SIZE, "10");
+        return context;
+    }
+
+    public void testOverloadedByBodyType() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("String Claus", "Integer 123", "String Willem", "Integer 456", "void");
+
+        template.sendBody("direct:start", "Claus");
+        template.sendBody("direct:start", 123);
+        template.sendBody("direct:start", "Willem");
+        template.sendBody("direct:start", 456);
+        template.sendBody("direct:void", "Hello");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testParameterBinding() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello Claus you are 44 years old");
+
+        template.sendBodyAndHeader("direct:bind", "Claus", "age", "44");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testStaticMethod() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Static Claus");
+
+        template.sendBody("direct:static", "Claus");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testException() throws Exception {
+        try {
+            template.sendBody("direct:fail", "Kaboom");
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("Forced Kaboom", cause.getMessage());
+        }
+    }
+
+    public void testClassCastExceptionFromMethod() throws Exception {
+        try {
+            template.sendBody("direct:cast", "Kaboom");
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            // thrown by the method itself, so it should not be reported as an argument failure
+            assertIsInstanceOf(ClassCastException.class, e.getCause());
+        }
+    }
+
+    public void testNullPrimitive() throws Exception {
+        try {
+            template.sendBodyAndHeader("direct:bind", "Claus", "age", null);
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            assertTrue(e.getCause().getMessage().startsWith("IllegalArgumentException occurred invoking method"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").bean(MyEchoBean.class).to("mock:result");
+                from("direct:void").bean(MyBean.class, "nothing").setBody(constant("void")).to("mock:result");
+                from("direct:bind").bean(MyBean.class, "hello").to("mock:result");
+                from("direct:static").bean(MyBean.class, "greet").to("mock:result");
+                from("direct:fail").bean(MyBean.class, "fail");
+                from("direct:cast").bean(MyBean.class, "cast");
+            }
+        };
+    }
+
+    public static class MyEchoBean {
+
+        public String echo(String body) {
+            return "String " + body;
+        }
+
+        public String echo(Integer body) {
+            return "Integer " + body;
+        }
+    }
+
+    public static class MyBean {
+
+        public void nothing() {
+        }
+
+        public String hello(String name, @Header("age") int age) {
+            return "Hello " + name + " you are " + age + " years old";
+        }
+
+        public static String greet(String name) {
+            return "Static " + name;
+        }
+
+        public String fail(String body) {
+            throw new IllegalArgumentException("Forced " + body);
+        }
+
+        public Integer cast(Object body) {
+            return (Integer) body;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+
+public class BinaryExchangeHolderCodecTest extends ContextTestSupport {
+
+    public void testEncodeDecode() throws Exception {
+        List<Object> body = new ArrayList<Object>();
+        body.add("A");
+        body.add(2);
+        body.add(3L);
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        exchange.getIn().setHeader("string", "Hello");
+        exchange.getIn().setHeader("int", 123);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("boolean", true);
+        exchange.getIn().setHeader("date", new Date(1000));
+        exchange.getIn().setHeader("decimal", new BigDecimal("123.45"));
+        exchange.getOut().setBody(new byte[]{1, 2, 3});
+        exchange.getOut().setFault(true);
+        exchange.setProperty("bar", 444);
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        byte[] data = BinaryExchangeHolderCodec.encode(DefaultExchangeHolder.marshal(exchange));
+        assertTrue(BinaryExchangeHolderCodec.isBinary(data, 0, data.length));
+
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, BinaryExchangeHolderCodec.decode(context, data));
+
+        assertEquals(exchange.getExchangeId(), answer.getExchangeId());
+        assertEquals(body, answer.getIn().getBody());
+        assertEquals("Hello", answer.getIn().getHeader("string"));
+        assertEquals(123, answer.getIn().getHeader("int"));
+        assertEquals(1.5d, answer.getIn().getHeader("double"));
+        assertEquals(Boolean.TRUE, answer.getIn().getHeader("boolean"));
+        assertEquals(new Date(1000), answer.getIn().getHeader("date"));
+        assertEquals(new BigDecimal("123.45"), answer.getIn().getHeader("decimal"));
+        assertEquals(3, answer.getOut().getBody(byte[].class).length);
+        assertTrue(answer.getOut().isFault());
+        assertFalse(answer.getIn().isFault());
+        assertEquals(444, answer.getProperty("bar"));
+        assertIsInstanceOf(IllegalArgumentException.class, answer.getException());
+        assertEquals("Forced", answer.getException().getMessage());
+    }
+
+    public void testSerializedFallback() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new MyOrder("123"));
+
+        byte[] data = BinaryExchangeHolderCodec.encode(DefaultExchangeHolder.marshal(exchange));
+
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, BinaryExchangeHolderCodec.decode(context, data));
+        assertEquals("123", answer.getIn().getBody(MyOrder.class).id);
+    }
+
+    public void testSmallerThanSerialization() throws Exception {
+        List<Object> body = new ArrayList<Object>();
+        for (int i = 0; i < 100; i++) {
+            body.add("Message " + i);
+        }
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        exchange.getIn().setHeader("foo", 123);
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(bos);
+        oos.writeObject(holder);
+        oos.close();
+        byte[] serialized = bos.toByteArray();
+        byte[] data = BinaryExchangeHolderCodec.encode(holder);
+
+        assertFalse(BinaryExchangeHolderCodec.isBinary(serialized, 0, serialized.length));
+        assertTrue("Should be smaller than serialized", data.length < serialized.length);
+    }
+
+    private static class MyOrder implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String id;
+
+        MyOrder(String id) {
+            this.id = id;
+        }
+    }
+}
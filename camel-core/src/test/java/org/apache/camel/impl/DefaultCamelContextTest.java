@@ -156,6 +156,30 @@ public class DefaultCamelContextTest extends TestSupport {
         assertEquals(1, ctx.getEndpoints().size());
     }
 
+    public void testGetEndpointCached() throws Exception {
+        DefaultCamelContext ctx = new DefaultCamelContext();
+        ctx.disableJMX();
+        ctx.start();
+
+        Endpoint foo = ctx.getEndpoint("log:foo?showAll=true&level=WARN");
+        assertSame(foo, ctx.getEndpoint("log:foo?showAll=true&level=WARN"));
+        assertSame(foo, ctx.getEndpoint("log://foo?level=WARN&showAll=true"));
+
+        // removing the endpoint should not return the cached endpoint
+        ctx.removeEndpoints("log:foo?showAll=true&level=WARN");
+        Endpoint foo2 = ctx.getEndpoint("log:foo?showAll=true&level=WARN");
+        assertNotSame(foo, foo2);
+        assertSame(foo2, ctx.getEndpoint("log:foo?showAll=true&level=WARN"));
+
+        // and neither if removed directly from the registry
+        ctx.getEndpointRegistry().clear();
+        Endpoint foo3 = ctx.getEndpoint("log:foo?showAll=true&level=WARN");
+        assertNotSame(foo2, foo3);
+        assertSame(foo3, ctx.getEndpointRegistry().values().iterator().next());
+
+        ctx.stop();
+    }
+
     public void testGetEndpointNotFound() throws Exception {
         DefaultCamelContext ctx = new DefaultCamelContext();
         ctx.disableJMX();
@@ -16,9 +16,13 @@
  */
 package org.apache.camel.impl;
 
+import java.util.Date;
+import java.util.Iterator;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.spi.InflightRepository.InflightExchange;
 
 /**
  * @version 
@@ -44,4 +48,83 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    public void testBrowseByLongestDuration() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+
+        Exchange e1 = createExchange("route1", 3000);
+        Exchange e2 = createExchange("route2", 1000);
+        Exchange e3 = createExchange("route1", 2000);
+        Exchange e4 = createExchange("route1", 0);
+        repo.add(e1);
+        repo.add(e2);
+        repo.add(e3);
+        repo.add(e4);
+
+        Iterator<InflightExchange> it = repo.browse(2, true).iterator();
+        assertSame(e1, it.next().getExchange());
+        assertSame(e3, it.next().getExchange());
+        assertFalse(it.hasNext());
+
+        it = repo.browse("route1", -1, true).iterator();
+        assertSame(e1, it.next().getExchange());
+        assertSame(e3, it.next().getExchange());
+        assertSame(e4, it.next().getExchange());
+        assertFalse(it.hasNext());
+
+        assertSame(e1, repo.oldest(null).getExchange());
+        assertSame(e2, repo.oldest("route2").getExchange());
+        assertNull(repo.oldest("route3"));
+
+        // should remove even if the created timestamp has been changed
+        e1.removeProperty(Exchange.CREATED_TIMESTAMP);
+        repo.remove(e1);
+        assertEquals(3, repo.size());
+        assertSame(e3, repo.oldest("route1").getExchange());
+
+        repo.remove(e2);
+        repo.remove(e3);
+        repo.remove(e4);
+        assertEquals(0, repo.size());
+        assertNull(repo.oldest(null));
+        assertEquals(0, repo.browse().size());
+    }
+
+    public void testInflightBrowseDisabled() throws Exception {
+        DefaultInflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(false);
+        repo.addRoute("route1");
+        repo.start();
+
+        Exchange e1 = createExchange("route1", 0);
+        Exchange e2 = createExchange("route1", 0);
+        repo.add(e1);
+        repo.add(e1, "route1");
+        repo.add(e2);
+        repo.add(e2, "route1");
+        assertEquals(2, repo.size());
+        assertEquals(2, repo.size("route1"));
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+
+        repo.remove(e1, "route1");
+        repo.remove(e1);
+        assertEquals(1, repo.size());
+        assertEquals(1, repo.size("route1"));
+
+        try {
+            repo.setInflightBrowseEnabled(true);
+            fail("Should have thrown exception");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        repo.stop();
+    }
+
+    private Exchange createExchange(String fromRouteId, long age) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.setFromRouteId(fromRouteId);
+        exchange.setProperty(Exchange.CREATED_TIMESTAMP, new Date(System.currentTimeMillis() - age));
+        return exchange;
+    }
 }
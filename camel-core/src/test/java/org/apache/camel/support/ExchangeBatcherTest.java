@@ -0,0 +1,213 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+
+public class ExchangeBatcherTest extends ContextTestSupport {
+
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(2);
+    private final List<Integer> sizes = new CopyOnWriteArrayList<Integer>();
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testBatchSize() throws Exception {
+        ExchangeBatcher<String> batcher = createBatcher(5, 60000);
+
+        CountDownLatch latch = new CountDownLatch(10);
+        Exchange[] exchanges = new Exchange[10];
+        for (int i = 0; i < 10; i++) {
+            exchanges[i] = createExchangeWithBody(i);
+            assertFalse(batcher.add("foo", exchanges[i], new LatchCallback(latch)));
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(2, sizes.size());
+        assertEquals(5, sizes.get(0).intValue());
+        assertEquals(5, sizes.get(1).intValue());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Bye " + i, exchanges[i].getIn().getBody());
+        }
+        batcher.stop();
+    }
+
+    public void testLingerTime() throws Exception {
+        ExchangeBatcher<String> batcher = createBatcher(100, 50);
+
+        CountDownLatch latch = new CountDownLatch(3);
+        batcher.add("foo", createExchangeWithBody(1), new LatchCallback(latch));
+        batcher.add("foo", createExchangeWithBody(2), new LatchCallback(latch));
+        batcher.add("bar", createExchangeWithBody(3), new LatchCallback(latch));
+        assertEquals(3, batcher.getPendingSize());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, batcher.getPendingSize());
+        assertEquals(2, sizes.size());
+        assertTrue(sizes.contains(1));
+        assertTrue(sizes.contains(2));
+        batcher.stop();
+    }
+
+    public void testFailure() throws Exception {
+        ExchangeBatcher<String> batcher = createBatcher(3, 60000);
+
+        CountDownLatch latch = new CountDownLatch(3);
+        Exchange ok = createExchangeWithBody(1);
+        Exchange kaboom = createExchangeWithBody("Kaboom");
+        Exchange fail = createExchangeWithBody("Fail");
+        batcher.add("foo", ok, new LatchCallback(latch));
+        batcher.add("foo", kaboom, new LatchCallback(latch));
+        batcher.add("foo", fail, new LatchCallback(latch));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // the entire batch failed, but exchanges with their own error keeps it
+        assertEquals("Batch failed", ok.getException().getMessage());
+        assertEquals("Kaboom", kaboom.getException().getMessage());
+        assertEquals("Batch failed", fail.getException().getMessage());
+        batcher.stop();
+    }
+
+    public void testStopProcessesPending() throws Exception {
+        ExchangeBatcher<String> batcher = createBatcher(100, 60000);
+
+        CountDownLatch latch = new CountDownLatch(2);
+        Exchange exchange = createExchangeWithBody(1);
+        batcher.add("foo", exchange, new LatchCallback(latch));
+        batcher.stop();
+
+        assertEquals("Bye 1", exchange.getIn().getBody());
+
+        // and rejects new exchanges
+        exchange = createExchangeWithBody(2);
+        assertTrue(batcher.add("foo", exchange, new LatchCallback(latch)));
+        assertNotNull(exchange.getException());
+        assertEquals(0, latch.getCount());
+    }
+
+    public void testAsyncHandler() throws Exception {
+        final List<AsyncCallback> batchCallbacks = new CopyOnWriteArrayList<AsyncCallback>();
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<String>(executor, new ExchangeBatcher.AsyncBatchHandler<String>() {
+            public void processBatch(String key, List<Exchange> exchanges, List<Object> data, AsyncCallback callback) throws Exception {
+                for (int i = 0; i < exchanges.size(); i++) {
+                    exchanges.get(i).getIn().setBody(data.get(i));
+                }
+                batchCallbacks.add(callback);
+            }
+        });
+        batcher.setBatchSize(2);
+        batcher.setLingerTime(60000);
+        batcher.start();
+
+        CountDownLatch latch = new CountDownLatch(2);
+        Exchange first = createExchangeWithBody(1);
+        Exchange second = createExchangeWithBody(2);
+        batcher.add("foo", first, "Bye 1", new LatchCallback(latch));
+        batcher.add("foo", second, "Bye 2", new LatchCallback(latch));
+
+        // the exchanges are not done until the handler completes the batch
+        assertFalse(latch.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(1, batchCallbacks.size());
+        assertEquals("Bye 1", first.getIn().getBody());
+        assertEquals("Bye 2", second.getIn().getBody());
+
+        batchCallbacks.get(0).done(false);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        batcher.stop();
+    }
+
+    public void testCallbackExecutor() throws Exception {
+        ExecutorService callbackExecutor = Executors.newFixedThreadPool(2);
+        ExchangeBatcher<String> batcher = createBatcher(3, 60000);
+        batcher.setCallbackExecutor(callbackExecutor);
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(2);
+        batcher.add("foo", createExchangeWithBody(1), new AsyncCallback() {
+            public void done(boolean doneSync) {
+                try {
+                    // a slow route must not delay the other exchanges of the batch
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        batcher.add("foo", createExchangeWithBody(2), new LatchCallback(latch));
+        batcher.add("foo", createExchangeWithBody(3), new LatchCallback(latch));
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        blocked.countDown();
+        batcher.stop();
+
+        // invoked in the current thread when the executor is shutdown
+        callbackExecutor.shutdown();
+        CountDownLatch stopped = new CountDownLatch(1);
+        batcher = createBatcher(1, 60000);
+        batcher.setCallbackExecutor(callbackExecutor);
+        batcher.add("foo", createExchangeWithBody(4), new LatchCallback(stopped));
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        batcher.stop();
+    }
+
+    private ExchangeBatcher<String> createBatcher(int batchSize, long lingerTime) throws Exception {
+        ExchangeBatcher<String> batcher = new ExchangeBatcher<String>(executor, new ExchangeBatcher.BatchHandler<String>() {
+            public void processBatch(String key, List<Exchange> exchanges) throws Exception {
+                sizes.add(exchanges.size());
+                for (Exchange exchange : exchanges) {
+                    if ("Kaboom".equals(exchange.getIn().getBody())) {
+                        exchange.setException(new IllegalArgumentException("Kaboom"));
+                    } else if ("Fail".equals(exchange.getIn().getBody())) {
+                        throw new IllegalStateException("Batch failed");
+                    } else {
+                        exchange.getIn().setBody("Bye " + exchange.getIn().getBody());
+                    }
+                }
+            }
+        });
+        batcher.setBatchSize(batchSize);
+        batcher.setLingerTime(lingerTime);
+        batcher.start();
+        return batcher;
+    }
+
+    private static final class LatchCallback implements AsyncCallback {
+        private final CountDownLatch latch;
+
+        LatchCallback(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        public void done(boolean doneSync) {
+            latch.countDown();
+        }
+    }
+}
@@ -56,6 +56,35 @@ public class URISupportTest extends ContextTestSupport {
         assertEquals(out1, out2);
     }
 
+    public void testNormalizeSimpleUri() throws Exception {
+        assertEquals("direct://foo", URISupport.normalizeSimpleUri("direct:foo"));
+        assertEquals("direct://foo", URISupport.normalizeSimpleUri("direct://foo"));
+        assertEquals("file:///tmp/in", URISupport.normalizeSimpleUri("file:/tmp/in"));
+        assertEquals("jetty://http://0.0.0.0:8080/foo", URISupport.normalizeSimpleUri("jetty:http://0.0.0.0:8080/foo"));
+        assertEquals("log://foo?level=WARN&showAll=true", URISupport.normalizeSimpleUri("log:foo?showAll=true&level=WARN"));
+        assertEquals("seda://foo?a=1&b=2&c=3", URISupport.normalizeSimpleUri("seda:foo?c=3&a=1&b=2"));
+
+        // not simple so must be normalized the regular way
+        assertNull(URISupport.normalizeSimpleUri("direct:"));
+        assertNull(URISupport.normalizeSimpleUri("foo:?test=1"));
+        assertNull(URISupport.normalizeSimpleUri("log:foo?"));
+        assertNull(URISupport.normalizeSimpleUri("log:foo?level"));
+        assertNull(URISupport.normalizeSimpleUri("log:foo?level="));
+        assertNull(URISupport.normalizeSimpleUri("log:foo?level=WARN&"));
+        assertNull(URISupport.normalizeSimpleUri("log:foo?a=1&a=2"));
+        assertNull(URISupport.normalizeSimpleUri("log:foo bar"));
+        assertNull(URISupport.normalizeSimpleUri("smtp://user@localhost"));
+        assertNull(URISupport.normalizeSimpleUri("seda:foo?bar=RAW(a+b)"));
+        assertNull(URISupport.normalizeSimpleUri("http://localhost/%20"));
+
+        // and should give the same result as the regular way
+        String[] uris = {"direct:foo", "file:/tmp/in", "file:///tmp/in", "jetty:http://0.0.0.0:8080/foo",
+            "log:foo?showAll=true&level=WARN", "seda://foo?c=3&a=1&b=2", "timer://foo?period=1000", "mock:a:b:c"};
+        for (String uri : uris) {
+            assertEquals(uri, URISupport.normalizeUri(uri), URISupport.normalizeSimpleUri(uri));
+        }
+    }
+
     public void testNormalizeEndpointUriNoParam() throws Exception {
         String out1 = URISupport.normalizeUri("direct:foo");
         String out2 = URISupport.normalizeUri("direct:foo");
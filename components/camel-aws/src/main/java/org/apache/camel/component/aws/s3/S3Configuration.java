@@ -46,8 +46,12 @@ public class S3Configuration implements Cloneable {
     private boolean deleteAfterWrite;
     @UriParam(label = "producer")
     private boolean multiPartUpload;
-    @UriParam(label = "producer", defaultValue = "" + 25 * 1024 * 1024)
+    @UriParam(defaultValue = "" + 25 * 1024 * 1024)
     private long partSize = 25 * 1024 * 1024;
+    @UriParam(label = "consumer")
+    private boolean multiPartDownload;
+    @UriParam(label = "advanced", defaultValue = "4")
+    private int multiPartConcurrency = 4;
     @UriParam
     private String policy;
     @UriParam(label = "producer")
@@ -92,7 +96,7 @@ public class S3Configuration implements Cloneable {
     }
 
     /**
-     * Setup the partSize which is used in multi part upload,
+     * Setup the partSize which is used in multi part upload and download,
      * the default size is 25M.
      */
     public void setPartSize(long partSize) {
@@ -105,12 +109,40 @@ public class S3Configuration implements Cloneable {
 
     /**
      * If it is true, camel will upload the file with multi part
-     * format, the part size is decided by the option of `partSize`
+     * format, the part size is decided by the option of `partSize`.
+     * The message body can be a file or any stream, in which case the parts
+     * are read from the stream while the previous parts are being uploaded.
      */
     public void setMultiPartUpload(boolean multiPartUpload) {
         this.multiPartUpload = multiPartUpload;
     }
 
+    public boolean isMultiPartDownload() {
+        return multiPartDownload;
+    }
+
+    /**
+     * If it is true, camel will download objects larger than `partSize`
+     * using ranged GET requests in parallel, which are reassembled in order
+     * into the message body. At most `multiPartConcurrency` parts are
+     * buffered in memory at any time.
+     */
+    public void setMultiPartDownload(boolean multiPartDownload) {
+        this.multiPartDownload = multiPartDownload;
+    }
+
+    public int getMultiPartConcurrency() {
+        return multiPartConcurrency;
+    }
+
+    /**
+     * The number of parts which are transferred concurrently when using
+     * multi part upload or download.
+     */
+    public void setMultiPartConcurrency(int multiPartConcurrency) {
+        this.multiPartConcurrency = multiPartConcurrency;
+    }
+
     public String getAccessKey() {
         return accessKey;
     }
@@ -27,6 +27,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 
@@ -70,7 +71,10 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
         if (fileName != null) {
             LOG.trace("Getting object in bucket [{}] with file name [{}]...", bucketName, fileName);
 
-            S3Object s3Object = getAmazonS3Client().getObject(new GetObjectRequest(bucketName, fileName));
+            S3Object s3Object = getMultiPartS3Object(bucketName, fileName, -1);
+            if (s3Object == null) {
+                s3Object = getAmazonS3Client().getObject(new GetObjectRequest(bucketName, fileName));
+            }
             exchanges = createExchanges(s3Object);
         } else {
             LOG.trace("Queueing objects in bucket [{}]...", bucketName);
@@ -120,7 +124,10 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
         Queue<Exchange> answer = new LinkedList<Exchange>();
         try {
             for (S3ObjectSummary s3ObjectSummary : s3ObjectSummaries) {
-                S3Object s3Object = getAmazonS3Client().getObject(s3ObjectSummary.getBucketName(), s3ObjectSummary.getKey());
+                S3Object s3Object = getMultiPartS3Object(s3ObjectSummary.getBucketName(), s3ObjectSummary.getKey(), s3ObjectSummary.getSize());
+                if (s3Object == null) {
+                    s3Object = getAmazonS3Client().getObject(s3ObjectSummary.getBucketName(), s3ObjectSummary.getKey());
+                }
                 s3Objects.add(s3Object);
 
                 Exchange exchange = getEndpoint().createExchange(s3Object);
@@ -137,6 +144,35 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
         return answer;
     }
     
+    /**
+     * Gets the object with the given key as an object whose content is downloaded using parallel
+     * ranged requests, if multi part download is enabled and the object is larger than the part size.
+     *
+     * @param bucketName the bucket name
+     * @param key        the key of the object
+     * @param size       the size of the object if known from the listing, or <tt>-1</tt> if unknown
+     * @return the object, or <tt>null</tt> if the object should be downloaded as a whole
+     */
+    protected S3Object getMultiPartS3Object(String bucketName, String key, long size) {
+        long partSize = getConfiguration().getPartSize();
+        if (getConfiguration().isMultiPartDownload() && getConfiguration().isIncludeBody() && (size < 0 || size > partSize)) {
+            ObjectMetadata objectMetadata = getAmazonS3Client().getObjectMetadata(bucketName, key);
+            long contentLength = objectMetadata.getContentLength();
+            if (contentLength > partSize) {
+                LOG.trace("Downloading object [{}] of {} bytes from bucket [{}] in parts...", key, contentLength, bucketName);
+
+                S3Object s3Object = new S3Object();
+                s3Object.setBucketName(bucketName);
+                s3Object.setKey(key);
+                s3Object.setObjectMetadata(objectMetadata);
+                s3Object.setObjectContent(new S3MultiPartInputStream(getAmazonS3Client(), getEndpoint().getMultiPartExecutorService(),
+                    bucketName, key, objectMetadata.getETag(), contentLength, partSize, getConfiguration().getMultiPartConcurrency()));
+                return s3Object;
+            }
+        }
+        return null;
+    }
+
     public int processBatch(Queue<Object> exchanges) throws Exception {
         int total = exchanges.size();
 
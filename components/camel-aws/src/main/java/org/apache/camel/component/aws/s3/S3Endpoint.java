@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.aws.s3;
 
+import java.util.concurrent.ExecutorService;
+
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CreateBucketRequest;
@@ -52,6 +54,7 @@ public class S3Endpoint extends ScheduledPollEndpoint {
     private static final Logger LOG = LoggerFactory.getLogger(S3Endpoint.class);
 
     private AmazonS3 s3Client;
+    private ExecutorService multiPartExecutorService;
 
     @UriPath(description = "Bucket name or ARN")
     @Metadata(required = "true")
@@ -141,6 +144,12 @@ public class S3Endpoint extends ScheduledPollEndpoint {
 
     @Override
     public void doStop() throws Exception {
+        synchronized (this) {
+            if (multiPartExecutorService != null) {
+                getCamelContext().getExecutorServiceManager().shutdownNow(multiPartExecutorService);
+                multiPartExecutorService = null;
+            }
+        }
         if (ObjectHelper.isEmpty(configuration.getAmazonS3Client())) {
             if (s3Client != null) {
                 s3Client.shutdown();
@@ -149,6 +158,18 @@ public class S3Endpoint extends ScheduledPollEndpoint {
         super.doStop();
     }
 
+    /**
+     * Gets the thread pool used for transferring the parts of multi part uploads and downloads,
+     * which is shared by the consumer and producers of this endpoint.
+     */
+    public synchronized ExecutorService getMultiPartExecutorService() {
+        if (multiPartExecutorService == null) {
+            multiPartExecutorService = getCamelContext().getExecutorServiceManager()
+                .newFixedThreadPool(this, "S3MultiPart", configuration.getMultiPartConcurrency());
+        }
+        return multiPartExecutorService;
+    }
+
     public Exchange createExchange(S3Object s3Object) {
         return createExchange(getExchangePattern(), s3Object);
     }
@@ -0,0 +1,174 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.IOUtils;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link InputStream} which downloads an object from S3 using ranged GET requests
+ * in parallel, and returns the content of the parts in order.
+ * <p/>
+ * At most <tt>concurrency</tt> parts are downloading or waiting to be read at any time,
+ * so the memory used by the stream is bounded by <tt>concurrency * partSize</tt>.
+ * The downloads are not started until the stream is read for the first time.
+ */
+public class S3MultiPartInputStream extends InputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(S3MultiPartInputStream.class);
+
+    private final AmazonS3 s3Client;
+    private final ExecutorService executorService;
+    private final String bucketName;
+    private final String key;
+    private final String eTag;
+    private final long contentLength;
+    private final long partSize;
+    private final int concurrency;
+    private final Deque<Future<byte[]>> parts = new ArrayDeque<>();
+    private long nextPosition;
+    private byte[] current;
+    private int currentPosition;
+    private boolean closed;
+
+    public S3MultiPartInputStream(AmazonS3 s3Client, ExecutorService executorService, String bucketName, String key,
+                                  String eTag, long contentLength, long partSize, int concurrency) {
+        this.s3Client = s3Client;
+        this.executorService = executorService;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.eTag = eTag;
+        this.contentLength = contentLength;
+        this.partSize = partSize;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureCurrent()) {
+            return -1;
+        }
+        return current[currentPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureCurrent()) {
+            return -1;
+        }
+        int count = Math.min(len, current.length - currentPosition);
+        System.arraycopy(current, currentPosition, b, off, count);
+        currentPosition += count;
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return current != null ? current.length - currentPosition : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            current = null;
+            for (Future<byte[]> part : parts) {
+                part.cancel(true);
+            }
+            parts.clear();
+        }
+    }
+
+    private boolean ensureCurrent() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (current == null || currentPosition == current.length) {
+            // the downloads are started on the first read, so a stream which is never read costs nothing
+            fill();
+            Future<byte[]> part = parts.poll();
+            if (part == null) {
+                return false;
+            }
+            try {
+                current = part.get();
+                currentPosition = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while downloading " + key, e);
+            } catch (ExecutionException e) {
+                close();
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException("Error downloading " + key + " from bucket " + bucketName + " due " + cause.getMessage(), cause);
+            }
+            // a part has been taken so we can start downloading the next one
+            fill();
+        }
+        return true;
+    }
+
+    private void fill() {
+        while (parts.size() < concurrency && nextPosition < contentLength) {
+            final long start = nextPosition;
+            final long end = Math.min(start + partSize, contentLength) - 1;
+            nextPosition = end + 1;
+            parts.add(executorService.submit(() -> downloadPart(start, end)));
+        }
+    }
+
+    private byte[] downloadPart(long start, long end) throws IOException {
+        LOG.trace("Downloading bytes {}-{} of {} from bucket {}", start, end, key, bucketName);
+
+        GetObjectRequest request = new GetObjectRequest(bucketName, key).withRange(start, end);
+        if (eTag != null) {
+            // fail rather than mixing parts if the object is replaced while downloading
+            request.withMatchingETagConstraint(eTag);
+        }
+        S3Object s3Object = s3Client.getObject(request);
+        if (s3Object == null) {
+            throw new IOException("Object " + key + " in bucket " + bucketName + " was changed while downloading");
+        }
+        try {
+            byte[] data = IOUtils.toByteArray(s3Object.getObjectContent());
+            if (data.length != end - start + 1) {
+                throw new IOException("Expected " + (end - start + 1) + " bytes from range " + start + "-" + end + " of " + key + " but got " + data.length);
+            }
+            return data;
+        } finally {
+            IOHelper.close(s3Object);
+        }
+    }
+}
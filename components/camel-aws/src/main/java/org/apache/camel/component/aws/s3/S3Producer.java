@@ -24,12 +24,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import com.amazonaws.HttpMethod;
-import com.amazonaws.services.cloudfront.model.InvalidArgumentException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AccessControlList;
@@ -115,6 +117,7 @@ public class S3Producer extends DefaultProducer {
 
     public void processMultiPart(final Exchange exchange) throws Exception {
         File filePayload = null;
+        InputStream is = null;
         Object obj = exchange.getIn().getMandatoryBody();
         // Need to check if the message body is WrappedFile
         if (obj instanceof WrappedFile) {
@@ -123,11 +126,12 @@ public class S3Producer extends DefaultProducer {
         if (obj instanceof File) {
             filePayload = (File)obj;
         } else {
-            throw new InvalidArgumentException("aws-s3: MultiPart upload requires a File input.");
+            // the length is not known up front so the parts are read from the stream as we go
+            is = exchange.getIn().getMandatoryBody(InputStream.class);
         }
 
         ObjectMetadata objectMetadata = determineMetadata(exchange);
-        if (objectMetadata.getContentLength() == 0) {
+        if (filePayload != null && objectMetadata.getContentLength() == 0) {
             objectMetadata.setContentLength(filePayload.length());
         }
 
@@ -166,32 +170,55 @@ public class S3Producer extends DefaultProducer {
         LOG.trace("Initiating multipart upload [{}] from exchange [{}]...", initRequest, exchange);
 
         final InitiateMultipartUploadResult initResponse = getEndpoint().getS3Client().initiateMultipartUpload(initRequest);
-        final long contentLength = objectMetadata.getContentLength();
-        final List<PartETag> partETags = new ArrayList<PartETag>();
-        long partSize = getConfiguration().getPartSize();
+        final String uploadId = initResponse.getUploadId();
+        final long partSize = getConfiguration().getPartSize();
+        final int concurrency = getConfiguration().getMultiPartConcurrency();
+        final List<Future<PartETag>> parts = new ArrayList<>();
+        final List<PartETag> partETags = new ArrayList<>();
         CompleteMultipartUploadResult uploadResult = null;
 
-        long filePosition = 0;
-
         try {
-            for (int part = 1; filePosition < contentLength; part++) {
-                partSize = Math.min(partSize, contentLength - filePosition);
-
-                UploadPartRequest uploadRequest = new UploadPartRequest().withBucketName(getConfiguration().getBucketName()).withKey(keyName)
-                    .withUploadId(initResponse.getUploadId()).withPartNumber(part).withFileOffset(filePosition).withFile(filePayload).withPartSize(partSize);
-
-                LOG.trace("Uploading part [{}] for {}", part, keyName);
-                partETags.add(getEndpoint().getS3Client().uploadPart(uploadRequest).getPartETag());
-
-                filePosition += partSize;
+            if (filePayload != null) {
+                final long contentLength = objectMetadata.getContentLength();
+                long filePosition = 0;
+                for (int part = 1; filePosition < contentLength; part++) {
+                    long size = Math.min(partSize, contentLength - filePosition);
+
+                    UploadPartRequest uploadRequest = new UploadPartRequest().withBucketName(getConfiguration().getBucketName()).withKey(keyName)
+                        .withUploadId(uploadId).withPartNumber(part).withFileOffset(filePosition).withFile(filePayload).withPartSize(size);
+                    uploadPart(uploadRequest, parts, partETags, concurrency);
+
+                    filePosition += size;
+                }
+            } else {
+                for (int part = 1;; part++) {
+                    byte[] data = readPart(is, partSize);
+                    // an empty stream is uploaded as a single empty part
+                    if (data.length == 0 && part > 1) {
+                        break;
+                    }
+
+                    UploadPartRequest uploadRequest = new UploadPartRequest().withBucketName(getConfiguration().getBucketName()).withKey(keyName)
+                        .withUploadId(uploadId).withPartNumber(part).withInputStream(new ByteArrayInputStream(data)).withPartSize(data.length);
+                    uploadPart(uploadRequest, parts, partETags, concurrency);
+
+                    if (data.length < partSize) {
+                        break;
+                    }
+                }
             }
-            CompleteMultipartUploadRequest compRequest = new CompleteMultipartUploadRequest(getConfiguration().getBucketName(), keyName, initResponse.getUploadId(), partETags);
+            awaitParts(parts, partETags, 0);
+
+            CompleteMultipartUploadRequest compRequest = new CompleteMultipartUploadRequest(getConfiguration().getBucketName(), keyName, uploadId, partETags);
 
             uploadResult = getEndpoint().getS3Client().completeMultipartUpload(compRequest);
 
         } catch (Exception e) {
-            getEndpoint().getS3Client().abortMultipartUpload(new AbortMultipartUploadRequest(getConfiguration().getBucketName(), keyName, initResponse.getUploadId()));
+            parts.forEach(part -> part.cancel(true));
+            getEndpoint().getS3Client().abortMultipartUpload(new AbortMultipartUploadRequest(getConfiguration().getBucketName(), keyName, uploadId));
             throw e;
+        } finally {
+            IOHelper.close(is);
         }
 
         Message message = getMessageForResponse(exchange);
@@ -459,6 +486,44 @@ public class S3Producer extends DefaultProducer {
         return storageClass;
     }
 
+    /**
+     * Uploads the part using the multi part thread pool, waiting for the oldest parts
+     * to complete so at most <tt>concurrency</tt> parts are in flight.
+     */
+    private void uploadPart(UploadPartRequest uploadRequest, List<Future<PartETag>> parts, List<PartETag> partETags, int concurrency) throws Exception {
+        LOG.trace("Uploading part [{}] for {}", uploadRequest.getPartNumber(), uploadRequest.getKey());
+
+        parts.add(getEndpoint().getMultiPartExecutorService().submit(() -> getEndpoint().getS3Client().uploadPart(uploadRequest).getPartETag()));
+        awaitParts(parts, partETags, Math.max(1, concurrency));
+    }
+
+    private void awaitParts(List<Future<PartETag>> parts, List<PartETag> partETags, int maxPending) throws Exception {
+        // the parts complete in order so the etags are in ascending part number as S3 requires
+        while (parts.size() - partETags.size() > maxPending) {
+            try {
+                partETags.add(parts.get(partETags.size()).get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw ObjectHelper.wrapRuntimeCamelException(e.getCause());
+            }
+        }
+    }
+
+    private byte[] readPart(InputStream is, long partSize) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(partSize, Integer.MAX_VALUE - 8)];
+        int length = 0;
+        while (length < buffer.length) {
+            int count = is.read(buffer, length, buffer.length - length);
+            if (count == -1) {
+                break;
+            }
+            length += count;
+        }
+        return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+    }
+
     private ByteArrayOutputStream determineLengthInputStream(InputStream is) throws IOException {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         byte[] bytes = new byte[1024];
@@ -0,0 +1,212 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.IOUtils;
+
+/**
+ * A S3 compatible stand-in which keeps the objects in memory and supports
+ * ranged GET requests and multi part uploads.
+ */
+public class AmazonS3InMemoryClientMock extends AmazonS3ClientMock {
+
+    final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+    final Map<String, SortedMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    final AtomicInteger rangedRequests = new AtomicInteger();
+    final AtomicInteger abortedUploads = new AtomicInteger();
+    final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private volatile long requestDelay;
+    private volatile int failPartNumber;
+
+    public void setRequestDelay(long requestDelay) {
+        this.requestDelay = requestDelay;
+    }
+
+    public void setFailPartNumber(int failPartNumber) {
+        this.failPartNumber = failPartNumber;
+    }
+
+    @Override
+    public ObjectListing listObjects(ListObjectsRequest listObjectsRequest) throws AmazonClientException, AmazonServiceException {
+        ObjectListing objectListing = new ObjectListing();
+        contents.forEach((key, data) -> {
+            S3ObjectSummary summary = new S3ObjectSummary();
+            summary.setBucketName(listObjectsRequest.getBucketName());
+            summary.setKey(key);
+            summary.setSize(data.length);
+            objectListing.getObjectSummaries().add(summary);
+        });
+        return objectListing;
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(String bucketName, String key) throws AmazonClientException, AmazonServiceException {
+        return createMetadata(key, getContent(key));
+    }
+
+    @Override
+    public S3Object getObject(String bucketName, String key) throws AmazonClientException, AmazonServiceException {
+        return getObject(new GetObjectRequest(bucketName, key));
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest getObjectRequest) throws AmazonClientException, AmazonServiceException {
+        byte[] data = getContent(getObjectRequest.getKey());
+        ObjectMetadata metadata = createMetadata(getObjectRequest.getKey(), data);
+        if (!getObjectRequest.getMatchingETagConstraints().isEmpty()
+            && !getObjectRequest.getMatchingETagConstraints().contains(metadata.getETag())) {
+            return null;
+        }
+
+        long[] range = getObjectRequest.getRange();
+        if (range != null) {
+            rangedRequests.incrementAndGet();
+            request();
+            data = Arrays.copyOfRange(data, (int) range[0], (int) Math.min(range[1] + 1, data.length));
+        }
+
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(getObjectRequest.getBucketName());
+        s3Object.setKey(getObjectRequest.getKey());
+        s3Object.setObjectMetadata(metadata);
+        s3Object.setObjectContent(new ByteArrayInputStream(data));
+        return s3Object;
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest initiateMultipartUploadRequest) throws AmazonClientException, AmazonServiceException {
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(initiateMultipartUploadRequest.getBucketName());
+        result.setKey(initiateMultipartUploadRequest.getKey());
+        result.setUploadId(UUID.randomUUID().toString());
+        uploads.put(result.getUploadId(), new TreeMap<>());
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest uploadPartRequest) throws AmazonClientException, AmazonServiceException {
+        request();
+        if (uploadPartRequest.getPartNumber() == failPartNumber) {
+            throw new AmazonServiceException("Forced failure uploading part " + failPartNumber);
+        }
+
+        byte[] data;
+        try {
+            if (uploadPartRequest.getFile() != null) {
+                byte[] file = Files.readAllBytes(uploadPartRequest.getFile().toPath());
+                int offset = (int) uploadPartRequest.getFileOffset();
+                data = Arrays.copyOfRange(file, offset, offset + (int) uploadPartRequest.getPartSize());
+            } else {
+                data = IOUtils.toByteArray(uploadPartRequest.getInputStream());
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException(e);
+        }
+        uploads.get(uploadPartRequest.getUploadId()).put(uploadPartRequest.getPartNumber(), data);
+
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(uploadPartRequest.getPartNumber());
+        result.setETag("etag-" + uploadPartRequest.getPartNumber());
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest completeMultipartUploadRequest) throws AmazonClientException, AmazonServiceException {
+        SortedMap<Integer, byte[]> parts = uploads.remove(completeMultipartUploadRequest.getUploadId());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int expected = 1;
+        for (PartETag partETag : completeMultipartUploadRequest.getPartETags()) {
+            if (partETag.getPartNumber() != expected++) {
+                throw new AmazonServiceException("The list of parts was not in ascending order");
+            }
+            byte[] data = parts.get(partETag.getPartNumber());
+            out.write(data, 0, data.length);
+        }
+        contents.put(completeMultipartUploadRequest.getKey(), out.toByteArray());
+
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setKey(completeMultipartUploadRequest.getKey());
+        result.setETag(createMetadata(result.getKey(), out.toByteArray()).getETag());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest abortMultipartUploadRequest) throws AmazonClientException, AmazonServiceException {
+        uploads.remove(abortMultipartUploadRequest.getUploadId());
+        abortedUploads.incrementAndGet();
+    }
+
+    private byte[] getContent(String key) {
+        byte[] data = contents.get(key);
+        if (data == null) {
+            AmazonServiceException e = new AmazonServiceException("The specified key does not exist.");
+            e.setStatusCode(404);
+            throw e;
+        }
+        return data;
+    }
+
+    private ObjectMetadata createMetadata(String key, byte[] data) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(data.length);
+        metadata.setHeader("ETag", Integer.toHexString(Arrays.hashCode(data)));
+        return metadata;
+    }
+
+    private void request() {
+        int concurrent = concurrentRequests.incrementAndGet();
+        maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+        try {
+            if (requestDelay > 0) {
+                Thread.sleep(requestDelay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentRequests.decrementAndGet();
+        }
+    }
+}
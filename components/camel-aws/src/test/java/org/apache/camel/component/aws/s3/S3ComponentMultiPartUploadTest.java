@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class S3ComponentMultiPartUploadTest extends CamelTestSupport {
+
+    private static final int PART_SIZE = 1024;
+
+    private AmazonS3InMemoryClientMock client = new AmazonS3InMemoryClientMock();
+
+    @Test
+    public void sendInputStream() throws Exception {
+        client.setRequestDelay(50);
+        byte[] data = createData(10 * PART_SIZE + 100);
+
+        Exchange exchange = template.request("direct:start", e -> {
+            e.getIn().setHeader(S3Constants.KEY, "stream.bin");
+            e.getIn().setBody(new ByteArrayInputStream(data));
+        });
+
+        assertNotNull(exchange.getOut().getHeader(S3Constants.E_TAG));
+        assertArrayEquals(data, client.contents.get("stream.bin"));
+        assertTrue("Parts should be uploaded in parallel", client.maxConcurrentRequests.get() > 1);
+        assertTrue("No more parts than the concurrency should be in flight", client.maxConcurrentRequests.get() <= 4);
+    }
+
+    @Test
+    public void sendExactPartSizeMultiple() throws Exception {
+        byte[] data = createData(3 * PART_SIZE);
+
+        template.sendBodyAndHeader("direct:start", data, S3Constants.KEY, "exact.bin");
+
+        assertArrayEquals(data, client.contents.get("exact.bin"));
+    }
+
+    @Test
+    public void sendEmptyStream() throws Exception {
+        template.sendBodyAndHeader("direct:start", new ByteArrayInputStream(new byte[0]), S3Constants.KEY, "empty.bin");
+
+        assertEquals(0, client.contents.get("empty.bin").length);
+    }
+
+    @Test
+    public void sendFile() throws Exception {
+        byte[] data = createData(5 * PART_SIZE + 1);
+        File file = new File("target/s3-multipart/file.bin");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), data);
+
+        template.sendBodyAndHeader("direct:start", file, S3Constants.KEY, "file.bin");
+
+        assertArrayEquals(data, client.contents.get("file.bin"));
+    }
+
+    @Test
+    public void sendFailureAbortsUpload() throws Exception {
+        client.setFailPartNumber(3);
+
+        try {
+            template.sendBodyAndHeader("direct:start", new ByteArrayInputStream(createData(8 * PART_SIZE)), S3Constants.KEY, "failed.bin");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertTrue(e.getCause().getMessage().startsWith("Forced failure uploading part 3"));
+        }
+
+        assertNull(client.contents.get("failed.bin"));
+        assertEquals(1, client.abortedUploads.get());
+        assertTrue(client.uploads.isEmpty());
+    }
+
+    private static byte[] createData(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("amazonS3Client", client);
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("aws-s3://mycamelbucket?amazonS3Client=#amazonS3Client&multiPartUpload=true&partSize=" + PART_SIZE + "&multiPartConcurrency=4");
+            }
+        };
+    }
+}
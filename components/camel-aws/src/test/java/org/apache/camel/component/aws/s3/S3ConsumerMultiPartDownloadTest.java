@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.s3;
+
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.IOConverter;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class S3ConsumerMultiPartDownloadTest extends CamelTestSupport {
+
+    private static final int PART_SIZE = 1024;
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint mock;
+
+    private AmazonS3InMemoryClientMock client = new AmazonS3InMemoryClientMock();
+    private byte[] large = createData(20 * PART_SIZE + 7);
+    private byte[] small = createData(PART_SIZE / 2);
+
+    @Test
+    public void receiveInParts() throws Exception {
+        mock.expectedMessageCount(2);
+        mock.allMessages().header(S3Constants.E_TAG).isNotNull();
+
+        assertMockEndpointsSatisfied();
+
+        for (Exchange exchange : mock.getExchanges()) {
+            String key = exchange.getIn().getHeader(S3Constants.KEY, String.class);
+            assertArrayEquals(key, client.contents.get(key), exchange.getIn().getBody(byte[].class));
+        }
+
+        // only the large object is downloaded in ranges
+        assertEquals(21, client.rangedRequests.get());
+        assertTrue("Parts should be downloaded in parallel", client.maxConcurrentRequests.get() > 1);
+        assertTrue("No more parts than the concurrency should be in flight", client.maxConcurrentRequests.get() <= 3);
+    }
+
+    @Test
+    public void downloadStartsOnFirstRead() throws Exception {
+        AmazonS3InMemoryClientMock lazyClient = new AmazonS3InMemoryClientMock();
+        lazyClient.contents.put("lazy.bin", small);
+        ExecutorService executorService = context.getExecutorServiceManager().newFixedThreadPool(this, "S3MultiPartDownloadTest", 2);
+        try {
+            InputStream is = new S3MultiPartInputStream(lazyClient, executorService, "mycamelbucket", "lazy.bin", null, small.length, PART_SIZE / 4, 2);
+            assertEquals("No part should be downloaded before the stream is read", 0, lazyClient.rangedRequests.get());
+
+            assertArrayEquals(small, IOConverter.toBytes(is));
+            assertEquals(2, lazyClient.rangedRequests.get());
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(executorService);
+        }
+    }
+
+    private static byte[] createData(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+
+        client.setRequestDelay(20);
+        client.contents.put("large.bin", large);
+        client.contents.put("small.bin", small);
+        registry.bind("amazonS3Client", client);
+
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("aws-s3://mycamelbucket?amazonS3Client=#amazonS3Client&delay=5000&deleteAfterRead=false&maxMessagesPerPoll=2"
+                    + "&multiPartDownload=true&partSize=" + PART_SIZE + "&multiPartConcurrency=3")
+                    .convertBodyTo(byte[].class)
+                    .to("mock:result");
+            }
+        };
+    }
+}
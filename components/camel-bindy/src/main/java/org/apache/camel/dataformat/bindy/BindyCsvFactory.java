@@ -17,7 +17,6 @@
 package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -27,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
@@ -38,7 +38,6 @@ import org.apache.camel.dataformat.bindy.annotation.Section;
 import org.apache.camel.dataformat.bindy.format.FormatException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.util.ObjectHelper;
-import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +56,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
     private Map<Integer, DataField> dataFields = new LinkedHashMap<Integer, DataField>();
     private Map<Integer, Field> annotatedFields = new LinkedHashMap<Integer, Field>();
     private Map<String, Integer> sections = new HashMap<String, Integer>();
+    private Map<Integer, FieldBinding> fieldBindings = new ConcurrentHashMap<Integer, FieldBinding>();
 
     private int numberOptionalFields;
     private int numberMandatoryFields;
@@ -165,6 +165,17 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     @Override
     public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, tokens, model, line, new HashMap<Integer, Format<?>>());
+    }
+
+    /**
+     * Binds the tokens of the record to the model, reusing the formats from the given cache.
+     * <p/>
+     * The formats are not thread safe, so the cache must not be shared between threads.
+     *
+     * @param formats cache of the formats per position, which the created formats are added to
+     */
+    public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line, Map<Integer, Format<?>> formats) throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -177,10 +188,10 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             // If a DataField can be skipped, it needs to check whether it is in dataFields keyset
             if (isSkipField()) {
                 if (dataFields.keySet().contains(pos))  {
-                    counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                    counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField, formats);
                 }
             } else {
-                counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField, formats);
             }
             
             ++pos;
@@ -199,7 +210,8 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     }
 
-    private int setDataFieldValue(CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data, DataField dataField) throws Exception {
+    private int setDataFieldValue(CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data, DataField dataField,
+                                  Map<Integer, Format<?>> formats) throws Exception {
         ObjectHelper.notNull(dataField, "No position " + pos + " defined for the field: " + data + ", line: " + line);
 
         if (dataField.trim()) {
@@ -218,19 +230,23 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         // Get Field to be setted
-        Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
+        FieldBinding binding = fieldBindings.get(pos);
+        if (binding == null) {
+            binding = new FieldBinding(annotatedFields.get(pos), dataField, getLocale());
+            fieldBindings.put(pos, binding);
+        }
+        Field field = binding.getField();
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Pos: {}, Data: {}, Field type: {}", new Object[]{pos, data, field.getType()});
         }
 
         // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
+        Format<?> format = formats.get(pos);
+        if (format == null) {
+            format = binding.createFormat(formatFactory);
+            formats.put(pos, format);
+        }
 
         // field object to be set
         Object modelField = model.get(field.getDeclaringClass().getName());
@@ -259,31 +275,10 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         if (value != null && !dataField.method().isEmpty()) {
-            Class<?> clazz;
-            if (dataField.method().contains(".")) {
-                clazz = camelContext.getClassResolver().resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf(".")));
-            } else {
-                clazz = field.getType();
-            }
-
-            String methodName = dataField.method().substring(dataField.method().lastIndexOf(".") + 1,
-                    dataField.method().length());
-
-            Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-            if (m != null) {
-                // this method must be static and return type
-                // must be the same as the datafield and 
-                // must receive only the datafield value 
-                // as the method argument
-                value = ObjectHelper.invokeMethod(m, null, value);
-            } else {
-                // fallback to method without parameter, that is on the value itself
-                m = ReflectionHelper.findMethod(clazz, methodName);
-                value = ObjectHelper.invokeMethod(m, value);
-            }
+            value = binding.invokeMethod(camelContext, value);
         }
 
-        field.set(modelField, value);
+        binding.set(modelField, value);
         return counterMandatoryFields;
     }
 
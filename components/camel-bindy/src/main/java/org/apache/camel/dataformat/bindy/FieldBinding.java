@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.ReflectionHelper;
+
+/**
+ * Holds what is needed to bind a value to a {@link DataField} annotated field, which is computed once per field
+ * instead of once per record.
+ * <p/>
+ * The field is set using a {@link MethodHandle} which is faster than reflection. The {@link Format} is not
+ * cached here as the formats are not thread safe.
+ */
+final class FieldBinding {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final DataField dataField;
+    private final FormattingOptions formattingOptions;
+    private final MethodHandle setter;
+    private volatile Method method;
+    private volatile boolean staticMethod;
+
+    FieldBinding(Field field, DataField dataField, String locale) {
+        this.field = field;
+        this.dataField = dataField;
+        this.formattingOptions = ConverterUtils.convert(dataField, field.getType(), field.getAnnotation(BindyConverter.class), locale);
+
+        field.setAccessible(true);
+        MethodHandle answer;
+        try {
+            answer = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            // final fields can only be set using reflection
+            answer = null;
+        }
+        this.setter = answer;
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    DataField getDataField() {
+        return dataField;
+    }
+
+    /**
+     * Creates a new format for the field
+     */
+    Format<?> createFormat(FormatFactory formatFactory) throws Exception {
+        return formatFactory.getFormat(formattingOptions);
+    }
+
+    /**
+     * Invokes the method configured on the {@link DataField#method()} with the value
+     */
+    Object invokeMethod(CamelContext camelContext, Object value) throws Exception {
+        Method m = method;
+        if (m == null) {
+            Class<?> clazz;
+            if (dataField.method().contains(".")) {
+                clazz = camelContext.getClassResolver().resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf(".")));
+            } else {
+                clazz = field.getType();
+            }
+
+            String methodName = dataField.method().substring(dataField.method().lastIndexOf(".") + 1);
+
+            // this method must be static and return type must be the same as the datafield and
+            // must receive only the datafield value as the method argument
+            m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
+            staticMethod = m != null;
+            if (m == null) {
+                // fallback to method without parameter, that is on the value itself
+                m = ReflectionHelper.findMethod(clazz, methodName);
+            }
+            method = m;
+        }
+
+        if (staticMethod) {
+            return ObjectHelper.invokeMethod(m, null, value);
+        } else {
+            return ObjectHelper.invokeMethod(m, value);
+        }
+    }
+
+    /**
+     * Sets the value on the field of the given object
+     */
+    void set(Object target, Object value) throws Exception {
+        if (setter == null) {
+            field.set(target, value);
+            return;
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException("Can not set " + field.getType().getName() + " field " + field.getDeclaringClass().getName()
+                + "." + field.getName() + " to " + (value != null ? value.getClass().getName() : "null value"), e);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+}
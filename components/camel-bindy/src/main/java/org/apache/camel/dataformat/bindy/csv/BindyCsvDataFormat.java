@@ -16,17 +16,20 @@
  */
 package org.apache.camel.dataformat.bindy.csv;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.NoSuchElementException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,6 +37,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.DataFormat;
@@ -48,6 +52,9 @@ import org.slf4j.LoggerFactory;
  */
 public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private static final Logger LOG = LoggerFactory.getLogger(BindyCsvDataFormat.class);
+    private static final String REGEX_META_CHARS = "\\[](){}.*+?^$|";
+
+    private boolean streaming;
 
     public BindyCsvDataFormat() {
     }
@@ -138,58 +145,165 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         // List of Pojos
         List<Map<String, Object>> models = new ArrayList<Map<String, Object>>();
 
-        // Pojos of the model
-        Map<String, Object> model;
-        InputStreamReader in = null;
-        Scanner scanner = null;
+        if (checkEmptyStream(factory, inputStream)) {
+            return models;
+        }
+
+        CsvRecordReader reader = new CsvRecordReader(factory, IOHelper.buffered(new InputStreamReader(inputStream, IOHelper.getCharsetName(exchange))));
+        boolean close = true;
         try {
-            if (checkEmptyStream(factory, inputStream)) {
-                return models;
+            Map<String, Object> model = reader.readRecord();
+
+            // BigIntegerFormatFactory if models list is empty or not
+            // If this is the case (correspond to an empty stream, ...)
+            if (model == null) {
+                throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+            }
+
+            if (isStreaming()) {
+                // the iterator closes the reader when its done
+                close = false;
+                return new CsvRecordIterator(reader, model);
+            }
+
+            while (model != null) {
+                // Add objects graph to the list
+                models.add(model);
+                model = reader.readRecord();
             }
-    
-            in = new InputStreamReader(inputStream, IOHelper.getCharsetName(exchange));
-    
-            // Scanner is used to read big file
-            scanner = new Scanner(in);
-    
+            return extractUnmarshalResult(models);
+
+        } finally {
+            if (close) {
+                reader.close();
+            }
+        }
+
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to unmarshal to an {@link Iterator} which reads the records one at a time, instead of reading all
+     * the records into a {@link List}. This allows to split big files using the streaming mode of the splitter,
+     * without keeping all the records in memory.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Returns the separator as a plain char if the separator regular expression matches a single
+     * literal char, which allows to split the records without using regular expressions.
+     *
+     * @return the char, or <tt>-1</tt> if the separator is not a single literal char
+     */
+    static int getLiteralSeparator(String separator) {
+        if (separator.length() == 1 && REGEX_META_CHARS.indexOf(separator.charAt(0)) == -1) {
+            return separator.charAt(0);
+        }
+        if (separator.length() == 2 && separator.charAt(0) == '\\') {
+            char ch = separator.charAt(1);
+            if (ch == 't') {
+                return '\t';
+            }
+            if (!Character.isLetterOrDigit(ch)) {
+                return ch;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Splits the line the same way as {@link Pattern#split(CharSequence, int)} does with a single literal char
+     * as the pattern and a negative or positive limit.
+     */
+    static List<String> split(String line, char separator, int limit) {
+        List<String> tokens = new ArrayList<String>();
+        int start = 0;
+        int index = line.indexOf(separator);
+        while (index != -1 && (limit <= 0 || tokens.size() < limit - 1)) {
+            tokens.add(line.substring(start, index));
+            start = index + 1;
+            index = line.indexOf(separator, start);
+        }
+        tokens.add(line.substring(start));
+        return tokens;
+    }
+
+    /**
+     * Reads the CSV records one at a time.
+     */
+    private final class CsvRecordReader {
+        private final BindyCsvFactory factory;
+        private final BufferedReader reader;
+        private final String quote;
+        private final Pattern pattern;
+        private final int literalSeparator;
+        private final int limit;
+        // the formats are not thread safe, so they are only reused for the records of the same stream
+        private final Map<Integer, Format<?>> formats = new HashMap<Integer, Format<?>>();
+        private int count;
+
+        CsvRecordReader(BindyCsvFactory factory, BufferedReader reader) throws IOException {
+            this.factory = factory;
+            this.reader = reader;
+
             // Retrieve the separator defined to split the record
             String separator = factory.getSeparator();
-            String quote = factory.getQuote();
+            this.quote = factory.getQuote();
             ObjectHelper.notNull(separator, "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
-    
-            int count = 0;
-            
+            this.pattern = Pattern.compile(separator);
+            this.limit = factory.getAutospanLine() ? factory.getMaxpos() : -1;
+            // a zero limit removes trailing empty tokens which only the regular expression split does
+            this.literalSeparator = limit != 0 ? getLiteralSeparator(separator) : -1;
+
             // If the first line of the CSV file contains columns name, then we
             // skip this line
             if (factory.getSkipFirstLine()) {
-                // Check if scanner is empty
-                if (scanner.hasNextLine()) {
-                    scanner.nextLine();
-                }
+                reader.readLine();
             }
-    
-            while (scanner.hasNextLine()) {
-    
-                // Read the line
-                String line = scanner.nextLine().trim();
-    
-                if (ObjectHelper.isEmpty(line)) {
-                    // skip if line is empty
-                    continue;
+        }
+
+        /**
+         * Reads the next record
+         *
+         * @return the graph of the objects of the record, or <tt>null</tt> if there are no more records
+         */
+        Map<String, Object> readRecord() throws Exception {
+            String line = reader.readLine();
+            while (line != null) {
+                line = line.trim();
+                if (!ObjectHelper.isEmpty(line)) {
+                    return parseRecord(line);
                 }
-    
-                // Increment counter
-                count++;
-    
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
-    
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
+                // skip if line is empty
+                line = reader.readLine();
+            }
+            return null;
+        }
+
+        private Map<String, Object> parseRecord(String line) throws Exception {
+            // Increment counter
+            count++;
+
+            // Create POJO where CSV data will be stored
+            Map<String, Object> model = factory.factory();
+
+            // Split the CSV record according to the separator defined in
+            // annotated class @CSVRecord
+            List<String> result;
+            if (literalSeparator != -1) {
+                String separator = String.valueOf((char) literalSeparator);
+                result = split(line, (char) literalSeparator, limit);
+                // must unquote tokens before use
+                result = unquoteTokens(result, Collections.nCopies(result.size(), separator), quote);
+            } else {
                 Matcher matcher = pattern.matcher(line);
                 List<String> separators = new ArrayList<String>();
-                
+
                 // Retrieve separators for each match
                 while (matcher.find()) {
                     separators.add(matcher.group());
@@ -198,49 +312,99 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 if (separators.size() > 0) {
                     separators.add(separators.get(separators.size() - 1));
                 }
-                
-                String[] tokens = pattern.split(line, factory.getAutospanLine() ? factory.getMaxpos() : -1);
-                List<String> result = Arrays.asList(tokens);
+
+                String[] tokens = pattern.split(line, limit);
+                result = Arrays.asList(tokens);
                 // must unquote tokens before use
                 result = unquoteTokens(result, separators, quote);
-    
-                if (result.size() == 0 || result.isEmpty()) {
-                    throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
-    
-                    // Bind data from CSV record with model classes
-                    factory.bind(getCamelContext(), result, model, count);
-    
-                    // Link objects together
-                    factory.link(model);
-    
-                    // Add objects graph to the list
-                    models.add(model);
-    
-                    LOG.debug("Graph of objects created: {}", model);
-                }
             }
-    
-            // BigIntegerFormatFactory if models list is empty or not
-            // If this is the case (correspond to an empty stream, ...)
-            if (models.size() == 0) {
+
+            if (result.size() == 0 || result.isEmpty()) {
                 throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
             } else {
-                return extractUnmarshalResult(models);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Size of the record splitted : {}", result.size());
+                }
+
+                // Bind data from CSV record with model classes
+                factory.bind(getCamelContext(), result, model, count, formats);
+
+                // Link objects together
+                factory.link(model);
+
+                LOG.debug("Graph of objects created: {}", model);
             }
+            return model;
+        }
 
-        } finally {
-            if (scanner != null) {
-                scanner.close();
+        void close() {
+            IOHelper.close(reader, "in", LOG);
+        }
+    }
+
+    /**
+     * Iterates the CSV records, and closes the reader when there are no more records.
+     */
+    private final class CsvRecordIterator implements Iterator<Object>, Closeable {
+        private final CsvRecordReader reader;
+        private Object next;
+
+        CsvRecordIterator(CsvRecordReader reader, Map<String, Object> first) throws Exception {
+            this.reader = reader;
+            this.next = first != null ? extract(first) : null;
+            if (next == null) {
+                next = readNext();
             }
-            if (in != null) {
-                IOHelper.close(in, "in", LOG);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (next == null) {
+                throw new NoSuchElementException();
             }
+            Object answer = next;
+            try {
+                next = readNext();
+            } catch (Exception e) {
+                close();
+                throw ObjectHelper.wrapRuntimeCamelException(e);
+            }
+            return answer;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            next = null;
+            reader.close();
         }
 
+        private Object readNext() throws Exception {
+            Map<String, Object> model = reader.readRecord();
+            while (model != null) {
+                Object answer = extract(model);
+                if (answer != null) {
+                    return answer;
+                }
+                model = reader.readRecord();
+            }
+            close();
+            return null;
+        }
+
+        private Object extract(Map<String, Object> model) {
+            // we expect to find this type in the models, and grab only that type
+            return getClassType() != null ? model.get(getClassType().getName()) : model;
+        }
     }
 
     /**
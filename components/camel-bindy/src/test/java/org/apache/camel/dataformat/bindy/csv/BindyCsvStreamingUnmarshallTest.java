@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.pipeline.MyData;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class BindyCsvStreamingUnmarshallTest extends CamelTestSupport {
+
+    @Test
+    public void testStreamingUnmarshal() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        template.sendBody("direct:unmarshal", "COL1|COL2|COL3\n\nHAPPY | NEW | YEAR\n\"A|B\"|C|D\n");
+
+        assertMockEndpointsSatisfied();
+
+        MyData rec1 = mock.getReceivedExchanges().get(0).getIn().getBody(MyData.class);
+        assertEquals("COL1", rec1.getCol1());
+        assertEquals("COL3", rec1.getCol3());
+
+        MyData rec2 = mock.getReceivedExchanges().get(1).getIn().getBody(MyData.class);
+        assertEquals("HAPPY ", rec2.getCol1());
+        assertEquals(" NEW ", rec2.getCol2());
+        assertEquals(" YEAR", rec2.getCol3());
+
+        // the separator inside quotes is kept
+        MyData rec3 = mock.getReceivedExchanges().get(2).getIn().getBody(MyData.class);
+        assertEquals("A|B", rec3.getCol1());
+        assertEquals("C", rec3.getCol2());
+        assertEquals("D", rec3.getCol3());
+    }
+
+    @Test
+    public void testLiteralSeparator() throws Exception {
+        assertEquals(',', BindyCsvDataFormat.getLiteralSeparator(","));
+        assertEquals('|', BindyCsvDataFormat.getLiteralSeparator("\\|"));
+        assertEquals('\t', BindyCsvDataFormat.getLiteralSeparator("\\t"));
+        assertEquals('\t', BindyCsvDataFormat.getLiteralSeparator("\t"));
+        assertEquals(-1, BindyCsvDataFormat.getLiteralSeparator("|"));
+        assertEquals(-1, BindyCsvDataFormat.getLiteralSeparator("\\s"));
+        assertEquals(-1, BindyCsvDataFormat.getLiteralSeparator(",|;"));
+    }
+
+    @Test
+    public void testSplitSameAsPattern() throws Exception {
+        assertSplit("a,b,c", -1);
+        assertSplit(",a,,b,,", -1);
+        assertSplit("abc", -1);
+        assertSplit("", -1);
+        assertSplit("a,b,c,d", 2);
+        assertSplit("a,b,c,d", 4);
+        assertSplit("a,b,c,d", 10);
+    }
+
+    private static void assertSplit(String line, int limit) {
+        assertEquals(Arrays.asList(Pattern.compile(",").split(line, limit)), BindyCsvDataFormat.split(line, ',', limit));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyCsvDataFormat bindy = new BindyCsvDataFormat(MyData.class);
+                bindy.setStreaming(true);
+
+                from("direct:unmarshal")
+                    .unmarshal(bindy)
+                    .split(body()).streaming()
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
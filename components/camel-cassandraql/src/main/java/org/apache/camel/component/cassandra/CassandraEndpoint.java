@@ -73,6 +73,12 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
     private String loadBalancingPolicy;
     @UriParam(javaType = "java.lang.String")
     private ResultSetConversionStrategy resultSetConversionStrategy = ResultSetConversionStrategies.all();
+    @UriParam(label = "producer,advanced", defaultValue = "100")
+    private int preparedStatementCacheSize = 100;
+    @UriParam(label = "producer,advanced")
+    private int writeBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10")
+    private long writeBatchLingerTime = 10;
 
     public CassandraEndpoint(String endpointUri, Component component) {
         super(endpointUri, component);
@@ -356,6 +362,42 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
     public void setLoadBalancingPolicy(String loadBalancingPolicy) {
         this.loadBalancingPolicy = loadBalancingPolicy;
     }
+
+    public int getPreparedStatementCacheSize() {
+        return preparedStatementCacheSize;
+    }
+
+    /**
+     * The maximum number of prepared statements for the CQL of the CamelCqlQuery header which the producer
+     * keeps in a LRU cache, so the same CQL is only prepared once.
+     */
+    public void setPreparedStatementCacheSize(int preparedStatementCacheSize) {
+        this.preparedStatementCacheSize = preparedStatementCacheSize;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer coalesces insert, update and delete statements which are processed
+     * concurrently and write to the same partition into unlogged batches of up to this size.
+     * This is only used with prepared statements.
+     */
+    public void setWriteBatchSize(int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    public long getWriteBatchLingerTime() {
+        return writeBatchLingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more statements to be added to a batch before its executed, when writeBatchSize is in use.
+     */
+    public void setWriteBatchLingerTime(long writeBatchLingerTime) {
+        this.writeBatchLingerTime = writeBatchLingerTime;
+    }
     
     
 }
@@ -16,15 +16,37 @@
  */
 package org.apache.camel.component.cassandra;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.impl.DefaultProducer;
+import org.apache.camel.ThreadPoolRejectedPolicy;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.ExchangeBatcher;
+import org.apache.camel.util.LRUCacheFactory;
+import org.apache.camel.util.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +54,9 @@ import static org.apache.camel.utils.cassandra.CassandraUtils.isEmpty;
 
 /**
  * Cassandra 2 CQL3 producer.
+ * <p/>
+ * The statements are executed asynchronously, and the exchange is continued routed by a thread from the
+ * producer thread pool when the result is available.
  * <dl>
  * <dt>In Message</dt>
  * <dd>Bound parameters: Collection of Objects, Array of Objects, Simple Object<dd>
@@ -39,26 +64,78 @@ import static org.apache.camel.utils.cassandra.CassandraUtils.isEmpty;
  * <dd>List of all Rows<dd>
  * <dl>
  */
-public class CassandraProducer extends DefaultProducer {
+public class CassandraProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(CassandraProducer.class);
     private PreparedStatement preparedStatement;
+    private Map<String, PreparedStatement> preparedStatements;
+    private ExecutorService executorService;
+    private ScheduledExecutorService batchExecutor;
+    private ExchangeBatcher<List<Object>> batcher;
+    // the driver drops a listener rejected by its executor, so run it in the current thread instead
+    private final Executor listenerExecutor = new Executor() {
+        public void execute(Runnable listener) {
+            ExecutorService executor = executorService;
+            if (executor != null && !executor.isShutdown()) {
+                try {
+                    executor.execute(listener);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Producer thread pool rejected the listener, running it in the current thread");
+                }
+            }
+            listener.run();
+        }
+    };
 
     public CassandraProducer(CassandraEndpoint endpoint) {
         super(endpoint);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected void doStart() throws Exception {
         super.doStart();
         if (isPrepareStatements() && getEndpoint().getCql() != null) {
             this.preparedStatement = getEndpoint().prepareStatement();
         }
+        if (isPrepareStatements() && getEndpoint().getPreparedStatementCacheSize() > 0) {
+            this.preparedStatements = LRUCacheFactory.newLRUCache(getEndpoint().getPreparedStatementCacheSize());
+        }
+        // reject instead of running the listeners in the caller thread, which is an I/O thread of the driver
+        executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this, "CassandraProducer",
+            new ThreadPoolProfileBuilder("CassandraProducer").rejectedPolicy(ThreadPoolRejectedPolicy.Abort).build());
+
+        if (isPrepareStatements() && getEndpoint().getWriteBatchSize() > 0) {
+            batchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultScheduledThreadPool(this, "CassandraProducerWriteBatch");
+            batcher = new ExchangeBatcher<List<Object>>(batchExecutor, new ExchangeBatcher.AsyncBatchHandler<List<Object>>() {
+                public void processBatch(List<Object> key, List<Exchange> exchanges, List<Object> statements, AsyncCallback callback) {
+                    processWriteBatch(exchanges, statements, callback);
+                }
+            });
+            batcher.setBatchSize(getEndpoint().getWriteBatchSize());
+            batcher.setLingerTime(getEndpoint().getWriteBatchLingerTime());
+            // continue routing the exchanges of a batch concurrently
+            batcher.setCallbackExecutor(executorService);
+            ServiceHelper.startService(batcher);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        // stop the batcher first which executes the pending batches
+        ServiceHelper.stopService(batcher);
+        batcher = null;
+        if (batchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(batchExecutor);
+            batchExecutor = null;
+        }
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
         this.preparedStatement = null;
+        this.preparedStatements = null;
         super.doStop();
     }
 
@@ -89,9 +166,9 @@ public class CassandraProducer extends DefaultProducer {
     }
 
     /**
-     * Execute CQL query using incoming message body has statement parameters.
+     * Create the statement for the CQL query using incoming message body has statement parameters.
      */
-    private ResultSet execute(Message message) {
+    private Statement createStatement(Message message) {
         Object messageCql = message.getHeader(CassandraConstants.CQL_QUERY);
         // Convert Empty string to null
         if (messageCql instanceof String && ((String) messageCql).isEmpty()) {
@@ -99,28 +176,24 @@ public class CassandraProducer extends DefaultProducer {
         }
         Object[] cqlParams = getCqlParams(message);
 
-        ResultSet resultSet;
-        Session session = getEndpoint().getSessionHolder().getSession();
         if (isPrepareStatements()) {
-            resultSet = executePreparedStatement(session, messageCql, cqlParams);
+            return createPreparedStatement(messageCql, cqlParams);
         } else {
-            resultSet = executeStatement(session, messageCql, cqlParams);
+            return createRegularStatement(messageCql, cqlParams);
         }
-        return resultSet;
     }
 
     /**
-     * Execute CQL as PreparedStatement
+     * Create statement for the CQL as PreparedStatement
      */
-    private ResultSet executePreparedStatement(Session session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet;
+    private Statement createPreparedStatement(Object messageCql, Object[] cqlParams) {
         PreparedStatement lPreparedStatement;
         if (messageCql == null) {
             // URI CQL
             lPreparedStatement = this.preparedStatement;
         } else if (messageCql instanceof String) {
             // Message CQL
-            lPreparedStatement = getEndpoint().prepareStatement((String) messageCql);
+            lPreparedStatement = getPreparedStatement((String) messageCql);
         } else if (messageCql instanceof RegularStatement) {
             // Message Statement
             lPreparedStatement = getEndpoint().getSession().prepare((RegularStatement) messageCql);
@@ -128,20 +201,34 @@ public class CassandraProducer extends DefaultProducer {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
         if (isEmpty(cqlParams)) {
-            resultSet = session.execute(lPreparedStatement.bind());
+            return lPreparedStatement.bind();
         } else {
-            resultSet = session.execute(lPreparedStatement.bind(cqlParams));
+            return lPreparedStatement.bind(cqlParams);
         }
-        return resultSet;
     }
 
     /**
-     * Execute CQL as is
+     * Gets the PreparedStatement for the CQL from the cache, or prepares it
      */
-    private ResultSet executeStatement(Session session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet;
+    private PreparedStatement getPreparedStatement(String cql) {
+        Map<String, PreparedStatement> cache = preparedStatements;
+        if (cache == null) {
+            return getEndpoint().prepareStatement(cql);
+        }
+        PreparedStatement answer = cache.get(cql);
+        if (answer == null) {
+            // two threads may prepare the same statement, which is harmless
+            answer = getEndpoint().prepareStatement(cql);
+            cache.put(cql, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Create statement for the CQL as is
+     */
+    private Statement createRegularStatement(Object messageCql, Object[] cqlParams) {
         String cql = null;
-        RegularStatement statement = null;
         if (messageCql == null) {
             // URI CQL
             cql = getEndpoint().getCql();
@@ -150,26 +237,129 @@ public class CassandraProducer extends DefaultProducer {
             cql = (String) messageCql;
         } else if (messageCql instanceof RegularStatement) {
             // Message Statement
-            statement = (RegularStatement) messageCql;
+            return (RegularStatement) messageCql;
         } else {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
-        if (statement != null) {
-            resultSet = session.execute(statement);
-        } else if (isEmpty(cqlParams)) {
-            resultSet = session.execute(cql);
+        if (isEmpty(cqlParams)) {
+            return new SimpleStatement(cql);
         } else {
-            resultSet = session.execute(cql, cqlParams);
+            return new SimpleStatement(cql, cqlParams);
         }
-        return resultSet;
     }
 
-    public void process(Exchange exchange) throws Exception {
-        // copy the header of in message to the out message
-        exchange.getOut().copyFrom(exchange.getIn());
+    /**
+     * Gets the key of the batch for statements which can be executed in an unlogged batch, which are
+     * unconditional writes to a single partition.
+     *
+     * @return the keyspace and partition key, or <tt>null</tt> if the statement cannot be batched
+     */
+    private List<Object> getWriteBatchKey(Statement statement, Session session) {
+        if (!(statement instanceof BoundStatement)) {
+            return null;
+        }
+        BoundStatement boundStatement = (BoundStatement) statement;
+        String cql = boundStatement.preparedStatement().getQueryString().trim().toLowerCase(Locale.ENGLISH);
+        boolean write = cql.startsWith("insert") || cql.startsWith("update") || cql.startsWith("delete");
+        // lightweight transactions return whether they was applied, so they cannot be batched
+        if (!write || cql.contains(" if ")) {
+            return null;
+        }
+        Cluster cluster = session.getCluster();
+        ByteBuffer routingKey = boundStatement.getRoutingKey(cluster.getConfiguration().getProtocolOptions().getProtocolVersion(),
+            cluster.getConfiguration().getCodecRegistry());
+        if (routingKey == null) {
+            return null;
+        }
+        return Arrays.<Object>asList(boundStatement.getKeyspace(), routingKey);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        final ResultSetFuture future;
+        try {
+            // copy the header of in message to the out message
+            exchange.getOut().copyFrom(exchange.getIn());
+
+            Session session = getEndpoint().getSessionHolder().getSession();
+            Statement statement = createStatement(exchange.getIn());
+            if (batcher != null) {
+                List<Object> key = getWriteBatchKey(statement, session);
+                if (key != null) {
+                    return batcher.add(key, exchange, statement, callback);
+                }
+            }
+            future = session.executeAsync(statement);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        // the driver completes the future in its I/O thread which must not be blocked, so continue routing
+        // the exchange from the producer thread pool
+        future.addListener(new Runnable() {
+            public void run() {
+                try {
+                    ResultSet resultSet = future.get();
+                    getEndpoint().fillMessage(resultSet, exchange.getOut());
+                } catch (ExecutionException e) {
+                    exchange.setException(e.getCause());
+                } catch (Throwable e) {
+                    exchange.setException(e);
+                } finally {
+                    callback.done(false);
+                }
+            }
+        }, listenerExecutor);
+        return false;
+    }
+
+    /**
+     * Executes the statements of the exchanges which writes to the same partition as a single unlogged batch.
+     */
+    protected void processWriteBatch(final List<Exchange> exchanges, List<Object> statements, final AsyncCallback callback) {
+        Session session = getEndpoint().getSessionHolder().getSession();
+
+        final Statement statement;
+        if (statements.size() == 1) {
+            statement = (Statement) statements.get(0);
+        } else {
+            BatchStatement batchStatement = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            if (getEndpoint().getConsistencyLevel() != null) {
+                batchStatement.setConsistencyLevel(getEndpoint().getConsistencyLevel());
+            }
+            for (Object bound : statements) {
+                batchStatement.add((Statement) bound);
+            }
+            statement = batchStatement;
+        }
 
-        ResultSet resultSet = execute(exchange.getIn());
-        getEndpoint().fillMessage(resultSet, exchange.getOut());
+        LOG.debug("Executing CQL batch of {} statements", statements.size());
+
+        final ResultSetFuture future = session.executeAsync(statement);
+        future.addListener(new Runnable() {
+            public void run() {
+                try {
+                    ResultSet resultSet = future.get();
+                    for (Exchange exchange : exchanges) {
+                        getEndpoint().fillMessage(resultSet, exchange.getOut());
+                    }
+                } catch (ExecutionException e) {
+                    setException(exchanges, e.getCause());
+                } catch (Throwable e) {
+                    setException(exchanges, e);
+                } finally {
+                    callback.done(false);
+                }
+            }
+        }, listenerExecutor);
+    }
+
+    private static void setException(List<Exchange> exchanges, Throwable cause) {
+        for (Exchange exchange : exchanges) {
+            exchange.setException(cause);
+        }
     }
 
 }
@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import org.apache.camel.Produce;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.cassandraunit.CassandraCQLUnit;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CassandraComponentProducerAsyncTest extends BaseCassandraTest {
+
+    private static final String CQL = "insert into camel_user(login, first_name, last_name) values (?, ?, ?)";
+
+    @Rule
+    public CassandraCQLUnit cassandra = CassandraUnitUtils.cassandraCQLUnit();
+
+    @Produce(uri = "direct:input")
+    ProducerTemplate producerTemplate;
+
+    @Produce(uri = "direct:inputBatch")
+    ProducerTemplate batchProducerTemplate;
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:input")
+                        .to("cql://localhost/camel_ks?cql=" + CQL);
+                from("direct:inputBatch")
+                        .to("cql://localhost/camel_ks?cql=" + CQL + "&writeBatchSize=10&writeBatchLingerTime=200");
+            }
+        };
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(producerTemplate.asyncRequestBody(producerTemplate.getDefaultEndpoint(), Arrays.asList("user_" + i, "First " + i, "Last " + i)));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+
+        assertUser("user_0", "First 0", "Last 0");
+        assertUser("user_49", "First 49", "Last 49");
+    }
+
+    @Test
+    public void testMessageCqlIsPreparedOnce() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        String cql = "update camel_user set first_name=? where login=?";
+        producerTemplate.requestBodyAndHeader(new Object[] {"Claus 2", "c_ibsen"}, CassandraConstants.CQL_QUERY, cql);
+        producerTemplate.requestBodyAndHeader(new Object[] {"Claus 3", "c_ibsen"}, CassandraConstants.CQL_QUERY, cql);
+
+        assertUser("c_ibsen", "Claus 3", "Ibsen");
+    }
+
+    @Test
+    public void testWriteBatch() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        // the updates are written to the same partition, so they are executed as a single batch
+        Future<Object> first = batchProducerTemplate.asyncRequestBodyAndHeader(batchProducerTemplate.getDefaultEndpoint(),
+                new Object[] {"Claus 2", "c_ibsen"}, CassandraConstants.CQL_QUERY, "update camel_user set first_name=? where login=?");
+        Future<Object> last = batchProducerTemplate.asyncRequestBodyAndHeader(batchProducerTemplate.getDefaultEndpoint(),
+                new Object[] {"Ibsen 2", "c_ibsen"}, CassandraConstants.CQL_QUERY, "update camel_user set last_name=? where login=?");
+        Future<Object> other = batchProducerTemplate.asyncRequestBody(batchProducerTemplate.getDefaultEndpoint(),
+                Arrays.asList("w_jiang", "Willem", "Jiang"));
+        first.get();
+        last.get();
+        other.get();
+
+        assertUser("c_ibsen", "Claus 2", "Ibsen 2");
+        assertUser("w_jiang", "Willem", "Jiang");
+
+        // queries are not batched
+        List<?> rows = batchProducerTemplate.requestBodyAndHeader(batchProducerTemplate.getDefaultEndpoint(), null,
+                CassandraConstants.CQL_QUERY, "select login from camel_user", List.class);
+        assertEquals(3, rows.size());
+    }
+
+    private void assertUser(String login, String firstName, String lastName) {
+        Cluster cluster = CassandraUnitUtils.cassandraCluster();
+        Session session = cluster.connect(CassandraUnitUtils.KEYSPACE);
+        ResultSet resultSet = session.execute("select login, first_name, last_name from camel_user where login = ?", login);
+        Row row = resultSet.one();
+        assertNotNull(row);
+        assertEquals(firstName, row.getString("first_name"));
+        assertEquals(lastName, row.getString("last_name"));
+        session.close();
+        cluster.close();
+    }
+}
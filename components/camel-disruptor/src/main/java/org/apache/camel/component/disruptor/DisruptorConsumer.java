@@ -16,9 +16,13 @@
  */
 package org.apache.camel.component.disruptor;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import com.lmax.disruptor.WorkHandler;
+
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Consumer;
@@ -99,7 +103,13 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         final Set<LifecycleAwareExchangeEventHandler> eventHandlers = new HashSet<LifecycleAwareExchangeEventHandler>();
 
         for (int i = 0; i < concurrentConsumers; ++i) {
-            eventHandlers.add(new ConsumerEventHandler(i, concurrentConsumers));
+            if (endpoint.isUseWorkerPool()) {
+                eventHandlers.add(new ConsumerWorkHandler());
+            } else if (endpoint.getMaxBatchSize() > 0) {
+                eventHandlers.add(new BatchingConsumerEventHandler(i, concurrentConsumers, endpoint.getMaxBatchSize()));
+            } else {
+                eventHandlers.add(new ConsumerEventHandler(i, concurrentConsumers));
+            }
         }
 
         return eventHandlers;
@@ -137,15 +147,21 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         return newExchange;
     }
 
+    private static boolean isIgnored(final Exchange exchange) {
+        final boolean ignore = exchange.hasProperties() && exchange
+                .getProperties().containsKey(DisruptorEndpoint.DISRUPTOR_IGNORE_EXCHANGE);
+        if (ignore) {
+            // Property was set and it was set to true, so don't process Exchange.
+            LOGGER.trace("Ignoring exchange {}", exchange);
+        }
+        return ignore;
+    }
+
     private void process(final SynchronizedExchange synchronizedExchange) {
         try {
             Exchange exchange = synchronizedExchange.getExchange();
 
-            final boolean ignore = exchange.hasProperties() && exchange
-                    .getProperties().containsKey(DisruptorEndpoint.DISRUPTOR_IGNORE_EXCHANGE);
-            if (ignore) {
-                // Property was set and it was set to true, so don't process Exchange.
-                LOGGER.trace("Ignoring exchange {}", exchange);
+            if (isIgnored(exchange)) {
                 return;
             }
 
@@ -186,6 +202,55 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         }
     }
 
+    private void process(final List<SynchronizedExchange> synchronizedExchanges) {
+        final List<SynchronizedExchange> batch = new ArrayList<SynchronizedExchange>(synchronizedExchanges.size());
+        final List<Exchange> exchanges = new ArrayList<Exchange>(synchronizedExchanges.size());
+        for (SynchronizedExchange synchronizedExchange : synchronizedExchanges) {
+            if (!isIgnored(synchronizedExchange.getExchange())) {
+                batch.add(synchronizedExchange);
+                exchanges.add(prepareExchange(synchronizedExchange.getExchange()));
+            }
+        }
+        if (exchanges.isEmpty()) {
+            return;
+        }
+
+        final Exchange grouped = endpoint.createExchange();
+        try {
+            grouped.setProperty(Exchange.GROUPED_EXCHANGE, exchanges);
+            grouped.getIn().setBody(exchanges);
+
+            // same as for a single exchange, the grouped exchanges are synchronized once the group is done
+            grouped.addOnCompletion(new Synchronization() {
+                @Override
+                public void onComplete(Exchange exchange) {
+                    consumed(exchange);
+                }
+
+                @Override
+                public void onFailure(Exchange exchange) {
+                    consumed(exchange);
+                }
+
+                private void consumed(Exchange exchange) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        final Exchange result = exchanges.get(i);
+                        if (exchange.getException() != null && result.getException() == null) {
+                            // a failure of the group fails all its exchanges
+                            result.setException(exchange.getException());
+                        }
+                        batch.get(i).consumed(result);
+                    }
+                }
+            });
+
+            processor.process(grouped, NOOP_ASYNC_CALLBACK);
+
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing grouped exchange", grouped, e);
+        }
+    }
+
     /**
      * Implementation of the {@link LifecycleAwareExchangeEventHandler} interface that passes all Exchanges to the
      * {@link Processor} registered at this {@link DisruptorConsumer}.
@@ -215,4 +280,58 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         }
 
     }
+
+    /**
+     * Implementation of the {@link LifecycleAwareExchangeEventHandler} interface that accumulates the Exchanges of
+     * its ordinal until the end of the batch made available by the Disruptor, or until the max batch size is reached,
+     * and passes them as a single grouped Exchange to the {@link Processor} registered at this {@link DisruptorConsumer}.
+     */
+    private class BatchingConsumerEventHandler extends AbstractLifecycleAwareExchangeEventHandler {
+
+        private final int ordinal;
+
+        private final int concurrentConsumers;
+
+        private final int maxBatchSize;
+
+        private List<SynchronizedExchange> batch;
+
+        BatchingConsumerEventHandler(final int ordinal, final int concurrentConsumers, final int maxBatchSize) {
+            this.ordinal = ordinal;
+            this.concurrentConsumers = concurrentConsumers;
+            this.maxBatchSize = maxBatchSize;
+            this.batch = new ArrayList<SynchronizedExchange>(maxBatchSize);
+        }
+
+        @Override
+        public void onEvent(final ExchangeEvent event, final long sequence, final boolean endOfBatch) throws Exception {
+            if (sequence % concurrentConsumers == ordinal) {
+                batch.add(event.getSynchronizedExchange());
+            }
+            if (!batch.isEmpty() && (endOfBatch || batch.size() >= maxBatchSize)) {
+                final List<SynchronizedExchange> exchanges = batch;
+                batch = new ArrayList<SynchronizedExchange>(maxBatchSize);
+                process(exchanges);
+            }
+        }
+
+    }
+
+    /**
+     * Implementation of the {@link LifecycleAwareExchangeEventHandler} interface used as a {@link WorkHandler} of a
+     * Disruptor WorkerPool: each Exchange is passed to only one of the handlers of the pool.
+     */
+    private class ConsumerWorkHandler extends AbstractLifecycleAwareExchangeEventHandler implements WorkHandler<ExchangeEvent> {
+
+        @Override
+        public void onEvent(final ExchangeEvent event) throws Exception {
+            process(event.getSynchronizedExchange());
+        }
+
+        @Override
+        public void onEvent(final ExchangeEvent event, final long sequence, final boolean endOfBatch) throws Exception {
+            onEvent(event);
+        }
+
+    }
 }
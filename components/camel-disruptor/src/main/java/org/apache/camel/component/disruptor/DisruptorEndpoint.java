@@ -76,6 +76,10 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
     private DisruptorWaitStrategy waitStrategy;
     @UriParam(label = "producer", defaultValue = "Multi")
     private DisruptorProducerType producerType;
+    @UriParam(label = "consumer")
+    private boolean useWorkerPool;
+    @UriParam(label = "consumer")
+    private int maxBatchSize;
 
     public DisruptorEndpoint(final String endpointUri, final Component component,
                              final DisruptorReference disruptorReference, final int concurrentConsumers,
@@ -230,6 +234,38 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
         this.producerType = producerType;
     }
 
+    @ManagedAttribute(description = "Whether the concurrent consumers share the exchanges through a worker pool")
+    public boolean isUseWorkerPool() {
+        return useWorkerPool;
+    }
+
+    /**
+     * Whether the concurrent consumers of this endpoint share the exchanges through a Disruptor WorkerPool,
+     * so each exchange is claimed by exactly one consumer thread. By default every consumer thread sees every
+     * exchange and skips the ones assigned to the other threads, which lets a slow exchange hold back the
+     * exchanges assigned to the same thread. Cannot be combined with maxBatchSize.
+     */
+    public void setUseWorkerPool(boolean useWorkerPool) {
+        this.useWorkerPool = useWorkerPool;
+    }
+
+    @ManagedAttribute(description = "Maximum number of exchanges grouped in a single exchange by each consumer thread")
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * When set to a positive value, each consumer thread groups the exchanges available in the ringbuffer,
+     * up to this number, and routes them as a single exchange holding a List of the grouped exchanges in its
+     * body and in the CamelGroupedExchange property. A group is routed as soon as the consumer thread has caught up
+     * with the producers, so it never waits for more exchanges to arrive.
+     * Replies and exceptions set on the grouped exchanges are returned to their callers.
+     * Cannot be combined with useWorkerPool.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
     @Override
     public boolean isSingleton() {
         return true;
@@ -246,6 +282,9 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
 
     @Override
     public Consumer createConsumer(final Processor processor) throws Exception {
+        if (useWorkerPool && maxBatchSize > 0) {
+            throw new IllegalArgumentException("The useWorkerPool and maxBatchSize options cannot be used together on endpoint " + this);
+        }
         return new DisruptorConsumer(this, processor);
     }
 
@@ -18,6 +18,7 @@
 package org.apache.camel.component.disruptor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -37,6 +38,7 @@ import java.util.concurrent.locks.LockSupport;
 
 import com.lmax.disruptor.InsufficientCapacityException;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.WorkHandler;
 import com.lmax.disruptor.dsl.Disruptor;
 
 import org.apache.camel.Exchange;
@@ -196,6 +198,8 @@ public class DisruptorReference {
 
         //determine the list of eventhandlers to be associated to the Disruptor
         final ArrayList<LifecycleAwareExchangeEventHandler> eventHandlers = new ArrayList<LifecycleAwareExchangeEventHandler>();
+        //and the worker pools, the handlers of a worker pool share the exchanges instead of each seeing all of them
+        final ArrayList<Collection<LifecycleAwareExchangeEventHandler>> workerPools = new ArrayList<Collection<LifecycleAwareExchangeEventHandler>>();
 
         uniqueConsumerCount = 0;
 
@@ -207,29 +211,53 @@ public class DisruptorReference {
 
                 for (Collection<LifecycleAwareExchangeEventHandler> lifecycleAwareExchangeEventHandlers : consumerEventHandlers
                         .values()) {
-                    eventHandlers.addAll(lifecycleAwareExchangeEventHandlers);
+                    if (isWorkerPool(lifecycleAwareExchangeEventHandlers)) {
+                        workerPools.add(lifecycleAwareExchangeEventHandlers);
+                    } else {
+                        eventHandlers.addAll(lifecycleAwareExchangeEventHandlers);
+                    }
                 }
 
             }
         }
 
-        LOGGER.debug("Disruptor created with {} event handlers", eventHandlers.size());
+        LOGGER.debug("Disruptor created with {} event handlers and {} worker pools", eventHandlers.size(), workerPools.size());
         handleEventsWith(newDisruptor,
-                eventHandlers.toArray(new LifecycleAwareExchangeEventHandler[eventHandlers.size()]));
+                eventHandlers.toArray(new LifecycleAwareExchangeEventHandler[eventHandlers.size()]), workerPools);
 
         return newDisruptor;
     }
 
+    private static boolean isWorkerPool(final Collection<LifecycleAwareExchangeEventHandler> consumerEventHandlers) {
+        return !consumerEventHandlers.isEmpty() && consumerEventHandlers.iterator().next() instanceof WorkHandler;
+    }
+
+    @SuppressWarnings("unchecked")
     private void handleEventsWith(Disruptor<ExchangeEvent> newDisruptor,
-                                  final LifecycleAwareExchangeEventHandler[] newHandlers) {
-        if (newHandlers == null || newHandlers.length == 0) {
+                                  final LifecycleAwareExchangeEventHandler[] newHandlers,
+                                  final List<Collection<LifecycleAwareExchangeEventHandler>> workerPools) {
+        if ((newHandlers == null || newHandlers.length == 0) && workerPools.isEmpty()) {
             handlers = new LifecycleAwareExchangeEventHandler[1];
             handlers[0] = new BlockingExchangeEventHandler();
-        } else {
-            handlers = newHandlers;
+            resizeThreadPoolExecutor(handlers.length);
+            newDisruptor.handleEventsWith(handlers);
+            return;
+        }
+
+        final List<LifecycleAwareExchangeEventHandler> allHandlers = new ArrayList<LifecycleAwareExchangeEventHandler>(Arrays.asList(newHandlers));
+        for (Collection<LifecycleAwareExchangeEventHandler> workerPool : workerPools) {
+            allHandlers.addAll(workerPool);
         }
+        handlers = allHandlers.toArray(new LifecycleAwareExchangeEventHandler[allHandlers.size()]);
+        //every event handler and every work handler of a worker pool runs on its own thread
         resizeThreadPoolExecutor(handlers.length);
-        newDisruptor.handleEventsWith(handlers);
+
+        if (newHandlers.length > 0) {
+            newDisruptor.handleEventsWith(newHandlers);
+        }
+        for (Collection<LifecycleAwareExchangeEventHandler> workerPool : workerPools) {
+            newDisruptor.handleEventsWithWorkerPool(workerPool.toArray(new WorkHandler[workerPool.size()]));
+        }
     }
 
     private void publishBufferedExchanges(Disruptor<ExchangeEvent> newDisruptor) {
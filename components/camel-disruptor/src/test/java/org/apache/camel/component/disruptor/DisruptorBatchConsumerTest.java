@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.disruptor;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class DisruptorBatchConsumerTest extends CamelTestSupport {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    @Test
+    public void testGroupedExchanges() throws Exception {
+        final MockEndpoint mock = getMockEndpoint("mock:result");
+
+        // hold the consumer thread so the next exchanges accumulate in the ringbuffer
+        template.sendBody("disruptor:batch?maxBatchSize=10", "block");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 25; i++) {
+            template.sendBody("disruptor:batch?maxBatchSize=10", i);
+        }
+        blocked.countDown();
+
+        // [block], then groups of at most 10 exchanges
+        mock.expectedMinimumMessageCount(4);
+        assertMockEndpointsSatisfied();
+
+        int total = 0;
+        for (Exchange exchange : mock.getExchanges()) {
+            List<?> grouped = exchange.getIn().getBody(List.class);
+            assertSame(grouped, exchange.getProperty(Exchange.GROUPED_EXCHANGE));
+            assertTrue(grouped.size() <= 10);
+            total += grouped.size();
+        }
+        assertEquals(26, total);
+        assertEquals(10, mock.getExchanges().get(1).getIn().getBody(List.class).size());
+    }
+
+    @Test
+    public void testGroupedExchangesWithRequestReply() throws Exception {
+        blocked.countDown();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Bye " + i, template.requestBody("disruptor:batch?maxBatchSize=10", i));
+        }
+    }
+
+    @Test
+    public void testFailedGroupFailsEveryExchange() throws Exception {
+        blocked.countDown();
+        try {
+            template.requestBody("disruptor:batch?maxBatchSize=10", "kaboom");
+            fail("Should have thrown an exception");
+        } catch (Exception e) {
+            assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("disruptor:batch?maxBatchSize=10")
+                    .process(exchange -> {
+                        List<Exchange> grouped = exchange.getIn().getBody(List.class);
+                        for (Exchange ex : grouped) {
+                            if ("block".equals(ex.getIn().getBody())) {
+                                started.countDown();
+                                blocked.await(10, TimeUnit.SECONDS);
+                            } else if ("kaboom".equals(ex.getIn().getBody())) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                            ex.getIn().setBody("Bye " + ex.getIn().getBody());
+                        }
+                    })
+                    .to("mock:result");
+            }
+        };
+    }
+}
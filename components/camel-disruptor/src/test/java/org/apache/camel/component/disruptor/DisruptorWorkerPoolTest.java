@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.disruptor;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class DisruptorWorkerPoolTest extends CamelTestSupport {
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    @Test
+    public void testWorkerPoolSharesExchanges() throws Exception {
+        final MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("disruptor:pool?concurrentConsumers=4&useWorkerPool=true", i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertTrue("Exchanges should be shared by the consumer threads", threads.size() > 1);
+    }
+
+    @Test
+    public void testSlowExchangeDoesNotBlockOthers() throws Exception {
+        final MockEndpoint mock = getMockEndpoint("mock:result");
+        // the first exchange blocks its consumer thread, the others are claimed by the other threads
+        mock.expectedMessageCount(20);
+
+        template.sendBody("disruptor:pool?concurrentConsumers=4&useWorkerPool=true", "block");
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("disruptor:pool?concurrentConsumers=4&useWorkerPool=true", i);
+        }
+
+        assertMockEndpointsSatisfied();
+        blocked.countDown();
+    }
+
+    @Test
+    public void testWorkerPoolWithRequestReply() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Bye " + i, template.requestBody("disruptor:pool?concurrentConsumers=4&useWorkerPool=true", i));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("disruptor:pool?concurrentConsumers=4&useWorkerPool=true")
+                    .process(exchange -> {
+                        threads.add(Thread.currentThread().getName());
+                        if ("block".equals(exchange.getIn().getBody())) {
+                            blocked.await(10, TimeUnit.SECONDS);
+                        }
+                    })
+                    .transform(simple("Bye ${body}"))
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -51,6 +51,16 @@ public class ElasticsearchConfiguration {
     private boolean disconnect;
     @UriParam(defaultValue = "false")
     private boolean enableSSL;
+    @UriParam(label = "advanced")
+    private int bulkSize;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_SIZE_BYTES)
+    private long bulkSizeBytes = ElasticsearchConstants.DEFAULT_BULK_SIZE_BYTES;
+    @UriParam(label = "advanced", defaultValue = "10")
+    private long bulkLingerTime = 10;
+    @UriParam(label = "advanced", defaultValue = "1")
+    private int bulkConcurrentRequests = 1;
+    @UriParam(label = "advanced", defaultValue = "30000")
+    private long bulkQueueTimeout = 30000;
 
     private String user;
     private String password;
@@ -243,4 +253,66 @@ public class ElasticsearchConfiguration {
     public void setSniffAfterFailureDelay(int sniffAfterFailureDelay) {
         this.sniffAfterFailureDelay = sniffAfterFailureDelay;
     }
-}
\ No newline at end of file
+
+    /**
+     * If set greater than zero, then the producer coalesces index, update and delete exchanges which are processed
+     * concurrently into bulk requests of up to this number of actions. Each exchange gets its own result or error.
+     * This cannot be used together with the disconnect option.
+     */
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    public void setBulkSize(int bulkSize) {
+        this.bulkSize = bulkSize;
+    }
+
+    /**
+     * The maximum estimated size in bytes of a bulk request, when bulkSize is in use.
+     * A coalesced batch which is larger is sent as several bulk requests.
+     */
+    public long getBulkSizeBytes() {
+        return bulkSizeBytes;
+    }
+
+    public void setBulkSizeBytes(long bulkSizeBytes) {
+        this.bulkSizeBytes = bulkSizeBytes;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to be added to a bulk request before its sent, when bulkSize is in use.
+     */
+    public long getBulkLingerTime() {
+        return bulkLingerTime;
+    }
+
+    public void setBulkLingerTime(long bulkLingerTime) {
+        this.bulkLingerTime = bulkLingerTime;
+    }
+
+    /**
+     * The maximum number of bulk requests which are sent concurrently, when bulkSize is in use.
+     * When all of them are in flight and another batch is full, then the producer blocks the calling threads
+     * until a bulk request has completed, or until bulkQueueTimeout has elapsed.
+     */
+    public int getBulkConcurrentRequests() {
+        return bulkConcurrentRequests;
+    }
+
+    public void setBulkConcurrentRequests(int bulkConcurrentRequests) {
+        this.bulkConcurrentRequests = bulkConcurrentRequests;
+    }
+
+    /**
+     * The maximum time in millis a calling thread waits to add an exchange to a bulk request, when all the bulk
+     * requests are in flight and the next batch is full. The exchange fails with an ExchangeTimedOutException
+     * when the timeout elapses.
+     */
+    public long getBulkQueueTimeout() {
+        return bulkQueueTimeout;
+    }
+
+    public void setBulkQueueTimeout(long bulkQueueTimeout) {
+        this.bulkQueueTimeout = bulkQueueTimeout;
+    }
+}
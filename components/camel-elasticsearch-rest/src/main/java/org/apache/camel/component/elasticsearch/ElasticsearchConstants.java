@@ -31,5 +31,6 @@ public interface ElasticsearchConstants {
     int    DEFAULT_CONNECTION_TIMEOUT = 30000; // Meaning how many seconds before it timeout when establish connection
     int    DEFAULT_SNIFFER_INTERVAL = 60000 * 5; // Meaning how often it should search for elasticsearch nodes
     int    DEFAULT_AFTER_FAILURE_DELAY = 60000; // Meaning when should the sniff execution scheduled after a failure
+    long   DEFAULT_BULK_SIZE_BYTES = 5 * 1024 * 1024; // Meaning the maximum size of an automatic bulk request
 
 }
@@ -18,25 +18,42 @@ package org.apache.camel.component.elasticsearch;
 
 import java.lang.reflect.InvocationTargetException;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
 import org.apache.camel.Message;
+import org.apache.camel.ThreadPoolRejectedPolicy;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
 import org.apache.camel.component.elasticsearch.converter.ElasticsearchActionRequestConverter;
-import org.apache.camel.impl.DefaultProducer;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.ExchangeBatcher;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ServiceHelper;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.DocWriteRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.get.MultiGetRequest;
@@ -57,13 +74,25 @@ import org.slf4j.LoggerFactory;
 /**
  * Represents an Elasticsearch producer.
  */
-public class ElasticsearchProducer extends DefaultProducer {
+@ManagedResource(description = "Managed ElasticsearchProducer")
+public class ElasticsearchProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchProducer.class);
 
     protected final ElasticsearchConfiguration configuration;
     private RestClient client;
     private Sniffer sniffer;
+    private ScheduledExecutorService bulkExecutor;
+    private ExecutorService bulkCallbackExecutor;
+    private ExchangeBatcher<String> bulkBatcher;
+    private Semaphore bulkPermits;
+    private final AtomicInteger bulkInflight = new AtomicInteger();
+    private final AtomicLong bulkRequests = new AtomicLong();
+    private final AtomicLong bulkItems = new AtomicLong();
+    private final AtomicLong bulkFailedItems = new AtomicLong();
+    private final AtomicLong bulkBytes = new AtomicLong();
+    private final AtomicLong bulkTotalTime = new AtomicLong();
+    private volatile long bulkLastTime;
 
     public ElasticsearchProducer(ElasticsearchEndpoint endpoint, ElasticsearchConfiguration configuration) {
         super(endpoint);
@@ -115,6 +144,43 @@ public class ElasticsearchProducer extends DefaultProducer {
         return operationConfig;
     }
 
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (bulkBatcher != null && isBulkSupported(exchange)) {
+                return addToBulk(exchange, callback);
+            }
+            process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    private boolean isBulkSupported(Exchange exchange) {
+        ElasticsearchOperation operation = resolveOperation(exchange);
+        return operation == ElasticsearchOperation.Index || operation == ElasticsearchOperation.Update
+            || operation == ElasticsearchOperation.Delete;
+    }
+
+    private boolean addToBulk(Exchange exchange, AsyncCallback callback) throws InterruptedException, ExchangeTimedOutException {
+        // block the caller when all the bulk requests are in flight and the next batch is full, but not forever
+        final Semaphore permits = bulkPermits;
+        long timeout = configuration.getBulkQueueTimeout();
+        if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            throw new ExchangeTimedOutException(exchange, timeout, "Timeout waiting to add the exchange to a bulk request as "
+                + bulkInflight.get() + " bulk requests are in flight");
+        }
+        return bulkBatcher.add("", exchange, new AsyncCallback() {
+            public void done(boolean doneSync) {
+                permits.release();
+                callback.done(doneSync);
+            }
+        });
+    }
+
+    @Override
     public void process(Exchange exchange) throws Exception {
         if (configuration.getDisconnect() && client == null) {
             startClient();
@@ -238,12 +304,141 @@ public class ElasticsearchProducer extends DefaultProducer {
 
     }
 
+    /**
+     * Sends the exchanges as one or more bulk requests, and sets the result or error of its item on each exchange.
+     */
+    protected void processBulk(List<Exchange> exchanges) {
+        RestHighLevelClient restHighLevelClient = new HighLevelClient(client);
+        BulkRequest bulkRequest = new BulkRequest();
+        List<Exchange> added = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            try {
+                bulkRequest.add(toBulkItemRequest(exchange));
+                added.add(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+                continue;
+            }
+            // the batch is split so each bulk request stays within the size limit
+            if (bulkRequest.estimatedSizeInBytes() >= configuration.getBulkSizeBytes()) {
+                sendBulk(restHighLevelClient, bulkRequest, added);
+                bulkRequest = new BulkRequest();
+                added = new ArrayList<>(exchanges.size());
+            }
+        }
+        if (!added.isEmpty()) {
+            sendBulk(restHighLevelClient, bulkRequest, added);
+        }
+    }
+
+    private DocWriteRequest<?> toBulkItemRequest(Exchange exchange) {
+        Message message = exchange.getIn();
+        ElasticsearchOperation operation = resolveOperation(exchange);
+
+        // use the configuration for the index/type headers during conversion in the same way as process
+        boolean configIndexName = false;
+        if (message.getHeader(ElasticsearchConstants.PARAM_INDEX_NAME) == null) {
+            message.setHeader(ElasticsearchConstants.PARAM_INDEX_NAME, configuration.getIndexName());
+            configIndexName = true;
+        }
+        boolean configIndexType = false;
+        if (message.getHeader(ElasticsearchConstants.PARAM_INDEX_TYPE) == null) {
+            message.setHeader(ElasticsearchConstants.PARAM_INDEX_TYPE, configuration.getIndexType());
+            configIndexType = true;
+        }
+        boolean configWaitForActiveShards = false;
+        if (message.getHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS) == null) {
+            message.setHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS, configuration.getWaitForActiveShards());
+            configWaitForActiveShards = true;
+        }
+
+        try {
+            if (operation == ElasticsearchOperation.Index) {
+                return ElasticsearchActionRequestConverter.toIndexRequest(message.getBody(), exchange);
+            } else if (operation == ElasticsearchOperation.Update) {
+                return ElasticsearchActionRequestConverter.toUpdateRequest(message.getBody(), exchange);
+            } else {
+                return ElasticsearchActionRequestConverter.toDeleteRequest(message.getBody(), exchange);
+            }
+        } finally {
+            if (configIndexName) {
+                message.removeHeader(ElasticsearchConstants.PARAM_INDEX_NAME);
+            }
+            if (configIndexType) {
+                message.removeHeader(ElasticsearchConstants.PARAM_INDEX_TYPE);
+            }
+            if (configWaitForActiveShards) {
+                message.removeHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS);
+            }
+        }
+    }
+
+    private void sendBulk(RestHighLevelClient restHighLevelClient, BulkRequest bulkRequest, List<Exchange> exchanges) {
+        bulkRequest.waitForActiveShards(configuration.getWaitForActiveShards());
+        long size = bulkRequest.estimatedSizeInBytes();
+        LOG.debug("Sending bulk request with {} actions ({} bytes)", exchanges.size(), size);
+
+        BulkResponse response;
+        long start = System.currentTimeMillis();
+        bulkInflight.incrementAndGet();
+        try {
+            response = restHighLevelClient.bulk(bulkRequest);
+        } catch (Exception e) {
+            for (Exchange exchange : exchanges) {
+                exchange.setException(e);
+            }
+            bulkFailedItems.addAndGet(exchanges.size());
+            return;
+        } finally {
+            bulkInflight.decrementAndGet();
+            bulkLastTime = System.currentTimeMillis() - start;
+            bulkTotalTime.addAndGet(bulkLastTime);
+            bulkRequests.incrementAndGet();
+            bulkItems.addAndGet(exchanges.size());
+            bulkBytes.addAndGet(size);
+        }
+
+        // the items in the response are in the same order as in the request
+        BulkItemResponse[] items = response.getItems();
+        for (int i = 0; i < exchanges.size(); i++) {
+            Exchange exchange = exchanges.get(i);
+            BulkItemResponse item = items[i];
+            if (item.isFailed()) {
+                exchange.setException(item.getFailure().getCause());
+                bulkFailedItems.incrementAndGet();
+            } else if (item.getOpType() == DocWriteRequest.OpType.DELETE) {
+                exchange.getIn().setBody(item.getResponse().getResult());
+            } else {
+                exchange.getIn().setBody(item.getId());
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void doStart() throws Exception {
         super.doStart();
         if (!configuration.getDisconnect()) {
             startClient();
+
+            if (configuration.getBulkSize() > 0) {
+                int concurrentRequests = Math.max(1, configuration.getBulkConcurrentRequests());
+                bulkExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newScheduledThreadPool(this, "ElasticsearchBulk", concurrentRequests);
+                bulkBatcher = new ExchangeBatcher<>(bulkExecutor, (key, exchanges) -> processBulk(exchanges));
+                bulkBatcher.setBatchSize(configuration.getBulkSize());
+                bulkBatcher.setLingerTime(configuration.getBulkLingerTime());
+                // room for the batches in flight and the batch being coalesced
+                bulkPermits = new Semaphore(configuration.getBulkSize() * (concurrentRequests + 1));
+                // continue routing on another thread so the bulk threads are only used for sending bulk requests,
+                // and on the bulk thread when the pool is saturated
+                bulkCallbackExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this, "ElasticsearchBulkCallback",
+                    new ThreadPoolProfileBuilder("ElasticsearchBulkCallback").rejectedPolicy(ThreadPoolRejectedPolicy.Abort).build());
+                bulkBatcher.setCallbackExecutor(bulkCallbackExecutor);
+                ServiceHelper.startService(bulkBatcher);
+            }
+        } else if (configuration.getBulkSize() > 0) {
+            LOG.warn("The bulkSize option is not in use as the producer disconnects after each exchange");
         }
     }
 
@@ -285,6 +480,18 @@ public class ElasticsearchProducer extends DefaultProducer {
 
     @Override
     protected void doStop() throws Exception {
+        // stop the batcher first which sends the pending bulk requests
+        ServiceHelper.stopService(bulkBatcher);
+        bulkBatcher = null;
+        if (bulkExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(bulkExecutor);
+            bulkExecutor = null;
+        }
+        if (bulkCallbackExecutor != null) {
+            // let the exchanges of the last bulk requests continue routing
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(bulkCallbackExecutor);
+            bulkCallbackExecutor = null;
+        }
         if (client != null) {
             LOG.info("Disconnecting from ElasticSearch cluster: {}", configuration.getClusterName());
             client.close();
@@ -298,6 +505,48 @@ public class ElasticsearchProducer extends DefaultProducer {
     public RestClient getClient() {
         return client;
     }
+
+    @ManagedAttribute(description = "Number of exchanges waiting to be added to a bulk request")
+    public int getBulkPendingItems() {
+        ExchangeBatcher<String> batcher = bulkBatcher;
+        return batcher != null ? batcher.getPendingSize() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of bulk requests in flight")
+    public int getBulkInflightRequests() {
+        return bulkInflight.get();
+    }
+
+    @ManagedAttribute(description = "Total number of bulk requests sent")
+    public long getBulkRequests() {
+        return bulkRequests.get();
+    }
+
+    @ManagedAttribute(description = "Total number of exchanges sent in bulk requests")
+    public long getBulkItems() {
+        return bulkItems.get();
+    }
+
+    @ManagedAttribute(description = "Total number of exchanges which failed in bulk requests")
+    public long getBulkFailedItems() {
+        return bulkFailedItems.get();
+    }
+
+    @ManagedAttribute(description = "Total estimated size in bytes of the bulk requests sent")
+    public long getBulkBytes() {
+        return bulkBytes.get();
+    }
+
+    @ManagedAttribute(description = "Time in millis of the last bulk request")
+    public long getBulkLastTime() {
+        return bulkLastTime;
+    }
+
+    @ManagedAttribute(description = "Mean time in millis of the bulk requests")
+    public long getBulkMeanTime() {
+        long requests = bulkRequests.get();
+        return requests > 0 ? bulkTotalTime.get() / requests : 0;
+    }
     
     private final class HighLevelClient extends RestHighLevelClient {
         private HighLevelClient(RestClient restClient) {
@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.elasticsearch.action.DocWriteResponse;
+import org.elasticsearch.action.get.GetResponse;
+import org.junit.Test;
+
+public class ElasticsearchAutoBulkTest extends ElasticsearchBaseTest {
+
+    @Override
+    protected boolean useJmx() {
+        return true;
+    }
+
+    @Test
+    public void testIndexIsSentInBulk() throws Exception {
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(template.asyncRequestBody("direct:bulk", createIndexedData("" + i), String.class));
+        }
+        for (Future<String> future : futures) {
+            assertNotNull("indexId should be set", future.get());
+        }
+
+        ObjectName on = getProducerName();
+        assertEquals(10L, getMBeanServer().getAttribute(on, "BulkItems"));
+        assertEquals(0L, getMBeanServer().getAttribute(on, "BulkFailedItems"));
+        long requests = (Long) getMBeanServer().getAttribute(on, "BulkRequests");
+        assertTrue("Should send less bulk requests than documents, was " + requests, requests >= 2 && requests < 10);
+    }
+
+    @Test
+    public void testContinueRoutingOffBulkThread() throws Exception {
+        String thread = template.requestBody("direct:bulkThread", createIndexedData(), String.class);
+        assertTrue("Should continue routing on the callback thread pool but was " + thread, thread.contains("ElasticsearchBulkCallback"));
+    }
+
+    @Test
+    public void testItemFailureIsMappedToExchange() throws Exception {
+        String prefix = createPrefix();
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(ElasticsearchConstants.PARAM_INDEX_ID, prefix + "1");
+        template.requestBodyAndHeaders("direct:index", createIndexedData(), headers, String.class);
+
+        // both updates are sent in the same bulk request
+        Future<Exchange> updated = template.asyncSend("direct:update", e -> {
+            e.getIn().setBody(createIndexedData("updated"));
+            e.getIn().setHeader(ElasticsearchConstants.PARAM_INDEX_ID, prefix + "1");
+        });
+        Future<Exchange> missing = template.asyncSend("direct:update", e -> {
+            e.getIn().setBody(createIndexedData("updated"));
+            e.getIn().setHeader(ElasticsearchConstants.PARAM_INDEX_ID, prefix + "missing");
+        });
+
+        assertNull(updated.get().getException());
+        assertEquals(prefix + "1", updated.get().getIn().getBody());
+        assertNotNull("The update of a missing document should fail", missing.get().getException());
+
+        GetResponse response = template.requestBody("direct:get", prefix + "1", GetResponse.class);
+        assertTrue(response.isExists());
+    }
+
+    @Test
+    public void testDeleteIsSentInBulk() throws Exception {
+        String prefix = createPrefix();
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(ElasticsearchConstants.PARAM_INDEX_ID, prefix + "1");
+        template.requestBodyAndHeaders("direct:index", createIndexedData(), headers, String.class);
+
+        DocWriteResponse.Result result = template.requestBody("direct:delete", prefix + "1", DocWriteResponse.Result.class);
+        assertEquals(DocWriteResponse.Result.DELETED, result);
+    }
+
+    private MBeanServer getMBeanServer() {
+        return context.getManagementStrategy().getManagementAgent().getMBeanServer();
+    }
+
+    private ObjectName getProducerName() throws Exception {
+        Set<ObjectName> set = getMBeanServer().queryNames(new ObjectName("*:type=producers,*"), null);
+        for (ObjectName name : set) {
+            String uri = (String) getMBeanServer().getAttribute(name, "EndpointUri");
+            if (uri.contains("bulkSize=4")) {
+                return name;
+            }
+        }
+        fail("Should find the elasticsearch producer");
+        return null;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:bulk").to("elasticsearch-rest://elasticsearch?operation=Index&indexName=twitter&indexType=tweet&bulkSize=4&bulkLingerTime=500");
+                from("direct:index").to("elasticsearch-rest://elasticsearch?operation=Index&indexName=twitter&indexType=tweet&bulkSize=5");
+                from("direct:update").to("elasticsearch-rest://elasticsearch?operation=Update&indexName=twitter&indexType=tweet&bulkSize=5&bulkLingerTime=500");
+                from("direct:delete").to("elasticsearch-rest://elasticsearch?operation=Delete&indexName=twitter&indexType=tweet&bulkSize=5");
+                from("direct:bulkThread").to("elasticsearch-rest://elasticsearch?operation=Index&indexName=twitter&indexType=tweet&bulkSize=5")
+                    .process(e -> e.getIn().setBody(Thread.currentThread().getName()));
+                from("direct:get").to("elasticsearch-rest://elasticsearch?operation=GetById&indexName=twitter&indexType=tweet");
+            }
+        };
+    }
+}
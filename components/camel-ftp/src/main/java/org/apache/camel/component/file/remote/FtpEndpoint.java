@@ -91,6 +91,14 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
         return super.createConsumer(processor);
     }
 
+    @Override
+    protected void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        if (getSessionPoolSize() > 0 && ftpClient != null) {
+            throw new IllegalArgumentException("The option sessionPoolSize cannot be used with a custom ftpClient");
+        }
+    }
+
     @Override
     protected RemoteFileConsumer<FTPFile> buildConsumer(Processor processor) {
         try {
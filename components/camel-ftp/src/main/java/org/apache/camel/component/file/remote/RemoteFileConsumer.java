@@ -17,15 +17,25 @@
 package org.apache.camel.component.file.remote;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Ordered;
 import org.apache.camel.Processor;
+import org.apache.camel.component.file.FileComponent;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * Base class for remote file consumers.
@@ -33,6 +43,8 @@ import org.apache.camel.support.SynchronizationAdapter;
 public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     protected transient boolean loggedIn;
     protected transient boolean loggedInWarning;
+    private ExecutorService sessionExecutorService;
+    private final List<Future<Boolean>> pendingFiles = new ArrayList<>();
 
     public RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations) {
         super(endpoint, processor, operations);
@@ -134,7 +146,128 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
             });
         }
 
-        return super.processExchange(exchange);
+        RemoteFileOperationsPool<T> pool = sessionExecutorService != null ? getSessionPool() : null;
+        if (pool == null) {
+            return super.processExchange(exchange);
+        }
+
+        // download and route the file in parallel using a pooled session, which is released
+        // when the exchange is done, after the file has been committed or rolled back
+        final CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        pendingFiles.add(pending);
+        try {
+            sessionExecutorService.execute(() -> processExchangeWithSession(exchange, pool, pending));
+        } catch (RejectedExecutionException e) {
+            abortExchange(exchange, pending, "Cannot process file", e);
+        }
+        return true;
+    }
+
+    private void processExchangeWithSession(Exchange exchange, RemoteFileOperationsPool<T> pool, CompletableFuture<Boolean> pending) {
+        RemoteFileOperations<T> session;
+        try {
+            session = pool.acquire();
+        } catch (Exception e) {
+            abortExchange(exchange, pending, "Cannot acquire session to process file", e);
+            return;
+        }
+
+        // must be added before the file on completion, as the on completions are invoked in reverse order
+        ReleaseSessionOnCompletion release = new ReleaseSessionOnCompletion(pool, session, pending);
+        exchange.addOnCompletion(release);
+        boolean started = false;
+        try {
+            started = super.processExchange(exchange, session);
+        } finally {
+            if (exchange.getUnitOfWork() == null && exchange.containsOnCompletion(release)) {
+                // the exchange was not routed so the on completion will not be invoked
+                release.release(started);
+            }
+        }
+    }
+
+    private void abortExchange(Exchange exchange, CompletableFuture<Boolean> pending, String message, Exception cause) {
+        GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+        getEndpoint().getInProgressRepository().remove(file.getAbsoluteFilePath());
+        handleException(message + " " + file + " due " + cause.getMessage(), cause);
+        pending.complete(false);
+    }
+
+    @Override
+    public int processBatch(Queue<Object> exchanges) {
+        int answer = super.processBatch(exchanges);
+
+        // wait for the files being processed in parallel so the batch is complete before the next poll
+        for (Future<Boolean> pending : pendingFiles) {
+            try {
+                if (!pending.get()) {
+                    answer--;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                handleException("Error processing file due " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        pendingFiles.clear();
+        return answer;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().getSessionPoolSize() > 0) {
+            sessionExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newFixedThreadPool(this, "RemoteFileConsumer", getEndpoint().getSessionPoolSize());
+        }
+        super.doStart();
+    }
+
+    /**
+     * Releases the pooled session used by the exchange when it is done.
+     */
+    private final class ReleaseSessionOnCompletion extends SynchronizationAdapter {
+        private final RemoteFileOperationsPool<T> pool;
+        private final RemoteFileOperations<T> session;
+        private final CompletableFuture<Boolean> pending;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseSessionOnCompletion(RemoteFileOperationsPool<T> pool, RemoteFileOperations<T> session, CompletableFuture<Boolean> pending) {
+            this.pool = pool;
+            this.session = session;
+            this.pending = pending;
+        }
+
+        @Override
+        public void onDone(Exchange exchange) {
+            release(true);
+        }
+
+        @Override
+        public int getOrder() {
+            // we want to release after the file has been committed or rolled back
+            return Ordered.LOWEST;
+        }
+
+        void release(boolean processed) {
+            if (released.compareAndSet(false, true)) {
+                pool.release(session);
+                pending.complete(processed);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "ReleaseSession";
+        }
+    }
+
+    private RemoteFileOperationsPool<T> getSessionPool() {
+        try {
+            return getEndpoint().getSessionPool();
+        } catch (Exception e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
     }
 
     @Override
@@ -145,6 +278,10 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+        if (sessionExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(sessionExecutorService);
+            sessionExecutorService = null;
+        }
         disconnect();
     }
 
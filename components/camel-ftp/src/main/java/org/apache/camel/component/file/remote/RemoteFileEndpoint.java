@@ -30,6 +30,7 @@ import org.apache.camel.component.file.GenericFileProducer;
 import org.apache.camel.processor.idempotent.MemoryIdempotentRepository;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.ServiceHelper;
 
 /**
  * Remote file endpoint.
@@ -48,6 +49,11 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
     private boolean fastExistsCheck;
     @UriParam(label = "consumer,advanced")
     private boolean download = true;
+    @UriParam(label = "advanced")
+    private int sessionPoolSize;
+    @UriParam(label = "advanced", defaultValue = "60000")
+    private long sessionPoolIdleTimeout = 60000;
+    private RemoteFileOperationsPool<T> sessionPool;
 
     public RemoteFileEndpoint() {
         // no args constructor for spring bean endpoint configuration
@@ -163,6 +169,27 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
         return map;
     }
 
+    /**
+     * Gets the pool of sessions shared by the consumer and producers of this endpoint,
+     * or <tt>null</tt> if the sessionPoolSize option is not in use.
+     */
+    public synchronized RemoteFileOperationsPool<T> getSessionPool() throws Exception {
+        if (sessionPool == null && sessionPoolSize > 0) {
+            sessionPool = new RemoteFileOperationsPool<>(this, sessionPoolSize, sessionPoolIdleTimeout);
+            ServiceHelper.startService(sessionPool);
+        }
+        return sessionPool;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        synchronized (this) {
+            ServiceHelper.stopService(sessionPool);
+            sessionPool = null;
+        }
+        super.doStop();
+    }
+
     /**
      * Remote File Endpoints, impl this method to create a custom consumer specific to their "protocol" etc.
      *
@@ -277,4 +304,30 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
     public void setDownload(boolean download) {
         this.download = download;
     }
+
+    public int getSessionPoolSize() {
+        return sessionPoolSize;
+    }
+
+    /**
+     * The maximum number of sessions (connections) to the remote server which the consumer and producers of
+     * this endpoint use to transfer files concurrently. When in use the consumer downloads and routes
+     * up to this number of files in parallel, and each producer borrows a session for each upload.
+     * The default value of 0 does not use a pool, and the consumer and each producer keep their own session.
+     */
+    public void setSessionPoolSize(int sessionPoolSize) {
+        this.sessionPoolSize = sessionPoolSize;
+    }
+
+    public long getSessionPoolIdleTimeout() {
+        return sessionPoolIdleTimeout;
+    }
+
+    /**
+     * Millis after which sessions which have been idle in the session pool are disconnected.
+     * Use 0 or a negative value to keep idle sessions connected.
+     */
+    public void setSessionPoolIdleTimeout(long sessionPoolIdleTimeout) {
+        this.sessionPoolIdleTimeout = sessionPoolIdleTimeout;
+    }
 }
@@ -0,0 +1,238 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.apache.camel.support.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of connected {@link RemoteFileOperations} (sessions) to the remote server of an endpoint,
+ * which allows several files to be transferred concurrently.
+ * <p/>
+ * Idle sessions are checked with a noop command before being handed out (if <tt>sendNoop</tt> is enabled),
+ * and sessions which have been idle longer than the idle timeout are disconnected in the background.
+ */
+public class RemoteFileOperationsPool<T> extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteFileOperationsPool.class);
+
+    private final RemoteFileEndpoint<T> endpoint;
+    private final int maxSize;
+    private final long idleTimeout;
+    private final Semaphore permits;
+    private final Deque<PooledSession<T>> idle = new ArrayDeque<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private ScheduledExecutorService evictor;
+
+    public RemoteFileOperationsPool(RemoteFileEndpoint<T> endpoint, int maxSize, long idleTimeout) {
+        this.endpoint = endpoint;
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Acquires a connected session, waiting for one to be released if all sessions are in use.
+     *
+     * @return the session, which must be given back using {@link #release(RemoteFileOperations)}
+     * @throws GenericFileOperationFailedException if a new session could not connect to the remote server
+     * @throws InterruptedException if interrupted while waiting for a session
+     */
+    public RemoteFileOperations<T> acquire() throws Exception {
+        permits.acquire();
+        try {
+            PooledSession<T> session;
+            while ((session = pollIdle()) != null) {
+                if (isHealthy(session.operations)) {
+                    return session.operations;
+                }
+                LOG.debug("Discarding broken session to: {}", endpoint.remoteServerInformation());
+                disconnect(session.operations);
+            }
+            return connect();
+        } catch (Exception e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives back a session to the pool. Sessions which are no longer connected are discarded.
+     */
+    public void release(RemoteFileOperations<T> operations) {
+        try {
+            if (isStarted() && operations.isConnected()) {
+                synchronized (idle) {
+                    idle.addFirst(new PooledSession<>(operations, System.currentTimeMillis()));
+                }
+            } else {
+                disconnect(operations);
+            }
+        } catch (Exception e) {
+            disconnect(operations);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Disconnects and discards a session which is no longer usable, for example after a failed transfer.
+     */
+    public void invalidate(RemoteFileOperations<T> operations) {
+        try {
+            disconnect(operations);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Disconnects the sessions which have been idle for longer than the idle timeout.
+     */
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeout;
+        Deque<PooledSession<T>> evicted = new ArrayDeque<>();
+        synchronized (idle) {
+            for (Iterator<PooledSession<T>> it = idle.iterator(); it.hasNext();) {
+                PooledSession<T> session = it.next();
+                if (session.lastUsed <= cutoff) {
+                    it.remove();
+                    evicted.add(session);
+                }
+            }
+        }
+        for (PooledSession<T> session : evicted) {
+            LOG.debug("Disconnecting idle session to: {}", endpoint.remoteServerInformation());
+            disconnect(session.operations);
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of sessions currently in use.
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * Number of connected sessions waiting to be used.
+     */
+    public int getIdleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    /**
+     * Total number of sessions which have been connected by this pool.
+     */
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (idleTimeout > 0) {
+            evictor = endpoint.getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "RemoteFileSessionEvictor");
+            long interval = Math.max(idleTimeout / 2, 100);
+            evictor.scheduleWithFixedDelay(this::evictIdle, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (evictor != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdownNow(evictor);
+            evictor = null;
+        }
+        PooledSession<T> session;
+        while ((session = pollIdle()) != null) {
+            disconnect(session.operations);
+        }
+    }
+
+    private PooledSession<T> pollIdle() {
+        synchronized (idle) {
+            return idle.pollFirst();
+        }
+    }
+
+    private RemoteFileOperations<T> connect() throws Exception {
+        LOG.debug("Connecting new session to: {}", endpoint.remoteServerInformation());
+        RemoteFileOperations<T> operations = endpoint.createRemoteFileOperations();
+        operations.setEndpoint(endpoint);
+        boolean connected = false;
+        try {
+            connected = operations.connect(endpoint.getConfiguration());
+        } finally {
+            if (!connected) {
+                disconnect(operations);
+            }
+        }
+        if (!connected) {
+            throw new GenericFileOperationFailedException("Cannot connect/login to: " + endpoint.remoteServerInformation());
+        }
+        created.incrementAndGet();
+        return operations;
+    }
+
+    private boolean isHealthy(RemoteFileOperations<T> operations) {
+        try {
+            if (!operations.isConnected()) {
+                return false;
+            }
+            return !endpoint.getConfiguration().isSendNoop() || operations.sendNoop();
+        } catch (Exception e) {
+            LOG.trace("Health check of session failed due: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void disconnect(RemoteFileOperations<T> operations) {
+        try {
+            if (operations.isConnected()) {
+                operations.disconnect();
+            }
+        } catch (Exception e) {
+            LOG.debug("Ignored exception during disconnect: {}", e.getMessage());
+        }
+    }
+
+    private static final class PooledSession<T> {
+        private final RemoteFileOperations<T> operations;
+        private final long lastUsed;
+
+        PooledSession(RemoteFileOperations<T> operations, long lastUsed) {
+            this.operations = operations;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -48,6 +48,30 @@ public class RemoteFileProducer<T> extends GenericFileProducer<T> implements Ser
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        RemoteFileOperationsPool<T> pool = getEndpoint().getSessionPool();
+        if (pool == null) {
+            doProcess(exchange);
+            return;
+        }
+
+        // borrow a session from the endpoint for this upload, and keep our own operations
+        // which is not in use while a pooled session is
+        RemoteFileOperations<T> own = getOperations();
+        setOperations(pool.acquire());
+        loggedIn = true;
+        try {
+            doProcess(exchange);
+        } finally {
+            // the operations may have been replaced during reconnect or disconnected due a failure,
+            // which the pool will discard when released
+            RemoteFileOperations<T> session = getOperations();
+            setOperations(own);
+            loggedIn = false;
+            pool.release(session);
+        }
+    }
+
+    private void doProcess(Exchange exchange) throws Exception {
         // store any existing file header which we want to keep and propagate
         final String existing = exchange.getIn().getHeader(Exchange.FILE_NAME, String.class);
 
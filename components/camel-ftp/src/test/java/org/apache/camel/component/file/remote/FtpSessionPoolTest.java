@@ -0,0 +1,156 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class FtpSessionPoolTest extends FtpServerTestSupport {
+
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    private final AtomicInteger maxActiveAfterHandover = new AtomicInteger();
+
+    private String getFtpUrl() {
+        return "ftp://admin@localhost:" + getPort() + "/pool?password=admin&sessionPoolSize=3";
+    }
+
+    private String getAsyncFtpUrl() {
+        return "ftp://admin@localhost:" + getPort() + "/poolasync?password=admin&sessionPoolSize=3&delete=true&delay=5000";
+    }
+
+    @Test
+    public void testConcurrentProduce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String name = "file" + i + ".txt";
+            futures.add(executor.submit(() -> template.sendBodyAndHeader(getFtpUrl(), "Hello " + name, Exchange.FILE_NAME, name)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdownNow();
+
+        for (int i = 0; i < 10; i++) {
+            File file = new File(FTP_ROOT_DIR + "/pool/file" + i + ".txt");
+            assertTrue("File should exist: " + file, file.exists());
+            assertEquals("Hello file" + i + ".txt", context.getTypeConverter().convertTo(String.class, file));
+        }
+
+        RemoteFileOperationsPool<?> pool = context.getEndpoint(getFtpUrl(), RemoteFileEndpoint.class).getSessionPool();
+        assertEquals(0, pool.getActiveCount());
+        assertTrue("Should not connect more sessions than the pool size", pool.getCreatedCount() <= 3);
+        assertEquals(pool.getCreatedCount(), pool.getIdleCount());
+    }
+
+    @Test
+    public void testConsumeInParallel() throws Exception {
+        for (int i = 0; i < 9; i++) {
+            template.sendBodyAndHeader("file:" + FTP_ROOT_DIR + "/pool", "Hello " + i, Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(9);
+
+        context.startRoute("pool");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue("Files should be processed in parallel", maxConcurrent.get() > 1);
+        assertTrue("Should not process more files than the pool size", maxConcurrent.get() <= 3);
+
+        // the files are deleted using the pooled sessions
+        Thread.sleep(500);
+        assertEquals(0, new File(FTP_ROOT_DIR + "/pool").list().length);
+    }
+
+    @Test
+    public void testSessionReleasedWhenAsyncRoutingDone() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            template.sendBodyAndHeader("file:" + FTP_ROOT_DIR + "/poolasync", "Hello " + i, Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:async");
+        mock.expectedMessageCount(3);
+
+        context.startRoute("poolAsync");
+
+        assertMockEndpointsSatisfied();
+
+        // the sessions are held while the exchanges are routed by another thread
+        assertTrue("Sessions should not be released before the exchange is done", maxActiveAfterHandover.get() > 0);
+
+        // and released after the files have been deleted
+        RemoteFileOperationsPool<?> pool = context.getEndpoint(getAsyncFtpUrl(), RemoteFileEndpoint.class).getSessionPool();
+        Thread.sleep(500);
+        assertEquals(0, new File(FTP_ROOT_DIR + "/poolasync").list().length);
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    public void testIdleSessionsEvicted() throws Exception {
+        String url = getFtpUrl() + "&sessionPoolIdleTimeout=200";
+        template.sendBodyAndHeader(url, "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        RemoteFileOperationsPool<?> pool = context.getEndpoint(url, RemoteFileEndpoint.class).getSessionPool();
+        assertEquals(1, pool.getCreatedCount());
+
+        Thread.sleep(1000);
+        assertEquals(0, pool.getIdleCount());
+
+        // and a new session is connected on demand
+        template.sendBodyAndHeader(url, "Bye World", Exchange.FILE_NAME, "bye.txt");
+        assertEquals(2, pool.getCreatedCount());
+        assertTrue(new File(FTP_ROOT_DIR + "/pool/bye.txt").exists());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(getFtpUrl() + "&delete=true&delay=5000").routeId("pool").noAutoStartup()
+                    .process(exchange -> {
+                        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                        Thread.sleep(200);
+                        concurrent.decrementAndGet();
+                    })
+                    .to("mock:result");
+
+                from(getAsyncFtpUrl()).routeId("poolAsync").noAutoStartup()
+                    .threads(3)
+                    .process(exchange -> {
+                        RemoteFileOperationsPool<?> pool = context.getEndpoint(getAsyncFtpUrl(), RemoteFileEndpoint.class).getSessionPool();
+                        maxActiveAfterHandover.accumulateAndGet(pool.getActiveCount(), Math::max);
+                    })
+                    .to("mock:async");
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote.sftp;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.file.remote.RemoteFileEndpoint;
+import org.apache.camel.component.file.remote.RemoteFileOperationsPool;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class SftpSessionPoolTest extends SftpServerTestSupport {
+
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    private String getSftpUrl() {
+        return "sftp://localhost:" + getPort() + "/" + FTP_ROOT_DIR + "?username=admin&password=admin&sessionPoolSize=3";
+    }
+
+    @Test
+    public void testConcurrentProduce() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String name = "file" + i + ".txt";
+            futures.add(executor.submit(() -> template.sendBodyAndHeader(getSftpUrl(), "Hello " + name, Exchange.FILE_NAME, name)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdownNow();
+
+        for (int i = 0; i < 10; i++) {
+            File file = new File(FTP_ROOT_DIR + "/file" + i + ".txt");
+            assertTrue("File should exist: " + file, file.exists());
+            assertEquals("Hello file" + i + ".txt", context.getTypeConverter().convertTo(String.class, file));
+        }
+
+        RemoteFileOperationsPool<?> pool = context.getEndpoint(getSftpUrl(), RemoteFileEndpoint.class).getSessionPool();
+        assertEquals(0, pool.getActiveCount());
+        assertTrue("Should not connect more sessions than the pool size", pool.getCreatedCount() <= 3);
+    }
+
+    @Test
+    public void testConsumeInParallel() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        for (int i = 0; i < 9; i++) {
+            template.sendBodyAndHeader("file:" + FTP_ROOT_DIR, "Hello " + i, Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(9);
+
+        context.startRoute("pool");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue("Files should be processed in parallel", maxConcurrent.get() > 1);
+        assertTrue("Should not process more files than the pool size", maxConcurrent.get() <= 3);
+
+        // the files are deleted using the pooled sessions
+        Thread.sleep(500);
+        assertEquals(0, new File(FTP_ROOT_DIR).list().length);
+    }
+
+    @Test
+    public void testBrokenSessionIsReplaced() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        template.sendBodyAndHeader(getSftpUrl(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        RemoteFileOperationsPool<?> pool = context.getEndpoint(getSftpUrl(), RemoteFileEndpoint.class).getSessionPool();
+        assertEquals(1, pool.getIdleCount());
+
+        // the pooled session is disconnected by the server, and should fail the health check
+        disconnectAllSessions();
+        Thread.sleep(500);
+
+        template.sendBodyAndHeader(getSftpUrl(), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        assertEquals(2, pool.getCreatedCount());
+        assertTrue(new File(FTP_ROOT_DIR + "/bye.txt").exists());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(getSftpUrl() + "&delete=true&delay=5000").routeId("pool").noAutoStartup()
+                    .process(exchange -> {
+                        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                        Thread.sleep(200);
+                        concurrent.decrementAndGet();
+                    })
+                    .to("mock:result");
+            }
+        };
+    }
+}
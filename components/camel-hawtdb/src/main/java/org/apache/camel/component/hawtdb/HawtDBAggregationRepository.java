@@ -484,6 +484,19 @@ public class HawtDBAggregationRepository extends ServiceSupport implements Recov
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public boolean isUseBinaryCodec() {
+        return codec.isUseBinaryCodec();
+    }
+
+    /**
+     * Whether to store exchanges using the compact binary codec instead of Java serialization.
+     * Exchanges stored in either format can always be read, so this can be turned on for an existing repository.
+     * This is default false.
+     */
+    public void setUseBinaryCodec(boolean useBinaryCodec) {
+        codec.setUseBinaryCodec(useBinaryCodec);
+    }
+
     @Override
     protected void doStart() throws Exception {
         // either we have a HawtDB configured or we use a provided fileName
@@ -21,6 +21,7 @@ import java.io.IOException;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.impl.BinaryExchangeHolderCodec;
 import org.apache.camel.impl.DefaultExchange;
 import org.apache.camel.impl.DefaultExchangeHolder;
 import org.fusesource.hawtbuf.Buffer;
@@ -37,6 +38,19 @@ public final class HawtDBCamelCodec {
 
     private Codec<String> keyCodec = new StringCodec();
     private Codec<DefaultExchangeHolder> exchangeCodec = new ObjectCodec<DefaultExchangeHolder>();
+    private boolean useBinaryCodec;
+
+    public boolean isUseBinaryCodec() {
+        return useBinaryCodec;
+    }
+
+    /**
+     * Whether to marshal exchanges using the compact {@link BinaryExchangeHolderCodec} instead of Java serialization.
+     * Exchanges in either format can always be unmarshalled.
+     */
+    public void setUseBinaryCodec(boolean useBinaryCodec) {
+        this.useBinaryCodec = useBinaryCodec;
+    }
 
     public Buffer marshallKey(String key) throws IOException {
         DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
@@ -67,13 +81,22 @@ public final class HawtDBCamelCodec {
         if (exchange.getFromEndpoint() != null) {
             DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
         }
-        exchangeCodec.encode(pe, baos);
+        if (useBinaryCodec) {
+            BinaryExchangeHolderCodec.encode(pe, baos);
+        } else {
+            exchangeCodec.encode(pe, baos);
+        }
         return baos.toBuffer();
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, Buffer buffer) throws IOException {
         DataByteArrayInputStream bais = new DataByteArrayInputStream(buffer);
-        DefaultExchangeHolder pe = exchangeCodec.decode(bais);
+        DefaultExchangeHolder pe;
+        if (BinaryExchangeHolderCodec.isBinary(buffer.data, buffer.offset, buffer.length)) {
+            pe = BinaryExchangeHolderCodec.decode(camelContext, bais);
+        } else {
+            pe = exchangeCodec.decode(bais);
+        }
         Exchange answer = new DefaultExchange(camelContext);
         DefaultExchangeHolder.unmarshal(answer, pe);
         // restore the from endpoint
@@ -80,6 +80,14 @@ public class HdfsConfiguration {
     private boolean connectOnStartup = true;
     @UriParam
     private String owner;
+    @UriParam(label = "consumer,advanced")
+    private int parallelReaders;
+    @UriParam(label = "consumer,advanced")
+    private long readSplitSize;
+    @UriParam(label = "consumer,advanced", defaultValue = "" + HdfsConstants.DEFAULT_READ_QUEUE_SIZE)
+    private int readQueueSize = HdfsConstants.DEFAULT_READ_QUEUE_SIZE;
+    @UriParam(label = "consumer")
+    private long listingCacheTimeout;
 
     public HdfsConfiguration() {
     }
@@ -193,6 +201,14 @@ public class HdfsConfiguration {
     }
 
     public void checkConsumerOptions() {
+        if (getParallelReaders() > 1) {
+            if (!getFileType().isSplittable()) {
+                throw new IllegalArgumentException("parallelReaders works only with NORMAL_FILEs and SEQUENCE_FILEs");
+            }
+            if (getReadQueueSize() <= 0) {
+                throw new IllegalArgumentException("readQueueSize must be a positive number when using parallelReaders");
+            }
+        }
     }
 
     public void checkProducerOptions() {
@@ -235,6 +251,10 @@ public class HdfsConfiguration {
         readSuffix = getString(hdfsSettings, "readSuffix", readSuffix);
         pattern = getString(hdfsSettings, "pattern", pattern);
         chunkSize = getInteger(hdfsSettings, "chunkSize", chunkSize);
+        parallelReaders = getInteger(hdfsSettings, "parallelReaders", parallelReaders);
+        readSplitSize = getLong(hdfsSettings, "readSplitSize", readSplitSize);
+        readQueueSize = getInteger(hdfsSettings, "readQueueSize", readQueueSize);
+        listingCacheTimeout = getLong(hdfsSettings, "listingCacheTimeout", listingCacheTimeout);
         splitStrategies = getSplitStrategies(hdfsSettings);
     }
 
@@ -511,4 +531,56 @@ public class HdfsConfiguration {
     public void setOwner(String owner) {
         this.owner = owner;
     }
+
+    public int getParallelReaders() {
+        return parallelReaders;
+    }
+
+    /**
+     * The number of threads reading files in parallel. When set to 2 or more, the consumer partitions the files it
+     * picks up into splits (see readSplitSize) which are read concurrently, and routes the messages from the poll
+     * thread. Messages of different splits are interleaved, so use the CamelHdfsSplitOffset header to tell them apart.
+     * Only NORMAL_FILE and SEQUENCE_FILE can be read in parallel.
+     */
+    public void setParallelReaders(int parallelReaders) {
+        this.parallelReaders = parallelReaders;
+    }
+
+    public long getReadSplitSize() {
+        return readSplitSize;
+    }
+
+    /**
+     * The size in bytes of the splits a file is partitioned into when using parallel readers. By default the block
+     * size of the file is used, so each reader reads one block. For normal files the size is rounded up to a multiple
+     * of the chunk size. A split of a sequence file begins at the first sync marker after its offset.
+     */
+    public void setReadSplitSize(long readSplitSize) {
+        this.readSplitSize = readSplitSize;
+    }
+
+    public int getReadQueueSize() {
+        return readQueueSize;
+    }
+
+    /**
+     * The maximum number of chunks or records the parallel readers buffer before they block waiting for the consumer
+     * to route them.
+     */
+    public void setReadQueueSize(int readQueueSize) {
+        this.readQueueSize = readQueueSize;
+    }
+
+    public long getListingCacheTimeout() {
+        return listingCacheTimeout;
+    }
+
+    /**
+     * Time in millis to cache the directory listing between polls. Files picked up from the cached listing are
+     * removed from it, and the directory is listed again when the cache times out. This saves listing large
+     * directories on every poll, at the cost of new files being picked up later. Is default disabled.
+     */
+    public void setListingCacheTimeout(long listingCacheTimeout) {
+        this.listingCacheTimeout = listingCacheTimeout;
+    }
 }
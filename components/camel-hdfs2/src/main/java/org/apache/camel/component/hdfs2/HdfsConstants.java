@@ -44,8 +44,12 @@ public final class HdfsConstants {
 
     public static final int DEFAULT_CHECK_IDLE_INTERVAL = 500;
 
+    public static final int DEFAULT_READ_QUEUE_SIZE = 1000;
+
     public static final String HDFS_CLOSE = "CamelHdfsClose";
 
+    public static final String HDFS_SPLIT_OFFSET = "CamelHdfsSplitOffset";
+
     private HdfsConstants() {
     }
 }
@@ -17,6 +17,20 @@
 package org.apache.camel.component.hdfs2;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -25,8 +39,12 @@ import javax.security.auth.login.Configuration;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.Rejectable;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.ThreadPoolRejectedPolicy;
 import org.apache.camel.impl.DefaultMessage;
 import org.apache.camel.impl.ScheduledPollConsumer;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.util.IOHelper;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.fs.FileStatus;
@@ -42,6 +60,9 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
     private final Processor processor;
     private final ReadWriteLock rwlock = new ReentrantReadWriteLock();
     private volatile HdfsInputStream istream;
+    private ExecutorService executorService;
+    private Set<FileStatus> cachedListing;
+    private long cachedListingTime;
     
     public HdfsConsumer(HdfsEndpoint endpoint, Processor processor, HdfsConfiguration config) {
         super(endpoint, processor);
@@ -58,6 +79,20 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
 
     @Override
     protected void doStart() throws Exception {
+        cachedListing = null;
+
+        // the readers must be ready before the scheduler starts polling
+        if (config.getParallelReaders() > 1) {
+            ThreadPoolProfile profile = new ThreadPoolProfile("HdfsSplitReader");
+            profile.setPoolSize(config.getParallelReaders());
+            profile.setMaxPoolSize(config.getParallelReaders());
+            // the splits must never be run by the poll thread, as it is the one taking the records from the readers
+            profile.setMaxQueueSize(Integer.MAX_VALUE);
+            // and a split submitted while stopping must not be discarded silently, as the poll thread waits for it
+            profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this, "HdfsSplitReader", profile);
+        }
+
         super.doStart();
 
         if (config.isConnectOnStartup()) {
@@ -66,6 +101,25 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (executorService != null) {
+            // interrupt the readers, which may be waiting for the poll thread to take their records
+            List<Runnable> notRead = getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(executorService);
+            if (notRead != null) {
+                // the poll thread waits for the splits which are still queued
+                for (Runnable split : notRead) {
+                    if (split instanceof Rejectable) {
+                        ((Rejectable) split).reject();
+                    }
+                }
+            }
+            executorService = null;
+        }
+    }
+
     private HdfsInfo setupHdfs(boolean onStartup) throws Exception {
         // if we are starting up then log at info level, and if runtime then log at debug level to not flood the log
         if (onStartup) {
@@ -101,39 +155,22 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
     }
 
     protected int doPoll() throws Exception {
-        class ExcludePathFilter implements PathFilter {
-            public boolean accept(Path path) {
-                return !(path.toString().endsWith(config.getOpenedSuffix()) || path.toString().endsWith(config.getReadSuffix()));
-            }
+        HdfsInfo info = setupHdfs(false);
+        Collection<FileStatus> fileStatuses = listFiles(info);
+
+        ExecutorService readers = executorService;
+        if (readers != null) {
+            return readParallel(info, fileStatuses, readers);
         }
 
         int numMessages = 0;
 
-        HdfsInfo info = setupHdfs(false);
-        FileStatus fileStatuses[];
-        if (info.getFileSystem().isFile(info.getPath())) {
-            fileStatuses = info.getFileSystem().globStatus(info.getPath());
-        } else {
-            Path pattern = info.getPath().suffix("/" + this.config.getPattern());
-            fileStatuses = info.getFileSystem().globStatus(pattern, new ExcludePathFilter());
-        }
-
         for (FileStatus status : fileStatuses) {
 
-            if (normalFileIsDirectoryNoSuccessFile(status, info)) {
+            if (skipFile(status, info)) {
                 continue;
             }
 
-            if (config.getOwner() != null) {
-                // must match owner
-                if (!config.getOwner().equals(status.getOwner())) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Skipping file: {} as not matching owner: {}", status.getPath().toString(), config.getOwner());
-                    }
-                    continue;
-                }
-            }
-
             try {
                 this.rwlock.writeLock().lock();
                 this.istream = HdfsInputStream.createInputStream(status.getPath().toString(), this.config);
@@ -148,41 +185,181 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
             }
 
             try {
+                String fileName = StringUtils.substringAfterLast(status.getPath().toString(), "/");
                 Holder<Object> key = new Holder<Object>();
                 Holder<Object> value = new Holder<Object>();
                 while (this.istream.next(key, value) >= 0) {
-                    Exchange exchange = this.getEndpoint().createExchange();
-                    Message message = new DefaultMessage(this.getEndpoint().getCamelContext());
-                    String fileName = StringUtils.substringAfterLast(status.getPath().toString(), "/");
-                    message.setHeader(Exchange.FILE_NAME, fileName);
-                    if (key.value != null) {
-                        message.setHeader(HdfsHeader.KEY.name(), key.value);
+                    processMessage(fileName, key.value, value.value, null);
+                    numMessages++;
+                }
+            } finally {
+                IOHelper.close(istream, "input stream", log);
+            }
+        }
+
+        return numMessages;
+    }
+
+    private Collection<FileStatus> listFiles(HdfsInfo info) throws IOException {
+        class ExcludePathFilter implements PathFilter {
+            public boolean accept(Path path) {
+                return !(path.toString().endsWith(config.getOpenedSuffix()) || path.toString().endsWith(config.getReadSuffix()));
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        if (cachedListing != null && now - cachedListingTime < config.getListingCacheTimeout()) {
+            log.trace("Using cached listing with {} files", cachedListing.size());
+            return new ArrayList<FileStatus>(cachedListing);
+        }
+
+        FileStatus fileStatuses[];
+        if (info.getFileSystem().isFile(info.getPath())) {
+            fileStatuses = info.getFileSystem().globStatus(info.getPath());
+        } else {
+            Path pattern = info.getPath().suffix("/" + this.config.getPattern());
+            fileStatuses = info.getFileSystem().globStatus(pattern, new ExcludePathFilter());
+        }
+        if (fileStatuses == null) {
+            fileStatuses = new FileStatus[0];
+        }
+
+        if (config.getListingCacheTimeout() > 0) {
+            cachedListing = new LinkedHashSet<FileStatus>(Arrays.asList(fileStatuses));
+            cachedListingTime = now;
+        }
+        return Arrays.asList(fileStatuses);
+    }
+
+    private boolean skipFile(FileStatus status, HdfsInfo info) throws IOException {
+        if (normalFileIsDirectoryNoSuccessFile(status, info)) {
+            return true;
+        }
+
+        if (config.getOwner() != null) {
+            // must match owner
+            if (!config.getOwner().equals(status.getOwner())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Skipping file: {} as not matching owner: {}", status.getPath().toString(), config.getOwner());
+                }
+                return true;
+            }
+        }
+
+        if (cachedListing != null) {
+            // the file is picked up now so it should not be picked up again from the cached listing
+            cachedListing.remove(status);
+        }
+        return false;
+    }
+
+    private int readParallel(HdfsInfo info, Collection<FileStatus> fileStatuses, ExecutorService readers) throws Exception {
+        BlockingQueue<SplitRecord> records = new ArrayBlockingQueue<SplitRecord>(config.getReadQueueSize());
+        Queue<Exception> errors = new ConcurrentLinkedQueue<Exception>();
+        AtomicInteger pendingSplits = new AtomicInteger();
+        List<HdfsInputStream> files = new ArrayList<HdfsInputStream>();
+        boolean stopping = false;
+        int numMessages = 0;
+
+        try {
+            for (FileStatus status : fileStatuses) {
+
+                if (stopping) {
+                    break;
+                }
+                if (skipFile(status, info)) {
+                    continue;
+                }
+
+                HdfsInputStream file = HdfsInputStream.createSplittableInputStream(status.getPath().toString(), this.config);
+                if (!file.isOpened()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Skipping file: {} because it doesn't exist anymore", status.getPath().toString());
                     }
-                    message.setBody(value.value);
-                    exchange.setIn(message);
+                    continue;
+                }
+                files.add(file);
 
-                    log.debug("Processing file {}", fileName);
+                String fileName = StringUtils.substringAfterLast(status.getPath().toString(), "/");
+                long splitSize = getReadSplitSize(status);
+                long start = 0;
+                do {
+                    long length = Math.min(splitSize, status.getLen() - start);
+                    SplitReader reader = new SplitReader(file, fileName, start, length, records, errors, pendingSplits);
+                    pendingSplits.incrementAndGet();
                     try {
-                        processor.process(exchange);
-                    } catch (Exception e) {
-                        exchange.setException(e);
+                        readers.execute(reader);
+                    } catch (RejectedExecutionException e) {
+                        // the consumer is stopping so there is no reader left to wait for
+                        reader.reject();
+                        log.debug("Not reading split at offset {} of file {} as the consumer is stopping", start, fileName);
+                        stopping = true;
+                        break;
                     }
-
-                    // in case of unhandled exceptions then let the exception handler handle them
-                    if (exchange.getException() != null) {
-                        getExceptionHandler().handleException(exchange.getException());
+                    start += length;
+                } while (start < status.getLen());
+            }
+        } finally {
+            try {
+                // always route what has been read, as the readers block while the queue is full
+                while (pendingSplits.get() > 0 || !records.isEmpty()) {
+                    SplitRecord record = records.poll(100, TimeUnit.MILLISECONDS);
+                    if (record != null) {
+                        processMessage(record.fileName, record.key, record.value, record.splitOffset);
+                        numMessages++;
+                    }
+                    Exception error;
+                    while ((error = errors.poll()) != null) {
+                        getExceptionHandler().handleException(error);
                     }
-
-                    numMessages++;
                 }
             } finally {
-                IOHelper.close(istream, "input stream", log);
+                // also when the poll thread is interrupted while stopping, so the files do not stay opened
+                for (HdfsInputStream file : files) {
+                    IOHelper.close(file, "input stream", log);
+                }
             }
         }
 
         return numMessages;
     }
 
+    private long getReadSplitSize(FileStatus status) {
+        long splitSize = config.getReadSplitSize() > 0 ? config.getReadSplitSize() : status.getBlockSize();
+        if (config.getFileType().equals(HdfsFileType.NORMAL_FILE)) {
+            // keep the chunks aligned with the ones read from the whole file
+            long chunkSize = config.getChunkSize();
+            splitSize = ((splitSize + chunkSize - 1) / chunkSize) * chunkSize;
+        }
+        return Math.max(splitSize, 1);
+    }
+
+    private void processMessage(String fileName, Object key, Object value, Long splitOffset) {
+        Exchange exchange = this.getEndpoint().createExchange();
+        Message message = new DefaultMessage(this.getEndpoint().getCamelContext());
+        message.setHeader(Exchange.FILE_NAME, fileName);
+        if (key != null) {
+            message.setHeader(HdfsHeader.KEY.name(), key);
+        }
+        if (splitOffset != null) {
+            message.setHeader(HdfsConstants.HDFS_SPLIT_OFFSET, splitOffset);
+        }
+        message.setBody(value);
+        exchange.setIn(message);
+
+        log.debug("Processing file {}", fileName);
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        // in case of unhandled exceptions then let the exception handler handle them
+        if (exchange.getException() != null) {
+            getExceptionHandler().handleException(exchange.getException());
+        }
+    }
+
     private boolean normalFileIsDirectoryNoSuccessFile(FileStatus status, HdfsInfo info) throws IOException {
         if (config.getFileType().equals(HdfsFileType.NORMAL_FILE) && status.isDirectory()) {
             Path successPath = new Path(status.getPath().toString() + "/_SUCCESS");
@@ -193,4 +370,79 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
         return false;
     }
 
+    /**
+     * A chunk or record read by a {@link SplitReader}.
+     */
+    private static final class SplitRecord {
+        private final String fileName;
+        private final long splitOffset;
+        private final Object key;
+        private final Object value;
+
+        SplitRecord(String fileName, long splitOffset, Object key, Object value) {
+            this.fileName = fileName;
+            this.splitOffset = splitOffset;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Reads a split of a file on one of the parallel reader threads, handing the chunks or records over to the
+     * poll thread through the bounded queue. A split which is rejected is no longer waited for by the poll thread.
+     */
+    private final class SplitReader implements Runnable, Rejectable {
+        private final HdfsInputStream file;
+        private final String fileName;
+        private final long start;
+        private final long length;
+        private final BlockingQueue<SplitRecord> records;
+        private final Queue<Exception> errors;
+        private final AtomicInteger pendingSplits;
+
+        SplitReader(HdfsInputStream file, String fileName, long start, long length,
+                    BlockingQueue<SplitRecord> records, Queue<Exception> errors, AtomicInteger pendingSplits) {
+            this.file = file;
+            this.fileName = fileName;
+            this.start = start;
+            this.length = length;
+            this.records = records;
+            this.errors = errors;
+            this.pendingSplits = pendingSplits;
+        }
+
+        @Override
+        public void run() {
+            HdfsInputStream split = null;
+            try {
+                split = file.createSplit(start, length, config);
+                Holder<Object> key = new Holder<Object>();
+                Holder<Object> value = new Holder<Object>();
+                while (split.next(key, value) >= 0) {
+                    SplitRecord record = new SplitRecord(fileName, start, key.value, value.value);
+                    // do not wait forever for a poll thread which may be gone when the consumer is stopping
+                    while (!records.offer(record, 100, TimeUnit.MILLISECONDS)) {
+                        if (!isRunAllowed()) {
+                            log.debug("Stopped reading split at offset {} of file {} as the consumer is stopping", start, fileName);
+                            return;
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                errors.add(new RuntimeCamelException("Error reading split at offset " + start + " of file " + fileName, e));
+            } finally {
+                IOHelper.close(split, "split input stream", log);
+                pendingSplits.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void reject() {
+            pendingSplits.decrementAndGet();
+        }
+    }
+
 }
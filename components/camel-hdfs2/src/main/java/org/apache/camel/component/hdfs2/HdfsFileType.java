@@ -32,6 +32,7 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.util.IOHelper;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.FileUtil;
@@ -77,7 +78,8 @@ public enum HdfsFileType {
             try {
                 ByteArrayOutputStream bos = new ByteArrayOutputStream(hdfsistr.getChunkSize());
                 byte buf[] = new byte[hdfsistr.getChunkSize()];
-                int bytesRead = ((InputStream) hdfsistr.getIn()).read(buf);
+                int len = (int) Math.min(buf.length, hdfsistr.getSplitRemaining());
+                int bytesRead = ((InputStream) hdfsistr.getIn()).read(buf, 0, len);
                 if (bytesRead >= 0) {
                     bos.write(buf, 0, bytesRead);
                     key.value = null;
@@ -135,6 +137,25 @@ public enum HdfsFileType {
             }
         }
 
+        @Override
+        public boolean isSplittable() {
+            return true;
+        }
+
+        @Override
+        public Closeable createInputStream(String hdfsPath, long start, HdfsConfiguration configuration) {
+            FSDataInputStream rin = null;
+            try {
+                HdfsInfo hdfsInfo = HdfsInfoFactory.newHdfsInfo(hdfsPath);
+                rin = hdfsInfo.getFileSystem().open(hdfsInfo.getPath(), configuration.getBufferSize());
+                rin.seek(start);
+                return rin;
+            } catch (IOException ex) {
+                IOHelper.close(rin);
+                throw new RuntimeCamelException(ex);
+            }
+        }
+
         private File getHfdsFileToTmpFile(String hdfsPath, HdfsConfiguration configuration) {
             try {
                 String fname = hdfsPath.substring(hdfsPath.lastIndexOf('/'));
@@ -190,7 +211,12 @@ public enum HdfsFileType {
                 Writable keyWritable = (Writable) ReflectionUtils.newInstance(reader.getKeyClass(), new Configuration());
                 Holder<Integer> valueSize = new Holder<Integer>();
                 Writable valueWritable = (Writable) ReflectionUtils.newInstance(reader.getValueClass(), new Configuration());
+                long position = reader.getPosition();
                 if (reader.next(keyWritable, valueWritable)) {
+                    if (position >= hdfsistr.getSplitEnd() && reader.syncSeen()) {
+                        // the record belongs to the next split which starts reading at this sync marker
+                        return 0;
+                    }
                     key.value = getObject(keyWritable, keySize);
                     value.value = getObject(valueWritable, valueSize);
                     return keySize.value + valueSize.value;
@@ -235,6 +261,28 @@ public enum HdfsFileType {
                 throw new RuntimeCamelException(ex);
             }
         }
+
+        @Override
+        public boolean isSplittable() {
+            return true;
+        }
+
+        @Override
+        public Closeable createInputStream(String hdfsPath, long start, HdfsConfiguration configuration) {
+            SequenceFile.Reader rin = null;
+            try {
+                HdfsInfo hdfsInfo = HdfsInfoFactory.newHdfsInfo(hdfsPath);
+                rin = new SequenceFile.Reader(hdfsInfo.getConf(), Reader.file(hdfsInfo.getPath()), Reader.bufferSize(configuration.getBufferSize()));
+                if (start > rin.getPosition()) {
+                    // the split starts at the first sync marker after its offset
+                    rin.sync(start);
+                }
+                return rin;
+            } catch (IOException ex) {
+                IOHelper.close(rin);
+                throw new RuntimeCamelException(ex);
+            }
+        }
     },
 
     MAP_FILE {
@@ -498,6 +546,20 @@ public enum HdfsFileType {
 
     public abstract Closeable createInputStream(String hdfsPath, HdfsConfiguration configuration);
 
+    /**
+     * Whether files of this type can be partitioned into splits which are read by parallel readers.
+     */
+    public boolean isSplittable() {
+        return false;
+    }
+
+    /**
+     * Opens a reader of the split starting at the given offset of the file. Only supported by splittable file types.
+     */
+    public Closeable createInputStream(String hdfsPath, long start, HdfsConfiguration configuration) {
+        throw new UnsupportedOperationException("Files of type " + this + " cannot be read in splits");
+    }
+
     public static long copyBytes(InputStream in, OutputStream out, int buffSize, boolean close) throws IOException {
         long numBytes = 0;
         PrintStream ps = out instanceof PrintStream ? (PrintStream) out : null;
@@ -32,6 +32,9 @@ public class HdfsInputStream implements Closeable {
     private Closeable in;
     private boolean opened;
     private int chunkSize;
+    private boolean split;
+    private long splitStart;
+    private long splitEnd = Long.MAX_VALUE;
     private final AtomicLong numOfReadBytes = new AtomicLong(0L);
     private final AtomicLong numOfReadMessages = new AtomicLong(0L);
 
@@ -55,12 +58,52 @@ public class HdfsInputStream implements Closeable {
         return ret;
     }
 
+    /**
+     * Creates an input stream for a file which is read in splits by parallel readers. The file is renamed
+     * with the opened suffix, but the readers are only opened when the splits are created.
+     *
+     * @see #createSplit(long, long, HdfsConfiguration)
+     */
+    public static HdfsInputStream createSplittableInputStream(String hdfsPath, HdfsConfiguration configuration) throws IOException {
+        HdfsInputStream ret = new HdfsInputStream();
+        ret.fileType = configuration.getFileType();
+        ret.actualPath = hdfsPath;
+        ret.suffixedPath = ret.actualPath + '.' + configuration.getOpenedSuffix();
+        ret.suffixedReadPath = ret.actualPath + '.' + configuration.getReadSuffix();
+        ret.chunkSize = configuration.getChunkSize();
+        HdfsInfo info = HdfsInfoFactory.newHdfsInfo(ret.actualPath);
+        ret.opened = info.getFileSystem().rename(new Path(ret.actualPath), new Path(ret.suffixedPath));
+        return ret;
+    }
+
+    /**
+     * Opens the split of this file starting at the given offset. The split is read until its end, or for
+     * sequence files until the first sync marker after its end. Closing the split does not rename the file,
+     * that happens when this stream is closed once all its splits are read.
+     */
+    public HdfsInputStream createSplit(long start, long length, HdfsConfiguration configuration) {
+        HdfsInputStream ret = new HdfsInputStream();
+        ret.fileType = fileType;
+        ret.actualPath = actualPath;
+        ret.suffixedPath = suffixedPath;
+        ret.suffixedReadPath = suffixedReadPath;
+        ret.chunkSize = chunkSize;
+        ret.split = true;
+        ret.splitStart = start;
+        ret.splitEnd = start + length;
+        ret.in = fileType.createInputStream(suffixedPath, start, configuration);
+        ret.opened = true;
+        return ret;
+    }
+
     @Override
     public final void close() throws IOException {
         if (opened) {
             IOUtils.closeStream(in);
-            HdfsInfo info = HdfsInfoFactory.newHdfsInfo(actualPath);
-            info.getFileSystem().rename(new Path(suffixedPath), new Path(suffixedReadPath));
+            if (!split) {
+                HdfsInfo info = HdfsInfoFactory.newHdfsInfo(actualPath);
+                info.getFileSystem().rename(new Path(suffixedPath), new Path(suffixedReadPath));
+            }
             opened = false;
         }
     }
@@ -103,6 +146,21 @@ public class HdfsInputStream implements Closeable {
         return chunkSize;
     }
 
+    public final long getSplitStart() {
+        return splitStart;
+    }
+
+    public final long getSplitEnd() {
+        return splitEnd;
+    }
+
+    /**
+     * The number of bytes left to read in this split, which is unbounded unless reading a split of the file
+     */
+    public final long getSplitRemaining() {
+        return splitEnd - splitStart - numOfReadBytes.longValue();
+    }
+
     public final Closeable getIn() {
         return in;
     }
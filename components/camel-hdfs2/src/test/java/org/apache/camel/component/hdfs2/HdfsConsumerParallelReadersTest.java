@@ -0,0 +1,244 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hdfs2;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.io.Text;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HdfsConsumerParallelReadersTest extends HdfsTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        deleteDirectory("target/test-parallel");
+        super.setUp();
+    }
+
+    @Test
+    public void testReadNormalFileInSplits() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        final Path file = new Path(new File("target/test-parallel/normal-file").getAbsolutePath());
+        Configuration conf = new Configuration();
+        FileSystem fs = FileSystem.get(file.toUri(), conf);
+        FSDataOutputStream out = fs.create(file);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 2000; ++i) {
+            byte[] bytes = ("PIPPO" + i).getBytes("UTF-8");
+            out.write(bytes);
+            expected.write(bytes);
+        }
+        out.close();
+
+        MockEndpoint resultEndpoint = context.getEndpoint("mock:result", MockEndpoint.class);
+        // 16890 bytes read in chunks of 100 bytes
+        resultEndpoint.expectedMessageCount(169);
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("hdfs2:localhost/" + file.toUri() + "?fileSystemType=LOCAL&chunkSize=100&initialDelay=0"
+                    + "&parallelReaders=4&readSplitSize=1000&readQueueSize=5").to("mock:result");
+            }
+        });
+        context.start();
+
+        resultEndpoint.assertIsSatisfied();
+
+        // the chunks of a split are routed in order, so the file can be reassembled using the split offsets
+        Map<Long, ByteArrayOutputStream> splits = new TreeMap<Long, ByteArrayOutputStream>();
+        for (Exchange exchange : resultEndpoint.getReceivedExchanges()) {
+            Long offset = exchange.getIn().getHeader(HdfsConstants.HDFS_SPLIT_OFFSET, Long.class);
+            assertEquals("normal-file", exchange.getIn().getHeader(Exchange.FILE_NAME));
+            if (!splits.containsKey(offset)) {
+                splits.put(offset, new ByteArrayOutputStream());
+            }
+            splits.get(offset).write(exchange.getIn().getBody(byte[].class));
+        }
+        assertEquals(17, splits.size());
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        for (ByteArrayOutputStream split : splits.values()) {
+            actual.write(split.toByteArray());
+        }
+        assertEquals(expected.toString("UTF-8"), actual.toString("UTF-8"));
+
+        // the file is renamed once all its splits have been read
+        context.stop();
+        assertTrue(new File("target/test-parallel/normal-file.read").exists());
+    }
+
+    @Test
+    public void testReadSequenceFileInSplits() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        final Path file = new Path(new File("target/test-parallel/sequence-file").getAbsolutePath());
+        Configuration conf = new Configuration();
+        SequenceFile.Writer writer = SequenceFile.createWriter(conf, SequenceFile.Writer.file(file),
+                SequenceFile.Writer.keyClass(IntWritable.class), SequenceFile.Writer.valueClass(Text.class));
+        for (int i = 0; i < 1000; ++i) {
+            writer.append(new IntWritable(i), new Text("CIAO" + i));
+        }
+        writer.close();
+
+        MockEndpoint resultEndpoint = context.getEndpoint("mock:result", MockEndpoint.class);
+        resultEndpoint.expectedMessageCount(1000);
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("hdfs2:localhost/" + file.toUri() + "?fileSystemType=LOCAL&fileType=SEQUENCE_FILE&initialDelay=0"
+                    + "&parallelReaders=3&readSplitSize=1024&readQueueSize=10").to("mock:result");
+            }
+        });
+        context.start();
+
+        resultEndpoint.assertIsSatisfied();
+
+        // every record is read exactly once, even though the splits do not end at the sync markers
+        Set<Integer> keys = new HashSet<Integer>();
+        Set<Long> offsets = new HashSet<Long>();
+        for (Exchange exchange : resultEndpoint.getReceivedExchanges()) {
+            Integer key = exchange.getIn().getHeader(HdfsHeader.KEY.name(), Integer.class);
+            assertTrue("Duplicate record " + key, keys.add(key));
+            assertEquals("CIAO" + key, exchange.getIn().getBody(String.class));
+            offsets.add(exchange.getIn().getHeader(HdfsConstants.HDFS_SPLIT_OFFSET, Long.class));
+        }
+        assertEquals(1000, keys.size());
+        assertTrue("Expected records from several splits", offsets.size() > 1);
+    }
+
+    @Test
+    public void testStopWhileReading() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        final Path file = new Path(new File("target/test-parallel/stopped-file").getAbsolutePath());
+        writeFile(file, "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+
+        final CountDownLatch started = new CountDownLatch(1);
+        context.getShutdownStrategy().setTimeout(1);
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("hdfs2:localhost/" + file.toUri() + "?fileSystemType=LOCAL&chunkSize=1&initialDelay=0"
+                    + "&parallelReaders=2&readSplitSize=8&readQueueSize=1").routeId("parallel")
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            started.countDown();
+                            Thread.sleep(100);
+                        }
+                    });
+            }
+        });
+        context.start();
+
+        assertTrue("Should have started reading", started.await(5, TimeUnit.SECONDS));
+        context.stopRoute("parallel");
+
+        // the readers must not stay blocked on the queue, and the file must not stay opened
+        File read = new File("target/test-parallel/stopped-file.read");
+        for (int i = 0; i < 50 && !read.exists(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(read.exists());
+        assertFalse(new File("target/test-parallel/stopped-file.opened").exists());
+    }
+
+    @Test
+    public void testListingCache() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        final Path dir = new Path(new File("target/test-parallel/listing").getAbsolutePath());
+        writeFile(new Path(dir, "first.txt"), "Hello");
+
+        MockEndpoint resultEndpoint = context.getEndpoint("mock:result", MockEndpoint.class);
+        resultEndpoint.expectedBodiesReceived("Hello");
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("hdfs2:localhost/" + dir.toUri() + "?pattern=*.txt&fileSystemType=LOCAL&initialDelay=0&delay=10"
+                    + "&listingCacheTimeout=60000").to("mock:result");
+            }
+        });
+        context.start();
+
+        resultEndpoint.assertIsSatisfied();
+
+        // the file written after the directory was listed is not picked up while the listing is cached
+        writeFile(new Path(dir, "second.txt"), "World");
+        resultEndpoint.reset();
+        resultEndpoint.expectedMessageCount(0);
+        resultEndpoint.setAssertPeriod(500);
+        resultEndpoint.assertIsSatisfied();
+    }
+
+    @Test
+    public void testParallelReadersNotSupportedForMapFiles() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        HdfsEndpoint endpoint = context.getEndpoint("hdfs2:localhost/target/test-parallel/map?fileSystemType=LOCAL&fileType=MAP_FILE&parallelReaders=2",
+                HdfsEndpoint.class);
+        try {
+            endpoint.createConsumer(null);
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            assertEquals("parallelReaders works only with NORMAL_FILEs and SEQUENCE_FILEs", e.getMessage());
+        }
+    }
+
+    private void writeFile(Path file, String content) throws Exception {
+        FileSystem fs = FileSystem.get(file.toUri(), new Configuration());
+        FSDataOutputStream out = fs.create(file);
+        out.write(content.getBytes("UTF-8"));
+        out.close();
+    }
+
+}
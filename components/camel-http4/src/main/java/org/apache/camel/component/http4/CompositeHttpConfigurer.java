@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 
 public class CompositeHttpConfigurer implements HttpClientConfigurer {
 
@@ -41,6 +42,13 @@ public class CompositeHttpConfigurer implements HttpClientConfigurer {
         }
     }
 
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        for (HttpClientConfigurer configurer : configurers) {
+            configurer.configureHttpAsyncClient(clientBuilder);
+        }
+    }
+
     public static CompositeHttpConfigurer combineConfigurers(HttpClientConfigurer oldConfigurer, HttpClientConfigurer newConfigurer) {
         if (oldConfigurer instanceof CompositeHttpConfigurer) {
             ((CompositeHttpConfigurer) oldConfigurer).addConfigurer(newConfigurer);
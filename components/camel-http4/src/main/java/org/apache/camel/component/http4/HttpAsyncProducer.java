@@ -0,0 +1,184 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.ThreadPoolRejectedPolicy;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.util.AsyncProcessorHelper;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A non-blocking HTTP producer which uses the NIO based HttpAsyncClient, so the calling thread is not
+ * blocked while waiting for the response from the remote server.
+ * <p/>
+ * The response is handed over from the I/O dispatcher thread of the client to a thread pool of the producer, which
+ * processes the response and continues routing the exchange, so the dispatcher thread is never blocked by the route.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+    private HttpAsyncClient asyncHttpClient;
+    private ExecutorService executorService;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (asyncHttpClient == null) {
+            asyncHttpClient = getEndpoint().getAsyncHttpClient();
+        }
+        if (executorService == null) {
+            // reject instead of running the task in the caller thread, which is the I/O dispatcher thread
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this, "HttpAsyncProducer",
+                new ThreadPoolProfileBuilder("HttpAsyncProducer").rejectedPolicy(ThreadPoolRejectedPolicy.Abort).build());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorHelper.process(this, exchange);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        final HttpRequestBase httpRequest;
+        try {
+            httpRequest = createRequest(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI().toString());
+        }
+        asyncHttpClient.execute(httpRequest, createLocalContext(), new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(final HttpResponse httpResponse) {
+                done(exchange, callback, new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            processResponse(exchange, httpRequest, httpResponse);
+                        } catch (Exception e) {
+                            exchange.setException(e);
+                        } finally {
+                            releaseResponse(exchange, httpResponse);
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void failed(final Exception e) {
+                done(exchange, callback, new Runnable() {
+                    @Override
+                    public void run() {
+                        exchange.setException(e);
+                    }
+                });
+            }
+
+            @Override
+            public void cancelled() {
+                done(exchange, callback, new Runnable() {
+                    @Override
+                    public void run() {
+                        exchange.setException(new CamelExchangeException("Http " + httpRequest.getMethod() + " request to "
+                            + httpRequest.getURI() + " was cancelled", exchange));
+                    }
+                });
+            }
+        });
+        return false;
+    }
+
+    /**
+     * Runs the task and continues routing the exchange on the producer thread pool instead of the I/O dispatcher thread.
+     */
+    private void done(final Exchange exchange, final AsyncCallback callback, final Runnable task) {
+        ExecutorService executor = executorService;
+        if (executor != null && !executor.isShutdown()) {
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            task.run();
+                        } finally {
+                            callback.done(false);
+                        }
+                    }
+                });
+                return;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Cannot hand over the response of exchange {} as the thread pool is saturated", exchange.getExchangeId());
+            }
+        }
+
+        // the producer is stopping or the thread pool is saturated, so complete the exchange here instead
+        try {
+            task.run();
+        } finally {
+            callback.done(false);
+        }
+    }
+
+    public HttpAsyncClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    public void setAsyncHttpClient(HttpAsyncClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * To use a custom thread pool for processing the responses and continue routing the exchanges.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.apache.camel.component.http4;
 
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 
 /**
  * A pluggable strategy for configuring the HttpClient used by this component
@@ -31,4 +32,14 @@ public interface HttpClientConfigurer {
      * @param clientBuilder the client
      */
     void configureHttpClient(HttpClientBuilder clientBuilder);
+
+    /**
+     * Configure the non-blocking HttpAsyncClient used when the producer uses the async http client.
+     * <p/>
+     * The default implementation does nothing.
+     *
+     * @param clientBuilder the client
+     */
+    default void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+    }
 }
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ComponentVerifier;
@@ -53,12 +54,21 @@ import org.apache.http.client.config.RequestConfig;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
@@ -214,6 +224,13 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             httpClientOptions.put("socketTimeout", val);
         }
 
+        // the async http client is configured using the same options as the blocking http client
+        boolean useAsyncHttpClient = getAndRemoveParameter(parameters, "useAsyncHttpClient", boolean.class, false);
+        HttpAsyncClientBuilder asyncClientBuilder = null;
+        if (useAsyncHttpClient) {
+            asyncClientBuilder = createHttpAsyncClientBuilder(new HashMap<>(parameters), new HashMap<>(httpClientOptions));
+        }
+
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
         
         HttpBinding httpBinding = resolveAndRemoveReferenceParameter(parameters, "httpBinding", HttpBinding.class);
@@ -270,8 +287,20 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         String endpointUriString = endpointUri.toString();
 
         LOG.debug("Creating endpoint uri {}", endpointUriString);
-        final HttpClientConnectionManager localConnectionManager = createConnectionManager(parameters, sslContextParameters);
+        // the async http client does not need the blocking connection manager
+        NHttpClientConnectionManager asyncConnectionManager = null;
+        HttpClientConnectionManager localConnectionManager = null;
+        if (useAsyncHttpClient) {
+            asyncConnectionManager = createAsyncConnectionManager(parameters, sslContextParameters);
+        } else {
+            localConnectionManager = createConnectionManager(parameters, sslContextParameters);
+        }
         HttpEndpoint endpoint = new HttpEndpoint(endpointUriString, this, clientBuilder, localConnectionManager, configurer);
+        if (useAsyncHttpClient) {
+            endpoint.setUseAsyncHttpClient(true);
+            endpoint.setAsyncClientBuilder(asyncClientBuilder);
+            endpoint.setAsyncClientConnectionManager(asyncConnectionManager);
+        }
 
         // configure the endpoint with the common configuration from the component
         if (getHttpConfiguration() != null) {
@@ -363,6 +392,42 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         return clientBuilder;
     }
 
+    protected HttpAsyncClientBuilder createHttpAsyncClientBuilder(final Map<String, Object> parameters,
+            final Map<String, Object> httpClientOptions) throws Exception {
+        HttpAsyncClientBuilder clientBuilder = HttpAsyncClientBuilder.create();
+        // allow the builder pattern
+        httpClientOptions.putAll(IntrospectionSupport.extractProperties(parameters, "httpClient."));
+        IntrospectionSupport.setProperties(clientBuilder, httpClientOptions);
+        // set the Request configure this way and allow the builder pattern
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        IntrospectionSupport.setProperties(requestConfigBuilder, httpClientOptions);
+        clientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
+        return clientBuilder;
+    }
+
+    protected NHttpClientConnectionManager createAsyncConnectionManager(final Map<String, Object> parameters,
+            final SSLContextParameters sslContextParameters) throws GeneralSecurityException, IOException {
+        final HostnameVerifier resolvedHostnameVerifier = resolveAndRemoveReferenceParameter(parameters, "x509HostnameVerifier", HostnameVerifier.class);
+        final HostnameVerifier hostnameVerifier = Optional.ofNullable(resolvedHostnameVerifier).orElse(x509HostnameVerifier);
+
+        final int maxTotalConnections = getAndRemoveParameter(parameters, "maxTotalConnections", int.class, 0);
+        final int connectionsPerRoute = getAndRemoveParameter(parameters, "connectionsPerRoute", int.class, 0);
+
+        final SSLContext sslContext = sslContextParameters != null ? sslContextParameters.createSSLContext(getCamelContext()) : SSLContexts.createDefault();
+        RegistryBuilder<SchemeIOSessionStrategy> builder = RegistryBuilder.<SchemeIOSessionStrategy>create();
+        builder.register("http", NoopIOSessionStrategy.INSTANCE);
+        builder.register("http4", NoopIOSessionStrategy.INSTANCE);
+        builder.register("https", new SSLIOSessionStrategy(sslContext, hostnameVerifier));
+        builder.register("https4", new SSLIOSessionStrategy(sslContext, hostnameVerifier));
+
+        PoolingNHttpClientConnectionManager answer = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(),
+            null, builder.build(), null, null, getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        configureConnectionPool(answer, maxTotalConnections, connectionsPerRoute);
+        LOG.info("Created async ClientConnectionManager " + answer);
+
+        return answer;
+    }
+
     protected Registry<ConnectionSocketFactory> createConnectionRegistry(HostnameVerifier x509HostnameVerifier, SSLContextParameters sslContextParams)
         throws GeneralSecurityException, IOException {
         // create the default connection registry to use
@@ -387,23 +452,27 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         // setup the connection live time
         PoolingHttpClientConnectionManager answer = 
             new PoolingHttpClientConnectionManager(registry, null, null, null, getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        configureConnectionPool(answer, maxTotalConnections, connectionsPerRoute);
+        LOG.info("Created ClientConnectionManager " + answer);
+
+        return answer;
+    }
+
+    private void configureConnectionPool(ConnPoolControl<HttpRoute> pool, int maxTotalConnections, int connectionsPerRoute) {
         int localMaxTotalConnections = maxTotalConnections;
         if (localMaxTotalConnections == 0) {
             localMaxTotalConnections = getMaxTotalConnections();
         }
         if (localMaxTotalConnections > 0) {
-            answer.setMaxTotal(localMaxTotalConnections);
+            pool.setMaxTotal(localMaxTotalConnections);
         }
         int localConnectionsPerRoute = connectionsPerRoute;
         if (localConnectionsPerRoute == 0) {
             localConnectionsPerRoute = getConnectionsPerRoute();
         }
         if (localConnectionsPerRoute > 0) {
-            answer.setDefaultMaxPerRoute(localConnectionsPerRoute);
+            pool.setDefaultMaxPerRoute(localConnectionsPerRoute);
         }
-        LOG.info("Created ClientConnectionManager " + answer);
-
-        return answer;
     }
 
     @Override
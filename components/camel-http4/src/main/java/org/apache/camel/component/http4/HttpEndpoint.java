@@ -26,6 +26,8 @@ import org.apache.camel.Consumer;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.http.common.HttpCommonEndpoint;
 import org.apache.camel.http.common.HttpHelper;
 import org.apache.camel.http.common.cookie.CookieHandler;
@@ -41,7 +43,14 @@ import org.apache.http.client.config.RequestConfig;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +60,7 @@ import org.slf4j.LoggerFactory;
  */
 @UriEndpoint(firstVersion = "2.3.0", scheme = "http4,https4", title = "HTTP4,HTTPS4", syntax = "http4:httpUri",
     producerOnly = true, label = "http", lenientProperties = true)
+@ManagedResource(description = "Managed HttpEndpoint")
 public class HttpEndpoint extends HttpCommonEndpoint {
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpEndpoint.class);
@@ -70,6 +80,14 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private HttpClient httpClient;
     @UriParam(label = "advanced", defaultValue = "false", description = "To use System Properties as fallback for configuration")
     private boolean useSystemProperties;
+    @UriParam(label = "producer,advanced", description = "Whether the producer should use the non-blocking HttpAsyncClient,"
+        + " so the calling thread is not blocked while waiting for the response from the remote server."
+        + " The response is handed over from the I/O dispatcher thread of the client to a thread pool of the producer,"
+        + " which continues routing the exchange.")
+    private boolean useAsyncHttpClient;
+    private HttpAsyncClientBuilder asyncClientBuilder;
+    private NHttpClientConnectionManager asyncClientConnectionManager;
+    private CloseableHttpAsyncClient asyncHttpClient;
 
     // timeout
     @Metadata(label = "timeout", defaultValue = "-1", description = "The timeout in milliseconds used when requesting a connection"
@@ -134,6 +152,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     }
 
     public Producer createProducer() throws Exception {
+        if (useAsyncHttpClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -169,28 +190,25 @@ public class HttpEndpoint extends HttpCommonEndpoint {
      */
     protected HttpClient createHttpClient() {
         ObjectHelper.notNull(clientBuilder, "httpClientBuilder");
-        ObjectHelper.notNull(clientConnectionManager, "httpConnectionManager");
+        if (!useAsyncHttpClient) {
+            ObjectHelper.notNull(clientConnectionManager, "httpConnectionManager");
+        }
 
         // setup the cookieStore
         clientBuilder.setDefaultCookieStore(cookieStore);
-        // setup the httpConnectionManager
-        clientBuilder.setConnectionManager(clientConnectionManager);
-        if (getComponent() != null && getComponent().getClientConnectionManager() == getClientConnectionManager()) {
-            clientBuilder.setConnectionManagerShared(true);
+        // setup the httpConnectionManager, when using the async http client the blocking client
+        // is only used by polling consumers and creates its own connection manager
+        if (clientConnectionManager != null) {
+            clientBuilder.setConnectionManager(clientConnectionManager);
+            if (getComponent() != null && getComponent().getClientConnectionManager() == getClientConnectionManager()) {
+                clientBuilder.setConnectionManagerShared(true);
+            }
         }
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyPort"))) {
-                String host = getCamelContext().getProperty("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getProperty("http.proxyPort"));
-                String scheme = getCamelContext().getProperty("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                LOG.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", new Object[]{host, port, scheme});
-                HttpHost proxy = new HttpHost(host, port, scheme);
+            HttpHost proxy = createProxyFromCamelContext();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -216,6 +234,73 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    /**
+     * Gets the non-blocking HttpAsyncClient used by the producer when {@link #isUseAsyncHttpClient()} is enabled,
+     * which is created and started on first use.
+     */
+    public synchronized HttpAsyncClient getAsyncHttpClient() {
+        if (asyncHttpClient == null) {
+            asyncHttpClient = createAsyncHttpClient();
+            asyncHttpClient.start();
+        }
+        return asyncHttpClient;
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance, which is configured
+     * the same way as the {@link HttpClient}.
+     * <p/>
+     * Producers should use the {@link #getAsyncHttpClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createAsyncHttpClient() {
+        ObjectHelper.notNull(asyncClientBuilder, "asyncClientBuilder");
+        ObjectHelper.notNull(asyncClientConnectionManager, "asyncClientConnectionManager");
+
+        asyncClientBuilder.setDefaultCookieStore(cookieStore);
+        asyncClientBuilder.setConnectionManager(asyncClientConnectionManager);
+
+        if (!useSystemProperties) {
+            HttpHost proxy = createProxyFromCamelContext();
+            if (proxy != null) {
+                asyncClientBuilder.setProxy(proxy);
+            }
+        } else {
+            asyncClientBuilder.useSystemProperties();
+        }
+
+        if (isAuthenticationPreemptive()) {
+            asyncClientBuilder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer != null) {
+            configurer.configureHttpAsyncClient(asyncClientBuilder);
+        }
+
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            asyncClientBuilder.setDefaultCookieStore(new NoopCookieStore());
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", asyncClientBuilder);
+        return asyncClientBuilder.build();
+    }
+
+    private HttpHost createProxyFromCamelContext() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyPort"))) {
+            String host = getCamelContext().getProperty("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getProperty("http.proxyPort"));
+            String scheme = getCamelContext().getProperty("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            LOG.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", new Object[]{host, port, scheme});
+            return new HttpHost(host, port, scheme);
+        }
+        return null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -223,13 +308,60 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     protected void doStop() throws Exception {
-        if (getComponent() != null && getComponent().getClientConnectionManager() != clientConnectionManager) {
+        if (clientConnectionManager != null && getComponent() != null && getComponent().getClientConnectionManager() != clientConnectionManager) {
             // need to shutdown the ConnectionManager
             clientConnectionManager.shutdown();
         }
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable)httpClient);
         }
+        if (asyncHttpClient != null) {
+            // also shutdown the connection manager of the async client
+            IOHelper.close(asyncHttpClient);
+            asyncHttpClient = null;
+        } else if (asyncClientConnectionManager != null) {
+            asyncClientConnectionManager.shutdown();
+        }
+    }
+
+    // Management
+    //-------------------------------------------------------------------------
+
+    @ManagedAttribute(description = "Number of connections in the connection pool which are in use")
+    public int getClientConnectionsLeased() {
+        PoolStats stats = getClientConnectionPoolStats();
+        return stats != null ? stats.getLeased() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of idle connections in the connection pool which are available for use")
+    public int getClientConnectionsAvailable() {
+        PoolStats stats = getClientConnectionPoolStats();
+        return stats != null ? stats.getAvailable() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of requests waiting for a connection from the connection pool")
+    public int getClientConnectionsPending() {
+        PoolStats stats = getClientConnectionPoolStats();
+        return stats != null ? stats.getPending() : 0;
+    }
+
+    @ManagedAttribute(description = "Maximum number of connections in the connection pool")
+    public int getClientConnectionsMax() {
+        PoolStats stats = getClientConnectionPoolStats();
+        return stats != null ? stats.getMax() : 0;
+    }
+
+    /**
+     * Gets the total statistics of the connection pool used by the producer, or <tt>null</tt> if
+     * the connection manager is not pooling connections.
+     */
+    @SuppressWarnings("unchecked")
+    protected PoolStats getClientConnectionPoolStats() {
+        Object manager = useAsyncHttpClient ? asyncClientConnectionManager : clientConnectionManager;
+        if (manager instanceof ConnPoolControl) {
+            return ((ConnPoolControl<HttpRoute>) manager).getTotalStats();
+        }
+        return null;
     }
 
     // Properties
@@ -270,6 +402,43 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.httpContext = httpContext;
     }
 
+    public boolean isUseAsyncHttpClient() {
+        return useAsyncHttpClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking HttpAsyncClient, so the calling thread is not
+     * blocked while waiting for the response from the remote server.
+     * <p/>
+     * The response is handed over from the I/O dispatcher thread of the client to a thread pool of the producer,
+     * which continues routing the exchange.
+     */
+    public void setUseAsyncHttpClient(boolean useAsyncHttpClient) {
+        this.useAsyncHttpClient = useAsyncHttpClient;
+    }
+
+    public HttpAsyncClientBuilder getAsyncClientBuilder() {
+        return asyncClientBuilder;
+    }
+
+    /**
+     * To use a custom {@link HttpAsyncClientBuilder} for creating the async http client
+     */
+    public void setAsyncClientBuilder(HttpAsyncClientBuilder asyncClientBuilder) {
+        this.asyncClientBuilder = asyncClientBuilder;
+    }
+
+    public NHttpClientConnectionManager getAsyncClientConnectionManager() {
+        return asyncClientConnectionManager;
+    }
+
+    /**
+     * To use a custom {@link NHttpClientConnectionManager} to manage the connections of the async http client
+     */
+    public void setAsyncClientConnectionManager(NHttpClientConnectionManager asyncClientConnectionManager) {
+        this.asyncClientConnectionManager = asyncClientConnectionManager;
+    }
+
     public HttpClientConnectionManager getClientConnectionManager() {
         return clientConnectionManager;
     }
@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.support.SendDynamicAwareSupport;
+import org.apache.camel.util.URISupport;
+
+/**
+ * HTTP based {@link org.apache.camel.spi.SendDynamicAware} which allows to optimise HTTP components
+ * with the toD (dynamic to) DSL in Camel. This implementation optimises by allowing to provide dynamic parameters
+ * via {@link Exchange#HTTP_PATH} and {@link Exchange#HTTP_QUERY} headers instead of the endpoint uri. That allows
+ * to use a static endpoint and its producer to service dynamic requests.
+ */
+public class HttpSendDynamicAware extends SendDynamicAwareSupport {
+
+    private final Processor postProcessor = new HttpSendDynamicPostProcessor();
+
+    @Override
+    public DynamicAwareEntry prepare(Exchange exchange, String uri) throws Exception {
+        Map<String, String> properties = endpointProperties(exchange, uri);
+        Map<String, String> lenient = endpointLenientProperties(exchange, uri);
+        return new DynamicAwareEntry(uri, properties, lenient);
+    }
+
+    @Override
+    public String resolveStaticUri(Exchange exchange, DynamicAwareEntry entry) throws Exception {
+        String[] hostAndPath = parseUri(entry);
+        if (hostAndPath[0].isEmpty() || (hostAndPath[1].isEmpty() && entry.getLenientProperties().isEmpty())) {
+            // there is nothing dynamic to optimise
+            return null;
+        }
+
+        // the known endpoint options are static and kept on the endpoint uri, the lenient are provided as query header
+        Map<String, Object> params = new LinkedHashMap<>(entry.getProperties());
+        params.remove("httpUri");
+        params.keySet().removeAll(entry.getLenientProperties().keySet());
+        String query = params.isEmpty() ? null : URISupport.createQueryString(params);
+
+        String answer = getScheme() + "://" + hostAndPath[0];
+        if (query != null) {
+            answer = answer + "?" + query;
+        }
+        return answer;
+    }
+
+    @Override
+    public Processor createPreProcessor(Exchange exchange, DynamicAwareEntry entry) throws Exception {
+        final String path = parseUri(entry)[1];
+        final String query = entry.getLenientProperties().isEmpty() ? null : URISupport.createQueryString(new LinkedHashMap<String, Object>(entry.getLenientProperties()));
+
+        return new Processor() {
+            @Override
+            public void process(Exchange exchange) throws Exception {
+                if (path.isEmpty()) {
+                    exchange.getIn().removeHeader(Exchange.HTTP_PATH);
+                } else {
+                    exchange.getIn().setHeader(Exchange.HTTP_PATH, path);
+                }
+                if (query == null) {
+                    exchange.getIn().removeHeader(Exchange.HTTP_QUERY);
+                } else {
+                    exchange.getIn().setHeader(Exchange.HTTP_QUERY, query);
+                }
+            }
+        };
+    }
+
+    @Override
+    public Processor createPostProcessor(Exchange exchange, DynamicAwareEntry entry) throws Exception {
+        return postProcessor;
+    }
+
+    /**
+     * Parses the uri into the host (including port) and path parts.
+     */
+    private String[] parseUri(DynamicAwareEntry entry) {
+        String u = entry.getOriginalUri();
+
+        // remove scheme prefix
+        String scheme = getScheme();
+        if (u.startsWith(scheme + "://")) {
+            u = u.substring(scheme.length() + 3);
+        } else if (u.startsWith(scheme + ":")) {
+            u = u.substring(scheme.length() + 1);
+        }
+        // remove query parameters
+        if (u.indexOf('?') > 0) {
+            u = u.substring(0, u.indexOf('?'));
+        }
+
+        // the host is up until the first slash, and the rest is the context-path
+        String host = u;
+        String path = "";
+        int pos = u.indexOf('/');
+        if (pos > 0) {
+            host = u.substring(0, pos);
+            path = u.substring(pos + 1);
+        } else if (pos == 0) {
+            host = "";
+        }
+        return new String[]{host, path};
+    }
+
+    private static final class HttpSendDynamicPostProcessor implements Processor {
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // remove the headers so they do not leak into the next endpoint the message is sent to
+            exchange.getIn().removeHeader(Exchange.HTTP_PATH);
+            exchange.getIn().removeHeader(Exchange.HTTP_QUERY);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.component.http4.handler.BasicValidationHandler;
+import org.apache.camel.component.http4.handler.DelayValidationHandler;
+import org.apache.camel.http.common.HttpOperationFailedException;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private HttpServer localServer;
+    private String url;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().
+                setHttpProcessor(getBasicHttpProcessor()).
+                setConnectionReuseStrategy(getConnectionReuseStrategy()).
+                setResponseFactory(getHttpResponseFactory()).
+                setExpectationVerifier(getHttpExpectationVerifier()).
+                setSslContext(getSSLContext()).
+                registerHandler("/get", new BasicValidationHandler("GET", null, null, getExpectedContent())).
+                registerHandler("/post", new BasicValidationHandler("POST", null, "Hello World", getExpectedContent())).
+                registerHandler("/delay", new DelayValidationHandler("GET", null, null, getExpectedContent(), 1000)).create();
+        localServer.start();
+
+        url = "http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        Exchange exchange = template.request(url + "/get?useAsyncHttpClient=true", null);
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testPost() throws Exception {
+        Exchange exchange = template.request(url + "/post?useAsyncHttpClient=true",
+            e -> e.getIn().setBody("Hello World"));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        Exchange exchange = template.request(url + "/unknown?useAsyncHttpClient=true", null);
+
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, exchange.getException());
+        assertEquals(501, cause.getStatusCode());
+    }
+
+    @Test
+    public void testNoConnection() throws Exception {
+        // the server is stopped so the connection is refused
+        localServer.stop();
+        localServer = null;
+
+        Exchange exchange = template.request(url + "/get?useAsyncHttpClient=true", null);
+
+        assertNotNull(exchange.getException());
+    }
+
+    @Test
+    public void testContinueRoutingOffDispatcherThread() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(url + "/get?useAsyncHttpClient=true", HttpEndpoint.class);
+        // the blocking connection manager is not needed by the async http client
+        assertNull(endpoint.getClientConnectionManager());
+
+        Producer producer = endpoint.createProducer();
+        producer.start();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        Exchange exchange = endpoint.createExchange();
+        ((AsyncProcessor) producer).process(exchange, new AsyncCallback() {
+            @Override
+            public void done(boolean doneSync) {
+                threadName.set(Thread.currentThread().getName());
+                latch.countDown();
+            }
+        });
+
+        assertTrue("Should receive the response", latch.await(10, TimeUnit.SECONDS));
+        assertExchange(exchange);
+        assertTrue("Should continue routing on the producer thread pool but was " + threadName.get(),
+            threadName.get().contains("HttpAsyncProducer"));
+
+        producer.stop();
+    }
+
+    @Test
+    public void testCompleteWhenThreadPoolShutdown() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(url + "/get?useAsyncHttpClient=true", HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        producer.start();
+
+        // the response cannot be handed over, but the exchange must still be completed
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.shutdown();
+        producer.setExecutorService(executorService);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        Exchange exchange = endpoint.createExchange();
+        producer.process(exchange, new AsyncCallback() {
+            @Override
+            public void done(boolean doneSync) {
+                latch.countDown();
+            }
+        });
+
+        assertTrue("Should receive the response", latch.await(10, TimeUnit.SECONDS));
+        assertExchange(exchange);
+
+        producer.stop();
+    }
+
+    @Test
+    public void testNonBlocking() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(url + "/delay?useAsyncHttpClient=true&connectionsPerRoute=10", HttpEndpoint.class);
+        Producer producer = endpoint.createProducer();
+        assertIsInstanceOf(HttpAsyncProducer.class, producer);
+        producer.start();
+
+        int size = 10;
+        final CountDownLatch latch = new CountDownLatch(size);
+        List<Exchange> exchanges = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Exchange exchange = endpoint.createExchange();
+            exchanges.add(exchange);
+            // the calling thread should not wait for the delayed response
+            boolean sync = ((AsyncProcessor) producer).process(exchange, new AsyncCallback() {
+                @Override
+                public void done(boolean doneSync) {
+                    latch.countDown();
+                }
+            });
+            assertFalse("Should be processed asynchronously", sync);
+        }
+
+        // all the requests are in progress at the same time, either connecting or waiting for the response
+        assertEquals(size, endpoint.getClientConnectionsLeased() + endpoint.getClientConnectionsPending());
+
+        assertTrue("Should receive all the responses", latch.await(10, TimeUnit.SECONDS));
+        for (Exchange exchange : exchanges) {
+            assertExchange(exchange);
+        }
+        assertEquals(0, endpoint.getClientConnectionsLeased());
+        assertEquals(size, endpoint.getClientConnectionsAvailable());
+
+        producer.stop();
+    }
+
+}
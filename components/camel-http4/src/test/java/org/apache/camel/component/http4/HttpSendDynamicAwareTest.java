@@ -0,0 +1,121 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http4.handler.BasicValidationHandler;
+import org.apache.camel.model.ToDynamicDefinition;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpSendDynamicAwareTest extends BaseHttpTest {
+
+    private HttpServer localServer;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().
+                setHttpProcessor(getBasicHttpProcessor()).
+                setConnectionReuseStrategy(getConnectionReuseStrategy()).
+                setResponseFactory(getHttpResponseFactory()).
+                setExpectationVerifier(getHttpExpectationVerifier()).
+                setSslContext(getSSLContext()).
+                registerHandler("/moes", new BasicValidationHandler("GET", "drink=beer", null, "Drinking beer")).
+                registerHandler("/joes", new BasicValidationHandler("GET", "drink=wine", null, "Drinking wine")).
+                registerHandler("/bar", new BasicValidationHandler("GET", null, null, "Drinking water")).
+                create();
+        localServer.start();
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:moes")
+                    .toD("http4://localhost:" + localServer.getLocalPort() + "/moes?throwExceptionOnFailure=false&drink=${header.drink}");
+
+                from("direct:joes")
+                    .toD("http4://localhost:" + localServer.getLocalPort() + "/joes?throwExceptionOnFailure=false&drink=${header.drink}");
+
+                from("direct:path")
+                    .toD("http4://localhost:" + localServer.getLocalPort() + "/${header.place}");
+
+                ToDynamicDefinition noopt = new ToDynamicDefinition("http4://localhost:" + localServer.getLocalPort() + "/${header.place}");
+                noopt.allowOptimisedComponents(false);
+                from("direct:noopt").addOutput(noopt);
+            }
+        };
+    }
+
+    @Test
+    public void testDynamicAware() throws Exception {
+        String out = fluentTemplate.to("direct:moes").withHeader("drink", "beer").request(String.class);
+        assertEquals("Drinking beer", out);
+
+        out = fluentTemplate.to("direct:joes").withHeader("drink", "wine").request(String.class);
+        assertEquals("Drinking wine", out);
+
+        // and there should only be one http endpoint as they are both on same host
+        assertNotNull(context.hasEndpoint("http4://localhost:" + localServer.getLocalPort() + "?throwExceptionOnFailure=false"));
+        assertNoDynamicEndpoints();
+    }
+
+    @Test
+    public void testDynamicAwarePath() throws Exception {
+        String out = fluentTemplate.to("direct:path").withHeader("place", "bar").request(String.class);
+        assertEquals("Drinking water", out);
+
+        out = fluentTemplate.to("direct:path").withHeader("place", "moes?drink=beer").request(String.class);
+        assertEquals("Drinking beer", out);
+
+        assertNotNull(context.hasEndpoint("http4://localhost:" + localServer.getLocalPort()));
+        assertNoDynamicEndpoints();
+    }
+
+    @Test
+    public void testNotOptimised() throws Exception {
+        String out = fluentTemplate.to("direct:noopt").withHeader("place", "bar").request(String.class);
+        assertEquals("Drinking water", out);
+
+        assertNotNull(context.hasEndpoint("http4://localhost:" + localServer.getLocalPort() + "/bar"));
+    }
+
+    private void assertNoDynamicEndpoints() {
+        for (Endpoint endpoint : context.getEndpoints()) {
+            String uri = endpoint.getEndpointUri();
+            assertFalse("Should not create dynamic endpoint: " + uri, uri.startsWith("http4:") && (uri.contains("/moes") || uri.contains("/joes") || uri.contains("/bar")));
+        }
+    }
+}
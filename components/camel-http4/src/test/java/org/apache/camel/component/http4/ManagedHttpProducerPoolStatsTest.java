@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.util.Set;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http4.handler.BasicValidationHandler;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ManagedHttpProducerPoolStatsTest extends BaseHttpTest {
+
+    private HttpServer localServer;
+
+    @Override
+    protected boolean useJmx() {
+        return true;
+    }
+
+    protected MBeanServer getMBeanServer() {
+        return context.getManagementStrategy().getManagementAgent().getMBeanServer();
+    }
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().
+                setHttpProcessor(getBasicHttpProcessor()).
+                setConnectionReuseStrategy(getConnectionReuseStrategy()).
+                setResponseFactory(getHttpResponseFactory()).
+                setExpectationVerifier(getHttpExpectationVerifier()).
+                setSslContext(getSSLContext()).
+                registerHandler("/myapp", new BasicValidationHandler("GET", null, null, getExpectedContent())).
+                registerHandler("/myasyncapp", new BasicValidationHandler("GET", null, null, getExpectedContent())).create();
+        localServer.start();
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testPoolStats() throws Exception {
+        assertPoolStats("direct:sync", "/myapp");
+    }
+
+    @Test
+    public void testAsyncPoolStats() throws Exception {
+        assertPoolStats("direct:async", "/myasyncapp");
+    }
+
+    private void assertPoolStats(String endpointUri, String path) throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        Exchange exchange = template.request(endpointUri, null);
+        assertExchange(exchange);
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = null;
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=endpoints,*"), null);
+        for (ObjectName name : set) {
+            if (name.getKeyProperty("name").endsWith(path + "\"")) {
+                on = name;
+            }
+        }
+        assertNotNull("Should find the http endpoint", on);
+
+        assertEquals(0, mbeanServer.getAttribute(on, "ClientConnectionsLeased"));
+        assertEquals(1, mbeanServer.getAttribute(on, "ClientConnectionsAvailable"));
+        assertEquals(0, mbeanServer.getAttribute(on, "ClientConnectionsPending"));
+        assertEquals(200, mbeanServer.getAttribute(on, "ClientConnectionsMax"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                String url = "http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+                from("direct:sync").to(url + "/myapp?connectionsPerRoute=5");
+                from("direct:async").to(url + "/myasyncapp?connectionsPerRoute=5&useAsyncHttpClient=true");
+            }
+        };
+    }
+}
@@ -26,12 +26,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
@@ -76,6 +80,9 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
     private boolean allowUnmarshallType;
     private boolean contentTypeHeader = true;
     private TimeZone timezone;
+    private boolean streaming;
+    private volatile ObjectWriter objectWriter;
+    private final ConcurrentMap<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<Class<?>, ObjectReader>();
 
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Object}
@@ -163,7 +170,12 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
     }
 
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
-        this.objectMapper.writerWithView(jsonView).writeValue(stream, graph);
+        ObjectWriter writer = objectWriter;
+        if (writer == null) {
+            writer = this.objectMapper.writerWithView(jsonView);
+            objectWriter = writer;
+        }
+        writer.writeValue(stream, graph);
 
         if (contentTypeHeader) {
             if (exchange.hasOut()) {
@@ -188,12 +200,35 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
-            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            return this.objectMapper.readValue(stream, collType);
-        } else {
+        if (clazz == null) {
             return this.objectMapper.readValue(stream, clazz);
         }
+
+        ObjectReader reader = objectReaders.get(clazz);
+        if (reader == null) {
+            if (collectionType != null && !streaming) {
+                CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
+                reader = this.objectMapper.readerFor(collType);
+            } else {
+                reader = this.objectMapper.readerFor(clazz);
+            }
+            objectReaders.put(clazz, reader);
+        }
+
+        if (streaming) {
+            // the iterator reads the elements of the array one at a time, and closes the stream when its done
+            return reader.readValues(stream);
+        } else {
+            return reader.readValue(stream);
+        }
+    }
+
+    /**
+     * Clears the cached readers and writer, which must be done when their configuration is changed.
+     */
+    private void clearCache() {
+        objectWriter = null;
+        objectReaders.clear();
     }
 
     // Properties
@@ -205,6 +240,7 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
 
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        clearCache();
     }
 
     public boolean isUseDefaultObjectMapper() {
@@ -221,6 +257,7 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
 
     public void setUnmarshalType(Class<?> unmarshalType) {
         this.unmarshalType = unmarshalType;
+        clearCache();
     }
 
     public Class<? extends Collection> getCollectionType() {
@@ -229,6 +266,7 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
 
     public void setCollectionType(Class<? extends Collection> collectionType) {
         this.collectionType = collectionType;
+        clearCache();
     }
 
     public Class<?> getJsonView() {
@@ -237,6 +275,7 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
 
     public void setJsonView(Class<?> jsonView) {
         this.jsonView = jsonView;
+        clearCache();
     }
 
     public String getInclude() {
@@ -398,6 +437,22 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
         this.timezone = timezone;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * If enabled then a JSON array is unmarshalled to an {@link Iterator} which reads the elements
+     * one at a time, instead of reading the whole array into a {@link java.util.List}. This allows to split
+     * big JSON arrays using the streaming mode of the splitter, without keeping all the elements in memory.
+     * <p/>
+     * The unmarshal type is the type of the elements, and the collection type is not in use.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        clearCache();
+    }
+
     public String getEnableFeatures() {
         return enableFeatures;
     }
@@ -592,11 +647,14 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
             LOG.debug("Setting timezone to Object Mapper: {}", timezone);
             objectMapper.setTimeZone(timezone);
         }
+
+        // the object mapper may have been configured so create new readers and writer
+        clearCache();
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        clearCache();
     }
 
 }
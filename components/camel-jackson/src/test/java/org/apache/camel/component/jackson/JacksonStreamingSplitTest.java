@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.jackson.JacksonObjectListSplitTest.DummyObject;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.dataformat.JsonDataFormat;
+import org.apache.camel.model.dataformat.JsonLibrary;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class JacksonStreamingSplitTest extends CamelTestSupport {
+
+    @Test
+    public void testStreamingSplit() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.expectedMessagesMatches(body().isInstanceOf(DummyObject.class));
+
+        template.sendBody("direct:start", new ByteArrayInputStream("[{\"dummy\": \"value1\"}, {\"dummy\": \"value2\"}, {\"dummy\": \"value3\"}]".getBytes()));
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals("value1", mock.getReceivedExchanges().get(0).getIn().getBody(DummyObject.class).getDummy());
+        assertEquals("value3", mock.getReceivedExchanges().get(2).getIn().getBody(DummyObject.class).getDummy());
+    }
+
+    @Test
+    public void testStreamingSplitUsingModel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:model");
+        mock.expectedMessageCount(2);
+        mock.expectedMessagesMatches(body().isInstanceOf(DummyObject.class));
+
+        template.sendBody("direct:model", new ByteArrayInputStream("[{\"dummy\": \"value1\"}, {\"dummy\": \"value2\"}]".getBytes()));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStreamClosedWhenNotRead() throws Exception {
+        final boolean[] closed = new boolean[1];
+        ByteArrayInputStream stream = new ByteArrayInputStream("[{\"dummy\": \"value1\"}]".getBytes()) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+
+        Object body = template.requestBody("direct:unmarshal", stream);
+        assertIsInstanceOf(Iterator.class, body);
+        // the iterator was not read, but the stream is closed when the exchange is done
+        assertTrue("Stream should be closed", closed[0]);
+    }
+
+    @Test
+    public void testStreamingUnmarshal() throws Exception {
+        JacksonDataFormat format = new JacksonDataFormat(DummyObject.class);
+        format.setStreaming(true);
+        format.setCamelContext(context);
+        format.start();
+
+        Object body = format.unmarshal(createExchangeWithBody(null), new ByteArrayInputStream("[{\"dummy\": \"value1\"}]".getBytes()));
+        Iterator<?> it = assertIsInstanceOf(Iterator.class, body);
+        assertTrue(it.hasNext());
+        assertEquals("value1", assertIsInstanceOf(DummyObject.class, it.next()).getDummy());
+        assertFalse(it.hasNext());
+
+        format.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                JacksonDataFormat format = new JacksonDataFormat(DummyObject.class);
+                format.setStreaming(true);
+                from("direct:start").unmarshal(format).split(body()).streaming().to("mock:result");
+
+                from("direct:unmarshal").unmarshal(format);
+
+                JsonDataFormat model = new JsonDataFormat(JsonLibrary.Jackson);
+                model.setUnmarshalType(DummyObject.class);
+                model.setStreaming(true);
+                from("direct:model").unmarshal(model).split(body()).streaming().to("mock:model");
+            }
+        };
+    }
+
+}
@@ -64,6 +64,10 @@ public class JdbcEndpoint extends DefaultEndpoint {
     private String outputClass;
     @UriParam(label = "advanced")
     private BeanRowMapper beanRowMapper = new DefaultBeanRowMapper();
+    @UriParam(label = "advanced")
+    private int writeBatchSize;
+    @UriParam(label = "advanced", defaultValue = "10")
+    private long writeBatchLingerTime = 10;
 
     public JdbcEndpoint() {
     }
@@ -245,6 +249,31 @@ public class JdbcEndpoint extends DefaultEndpoint {
         this.beanRowMapper = beanRowMapper;
     }
 
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer coalesces exchanges which are processed concurrently into JDBC batches
+     * of up to this size, which are executed and committed together. Each exchange gets its own update count or error.
+     * When using useHeadersAsParameters then only exchanges with the same SQL are batched together.
+     * This should only be used for insert, update and delete statements, and is not used for transacted exchanges.
+     */
+    public void setWriteBatchSize(int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    public long getWriteBatchLingerTime() {
+        return writeBatchLingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to be added to a batch before its executed, when writeBatchSize is in use.
+     */
+    public void setWriteBatchLingerTime(long writeBatchLingerTime) {
+        this.writeBatchLingerTime = writeBatchLingerTime;
+    }
+
     public boolean isUseGetBytesForBlob() {
         return this.useGetBytesForBlob;
     }
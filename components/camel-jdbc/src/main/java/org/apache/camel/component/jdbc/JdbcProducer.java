@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.jdbc;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -28,24 +29,34 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.sql.DataSource;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
-import org.apache.camel.impl.DefaultProducer;
+import org.apache.camel.ThreadPoolRejectedPolicy;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.impl.DefaultAsyncProducer;
 import org.apache.camel.spi.Synchronization;
+import org.apache.camel.support.ExchangeBatcher;
 import org.apache.camel.util.IntrospectionSupport;
+import org.apache.camel.util.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * @version
  */
-public class JdbcProducer extends DefaultProducer {
+public class JdbcProducer extends DefaultAsyncProducer {
     private static final Logger LOG = LoggerFactory.getLogger(JdbcProducer.class);
     private DataSource dataSource;
     private int readSize;
     private Map<String, Object> parameters;
+    private ScheduledExecutorService batchExecutor;
+    private ExecutorService callbackExecutor;
+    private ExchangeBatcher<String> batcher;
 
     public JdbcProducer(JdbcEndpoint endpoint, DataSource dataSource, int readSize, Map<String, Object> parameters) throws Exception {
         super(endpoint);
@@ -59,9 +70,69 @@ public class JdbcProducer extends DefaultProducer {
         return (JdbcEndpoint) super.getEndpoint();
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (getEndpoint().getWriteBatchSize() > 0) {
+            batchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultScheduledThreadPool(this, "JdbcProducerWriteBatch");
+            batcher = new ExchangeBatcher<String>(batchExecutor, new ExchangeBatcher.BatchHandler<String>() {
+                public void processBatch(String key, List<Exchange> exchanges) throws Exception {
+                    processWriteBatch(key, exchanges);
+                }
+            });
+            batcher.setBatchSize(getEndpoint().getWriteBatchSize());
+            batcher.setLingerTime(getEndpoint().getWriteBatchLingerTime());
+            // continue routing the exchanges of a batch concurrently, and in the batch thread if the pool is saturated
+            callbackExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this, "JdbcProducerWriteBatchCallback",
+                new ThreadPoolProfileBuilder("JdbcProducerWriteBatchCallback").rejectedPolicy(ThreadPoolRejectedPolicy.Abort).build());
+            batcher.setCallbackExecutor(callbackExecutor);
+            ServiceHelper.startService(batcher);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // stop the batcher first which executes the pending batches
+        ServiceHelper.stopService(batcher);
+        batcher = null;
+        if (batchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(batchExecutor);
+            batchExecutor = null;
+        }
+        if (callbackExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(callbackExecutor);
+            callbackExecutor = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (batcher != null && isWriteBatchSupported(exchange)) {
+                // plain statements can be batched together regardless of their sql
+                String key = getEndpoint().isUseHeadersAsParameters() ? exchange.getIn().getBody(String.class) : "";
+                return batcher.add(key, exchange, callback);
+            }
+            process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    private boolean isWriteBatchSupported(Exchange exchange) {
+        // transacted exchanges must use the connection bound to the transaction
+        return !exchange.isTransacted() && getEndpoint().getOutputType() != JdbcOutputType.StreamList
+            && !exchange.getIn().getHeader(JdbcConstants.JDBC_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+    }
+
     /**
      * Execute sql of exchange and set results on output
      */
+    @Override
     public void process(Exchange exchange) throws Exception {
         if (getEndpoint().isResetAutoCommit()) {
             processingSqlBySettingAutoCommit(exchange);
@@ -243,6 +314,135 @@ public class JdbcProducer extends DefaultProducer {
         return shouldCloseResources;
     }
 
+    /**
+     * Executes the exchanges as a single JDBC batch, and sets the update count or error on each exchange.
+     *
+     * @param sql the sql of all the exchanges when using headers as parameters, otherwise empty
+     */
+    protected void processWriteBatch(String sql, List<Exchange> exchanges) throws Exception {
+        Connection conn = null;
+        Boolean autoCommit = null;
+        Statement stmt = null;
+
+        try {
+            conn = dataSource.getConnection();
+            if (getEndpoint().isResetAutoCommit()) {
+                autoCommit = conn.getAutoCommit();
+                if (autoCommit) {
+                    conn.setAutoCommit(false);
+                }
+            }
+
+            // the exchanges which was added to the batch, as an exchange which cannot be populated fails on its own
+            List<Exchange> added = new ArrayList<Exchange>(exchanges.size());
+            if (getEndpoint().isUseHeadersAsParameters()) {
+                String preparedQuery = getEndpoint().getPrepareStatementStrategy().prepareQuery(sql, getEndpoint().isAllowNamedParameters());
+                PreparedStatement ps = conn.prepareStatement(preparedQuery);
+                stmt = ps;
+                int expectedCount = ps.getParameterMetaData().getParameterCount();
+                for (Exchange exchange : exchanges) {
+                    try {
+                        if (expectedCount > 0) {
+                            Iterator<?> it = getEndpoint().getPrepareStatementStrategy()
+                                    .createPopulateIterator(sql, preparedQuery, expectedCount, exchange, exchange.getIn().getBody());
+                            getEndpoint().getPrepareStatementStrategy().populateStatement(ps, it, expectedCount);
+                        }
+                        ps.addBatch();
+                        added.add(exchange);
+                    } catch (Exception e) {
+                        exchange.setException(e);
+                        ps.clearParameters();
+                    }
+                }
+            } else {
+                stmt = conn.createStatement();
+                if (parameters != null && !parameters.isEmpty()) {
+                    Map<String, Object> copy = new HashMap<String, Object>(parameters);
+                    IntrospectionSupport.setProperties(stmt, copy);
+                }
+                for (Exchange exchange : exchanges) {
+                    try {
+                        stmt.addBatch(exchange.getIn().getBody(String.class));
+                        added.add(exchange);
+                    } catch (Exception e) {
+                        exchange.setException(e);
+                    }
+                }
+            }
+            if (added.isEmpty()) {
+                return;
+            }
+
+            LOG.debug("Executing JDBC batch of {} statements", added.size());
+
+            int[] updateCounts;
+            BatchUpdateException cause = null;
+            try {
+                updateCounts = stmt.executeBatch();
+                if (autoCommit != null) {
+                    conn.commit();
+                }
+            } catch (BatchUpdateException e) {
+                if (autoCommit != null) {
+                    // the entire batch is rolled back, so execute each exchange on its own to find the one(s) which fails
+                    rollbackQuietly(conn);
+                    resetAutoCommit(conn, autoCommit);
+                    autoCommit = null;
+                    closeQuietly(stmt);
+                    stmt = null;
+                    closeQuietly(conn);
+                    conn = null;
+                    for (Exchange exchange : added) {
+                        try {
+                            process(exchange);
+                        } catch (Exception ex) {
+                            exchange.setException(ex);
+                        }
+                    }
+                    return;
+                }
+                cause = e;
+                updateCounts = e.getUpdateCounts() != null ? e.getUpdateCounts() : new int[0];
+            }
+
+            for (int i = 0; i < added.size(); i++) {
+                Exchange exchange = added.get(i);
+                if (i < updateCounts.length && updateCounts[i] != Statement.EXECUTE_FAILED) {
+                    // preserve headers
+                    exchange.getOut().getHeaders().putAll(exchange.getIn().getHeaders());
+                    // and then set the new header
+                    exchange.getOut().setHeader(JdbcConstants.JDBC_UPDATE_COUNT, updateCounts[i]);
+                } else if (i <= updateCounts.length) {
+                    exchange.setException(cause);
+                } else {
+                    // some drivers stop at the first failure, so the remaining exchanges are executed one by one
+                    try {
+                        process(exchange);
+                    } catch (Exception ex) {
+                        exchange.setException(ex);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            rollbackQuietly(conn);
+            throw e;
+        } finally {
+            closeQuietly(stmt);
+            resetAutoCommit(conn, autoCommit);
+            closeQuietly(conn);
+        }
+    }
+
+    private void rollbackQuietly(Connection conn) {
+        try {
+            if (conn != null && !conn.getAutoCommit()) {
+                conn.rollback();
+            }
+        } catch (Throwable sqle) {
+            LOG.warn("Error occurred during jdbc rollback. This exception will be ignored.", sqle);
+        }
+    }
+
     private void closeQuietly(ResultSet rs) {
         if (rs != null) {
             try {
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JdbcProducerWriteBatchTest extends AbstractJdbcTestSupport {
+
+    @Test
+    public void testWriteBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        mock.allMessages().header(JdbcConstants.JDBC_UPDATE_COUNT).isEqualTo(1);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("seda:start", "insert into customer values('batch" + i + "', 'name" + i + "')");
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(23, countCustomers());
+    }
+
+    @Test
+    public void testWriteBatchFailure() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        MockEndpoint error = getMockEndpoint("mock:error");
+        error.expectedBodiesReceived("insert into customer values('cust5', 'thenameistoolong')");
+
+        template.sendBody("seda:start", "insert into customer values('cust4', 'claus')");
+        template.sendBody("seda:start", "insert into customer values('cust5', 'thenameistoolong')");
+        template.sendBody("seda:start", "insert into customer values('cust6', 'willem')");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(5, countCustomers());
+    }
+
+    @Test
+    public void testWriteBatchWithHeaders() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:params");
+        mock.expectedMessageCount(10);
+        mock.allMessages().header(JdbcConstants.JDBC_UPDATE_COUNT).isEqualTo(1);
+
+        for (int i = 0; i < 10; i++) {
+            Map<String, Object> headers = new HashMap<String, Object>();
+            headers.put("id", "param" + i);
+            headers.put("name", "name" + i);
+            template.sendBodyAndHeaders("seda:params", "insert into customer values(:?id, :?name)", headers);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(13, countCustomers());
+    }
+
+    private int countCustomers() {
+        return new JdbcTemplate(db).queryForObject("select count(*) from customer", Integer.class);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                onException(Exception.class).handled(true).to("mock:error");
+
+                from("seda:start?concurrentConsumers=20")
+                    .to("jdbc:testdb?writeBatchSize=5&writeBatchLingerTime=100")
+                    .to("mock:result");
+
+                from("seda:params?concurrentConsumers=10")
+                    .to("jdbc:testdb?useHeadersAsParameters=true&writeBatchSize=5&writeBatchLingerTime=100")
+                    .to("mock:params");
+            }
+        };
+    }
+}
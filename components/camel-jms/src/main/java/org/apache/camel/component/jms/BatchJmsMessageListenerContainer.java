@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+/**
+ * A {@link DefaultJmsMessageListenerContainer} which receives up to
+ * {@link JmsConfiguration#getConsumerBatchSize()} messages, or waits at most
+ * {@link JmsConfiguration#getConsumerBatchTimeout()} millis, within the same JMS session
+ * and delivers them as a batch to the {@link EndpointMessageListener}.
+ * <p/>
+ * As the {@link DefaultMessageListenerContainer} commits (or rollbacks) the session after the
+ * listener has been invoked, the entire batch is committed or rolled back as a single unit of work.
+ */
+public class BatchJmsMessageListenerContainer extends DefaultJmsMessageListenerContainer {
+
+    private final ThreadLocal<List<Message>> batch = new ThreadLocal<>();
+    private final int batchSize;
+    private final long batchTimeout;
+
+    public BatchJmsMessageListenerContainer(JmsEndpoint endpoint) {
+        super(endpoint);
+        this.batchSize = endpoint.getConfiguration().getConsumerBatchSize();
+        this.batchTimeout = endpoint.getConfiguration().getConsumerBatchTimeout();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    @Override
+    protected Message receiveMessage(MessageConsumer consumer) throws JMSException {
+        batch.remove();
+
+        // wait for the first message using the regular receive timeout
+        Message first = super.receiveMessage(consumer);
+        if (first == null) {
+            return null;
+        }
+
+        // and then keep receiving on the same session until the batch is complete or timed out
+        List<Message> messages = new ArrayList<>(batchSize);
+        messages.add(first);
+        long deadline = System.currentTimeMillis() + batchTimeout;
+        while (messages.size() < batchSize) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            Message next = consumer.receive(remaining);
+            if (next == null) {
+                break;
+            }
+            messages.add(next);
+        }
+        logger.trace("Received batch of " + messages.size() + " messages");
+
+        batch.set(messages);
+        return first;
+    }
+
+    @Override
+    protected void invokeListener(Session session, Message message) throws JMSException {
+        List<Message> messages = batch.get();
+        batch.remove();
+
+        if (messages == null) {
+            super.invokeListener(session, message);
+        } else if (getMessageListener() instanceof EndpointMessageListener) {
+            ((EndpointMessageListener) getMessageListener()).onMessages(messages, session);
+        } else {
+            // not a Camel listener so deliver the messages one by one (but still in the same session)
+            for (Message msg : messages) {
+                super.invokeListener(session, msg);
+            }
+        }
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.ArrayList;
+import java.util.List;
 import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -147,6 +149,66 @@ public class EndpointMessageListener implements SessionAwareMessageListener {
         LOG.trace("onMessage END");
     }
 
+    /**
+     * Processes a batch of JMS messages received within the same JMS session as a single grouped exchange.
+     * <p/>
+     * The message body of the grouped exchange is a <tt>List</tt> with an exchange per JMS message, which
+     * is also stored as the {@link Exchange#GROUPED_EXCHANGE} property. The batch is always processed synchronously,
+     * and if the processing failed the exception is rethrown so the JMS listener can rollback the entire batch.
+     * No reply is sent back for messages consumed as a batch.
+     *
+     * @param messages the JMS messages
+     * @param session  the JMS session the messages was received with
+     */
+    public void onMessages(List<Message> messages, Session session) throws JMSException {
+        LOG.trace("onMessages START");
+
+        LOG.debug("{} consumer received batch of {} JMS messages", endpoint, messages.size());
+
+        RuntimeCamelException rce;
+        try {
+            List<Exchange> exchanges = new ArrayList<>(messages.size());
+            for (Message message : messages) {
+                Exchange exchange = createExchange(message, session, null);
+                if (eagerLoadingOfProperties) {
+                    exchange.getIn().getBody();
+                    exchange.getIn().getHeaders();
+                }
+                exchanges.add(exchange);
+            }
+
+            Exchange exchange = endpoint.createExchange();
+            exchange.setProperty(Exchange.BATCH_SIZE, exchanges.size());
+            exchange.setProperty(Exchange.GROUPED_EXCHANGE, exchanges);
+            exchange.getIn().setBody(exchanges);
+
+            // the batch must be processed synchronously as the JMS session is committed when we return
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            if (exchange.isRollbackOnly()) {
+                rce = wrapRuntimeCamelException(new RollbackExchangeException(exchange));
+            } else if (exchange.getException() != null) {
+                rce = wrapRuntimeCamelException(exchange.getException());
+            } else {
+                rce = null;
+            }
+        } catch (Exception e) {
+            rce = wrapRuntimeCamelException(e);
+        }
+
+        // an exception occurred so rethrow to trigger rollback of the batch on JMS listener
+        if (rce != null) {
+            LOG.trace("onMessages END throwing exception: {}", rce.getMessage());
+            throw rce;
+        }
+
+        LOG.trace("onMessages END");
+    }
+
     /**
      * Callback task that is performed when the exchange has been processed
      */
@@ -542,6 +542,21 @@ public class JmsComponent extends HeaderFilterStrategyComponent implements Appli
         getConfiguration().setReplyToOnTimeoutMaxConcurrentConsumers(maxConcurrentConsumers);
     }
 
+    /**
+     * Specifies the number of shards the correlation ids of pending requests are spread over when using request/reply over JMS.
+     * Each shard has its own lock and keeps its correlation ids ordered by timeout, which reduces contention when doing request/reply at high rates.
+     * The reply message listener uses at least one concurrent consumer per shard.
+     * The shards can be monitored from JMX. The default value of 1 uses a single correlation map.
+     */
+    @Metadata(label = "producer,advanced", defaultValue = "1",
+            description = "Specifies the number of shards the correlation ids of pending requests are spread over when using request/reply over JMS."
+                    + " Each shard has its own lock and keeps its correlation ids ordered by timeout, which reduces contention when doing request/reply at high rates."
+                    + " The reply message listener uses at least one concurrent consumer per shard."
+                    + " The shards can be monitored from JMX. The default value of 1 uses a single correlation map.")
+    public void setReplyToCorrelationShards(int replyToCorrelationShards) {
+        getConfiguration().setReplyToCorrelationShards(replyToCorrelationShards);
+    }
+
     /**
      * The number of messages per task. -1 is unlimited.
      * If you use a range for concurrent consumers (eg min < max), then this option can be used to set
@@ -1249,6 +1264,59 @@ public class JmsComponent extends HeaderFilterStrategyComponent implements Appli
         getConfiguration().setFormatDateHeadersToIso8601(formatDateHeadersToIso8601);
     }
 
+    public int getConsumerBatchSize() {
+        return getConfiguration().getConsumerBatchSize();
+    }
+
+    /**
+     * Sets the maximum number of messages to receive within the same JMS session
+     * and route as a single batch. When enabled the messages are routed as a grouped exchange, where the message body
+     * is a List of exchanges (one per JMS message), and the JMS session is committed (or rolled back) once for the entire batch.
+     * No reply is sent back for messages consumed as a batch. This requires consumerType=Default, and is typically used
+     * with transacted=true. The default value of 0 disables batch consuming.
+     */
+    @Metadata(label = "consumer,advanced", description = "Sets the maximum number of messages to receive within the same JMS session"
+        + " and route as a single batch. When enabled the messages are routed as a grouped exchange, where the message body"
+        + " is a List of exchanges (one per JMS message), and the JMS session is committed (or rolled back) once for the entire batch."
+        + " No reply is sent back for messages consumed as a batch. This requires consumerType=Default, and is typically used"
+        + " with transacted=true. The default value of 0 disables batch consuming.")
+    public void setConsumerBatchSize(int consumerBatchSize) {
+        getConfiguration().setConsumerBatchSize(consumerBatchSize);
+    }
+
+    public long getConsumerBatchTimeout() {
+        return getConfiguration().getConsumerBatchTimeout();
+    }
+
+    /**
+     * The maximum time in millis to wait for more messages to complete a batch, when consumerBatchSize is enabled.
+     * The batch is routed when either consumerBatchSize messages has been received or this timeout elapsed
+     * since the first message of the batch was received.
+     */
+    @Metadata(defaultValue = "1000", label = "consumer,advanced", description = "The maximum time in millis to wait for more messages"
+        + " to complete a batch, when consumerBatchSize is enabled. The batch is routed when either consumerBatchSize messages has been received"
+        + " or this timeout elapsed since the first message of the batch was received.")
+    public void setConsumerBatchTimeout(long consumerBatchTimeout) {
+        getConfiguration().setConsumerBatchTimeout(consumerBatchTimeout);
+    }
+
+    public boolean isProducerBatch() {
+        return getConfiguration().isProducerBatch();
+    }
+
+    /**
+     * When enabled and the message body is an Iterable (such as a java.util.List),
+     * then each element is sent as a separate JMS message using the same JMS session and message producer.
+     * In combination with transacted=true, all the messages are committed at once.
+     * Only applicable when sending using InOnly (eg fire and forget).
+     */
+    @Metadata(label = "producer,advanced", description = "When enabled and the message body is an Iterable (such as a java.util.List),"
+        + " then each element is sent as a separate JMS message using the same JMS session and message producer. In combination with"
+        + " transacted=true, all the messages are committed at once. Only applicable when sending using InOnly (eg fire and forget).")
+    public void setProducerBatch(boolean producerBatch) {
+        getConfiguration().setProducerBatch(producerBatch);
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
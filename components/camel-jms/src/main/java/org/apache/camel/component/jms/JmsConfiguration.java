@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.Collections;
+import java.util.List;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.ExceptionListener;
@@ -205,6 +207,12 @@ public class JmsConfiguration implements Cloneable {
     @UriParam(label = "producer", defaultValue = "1",
             description = "Specifies the maximum number of concurrent consumers for continue routing when timeout occurred when using request/reply over JMS.")
     private int replyToOnTimeoutMaxConcurrentConsumers = 1;
+    @UriParam(label = "producer,advanced", defaultValue = "1",
+            description = "Specifies the number of shards the correlation ids of pending requests are spread over when using request/reply over JMS."
+                    + " Each shard has its own lock and keeps its correlation ids ordered by timeout, which reduces contention when doing request/reply at high rates."
+                    + " The reply message listener uses at least one concurrent consumer per shard."
+                    + " The shards can be monitored from JMX. The default value of 1 uses a single correlation map.")
+    private int replyToCorrelationShards = 1;
     // JmsTemplate only
     @UriParam(label = "producer", defaultValue = "false",
             description = "Set if the deliveryMode, priority or timeToLive qualities of service should be used when sending messages."
@@ -493,6 +501,20 @@ public class JmsConfiguration implements Cloneable {
 
     @UriParam(label = "producer", description = "Sets whether JMS date properties should be formatted according to the ISO 8601 standard.")
     private boolean formatDateHeadersToIso8601;
+    @UriParam(label = "consumer,advanced", description = "Sets the maximum number of messages to receive within the same JMS session"
+        + " and route as a single batch. When enabled the messages are routed as a grouped exchange, where the message body"
+        + " is a List of exchanges (one per JMS message), and the JMS session is committed (or rolled back) once for the entire batch."
+        + " No reply is sent back for messages consumed as a batch. This requires consumerType=Default, and is typically used"
+        + " with transacted=true. The default value of 0 disables batch consuming.")
+    private int consumerBatchSize;
+    @UriParam(defaultValue = "1000", label = "consumer,advanced", description = "The maximum time in millis to wait for more messages"
+        + " to complete a batch, when consumerBatchSize is enabled. The batch is routed when either consumerBatchSize messages has been received"
+        + " or this timeout elapsed since the first message of the batch was received.")
+    private long consumerBatchTimeout = 1000;
+    @UriParam(label = "producer,advanced", description = "When enabled and the message body is an Iterable (such as a java.util.List),"
+        + " then each element is sent as a separate JMS message using the same JMS session and message producer. In combination with"
+        + " transacted=true, all the messages are committed at once. Only applicable when sending using InOnly (eg fire and forget).")
+    private boolean producerBatch;
 
     public JmsConfiguration() {
     }
@@ -560,19 +582,58 @@ public class JmsConfiguration implements Cloneable {
             }, false);
         }
 
+        /**
+         * Sends all the messages using the same session and message producer, and commits
+         * the session once after the last message has been sent (if the session is transacted).
+         */
+        public void send(final String destinationName,
+                         final List<MessageCreator> messageCreators,
+                         final MessageSentCallback callback) throws JmsException {
+            execute(new SessionCallback<Object>() {
+                public Object doInJms(Session session) throws JMSException {
+                    Destination destination = resolveDestinationName(session, destinationName);
+                    return doSendToDestination(destination, messageCreators, callback, session);
+                }
+            }, false);
+        }
+
+        /**
+         * Sends all the messages using the same session and message producer, and commits
+         * the session once after the last message has been sent (if the session is transacted).
+         */
+        public void send(final Destination destination,
+                         final List<MessageCreator> messageCreators,
+                         final MessageSentCallback callback) throws JmsException {
+            execute(new SessionCallback<Object>() {
+                public Object doInJms(Session session) throws JMSException {
+                    return doSendToDestination(destination, messageCreators, callback, session);
+                }
+            }, false);
+        }
+
         private Object doSendToDestination(final Destination destination,
                                            final MessageCreator messageCreator,
                                            final MessageSentCallback callback,
                                            final Session session) throws JMSException {
 
             Assert.notNull(messageCreator, "MessageCreator must not be null");
+            return doSendToDestination(destination, Collections.singletonList(messageCreator), callback, session);
+        }
+
+        private Object doSendToDestination(final Destination destination,
+                                           final List<MessageCreator> messageCreators,
+                                           final MessageSentCallback callback,
+                                           final Session session) throws JMSException {
+
+            Assert.notNull(messageCreators, "MessageCreators must not be null");
             MessageProducer producer = createProducer(session, destination);
-            Message message;
             try {
-                message = messageCreator.createMessage(session);
-                doSend(producer, message);
-                if (message != null && callback != null) {
-                    callback.sent(session, message, destination);
+                for (MessageCreator messageCreator : messageCreators) {
+                    Message message = messageCreator.createMessage(session);
+                    doSend(producer, message);
+                    if (message != null && callback != null) {
+                        callback.sent(session, message, destination);
+                    }
                 }
                 // Check commit - avoid commit call within a JTA transaction.
                 if (session.getTransacted() && isSessionLocallyTransacted(session)) {
@@ -742,8 +803,14 @@ public class JmsConfiguration implements Cloneable {
     public AbstractMessageListenerContainer chooseMessageListenerContainerImplementation(JmsEndpoint endpoint) {
         switch (consumerType) {
         case Simple:
+            if (consumerBatchSize > 0) {
+                throw new IllegalArgumentException("Property consumerBatchSize is only supported with consumerType=Default");
+            }
             return new SimpleJmsMessageListenerContainer(endpoint);
         case Default:
+            if (consumerBatchSize > 0) {
+                return new BatchJmsMessageListenerContainer(endpoint);
+            }
             return new DefaultJmsMessageListenerContainer(endpoint);
         case Custom:
             return getCustomMessageListenerContainer(endpoint);
@@ -1211,6 +1278,20 @@ public class JmsConfiguration implements Cloneable {
         this.replyToOnTimeoutMaxConcurrentConsumers = replyToOnTimeoutMaxConcurrentConsumers;
     }
 
+    public int getReplyToCorrelationShards() {
+        return replyToCorrelationShards;
+    }
+
+    /**
+     * Specifies the number of shards the correlation ids of pending requests are spread over when using request/reply over JMS.
+     * Each shard has its own lock and keeps its correlation ids ordered by timeout, which reduces contention when doing request/reply at high rates.
+     * The reply message listener uses at least one concurrent consumer per shard.
+     * The shards can be monitored from JMX. The default value of 1 uses a single correlation map.
+     */
+    public void setReplyToCorrelationShards(int replyToCorrelationShards) {
+        this.replyToCorrelationShards = replyToCorrelationShards;
+    }
+
     public boolean isExplicitQosEnabled() {
         return explicitQosEnabled != null ? explicitQosEnabled : false;
     }
@@ -2233,4 +2314,46 @@ public class JmsConfiguration implements Cloneable {
         this.formatDateHeadersToIso8601 = formatDateHeadersToIso8601;
     }
 
+    public int getConsumerBatchSize() {
+        return consumerBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of messages to receive within the same JMS session
+     * and route as a single batch. When enabled the messages are routed as a grouped exchange, where the message body
+     * is a List of exchanges (one per JMS message), and the JMS session is committed (or rolled back) once for the entire batch.
+     * No reply is sent back for messages consumed as a batch. This requires consumerType=Default, and is typically used
+     * with transacted=true. The default value of 0 disables batch consuming.
+     */
+    public void setConsumerBatchSize(int consumerBatchSize) {
+        this.consumerBatchSize = consumerBatchSize;
+    }
+
+    public long getConsumerBatchTimeout() {
+        return consumerBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more messages to complete a batch, when consumerBatchSize is enabled.
+     * The batch is routed when either consumerBatchSize messages has been received or this timeout elapsed
+     * since the first message of the batch was received.
+     */
+    public void setConsumerBatchTimeout(long consumerBatchTimeout) {
+        this.consumerBatchTimeout = consumerBatchTimeout;
+    }
+
+    public boolean isProducerBatch() {
+        return producerBatch;
+    }
+
+    /**
+     * When enabled and the message body is an Iterable (such as a java.util.List),
+     * then each element is sent as a separate JMS message using the same JMS session and message producer.
+     * In combination with transacted=true, all the messages are committed at once.
+     * Only applicable when sending using InOnly (eg fire and forget).
+     */
+    public void setProducerBatch(boolean producerBatch) {
+        this.producerBatch = producerBatch;
+    }
+
 }
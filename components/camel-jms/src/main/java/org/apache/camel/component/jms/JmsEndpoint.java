@@ -620,6 +620,11 @@ public class JmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Heade
         return getConfiguration().getReplyToOnTimeoutMaxConcurrentConsumers();
     }
 
+    @ManagedAttribute
+    public int getReplyToCorrelationShards() {
+        return getConfiguration().getReplyToCorrelationShards();
+    }
+
     @ManagedAttribute
     public int getMaxMessagesPerTask() {
         return getConfiguration().getMaxMessagesPerTask();
@@ -940,6 +945,11 @@ public class JmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Heade
         getConfiguration().setReplyToMaxConcurrentConsumers(maxConcurrentConsumers);
     }
 
+    @ManagedAttribute
+    public void setReplyToCorrelationShards(int replyToCorrelationShards) {
+        getConfiguration().setReplyToCorrelationShards(replyToCorrelationShards);
+    }
+
     @ManagedAttribute
     public void setMaxMessagesPerTask(int maxMessagesPerTask) {
         getConfiguration().setMaxMessagesPerTask(maxMessagesPerTask);
@@ -1342,6 +1352,36 @@ public class JmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Heade
         configuration.setFormatDateHeadersToIso8601(formatDateHeadersToIso8601);
     }
 
+    @ManagedAttribute
+    public int getConsumerBatchSize() {
+        return configuration.getConsumerBatchSize();
+    }
+
+    @ManagedAttribute
+    public void setConsumerBatchSize(int consumerBatchSize) {
+        configuration.setConsumerBatchSize(consumerBatchSize);
+    }
+
+    @ManagedAttribute
+    public long getConsumerBatchTimeout() {
+        return configuration.getConsumerBatchTimeout();
+    }
+
+    @ManagedAttribute
+    public void setConsumerBatchTimeout(long consumerBatchTimeout) {
+        configuration.setConsumerBatchTimeout(consumerBatchTimeout);
+    }
+
+    @ManagedAttribute
+    public boolean isProducerBatch() {
+        return configuration.isProducerBatch();
+    }
+
+    @ManagedAttribute
+    public void setProducerBatch(boolean producerBatch) {
+        configuration.setProducerBatch(producerBatch);
+    }
+
     // Implementation methods
     //-------------------------------------------------------------------------
 
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -39,6 +41,7 @@ import org.apache.camel.component.jms.reply.ReplyManager;
 import org.apache.camel.component.jms.reply.TemporaryQueueReplyManager;
 import org.apache.camel.component.jms.reply.UseMessageIdAsCorrelationIdMessageSentCallback;
 import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.impl.DefaultMessage;
 import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.ServiceHelper;
@@ -322,7 +325,35 @@ public class JmsProducer extends DefaultAsyncProducer {
         MessageSentCallback messageSentCallback = getEndpoint().getConfiguration().isIncludeSentJMSMessageID()
                 ? new InOnlyMessageSentCallback(exchange) : null;
 
-        MessageCreator messageCreator = new MessageCreator() {
+        if (endpoint.getConfiguration().isProducerBatch() && in.getBody() instanceof Iterable) {
+            // send each element as a JMS message using the same session and producer
+            List<MessageCreator> messageCreators = new ArrayList<>();
+            for (Object element : in.getBody(Iterable.class)) {
+                DefaultMessage message = new DefaultMessage(exchange.getContext());
+                message.copyFromWithNewBody(in, element);
+                messageCreators.add(createInOnlyMessageCreator(exchange, message, to));
+            }
+            LOG.debug("Sending batch of {} JMS messages to: {}", messageCreators.size(), to);
+            doSendBatch(destinationName, destination, messageCreators, messageSentCallback);
+        } else {
+            MessageCreator messageCreator = createInOnlyMessageCreator(exchange, in, to);
+            doSend(false, destinationName, destination, messageCreator, messageSentCallback);
+        }
+
+        // after sending then set the OUT message id to the JMSMessageID so its identical
+        setMessageId(exchange);
+
+        // we are synchronous so return true
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Creates the {@link MessageCreator} which creates the JMS message to send from the given Camel message
+     * when using InOnly.
+     */
+    protected MessageCreator createInOnlyMessageCreator(final Exchange exchange, final org.apache.camel.Message in, final String to) {
+        return new MessageCreator() {
             public Message createMessage(Session session) throws JMSException {
                 Message answer = endpoint.getBinding().makeJmsMessage(exchange, in, session, null);
 
@@ -390,15 +421,29 @@ public class JmsProducer extends DefaultAsyncProducer {
                 return answer;
             }
         };
+    }
 
-        doSend(false, destinationName, destination, messageCreator, messageSentCallback);
+    /**
+     * Sends the messages using the InOnly JmsTemplate within the same session.
+     *
+     * @param destinationName the destination name
+     * @param destination     the destination (if no name provided)
+     * @param messageCreators the creators to create the {@link Message}s to send
+     * @param callback        optional callback to invoke when each message has been sent
+     */
+    protected void doSendBatch(String destinationName, Destination destination,
+                               List<MessageCreator> messageCreators, MessageSentCallback callback) {
 
-        // after sending then set the OUT message id to the JMSMessageID so its identical
-        setMessageId(exchange);
+        CamelJmsTemplate template = (CamelJmsTemplate) getInOnlyTemplate();
 
-        // we are synchronous so return true
-        callback.done(true);
-        return true;
+        // destination should be preferred
+        if (destination != null) {
+            template.send(destination, messageCreators, callback);
+        } else if (destinationName != null) {
+            template.send(destinationName, messageCreators, callback);
+        } else {
+            throw new IllegalArgumentException("Neither destination nor destinationName is specified on this endpoint: " + endpoint);
+        }
     }
 
     /**
@@ -29,10 +29,12 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.Service;
 import org.apache.camel.component.jms.JmsConstants;
 import org.apache.camel.component.jms.JmsEndpoint;
 import org.apache.camel.component.jms.JmsMessage;
 import org.apache.camel.component.jms.JmsMessageHelper;
+import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ServiceSupport;
 import org.apache.camel.util.ExchangeHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -259,6 +261,58 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         return answer;
     }
 
+    /**
+     * Creates the map used for correlating the reply messages, which is sharded
+     * if {@link org.apache.camel.component.jms.JmsConfiguration#getReplyToCorrelationShards()} is higher than 1.
+     */
+    protected CorrelationTimeoutMap createCorrelationTimeoutMap() {
+        int shards = endpoint.getReplyToCorrelationShards();
+        if (shards > 1) {
+            String name = endpoint.getReplyTo() != null ? endpoint.getReplyTo() : "temporary";
+            log.debug("Using {} correlation shards for replies from: {}", shards, name);
+            return new ShardedCorrelationTimeoutMap(name, scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService, shards);
+        }
+        return new CorrelationTimeoutMap(scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService);
+    }
+
+    /**
+     * The number of concurrent consumers for the reply listener, which is at least one consumer per correlation shard.
+     */
+    protected int getReplyToConcurrentConsumers() {
+        return Math.max(endpoint.getReplyToConcurrentConsumers(), endpoint.getReplyToCorrelationShards());
+    }
+
+    private void manageObject(Service service) {
+        // the reply manager is created on demand, so we must register it in JMX manually
+        ManagementStrategy strategy = camelContext.getManagementStrategy();
+        if (strategy == null || strategy.getManagementAgent() == null) {
+            return;
+        }
+        try {
+            Object managedObject = strategy.getManagementObjectStrategy().getManagedObjectForService(camelContext, service);
+            if (managedObject != null && !strategy.isManaged(managedObject, null)) {
+                strategy.manageObject(managedObject);
+            }
+        } catch (Exception e) {
+            log.warn("Could not register service: " + service + " as Service MBean.", e);
+        }
+    }
+
+    private void unmanageObject(Service service) {
+        ManagementStrategy strategy = camelContext.getManagementStrategy();
+        if (strategy == null || strategy.getManagementAgent() == null) {
+            return;
+        }
+        try {
+            Object managedObject = strategy.getManagementObjectStrategy().getManagedObjectForService(camelContext, service);
+            if (managedObject != null) {
+                strategy.unmanageObject(managedObject);
+            }
+        } catch (Exception e) {
+            log.warn("Could not unregister service: " + service + " as Service MBean.", e);
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         ObjectHelper.notNull(executorService, "executorService", this);
@@ -268,8 +322,11 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         // timeout map to use for purging messages which have timed out, while waiting for an expected reply
         // when doing request/reply over JMS
         log.trace("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
-        correlation = new CorrelationTimeoutMap(scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService);
+        correlation = createCorrelationTimeoutMap();
         ServiceHelper.startService(correlation);
+        if (correlation instanceof ShardedCorrelationTimeoutMap) {
+            manageObject(correlation);
+        }
 
         // create JMS listener and start it
         listenerContainer = createListenerContainer();
@@ -282,6 +339,9 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
 
     @Override
     protected void doStop() throws Exception {
+        if (correlation instanceof ShardedCorrelationTimeoutMap) {
+            unmanageObject(correlation);
+        }
         ServiceHelper.stopService(correlation);
 
         if (listenerContainer != null) {
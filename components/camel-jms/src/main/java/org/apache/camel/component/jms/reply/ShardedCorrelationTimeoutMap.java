@@ -0,0 +1,375 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms.reply;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A {@link CorrelationTimeoutMap} which spreads the correlation ids over a number of shards.
+ * <p/>
+ * The {@link CorrelationTimeoutMap} guards all its operations, including the purge task which scans
+ * the entire map for timed out entries, with a single lock. When doing request/reply over JMS at high rates
+ * that lock becomes contended. By sharding the correlation ids each shard has its own lock, so registering
+ * and correlating only contends with operations on the same shard.
+ * <p/>
+ * Each shard also keeps its correlation ids ordered by their expire time, so the purge task only visits
+ * the timed out correlation ids instead of scanning all the pending ones.
+ */
+@ManagedResource(description = "Managed JMS reply correlation shards")
+public class ShardedCorrelationTimeoutMap extends CorrelationTimeoutMap {
+
+    private final String name;
+    private final Shard[] shards;
+    private volatile CorrelationListener listener;
+
+    public ShardedCorrelationTimeoutMap(String name, ScheduledExecutorService executor, long requestMapPollTimeMillis,
+                                        ExecutorService executorService, int shardCount) {
+        super(executor, requestMapPollTimeMillis, executorService);
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("The number of shards must be >= 1, was: " + shardCount);
+        }
+        this.name = name;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    @Override
+    public void setListener(CorrelationListener listener) {
+        super.setListener(listener);
+        this.listener = listener;
+    }
+
+    @Override
+    public ReplyHandler get(String key) {
+        ReplyHandler answer = shardFor(key).get(key, currentTime());
+        log.trace("Get correlationID: {} -> {}", key, answer != null);
+        return answer;
+    }
+
+    @Override
+    public ReplyHandler put(String key, ReplyHandler value, long timeoutMillis) {
+        onPut(key);
+        ReplyHandler result = shardFor(key).put(key, value, currentTime(), timeout(timeoutMillis), false);
+        log.trace("Added correlationID: {} to timeout after: {} millis", key, timeoutMillis);
+        return result;
+    }
+
+    @Override
+    public ReplyHandler putIfAbsent(String key, ReplyHandler value, long timeoutMillis) {
+        onPut(key);
+        ReplyHandler result = shardFor(key).put(key, value, currentTime(), timeout(timeoutMillis), true);
+        if (result == null) {
+            log.trace("Added correlationID: {} to timeout after: {} millis", key, timeoutMillis);
+        } else {
+            log.trace("Duplicate correlationID: {} detected", key);
+        }
+        return result;
+    }
+
+    @Override
+    public ReplyHandler remove(String key) {
+        try {
+            if (listener != null) {
+                listener.onRemove(key);
+            }
+        } catch (Throwable e) {
+            // ignore
+        }
+
+        ReplyHandler answer = shardFor(key).remove(key);
+        log.trace("Removed correlationID: {} -> {}", key, answer != null);
+        return answer;
+    }
+
+    @Override
+    public Object[] getKeys() {
+        List<Object> keys = new ArrayList<>();
+        for (Shard shard : shards) {
+            shard.addKeys(keys);
+        }
+        return keys.toArray();
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void purge() {
+        long now = currentTime();
+        for (Shard shard : shards) {
+            // the timed out entries are removed from the shard before the timeout is triggered outside its lock
+            for (Entry entry : shard.pollExpired(now)) {
+                log.debug("Evicting inactive correlationID: {}", entry.key);
+                try {
+                    onEviction(entry.key, entry.value);
+                } catch (Throwable t) {
+                    log.warn("Exception happened during eviction of correlationID: " + entry.key + ". This exception is ignored.", t);
+                }
+            }
+        }
+    }
+
+    @ManagedAttribute(description = "The destination the replies are correlated for")
+    public String getName() {
+        return name;
+    }
+
+    @ManagedAttribute(description = "Number of correlation ids waiting for a reply")
+    public int getSize() {
+        return size();
+    }
+
+    @ManagedAttribute(description = "Number of shards")
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    @ManagedOperation(description = "Statistics per shard")
+    public TabularData shardStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(shardsTabularType());
+            CompositeType ct = shardsCompositeType();
+            for (int i = 0; i < shards.length; i++) {
+                Shard shard = shards[i];
+                CompositeData data = new CompositeDataSupport(ct,
+                        new String[]{"index", "size", "registered", "removed", "timedOut"},
+                        new Object[]{i, shard.size(), shard.registered.get(), shard.removed.get(), shard.timedOut.get()});
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        for (Shard shard : shards) {
+            shard.clear();
+        }
+    }
+
+    private void onPut(String key) {
+        try {
+            if (listener != null) {
+                listener.onPut(key);
+            }
+        } catch (Throwable e) {
+            // ignore
+        }
+    }
+
+    private static long timeout(long timeoutMillis) {
+        // no timeout (must use Integer.MAX_VALUE)
+        return timeoutMillis <= 0 ? Integer.MAX_VALUE : timeoutMillis;
+    }
+
+    private Shard shardFor(String key) {
+        // spread the hash code as correlation ids often only differ in the last characters
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return shards[(hash & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private static TabularType shardsTabularType() throws OpenDataException {
+        CompositeType ct = shardsCompositeType();
+        return new TabularType("shards", "Statistics per shard", ct, new String[]{"index"});
+    }
+
+    private static CompositeType shardsCompositeType() throws OpenDataException {
+        return new CompositeType("shards", "Shards",
+                new String[]{"index", "size", "registered", "removed", "timedOut"},
+                new String[]{"Index", "Size", "Registered", "Removed", "Timed Out"},
+                new OpenType[]{SimpleType.INTEGER, SimpleType.INTEGER, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG});
+    }
+
+    /**
+     * A correlation id waiting for a reply.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final String key;
+        private final ReplyHandler value;
+        private final long timeout;
+        private long expireTime;
+        // orders the entries which expire at the same time
+        private long sequence;
+
+        private Entry(String key, ReplyHandler value, long timeout) {
+            this.key = key;
+            this.value = value;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int answer = Long.compare(expireTime, other.expireTime);
+            return answer != 0 ? answer : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * A single shard which keeps its entries ordered by expire time, and keeps statistics about its usage.
+     */
+    private static final class Shard {
+
+        private final Lock lock = new ReentrantLock();
+        private final Map<String, Entry> entries = new HashMap<>();
+        private final TreeSet<Entry> expireOrder = new TreeSet<>();
+        private final AtomicLong registered = new AtomicLong();
+        private final AtomicLong removed = new AtomicLong();
+        private final AtomicLong timedOut = new AtomicLong();
+        private long sequence;
+
+        ReplyHandler get(String key, long now) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                // a lookup extends the expire time, as with the other timeout maps
+                expireOrder.remove(entry);
+                schedule(entry, now);
+                return entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        ReplyHandler put(String key, ReplyHandler value, long now, long timeout, boolean onlyIfAbsent) {
+            lock.lock();
+            try {
+                Entry existing = entries.get(key);
+                if (existing != null) {
+                    if (onlyIfAbsent) {
+                        return existing.value;
+                    }
+                    expireOrder.remove(existing);
+                }
+                Entry entry = new Entry(key, value, timeout);
+                entries.put(key, entry);
+                schedule(entry, now);
+                registered.incrementAndGet();
+                return existing != null ? existing.value : null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        ReplyHandler remove(String key) {
+            lock.lock();
+            try {
+                Entry entry = entries.remove(key);
+                if (entry == null) {
+                    return null;
+                }
+                expireOrder.remove(entry);
+                removed.incrementAndGet();
+                return entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Removes the entries which expired before the given time, visiting only those entries.
+         */
+        List<Entry> pollExpired(long now) {
+            List<Entry> expired = new ArrayList<>();
+            lock.lock();
+            try {
+                Entry first = expireOrder.isEmpty() ? null : expireOrder.first();
+                while (first != null && first.expireTime < now) {
+                    expireOrder.pollFirst();
+                    entries.remove(first.key);
+                    expired.add(first);
+                    first = expireOrder.isEmpty() ? null : expireOrder.first();
+                }
+            } finally {
+                lock.unlock();
+            }
+            timedOut.addAndGet(expired.size());
+            return expired;
+        }
+
+        private void schedule(Entry entry, long now) {
+            entry.expireTime = now + entry.timeout;
+            entry.sequence = sequence++;
+            expireOrder.add(entry);
+        }
+
+        void addKeys(List<Object> keys) {
+            lock.lock();
+            try {
+                keys.addAll(entries.keySet());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+                expireOrder.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
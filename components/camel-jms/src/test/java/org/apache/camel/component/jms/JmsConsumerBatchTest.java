@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.jms.ConnectionFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+public class JmsConsumerBatchTest extends CamelTestSupport {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    public void testConsumerBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedMessageCount(2);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("activemq:queue:batch", "Message " + i);
+        }
+        context.startRoute("batch");
+
+        assertMockEndpointsSatisfied();
+
+        int counter = 0;
+        for (Exchange batch : mock.getReceivedExchanges()) {
+            List<?> exchanges = batch.getIn().getBody(List.class);
+            assertEquals(5, exchanges.size());
+            assertEquals(5, batch.getProperty(Exchange.BATCH_SIZE));
+            assertSame(exchanges, batch.getProperty(Exchange.GROUPED_EXCHANGE));
+            for (Object exchange : exchanges) {
+                assertEquals("Message " + counter++, ((Exchange) exchange).getIn().getBody(String.class));
+            }
+        }
+    }
+
+    @Test
+    public void testConsumerBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("activemq:queue:timeout", "A");
+        template.sendBody("activemq:queue:timeout", "B");
+        template.sendBody("activemq:queue:timeout", "C");
+        context.startRoute("timeout");
+
+        assertMockEndpointsSatisfied();
+
+        // the batch is not complete so it should be routed when the timeout triggers
+        List<?> exchanges = mock.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(3, exchanges.size());
+    }
+
+    @Test
+    public void testConsumerBatchRollback() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:rollback");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C");
+
+        template.sendBody("activemq:queue:rollback", "A");
+        template.sendBody("activemq:queue:rollback", "B");
+        template.sendBody("activemq:queue:rollback", "C");
+        context.startRoute("rollback");
+
+        assertMockEndpointsSatisfied();
+
+        // the first batch was rolled back and then redelivered
+        assertTrue("Should have at least 2 attempts", attempts.get() >= 2);
+    }
+
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createPooledConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("activemq:queue:batch?consumerBatchSize=5&consumerBatchTimeout=5000&transacted=true")
+                    .routeId("batch").noAutoStartup()
+                    .to("mock:batch");
+
+                from("activemq:queue:timeout?consumerBatchSize=100&consumerBatchTimeout=500&transacted=true")
+                    .routeId("timeout").noAutoStartup()
+                    .to("mock:timeout");
+
+                from("activemq:queue:rollback?consumerBatchSize=5&consumerBatchTimeout=500&transacted=true")
+                    .routeId("rollback").noAutoStartup()
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            if (attempts.incrementAndGet() == 1) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                            List<String> bodies = new ArrayList<>();
+                            for (Object grouped : exchange.getIn().getBody(List.class)) {
+                                bodies.add(((Exchange) grouped).getIn().getBody(String.class));
+                            }
+                            exchange.getIn().setBody(bodies);
+                        }
+                    })
+                    .split(body())
+                        .to("mock:rollback");
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.jms.ConnectionFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+public class JmsRequestReplyShardedCorrelationTest extends CamelTestSupport {
+
+    private final int size = 100;
+    private final CountDownLatch latch = new CountDownLatch(size);
+
+    @Override
+    protected boolean useJmx() {
+        return true;
+    }
+
+    protected MBeanServer getMBeanServer() {
+        return context.getManagementStrategy().getManagementAgent().getMBeanServer();
+    }
+
+    @Test
+    public void testShardedCorrelation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        for (int i = 0; i < size; i++) {
+            final Integer num = i;
+            executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    String reply = template.requestBody("direct:start", "" + num, String.class);
+                    assertEquals("Hello " + num, reply);
+                    latch.countDown();
+                }
+            });
+        }
+
+        // if any of the assertions above fails then the latch will not get decremented
+        assertTrue("All assertions outside the main thread above should have passed", latch.await(20, TimeUnit.SECONDS));
+        executor.shutdownNow();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        Set<ObjectName> names = mbeanServer.queryNames(new ObjectName("org.apache.camel:context=camel-*,type=services,name=ShardedCorrelationTimeoutMap*"), null);
+        assertEquals(1, names.size());
+        ObjectName name = names.iterator().next();
+
+        assertEquals(4, mbeanServer.getAttribute(name, "ShardCount"));
+        assertEquals(0, mbeanServer.getAttribute(name, "Size"));
+        assertEquals("temporary", mbeanServer.getAttribute(name, "Name"));
+
+        TabularData data = (TabularData) mbeanServer.invoke(name, "shardStatistics", null, null);
+        assertEquals(4, data.size());
+
+        long registered = 0;
+        long removed = 0;
+        for (Object row : data.values()) {
+            CompositeData shard = (CompositeData) row;
+            // the correlation ids should be spread over all the shards
+            assertTrue("Shard should be in use: " + shard, (Long) shard.get("registered") > 0);
+            registered += (Long) shard.get("registered");
+            removed += (Long) shard.get("removed");
+            assertEquals(0L, shard.get("timedOut"));
+        }
+        assertEquals(size, registered);
+        assertEquals(size, removed);
+    }
+
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("activemq:queue:foo?replyToCorrelationShards=4")
+                    .to("mock:reply");
+
+                from("activemq:queue:foo?concurrentConsumers=5")
+                    .transform(body().prepend("Hello "));
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms.reply;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.jms.Message;
+import javax.jms.Session;
+
+import org.apache.camel.util.ServiceHelper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShardedCorrelationTimeoutMapTest extends Assert {
+
+    private ScheduledExecutorService executor;
+    private ShardedCorrelationTimeoutMap map;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newScheduledThreadPool(1);
+        map = new ShardedCorrelationTimeoutMap("test", executor, 50, null, 4);
+        ServiceHelper.startService(map);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ServiceHelper.stopService(map);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPutGetRemove() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            map.put("ID:" + i, new MyReplyHandler(null), 60000);
+        }
+        assertEquals(20, map.size());
+        assertEquals(20, map.getKeys().length);
+        assertNotNull(map.get("ID:7"));
+        assertNull(map.putIfAbsent("ID:20", new MyReplyHandler(null), 60000));
+        assertNotNull(map.putIfAbsent("ID:20", new MyReplyHandler(null), 60000));
+
+        for (int i = 0; i <= 20; i++) {
+            assertNotNull(map.remove("ID:" + i));
+        }
+        assertEquals(0, map.size());
+        assertNull(map.get("ID:7"));
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        CountDownLatch latch = new CountDownLatch(10);
+        MyReplyHandler handler = new MyReplyHandler(latch);
+        for (int i = 0; i < 10; i++) {
+            map.put("ID:" + i, handler, 100);
+        }
+
+        assertTrue("Should have timed out all correlation ids", latch.await(5, TimeUnit.SECONDS));
+        assertEquals(10, handler.timeouts.size());
+
+        // the entries are removed from the shards before the timeout is triggered
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimeoutOnlyExpired() throws Exception {
+        CountDownLatch latch = new CountDownLatch(10);
+        MyReplyHandler handler = new MyReplyHandler(latch);
+        for (int i = 0; i < 20; i++) {
+            map.put("ID:" + i, handler, i % 2 == 0 ? 100 : 60000);
+        }
+
+        assertTrue("Should have timed out the short correlation ids", latch.await(5, TimeUnit.SECONDS));
+        assertEquals(10, map.size());
+        for (String id : handler.timeouts) {
+            assertEquals(0, Integer.parseInt(id.substring(3)) % 2);
+        }
+        for (int i = 1; i < 20; i += 2) {
+            assertNotNull(map.get("ID:" + i));
+        }
+    }
+
+    private static final class MyReplyHandler implements ReplyHandler {
+
+        private final CountDownLatch latch;
+        private final List<String> timeouts = new CopyOnWriteArrayList<>();
+
+        private MyReplyHandler(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void onReply(String correlationId, Message reply, Session session) {
+        }
+
+        @Override
+        public void onTimeout(String correlationId) {
+            timeouts.add(correlationId);
+            latch.countDown();
+        }
+    }
+}
@@ -18,9 +18,14 @@ package org.apache.camel.component.leveldb;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
@@ -53,6 +58,9 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
     private int maximumRedeliveries;
     private String deadLetterUri;
     private boolean allowSerializedHeaders;
+    private boolean appendDelta;
+    // the size of the list body stored for each key, which is used in append delta mode
+    private final ConcurrentMap<String, Integer> storedSizes = new ConcurrentHashMap<String, Integer>();
 
     /**
      * Creates an aggregation repository
@@ -101,6 +109,11 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         LOG.debug("Adding key [{}] -> {}", key, exchange);
         try {
             byte[] lDbKey = keyBuilder(repositoryName, key);
+
+            if (isAppendDelta()) {
+                return addWithDelta(camelContext, key, lDbKey, exchange);
+            }
+
             final Buffer exchangeBuffer = codec.marshallExchange(camelContext, exchange, allowSerializedHeaders);
 
             byte[] rc = null;
@@ -127,6 +140,47 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return null;
     }
 
+    private Exchange addWithDelta(final CamelContext camelContext, final String key, final byte[] lDbKey, final Exchange exchange) throws IOException {
+        Exchange old = null;
+        if (isReturnOldExchange()) {
+            old = get(camelContext, key);
+        }
+
+        Integer stored = storedSizes.get(key);
+        Object body = exchange.getIn().getBody();
+        if (stored != null && body instanceof List && !exchange.hasOut() && ((List<?>) body).size() >= stored) {
+            // only store the elements appended since last time, together with the current headers and properties
+            List<?> list = (List<?>) body;
+            Exchange delta = exchange.copy();
+            delta.getIn().setBody(new ArrayList<Object>(list.subList(stored, list.size())));
+            final Buffer deltaBuffer = codec.marshallExchange(camelContext, delta, allowSerializedHeaders);
+
+            LOG.trace("Adding delta at offset {} for key index {} for repository {}", stored, key, repositoryName);
+            levelDBFile.getDb().put(deltaKeyBuilder(key, stored), deltaBuffer.toByteArray(), levelDBFile.getWriteOptions());
+            LOG.trace("Added delta for key index {}", key);
+        } else {
+            final Buffer exchangeBuffer = codec.marshallExchange(camelContext, exchange, allowSerializedHeaders);
+
+            LOG.trace("Adding key index {} for repository {}", key, repositoryName);
+            WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+            try {
+                removeDeltas(batch, key);
+                batch.put(lDbKey, exchangeBuffer.toByteArray());
+                levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+            } finally {
+                batch.close();
+            }
+            LOG.trace("Added key index {}", key);
+        }
+
+        if (body instanceof List) {
+            storedSizes.put(key, ((List<?>) body).size());
+        } else {
+            storedSizes.remove(key);
+        }
+        return old;
+    }
+
     public Exchange get(final CamelContext camelContext, final String key) {
         Exchange answer = null;
 
@@ -137,6 +191,9 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
             if (rc != null) {
                 answer = codec.unmarshallExchange(camelContext, new Buffer(rc));
+                if (isAppendDelta()) {
+                    mergeDeltas(camelContext, key, answer);
+                }
             }
         } catch (IOException e) {
             throw new RuntimeException("Error getting key " + key + " from repository " + repositoryName, e);
@@ -146,6 +203,61 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return answer;
     }
 
+    @SuppressWarnings("unchecked")
+    private void mergeDeltas(final CamelContext camelContext, final String key, final Exchange answer) throws IOException {
+        Object body = answer.getIn().getBody();
+        if (!(body instanceof List)) {
+            storedSizes.remove(key);
+            return;
+        }
+
+        List<Object> merged = null;
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = asString(deltaKeyBuilder(key, null));
+            for (it.seek(deltaKeyBuilder(key, null)); it.hasNext(); it.next()) {
+                Map.Entry<byte[], byte[]> entry = it.peekNext();
+                if (!asString(entry.getKey()).startsWith(prefix)) {
+                    break;
+                }
+                if (merged == null) {
+                    merged = new ArrayList<Object>((List<Object>) body);
+                }
+                Exchange delta = codec.unmarshallExchange(camelContext, new Buffer(entry.getValue()));
+                merged.addAll(delta.getIn().getBody(List.class));
+                // the latest delta has the current headers and properties
+                answer.getIn().setHeaders(delta.getIn().getHeaders());
+                answer.getProperties().putAll(delta.getProperties());
+                answer.setException(delta.getException());
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+
+        if (merged != null) {
+            answer.getIn().setBody(merged);
+        }
+        storedSizes.put(key, merged != null ? merged.size() : ((List<?>) body).size());
+    }
+
+    private void removeDeltas(final WriteBatch batch, final String key) {
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = asString(deltaKeyBuilder(key, null));
+            for (it.seek(deltaKeyBuilder(key, null)); it.hasNext(); it.next()) {
+                byte[] deltaKey = it.peekNext().getKey();
+                if (!asString(deltaKey).startsWith(prefix)) {
+                    break;
+                }
+                batch.delete(deltaKey);
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+    }
+
     public void remove(final CamelContext camelContext, final String key, final Exchange exchange) {
         LOG.debug("Removing key [{}]", key);
 
@@ -161,6 +273,10 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
                 WriteBatch batch = levelDBFile.getDb().createWriteBatch();
                 try {
                     batch.delete(lDbKey);
+                    if (isAppendDelta()) {
+                        removeDeltas(batch, key);
+                        storedSizes.remove(key);
+                    }
                     LOG.trace("Removed key index {} -> {}", key, new Buffer(rc));
 
                     // add exchange to confirmed index
@@ -324,6 +440,15 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return repositoryName + "-completed";
     }
 
+    private String getRepositoryNameDelta() {
+        return repositoryName + "-delta";
+    }
+
+    private byte[] deltaKeyBuilder(String key, Integer offset) {
+        // the offset is zero padded so the deltas of a key are sorted in the order they were added
+        return keyBuilder(getRepositoryNameDelta(), key + '\0' + (offset != null ? String.format("%010d", offset) : ""));
+    }
+
     public void setRepositoryName(String repositoryName) {
         this.repositoryName = repositoryName;
     }
@@ -396,6 +521,34 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public boolean isAppendDelta() {
+        return appendDelta;
+    }
+
+    /**
+     * Whether to only store the newly appended part of the aggregated exchange on each add, instead of the entire exchange.
+     * <p/>
+     * This requires that the aggregated message body is a {@link List} which the aggregation strategy only appends to.
+     * The stored parts are merged when the exchange is read. If the body is not a list, or the list has shrunk,
+     * then the entire exchange is stored as usual. This is default false.
+     */
+    public void setAppendDelta(boolean appendDelta) {
+        this.appendDelta = appendDelta;
+    }
+
+    public boolean isUseBinaryCodec() {
+        return codec.isUseBinaryCodec();
+    }
+
+    /**
+     * Whether to store exchanges using the compact binary codec instead of Java serialization.
+     * Exchanges stored in either format can always be read, so this can be turned on for an existing repository.
+     * This is default false.
+     */
+    public void setUseBinaryCodec(boolean useBinaryCodec) {
+        codec.setUseBinaryCodec(useBinaryCodec);
+    }
+
     @Override
     protected void doStart() throws Exception {
         // either we have a LevelDB configured or we use a provided fileName
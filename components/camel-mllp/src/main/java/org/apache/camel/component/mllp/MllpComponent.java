@@ -23,8 +23,10 @@ import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
+import org.apache.camel.component.mllp.internal.MllpNioEventLoopGroup;
 import org.apache.camel.impl.DefaultComponent;
 import org.apache.camel.spi.Metadata;
+import org.apache.camel.util.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +39,7 @@ public class MllpComponent extends DefaultComponent {
     public static final String MLLP_DEFAULT_CHARSET_PROPERTY = "org.apache.camel.component.mllp.charset.default";
     public static final boolean DEFAULT_LOG_PHI = true;
     public static final int DEFAULT_LOG_PHI_MAX_BYTES = 5120;
+    public static final int DEFAULT_NIO_EVENT_LOOP_THREADS = 2;
 
     static Logger log = LoggerFactory.getLogger(MllpComponent.class);
 
@@ -47,8 +50,13 @@ public class MllpComponent extends DefaultComponent {
     @Metadata(label = "advanced", defaultValue = "ISO-8859-1")
     static Charset defaultCharset;
 
+    @Metadata(label = "advanced", defaultValue = "2")
+    int nioEventLoopThreads = DEFAULT_NIO_EVENT_LOOP_THREADS;
+
     MllpConfiguration configuration;
 
+    MllpNioEventLoopGroup nioEventLoopGroup;
+
     public MllpComponent() {
     }
 
@@ -75,6 +83,45 @@ public class MllpComponent extends DefaultComponent {
         return endpoint;
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        synchronized (this) {
+            if (nioEventLoopGroup != null) {
+                ServiceHelper.stopService(nioEventLoopGroup);
+                nioEventLoopGroup = null;
+            }
+        }
+
+        super.doStop();
+    }
+
+    /**
+     * Get the event loops shared by the NIO consumers and producers of the component, starting them if needed.
+     *
+     * @return the started event loop group
+     */
+    public synchronized MllpNioEventLoopGroup getNioEventLoopGroup() throws Exception {
+        if (nioEventLoopGroup == null) {
+            nioEventLoopGroup = new MllpNioEventLoopGroup(getCamelContext(), nioEventLoopThreads);
+            ServiceHelper.startService(nioEventLoopGroup);
+        }
+
+        return nioEventLoopGroup;
+    }
+
+    public int getNioEventLoopThreads() {
+        return nioEventLoopThreads;
+    }
+
+    /**
+     * Set the number of selector threads used to serve the connections of the endpoints using the NIO transport.
+     *
+     * @param nioEventLoopThreads the number of event loop threads.
+     */
+    public void setNioEventLoopThreads(int nioEventLoopThreads) {
+        this.nioEventLoopThreads = nioEventLoopThreads;
+    }
+
     public static boolean hasLogPhi() {
         return logPhi != null;
     }
@@ -97,6 +97,9 @@ public class MllpConfiguration implements Cloneable {
     @UriParam(label = "advanced,tcp", defaultValue = "8192")
     Integer sendBufferSize = 8192;
 
+    @UriParam(label = "advanced,tcp", defaultValue = "false")
+    boolean nio;
+
     @UriParam(defaultValue = "true")
     boolean autoAck = true;
 
@@ -149,6 +152,7 @@ public class MllpConfiguration implements Cloneable {
             target.reuseAddress = source.reuseAddress;
             target.receiveBufferSize = source.receiveBufferSize;
             target.sendBufferSize = source.sendBufferSize;
+            target.nio = source.nio;
             target.autoAck = source.autoAck;
             target.hl7Headers = source.hl7Headers;
             target.bufferWrites = source.bufferWrites;
@@ -580,6 +584,24 @@ public class MllpConfiguration implements Cloneable {
         this.sendBufferSize = sendBufferSize;
     }
 
+    public boolean isNio() {
+        return nio;
+    }
+
+    /**
+     * Enable/Disable the non-blocking (NIO) transport.
+     *
+     * If enabled, the TCP connections are served by the small pool of selector threads shared by the component instead of
+     * a thread per connection.  For consumers the maxConcurrentConsumers parameter limits the number of messages processed
+     * concurrently rather than the number of connections.  The producer pipelines messages on a single connection and
+     * correlates the acknowledgements in the order the messages were sent.
+     *
+     * @param nio enabled if true, otherwise disabled
+     */
+    public void setNio(boolean nio) {
+        this.nio = nio;
+    }
+
     public boolean isAutoAck() {
         return autoAck;
     }
@@ -701,6 +723,7 @@ public class MllpConfiguration implements Cloneable {
             reuseAddress,
             receiveBufferSize,
             sendBufferSize,
+            nio,
             autoAck,
             hl7Headers,
             bufferWrites,
@@ -731,6 +754,7 @@ public class MllpConfiguration implements Cloneable {
             && connectTimeout == rhs.connectTimeout
             && receiveTimeout == rhs.receiveTimeout
             && readTimeout == rhs.readTimeout
+            && nio == rhs.nio
             && autoAck == rhs.autoAck
             && hl7Headers == rhs.hl7Headers
             && bufferWrites == rhs.bufferWrites
@@ -770,6 +794,7 @@ public class MllpConfiguration implements Cloneable {
             + ", reuseAddress=" + reuseAddress
             + ", receiveBufferSize=" + receiveBufferSize
             + ", sendBufferSize=" + sendBufferSize
+            + ", nio=" + nio
             + ", autoAck=" + autoAck
             + ", hl7Headers=" + hl7Headers
             + ", bufferWrites=" + bufferWrites
@@ -138,12 +138,15 @@ public class MllpEndpoint extends DefaultEndpoint {
 
     public Producer createProducer() throws Exception {
         LOG.trace("({}).createProducer()", this.getEndpointKey());
+        if (configuration.isNio()) {
+            return new MllpNioTcpClientProducer(this);
+        }
         return new MllpTcpClientProducer(this);
     }
 
     public Consumer createConsumer(Processor processor) throws Exception {
         LOG.trace("({}).createConsumer(Processor)", this.getEndpointKey());
-        Consumer consumer = new MllpTcpServerConsumer(this, processor);
+        Consumer consumer = configuration.isNio() ? new MllpNioTcpServerConsumer(this, processor) : new MllpTcpServerConsumer(this, processor);
         configureConsumer(consumer);
         return consumer;
     }
@@ -223,6 +226,11 @@ public class MllpEndpoint extends DefaultEndpoint {
         return configuration != null;
     }
 
+    @Override
+    public MllpComponent getComponent() {
+        return (MllpComponent) super.getComponent();
+    }
+
     public MllpConfiguration getConfiguration() {
         return configuration;
     }
@@ -264,6 +272,10 @@ public class MllpEndpoint extends DefaultEndpoint {
         configuration.setReceiveTimeout(receiveTimeout);
     }
 
+    public void setMaxConcurrentConsumers(int maxConcurrentConsumers) {
+        configuration.setMaxConcurrentConsumers(maxConcurrentConsumers);
+    }
+
     public void setIdleTimeout(Integer idleTimeout) {
         configuration.setIdleTimeout(idleTimeout);
     }
@@ -292,6 +304,10 @@ public class MllpEndpoint extends DefaultEndpoint {
         configuration.setSendBufferSize(sendBufferSize);
     }
 
+    public void setNio(boolean nio) {
+        configuration.setNio(nio);
+    }
+
     public void setAutoAck(Boolean autoAck) {
         configuration.setAutoAck(autoAck);
     }
@@ -0,0 +1,587 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.ThreadPoolRejectedPolicy;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.component.mllp.internal.Hl7Util;
+import org.apache.camel.component.mllp.internal.MllpFrameDecoder;
+import org.apache.camel.component.mllp.internal.MllpNioEventLoop;
+import org.apache.camel.component.mllp.internal.MllpSocketBuffer;
+import org.apache.camel.impl.DefaultAsyncProducer;
+
+/**
+ * The MLLP producer using non-blocking IO.
+ * <p/>
+ * The messages are written to a single connection without waiting for the acknowledgement of the previous message,
+ * and the acknowledgements are correlated with the messages in the order they were sent.  When an acknowledgement
+ * is not received in time, the connection is reset and all the messages waiting for an acknowledgement are failed.
+ * <p/>
+ * The exchanges continue routing on a worker pool, as the event loop threads are shared by all the MLLP endpoints.
+ */
+@ManagedResource(description = "MLLP NIO Producer")
+public class MllpNioTcpClientProducer extends DefaultAsyncProducer implements MllpNioEventLoop.Handler {
+    // the messages waiting for an acknowledgement, in the order they were sent
+    final Deque<PendingMessage> pendingMessages = new ArrayDeque<>();
+    // the messages not completely written to the connection yet
+    final Deque<PendingMessage> pendingWrites = new ArrayDeque<>();
+
+    MllpNioEventLoop eventLoop;
+    ExecutorService workerExecutor;
+    MllpFrameDecoder decoder;
+    SocketChannel channel;
+    boolean connected;
+    long connectDeadline;
+    long lastReadTicks;
+    long lastAcknowledgementTicks;
+    volatile long lastProcessCallTicks = -1;
+
+    private String cachedLocalAddress;
+    private String cachedRemoteAddress;
+    private String cachedCombinedAddress;
+
+    public MllpNioTcpClientProducer(MllpEndpoint endpoint) {
+        super(endpoint);
+        log.trace("Constructing MllpNioTcpClientProducer for endpoint URI {}", endpoint.getEndpointUri());
+
+        decoder = new MllpFrameDecoder(endpoint.getConfiguration().isRequireEndOfData());
+    }
+
+    @ManagedAttribute(description = "Last activity time")
+    public Date getLastActivityTime() {
+        return new Date(lastProcessCallTicks);
+    }
+
+    @ManagedAttribute(description = "Connection")
+    public synchronized String getConnectionAddress() {
+        if (cachedCombinedAddress != null) {
+            return cachedCombinedAddress;
+        }
+
+        return MllpSocketBuffer.formatAddressString(null, null);
+    }
+
+    @ManagedAttribute(description = "Messages waiting for an acknowledgement")
+    public synchronized int getPendingAcknowledgements() {
+        return pendingMessages.size();
+    }
+
+    @ManagedOperation(description = "Close Connection")
+    public synchronized void closeConnection() {
+        log.info("Close Connection for address {} called via JMX", getConnectionAddress());
+
+        if (channel != null) {
+            getEndpoint().doConnectionClose(channel.socket(), false, log);
+        }
+    }
+
+    @ManagedOperation(description = "Reset Connection")
+    public synchronized void resetConnection() {
+        log.info("Reset Connection for address {} requested via JMX", getConnectionAddress());
+
+        if (channel != null) {
+            getEndpoint().doConnectionClose(channel.socket(), true, log);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        eventLoop = getEndpoint().getComponent().getNioEventLoopGroup().next();
+        if (workerExecutor == null) {
+            // reject instead of running the completions on the event loop when the pool is saturated
+            workerExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this, "MllpNioTcpClientProducer",
+                new ThreadPoolProfileBuilder("MllpNioTcpClientProducer").rejectedPolicy(ThreadPoolRejectedPolicy.Abort).build());
+        }
+
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        complete(resetConnection(new MllpSocketException("Producer stopped before the acknowledgement was received"), null));
+
+        if (workerExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(workerExecutor);
+            workerExecutor = null;
+        }
+
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        log.trace("Processing Exchange {}", exchange.getExchangeId());
+        getEndpoint().updateLastConnectionActivityTicks();
+        lastProcessCallTicks = System.currentTimeMillis();
+
+        Message message = exchange.hasOut() ? exchange.getOut() : exchange.getIn();
+
+        getEndpoint().checkBeforeSendProperties(exchange, getSocket(), log);
+
+        byte[] hl7MessageBytes;
+        Object messageBody = message.getBody();
+        if (messageBody == null) {
+            exchange.setException(new MllpInvalidMessageException("message body is null", (byte[]) null));
+            callback.done(true);
+            return true;
+        } else if (messageBody instanceof String) {
+            hl7MessageBytes = ((String) messageBody).getBytes(getConfiguration().getCharset(exchange));
+            if (getConfiguration().hasCharsetName()) {
+                exchange.setProperty(Exchange.CHARSET_NAME, getConfiguration().getCharsetName());
+            }
+        } else {
+            hl7MessageBytes = message.getBody(byte[].class);
+        }
+
+        PendingMessage pendingMessage = new PendingMessage(exchange, callback, message, hl7MessageBytes);
+        List<Runnable> completions = new ArrayList<>();
+        IOException connectionException = null;
+        synchronized (this) {
+            try {
+                checkConnection(completions);
+                pendingMessages.add(pendingMessage);
+                pendingWrites.add(pendingMessage);
+            } catch (IOException connectEx) {
+                connectionException = connectEx;
+            }
+        }
+        complete(completions);
+
+        if (connectionException != null) {
+            exchange.setException(connectionException);
+            callback.done(true);
+            return true;
+        }
+
+        log.debug("Sending message to external system");
+        eventLoop.execute(this::flushPendingWrites);
+
+        return false;
+    }
+
+    /**
+     * Open a new connection if needed.  The connection is established asynchronously.
+     */
+    void checkConnection(List<Runnable> completions) throws IOException {
+        if (channel != null && channel.isOpen()) {
+            log.debug("checkConnection() - Connection is still valid - no new connection required");
+            return;
+        }
+
+        // The connection was closed without the event loop noticing - fail the messages sent on the previous connection
+        completions.addAll(resetConnection(new MllpSocketException("Connection closed before the acknowledgement was received"), null));
+
+        SocketChannel newChannel = SocketChannel.open();
+        try {
+            newChannel.configureBlocking(false);
+
+            Socket socket = newChannel.socket();
+            if (getConfiguration().hasKeepAlive()) {
+                socket.setKeepAlive(getConfiguration().getKeepAlive());
+            }
+            if (getConfiguration().hasTcpNoDelay()) {
+                socket.setTcpNoDelay(getConfiguration().getTcpNoDelay());
+            }
+            if (getConfiguration().hasReceiveBufferSize()) {
+                socket.setReceiveBufferSize(getConfiguration().getReceiveBufferSize());
+            }
+            if (getConfiguration().hasSendBufferSize()) {
+                socket.setSendBufferSize(getConfiguration().getSendBufferSize());
+            }
+            if (getConfiguration().hasReuseAddress()) {
+                socket.setReuseAddress(getConfiguration().getReuseAddress());
+            }
+            socket.setSoLinger(false, -1);
+
+            InetSocketAddress socketAddress;
+            if (null == getEndpoint().getHostname()) {
+                socketAddress = new InetSocketAddress(getEndpoint().getPort());
+            } else {
+                socketAddress = new InetSocketAddress(getEndpoint().getHostname(), getEndpoint().getPort());
+            }
+
+            channel = newChannel;
+            connected = false;
+            connectDeadline = System.currentTimeMillis() + getConfiguration().getConnectTimeout();
+            decoder.reset();
+
+            if (newChannel.connect(socketAddress)) {
+                connectionEstablished();
+                eventLoop.register(newChannel, SelectionKey.OP_READ, this);
+            } else {
+                eventLoop.register(newChannel, SelectionKey.OP_CONNECT, this);
+            }
+        } catch (IOException connectEx) {
+            channel = null;
+            newChannel.close();
+            throw connectEx;
+        }
+    }
+
+    void connectionEstablished() {
+        connected = true;
+
+        Socket socket = channel.socket();
+        SocketAddress localSocketAddress = socket.getLocalSocketAddress();
+        if (localSocketAddress != null) {
+            cachedLocalAddress = localSocketAddress.toString();
+        }
+        SocketAddress remoteSocketAddress = socket.getRemoteSocketAddress();
+        if (remoteSocketAddress != null) {
+            cachedRemoteAddress = remoteSocketAddress.toString();
+        }
+        cachedCombinedAddress = MllpSocketBuffer.formatAddressString(localSocketAddress, remoteSocketAddress);
+
+        log.info("checkConnection() - established new connection {}", cachedCombinedAddress);
+        getEndpoint().updateLastConnectionEstablishedTicks();
+    }
+
+    @Override
+    public void onSelect(SelectionKey key) {
+        List<Runnable> completions = new ArrayList<>();
+        synchronized (this) {
+            if (key.channel() != channel) {
+                // A stale key from a previous connection
+                key.cancel();
+                return;
+            }
+
+            try {
+                if (key.isConnectable()) {
+                    channel.finishConnect();
+                    connectionEstablished();
+                    key.interestOps(SelectionKey.OP_READ);
+                    completions.addAll(flush());
+                }
+                if (key.isValid() && key.isWritable()) {
+                    completions.addAll(flush());
+                }
+                if (key.isValid() && key.isReadable()) {
+                    read(completions);
+                }
+            } catch (IOException ioEx) {
+                completions.addAll(resetConnection(ioEx, null));
+            }
+        }
+
+        complete(completions);
+    }
+
+    void read(List<Runnable> completions) throws IOException {
+        ByteBuffer readBuffer = eventLoop.getReadBuffer();
+        int readCount;
+        do {
+            readBuffer.clear();
+            readCount = channel.read(readBuffer);
+            if (readCount > 0) {
+                readBuffer.flip();
+                decoder.append(readBuffer);
+                lastReadTicks = System.currentTimeMillis();
+            }
+        } while (readCount > 0);
+
+        byte[] acknowledgementBytes = decoder.nextPayload();
+        while (acknowledgementBytes != null) {
+            PendingMessage pendingMessage = pendingMessages.poll();
+            if (pendingMessage == null) {
+                log.warn("Ignoring unexpected acknowledgement {}", Hl7Util.convertToPrintFriendlyString(acknowledgementBytes));
+            } else {
+                lastAcknowledgementTicks = lastReadTicks;
+                final byte[] hl7AcknowledgementBytes = acknowledgementBytes;
+                completions.add(() -> acknowledgementReceived(pendingMessage, hl7AcknowledgementBytes));
+            }
+            acknowledgementBytes = decoder.nextPayload();
+        }
+
+        if (readCount < 0) {
+            throw new IOException("END_OF_STREAM returned from SocketChannel.read(ByteBuffer)");
+        }
+    }
+
+    void flushPendingWrites() {
+        List<Runnable> completions;
+        synchronized (this) {
+            completions = flush();
+        }
+        complete(completions);
+    }
+
+    /**
+     * Write the pending messages to the connection, until the socket send buffer is full.
+     *
+     * @return the callbacks to call if the connection failed
+     */
+    synchronized List<Runnable> flush() {
+        if (!connected || channel == null) {
+            return Collections.emptyList();
+        }
+
+        SelectionKey key = eventLoop.keyFor(channel);
+        try {
+            PendingMessage pendingMessage = pendingWrites.peek();
+            while (pendingMessage != null) {
+                channel.write(pendingMessage.envelope);
+                if (pendingMessage.envelope.hasRemaining()) {
+                    if (key != null && key.isValid()) {
+                        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    }
+                    return Collections.emptyList();
+                }
+                pendingMessage.sentTicks = System.currentTimeMillis();
+                pendingWrites.poll();
+                pendingMessage = pendingWrites.peek();
+            }
+            if (key != null && key.isValid()) {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            }
+        } catch (IOException writeEx) {
+            return resetConnection(writeEx, null);
+        }
+
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean onTick(long now) {
+        List<Runnable> completions = new ArrayList<>();
+        synchronized (this) {
+            if (channel != null) {
+                PendingMessage head = pendingMessages.peek();
+                if (!channel.isOpen()) {
+                    completions.addAll(resetConnection(new MllpSocketException("Connection closed before the acknowledgement was received"), null));
+                } else if (!connected) {
+                    if (now >= connectDeadline) {
+                        completions.addAll(resetConnection(new SocketTimeoutException("connect timed out"), null));
+                    }
+                } else if (head != null) {
+                    if (head.sentTicks > 0) {
+                        if (!decoder.isEmpty()) {
+                            if (now - lastReadTicks >= getConfiguration().getReadTimeout()) {
+                                SocketTimeoutException timeoutEx = new SocketTimeoutException("Read timeout " + getConfiguration().getReadTimeout() + " exceeded");
+                                completions.addAll(resetConnection(timeoutEx,
+                                    new MllpAcknowledgementTimeoutException("Timeout receiving complete HL7 Acknowledgement", head.hl7MessageBytes, decoder.toByteArrayAndReset(), timeoutEx)));
+                            }
+                        } else if (now - Math.max(head.sentTicks, lastAcknowledgementTicks) >= getConfiguration().getReceiveTimeout()) {
+                            SocketTimeoutException timeoutEx = new SocketTimeoutException("Receive timeout " + getConfiguration().getReceiveTimeout() + " exceeded");
+                            completions.addAll(resetConnection(timeoutEx, new MllpAcknowledgementTimeoutException("Timeout receiving HL7 Acknowledgement", head.hl7MessageBytes, timeoutEx)));
+                        }
+                    }
+                } else if (getConfiguration().hasIdleTimeout()) {
+                    long idleTime = now - Math.max(lastProcessCallTicks, lastAcknowledgementTicks);
+                    if (idleTime >= getConfiguration().getIdleTimeout()) {
+                        log.info("MLLP Connection idle time of '{}' milliseconds met or exceeded the idle producer timeout of '{}' milliseconds - resetting conection",
+                            idleTime, getConfiguration().getIdleTimeout());
+                        completions.addAll(resetConnection(null, null));
+                    }
+                }
+            }
+        }
+
+        complete(completions);
+
+        return isRunAllowed();
+    }
+
+    /**
+     * Reset the connection and fail all the messages waiting for an acknowledgement.
+     *
+     * @param cause             the cause of the reset
+     * @param firstException    the exception for the oldest message, if it should differ from the other messages
+     *
+     * @return the callbacks of the failed messages, which must be called without holding the lock
+     */
+    synchronized List<Runnable> resetConnection(Exception cause, Exception firstException) {
+        List<Runnable> completions = new ArrayList<>(pendingMessages.size());
+        boolean wasConnected = connected;
+        boolean first = true;
+        for (PendingMessage pendingMessage : pendingMessages) {
+            Exception exchangeEx;
+            if (first && firstException != null) {
+                exchangeEx = firstException;
+            } else if (wasConnected) {
+                exchangeEx = new MllpAcknowledgementReceiveException("Exception encountered reading acknowledgement", pendingMessage.hl7MessageBytes, cause);
+            } else {
+                exchangeEx = cause;
+            }
+            first = false;
+            completions.add(() -> {
+                pendingMessage.exchange.setException(exchangeEx);
+                pendingMessage.callback.done(false);
+            });
+        }
+        pendingMessages.clear();
+        pendingWrites.clear();
+        decoder.reset();
+
+        if (channel != null) {
+            if (connected) {
+                getEndpoint().doConnectionClose(channel.socket(), true, log);
+            }
+            try {
+                channel.close();
+            } catch (IOException ignoredEx) {
+                log.debug("Ignoring exception encountered closing the socket channel", ignoredEx);
+            }
+            channel = null;
+        }
+        connected = false;
+
+        return completions;
+    }
+
+    void acknowledgementReceived(PendingMessage pendingMessage, byte[] acknowledgementBytes) {
+        Exchange exchange = pendingMessage.exchange;
+        Message message = pendingMessage.message;
+
+        try {
+            setAddressHeaders(message);
+
+            log.debug("Populating message headers with the acknowledgement from the external system");
+            message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT, acknowledgementBytes);
+            if (acknowledgementBytes.length > 0) {
+                message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_STRING, new String(acknowledgementBytes, getConfiguration().getCharset(exchange, acknowledgementBytes)));
+            } else {
+                message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_STRING, "");
+            }
+
+            if (getConfiguration().isValidatePayload()) {
+                String exceptionMessage = Hl7Util.generateInvalidPayloadExceptionMessage(acknowledgementBytes);
+                if (exceptionMessage != null) {
+                    exchange.setException(new MllpInvalidAcknowledgementException(exceptionMessage, pendingMessage.hl7MessageBytes, acknowledgementBytes));
+                }
+            }
+
+            if (exchange.getException() == null) {
+                log.debug("Processing the acknowledgement from the external system");
+                try {
+                    message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_TYPE,
+                        MllpTcpClientProducer.processAcknowledgment(pendingMessage.hl7MessageBytes, acknowledgementBytes, getConfiguration().isValidatePayload()));
+                } catch (MllpNegativeAcknowledgementException nackEx) {
+                    message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_TYPE, nackEx.getAcknowledgmentType());
+                    exchange.setException(nackEx);
+                } catch (MllpException invalidAckEx) {
+                    exchange.setException(invalidAckEx);
+                }
+
+                getEndpoint().checkAfterSendProperties(exchange, getSocket(), log);
+            }
+        } catch (Exception unexpectedEx) {
+            exchange.setException(unexpectedEx);
+        } finally {
+            pendingMessage.callback.done(false);
+        }
+    }
+
+    void setAddressHeaders(Message message) {
+        String localAddress;
+        String remoteAddress;
+        synchronized (this) {
+            localAddress = cachedLocalAddress;
+            remoteAddress = cachedRemoteAddress;
+        }
+
+        if (localAddress != null) {
+            message.setHeader(MllpConstants.MLLP_LOCAL_ADDRESS, localAddress);
+        }
+        if (remoteAddress != null) {
+            message.setHeader(MllpConstants.MLLP_REMOTE_ADDRESS, remoteAddress);
+        }
+    }
+
+    synchronized Socket getSocket() {
+        return channel != null ? channel.socket() : null;
+    }
+
+    /**
+     * Run the completions on the worker pool, or in the current thread if the pool does not accept them.
+     */
+    void complete(List<Runnable> completions) {
+        ExecutorService executor = workerExecutor;
+        for (Runnable completion : completions) {
+            if (executor != null && !executor.isShutdown()) {
+                try {
+                    executor.execute(completion);
+                    continue;
+                } catch (RejectedExecutionException rejectedEx) {
+                    log.debug("Worker pool rejected the completion - running it in the current thread");
+                }
+            }
+            completion.run();
+        }
+    }
+
+    @Override
+    public MllpEndpoint getEndpoint() {
+        return (MllpEndpoint) super.getEndpoint();
+    }
+
+    public MllpConfiguration getConfiguration() {
+        return getEndpoint().getConfiguration();
+    }
+
+    /**
+     * A message waiting for its acknowledgement.
+     */
+    static class PendingMessage {
+        final Exchange exchange;
+        final AsyncCallback callback;
+        final Message message;
+        final byte[] hl7MessageBytes;
+        final ByteBuffer envelope;
+        long sentTicks;
+
+        PendingMessage(Exchange exchange, AsyncCallback callback, Message message, byte[] hl7MessageBytes) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.message = message;
+            this.hl7MessageBytes = hl7MessageBytes;
+
+            int length = hl7MessageBytes != null ? hl7MessageBytes.length : 0;
+            byte[] envelopeBytes = new byte[length + 3];
+            envelopeBytes[0] = MllpProtocolConstants.START_OF_BLOCK;
+            if (length > 0) {
+                System.arraycopy(hl7MessageBytes, 0, envelopeBytes, 1, length);
+            }
+            envelopeBytes[length + 1] = MllpProtocolConstants.END_OF_BLOCK;
+            envelopeBytes[length + 2] = MllpProtocolConstants.END_OF_DATA;
+            this.envelope = ByteBuffer.wrap(envelopeBytes);
+        }
+    }
+}
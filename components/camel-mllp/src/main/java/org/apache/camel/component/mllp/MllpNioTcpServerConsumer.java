@@ -0,0 +1,508 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.Processor;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.component.mllp.internal.Hl7Util;
+import org.apache.camel.component.mllp.internal.MllpFrameDecoder;
+import org.apache.camel.component.mllp.internal.MllpNioEventLoop;
+import org.apache.camel.component.mllp.internal.MllpNioEventLoopGroup;
+import org.apache.camel.component.mllp.internal.MllpServerConnection;
+import org.apache.camel.component.mllp.internal.MllpSocketBuffer;
+
+/**
+ * The MLLP consumer using non-blocking IO.
+ * <p/>
+ * The connections are served by the event loops of the component, and the received messages are processed by a
+ * pool of maxConcurrentConsumers threads.  The messages received on a connection are processed one at a time, in the
+ * order they were received.
+ */
+@ManagedResource(description = "MLLP NIO Consumer")
+public class MllpNioTcpServerConsumer extends MllpTcpServerConsumer {
+    final Map<NioConnection, Long> connections = new ConcurrentHashMap<>();
+
+    MllpNioEventLoopGroup eventLoopGroup;
+    ExecutorService workerExecutor;
+    volatile ServerSocketChannel serverChannel;
+
+    public MllpNioTcpServerConsumer(MllpEndpoint endpoint, Processor processor) {
+        super(endpoint, processor);
+    }
+
+    @Override
+    @ManagedAttribute(description = "Last activity time")
+    public Map<String, Date> getLastActivityTimes() {
+        Map<String, Date> answer = new HashMap<>();
+
+        for (Map.Entry<NioConnection, Long> entry : connections.entrySet()) {
+            answer.put(entry.getKey().getCombinedAddress(), new Date(entry.getValue()));
+        }
+        return answer;
+    }
+
+    @Override
+    @ManagedOperation(description = "Close Connections")
+    public void closeConnections() {
+        for (NioConnection connection : connections.keySet()) {
+            log.info("Close Connection called via JMX for address {}", connection.getCombinedAddress());
+            connection.closeSocket();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Reset Connections")
+    public void resetConnections() {
+        for (NioConnection connection : connections.keySet()) {
+            log.info("Reset Connection called via JMX for address {}", connection.getCombinedAddress());
+            connection.resetSocket();
+        }
+    }
+
+    @ManagedAttribute(description = "Connection count")
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        eventLoopGroup = getEndpoint().getComponent().getNioEventLoopGroup();
+        if (workerExecutor == null) {
+            workerExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newFixedThreadPool(this, "MllpNioTcpServerConsumer", getConfiguration().getMaxConcurrentConsumers());
+        }
+
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServerSocketChannel channel = serverChannel;
+        serverChannel = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignoredEx) {
+                log.debug("Ignoring exception encountered closing the server socket channel", ignoredEx);
+            }
+        }
+
+        for (NioConnection connection : connections.keySet()) {
+            connection.resetSocket();
+        }
+        connections.clear();
+
+        if (workerExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(workerExecutor);
+            workerExecutor = null;
+        }
+
+        super.doStop();
+    }
+
+    @Override
+    protected boolean isBound() {
+        return serverChannel != null;
+    }
+
+    @Override
+    public ServerSocket createServerSocket() throws IOException {
+        return ServerSocketChannel.open().socket();
+    }
+
+    /**
+     * Called by the bind thread once the server socket is bound - the connections are accepted by an event loop
+     * instead of a dedicated thread.
+     */
+    @Override
+    public void startAcceptThread(ServerSocket serverSocket) {
+        ServerSocketChannel channel = serverSocket.getChannel();
+        try {
+            channel.configureBlocking(false);
+        } catch (IOException configureEx) {
+            log.error("Failed to configure the server socket channel for non-blocking IO", configureEx);
+            return;
+        }
+
+        serverChannel = channel;
+        eventLoopGroup.next().register(channel, SelectionKey.OP_ACCEPT, new Acceptor(channel));
+    }
+
+    void accept(SocketChannel channel) throws IOException {
+        channel.configureBlocking(false);
+
+        Socket socket = channel.socket();
+        if (getConfiguration().hasKeepAlive()) {
+            socket.setKeepAlive(getConfiguration().getKeepAlive());
+        }
+        if (getConfiguration().hasTcpNoDelay()) {
+            socket.setTcpNoDelay(getConfiguration().getTcpNoDelay());
+        }
+        if (getConfiguration().hasReceiveBufferSize()) {
+            socket.setReceiveBufferSize(getConfiguration().getReceiveBufferSize());
+        }
+        if (getConfiguration().hasSendBufferSize()) {
+            socket.setSendBufferSize(getConfiguration().getSendBufferSize());
+        }
+        socket.setSoLinger(false, -1);
+
+        NioConnection connection = new NioConnection(channel, eventLoopGroup.next());
+        connections.put(connection, System.currentTimeMillis());
+        log.info("Accepted connection {}", connection.getCombinedAddress());
+        getEndpoint().updateLastConnectionEstablishedTicks();
+
+        connection.eventLoop.register(channel, SelectionKey.OP_READ, connection);
+    }
+
+    /**
+     * Accepts the connections on the server socket channel.
+     */
+    class Acceptor implements MllpNioEventLoop.Handler {
+        final ServerSocketChannel channel;
+
+        Acceptor(ServerSocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void onSelect(SelectionKey key) {
+            try {
+                SocketChannel clientChannel = channel.accept();
+                while (clientChannel != null) {
+                    try {
+                        accept(clientChannel);
+                    } catch (IOException acceptEx) {
+                        log.warn("Failed to initialize accepted connection {} - closing connection", clientChannel, acceptEx);
+                        clientChannel.close();
+                    }
+                    clientChannel = channel.accept();
+                }
+            } catch (IOException acceptEx) {
+                if (channel.isOpen()) {
+                    log.warn("Exception encountered accepting connections", acceptEx);
+                }
+            }
+        }
+
+        @Override
+        public boolean onTick(long now) {
+            return channel.isOpen();
+        }
+    }
+
+    /**
+     * A connection served by an event loop.
+     * <p/>
+     * The reads, timeouts and interest changes happen on the event loop thread; the messages are processed and
+     * acknowledged on a worker thread.  Reading is suspended while a message is processed.
+     */
+    class NioConnection implements MllpServerConnection, MllpNioEventLoop.Handler {
+        final SocketChannel channel;
+        final Socket socket;
+        final MllpNioEventLoop eventLoop;
+        final MllpFrameDecoder decoder;
+        final Queue<ByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+
+        final String localAddress;
+        final String remoteAddress;
+        final String combinedAddress;
+
+        MllpSocketBuffer mllpBuffer;
+        boolean processing;
+        boolean messageReceived;
+        boolean endOfStream;
+        long lastReadTicks;
+
+        NioConnection(SocketChannel channel, MllpNioEventLoop eventLoop) {
+            this.channel = channel;
+            this.socket = channel.socket();
+            this.eventLoop = eventLoop;
+            this.decoder = new MllpFrameDecoder(getConfiguration().isRequireEndOfData());
+
+            SocketAddress localSocketAddress = socket.getLocalSocketAddress();
+            localAddress = localSocketAddress != null ? localSocketAddress.toString() : null;
+            SocketAddress remoteSocketAddress = socket.getRemoteSocketAddress();
+            remoteAddress = remoteSocketAddress != null ? remoteSocketAddress.toString() : null;
+            combinedAddress = MllpSocketBuffer.formatAddressString(remoteSocketAddress, localSocketAddress);
+        }
+
+        @Override
+        public void onSelect(SelectionKey key) {
+            try {
+                if (key.isWritable()) {
+                    flushPendingWrites();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    read();
+                }
+            } catch (IOException ioEx) {
+                readFailed(ioEx);
+            }
+        }
+
+        void readFailed(IOException ioEx) {
+            resetSocket();
+            if (decoder.hasPartialPayload()) {
+                handleMessageException("Exception encountered reading payload", decoder.toByteArrayAndReset(), new MllpSocketException("IOException encountered reading payload", ioEx));
+            } else {
+                log.debug("Ignoring exception encountered checking for data", ioEx);
+            }
+            closed();
+        }
+
+        void read() throws IOException {
+            ByteBuffer readBuffer = eventLoop.getReadBuffer();
+            int readCount;
+            do {
+                readBuffer.clear();
+                readCount = channel.read(readBuffer);
+                if (readCount > 0) {
+                    readBuffer.flip();
+                    decoder.append(readBuffer);
+                    lastReadTicks = System.currentTimeMillis();
+                }
+            } while (readCount > 0);
+
+            if (readCount < 0) {
+                // Process the messages already received before closing the connection
+                endOfStream = true;
+                setInterest(SelectionKey.OP_READ, false);
+            }
+
+            if (!processing) {
+                processNextMessage();
+            }
+        }
+
+        void processNextMessage() {
+            final byte[] hl7MessageBytes = decoder.nextPayload();
+            if (hl7MessageBytes == null) {
+                if (endOfStream) {
+                    readFailed(new IOException("END_OF_STREAM returned from SocketChannel.read(ByteBuffer)"));
+                } else {
+                    setInterest(SelectionKey.OP_READ, true);
+                }
+                return;
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Received {} byte message {}", hl7MessageBytes.length, Hl7Util.convertToPrintFriendlyString(hl7MessageBytes));
+            }
+
+            ExecutorService executor = workerExecutor;
+            if (executor == null) {
+                resetSocket("Consumer is stopped");
+                closed();
+                return;
+            }
+
+            processing = true;
+            messageReceived = true;
+            setInterest(SelectionKey.OP_READ, false);
+            try {
+                executor.execute(() -> {
+                    try {
+                        processMessage(hl7MessageBytes, this);
+                    } finally {
+                        eventLoop.execute(this::processingDone);
+                    }
+                });
+            } catch (RejectedExecutionException rejectedEx) {
+                resetSocket("Consumer is not accepting messages");
+                closed();
+            }
+        }
+
+        void processingDone() {
+            processing = false;
+            if (channel.isOpen()) {
+                processNextMessage();
+            } else {
+                closed();
+            }
+        }
+
+        void setInterest(int operation, boolean enabled) {
+            SelectionKey key = eventLoop.keyFor(channel);
+            if (key != null && key.isValid()) {
+                int interestOps = key.interestOps();
+                key.interestOps(enabled ? interestOps | operation : interestOps & ~operation);
+            }
+        }
+
+        void flushPendingWrites() throws IOException {
+            synchronized (pendingWrites) {
+                ByteBuffer buffer = pendingWrites.peek();
+                while (buffer != null) {
+                    channel.write(buffer);
+                    if (buffer.hasRemaining()) {
+                        return;
+                    }
+                    pendingWrites.poll();
+                    buffer = pendingWrites.peek();
+                }
+                setInterest(SelectionKey.OP_WRITE, false);
+            }
+        }
+
+        @Override
+        public boolean onTick(long now) {
+            if (!channel.isOpen()) {
+                closed();
+                return false;
+            }
+            if (processing) {
+                return true;
+            }
+
+            if (decoder.hasPartialPayload()) {
+                if (now - lastReadTicks >= getConfiguration().getReadTimeout()) {
+                    byte[] partialPayload = decoder.toByteArrayAndReset();
+                    resetSocket();
+                    if (messageReceived) {
+                        handleMessageTimeout("Timeout receiving complete message payload", partialPayload,
+                            new MllpSocketException("Read timeout " + getConfiguration().getReadTimeout() + " exceeded"));
+                    } else {
+                        // Same as the blocking consumer, a connection that never delivered a complete message is just reset
+                        log.warn("Timeout receiving complete initial message [{} bytes]: {}", partialPayload.length, Hl7Util.convertToPrintFriendlyString(partialPayload));
+                    }
+                    closed();
+                    return false;
+                }
+            } else if (getConfiguration().hasIdleTimeout()) {
+                Long lastActivityTicks = connections.get(this);
+                if (lastActivityTicks != null) {
+                    long idleTime = now - lastActivityTicks;
+                    if (idleTime >= getConfiguration().getIdleTimeout()) {
+                        resetSocket(String.format("Connection idle time %d exceeded idleTimeout %d", idleTime, getConfiguration().getIdleTimeout()));
+                        closed();
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+        }
+
+        void closed() {
+            if (connections.remove(this) != null) {
+                log.debug("Connection {} closed", combinedAddress);
+            }
+            SelectionKey key = eventLoop.keyFor(channel);
+            if (key != null) {
+                key.cancel();
+            }
+        }
+
+        @Override
+        public void writeMllpBuffer() throws MllpSocketException {
+            ByteBuffer buffer = ByteBuffer.wrap(getMllpBuffer().toByteArray());
+            try {
+                synchronized (pendingWrites) {
+                    if (pendingWrites.isEmpty()) {
+                        channel.write(buffer);
+                    }
+                    if (buffer.hasRemaining()) {
+                        pendingWrites.add(buffer);
+                        eventLoop.execute(() -> setInterest(SelectionKey.OP_WRITE, true));
+                    }
+                }
+            } catch (IOException writeEx) {
+                resetSocket();
+                throw new MllpSocketException("Exception encountered writing to SocketChannel", writeEx);
+            }
+        }
+
+        @Override
+        public void updateLastActivityTicks(long epochTicks) {
+            connections.replace(this, epochTicks);
+        }
+
+        @Override
+        public synchronized MllpSocketBuffer getMllpBuffer() {
+            if (mllpBuffer == null) {
+                mllpBuffer = new MllpSocketBuffer(getEndpoint());
+            }
+            return mllpBuffer;
+        }
+
+        @Override
+        public Socket getSocket() {
+            return socket;
+        }
+
+        @Override
+        public void closeSocket() {
+            getEndpoint().doConnectionClose(socket, false, log);
+        }
+
+        @Override
+        public void resetSocket() {
+            getEndpoint().doConnectionClose(socket, true, log);
+        }
+
+        @Override
+        public void resetSocket(String logMessage) {
+            log.info("Resetting - {} socket {}", logMessage, socket);
+            resetSocket();
+        }
+
+        @Override
+        public boolean hasLocalAddress() {
+            return localAddress != null && !localAddress.isEmpty();
+        }
+
+        @Override
+        public String getLocalAddress() {
+            return localAddress;
+        }
+
+        @Override
+        public boolean hasRemoteAddress() {
+            return remoteAddress != null && !remoteAddress.isEmpty();
+        }
+
+        @Override
+        public String getRemoteAddress() {
+            return remoteAddress;
+        }
+
+        @Override
+        public String getCombinedAddress() {
+            return combinedAddress;
+        }
+    }
+}
@@ -257,7 +257,7 @@ public class MllpTcpClientProducer extends DefaultProducer implements Runnable {
                         if (exchange.getException() == null) {
                             log.debug("Processing the acknowledgement from the external system");
                             try {
-                                message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_TYPE, processAcknowledgment(hl7MessageBytes, acknowledgementBytes));
+                                message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_TYPE, processAcknowledgment(hl7MessageBytes, acknowledgementBytes, getConfiguration().isValidatePayload()));
                             } catch (MllpNegativeAcknowledgementException nackEx) {
                                 message.setHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_TYPE, nackEx.getAcknowledgmentType());
                                 exchange.setException(nackEx);
@@ -279,7 +279,7 @@ public class MllpTcpClientProducer extends DefaultProducer implements Runnable {
         }
     }
 
-    private String processAcknowledgment(byte[] hl7MessageBytes, byte[] hl7AcknowledgementBytes) throws MllpException {
+    static String processAcknowledgment(byte[] hl7MessageBytes, byte[] hl7AcknowledgementBytes, boolean validatePayload) throws MllpException {
         String acknowledgementType = "";
 
         if (hl7AcknowledgementBytes != null && hl7AcknowledgementBytes.length > 3) {
@@ -342,7 +342,7 @@ public class MllpTcpClientProducer extends DefaultProducer implements Runnable {
                 }
 
             }
-            if (-1 == msaStartIndex && getConfiguration().isValidatePayload()) {
+            if (-1 == msaStartIndex && validatePayload) {
                 // Didn't find an MSA
                 throw new MllpInvalidAcknowledgementException("MSA Not found in acknowledgement", hl7MessageBytes, hl7AcknowledgementBytes);
             }
@@ -43,6 +43,7 @@ import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.mllp.internal.Hl7Util;
+import org.apache.camel.component.mllp.internal.MllpServerConnection;
 import org.apache.camel.component.mllp.internal.MllpSocketBuffer;
 import org.apache.camel.component.mllp.internal.TcpServerAcceptThread;
 import org.apache.camel.component.mllp.internal.TcpServerBindThread;
@@ -149,7 +150,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
                 log.debug("doStart() - attempting to bind to port {}", getEndpoint().getPort());
                 bindThread.run();
 
-                if (this.acceptThread == null) {
+                if (!isBound()) {
                     throw new BindException("Failed to bind to port " + getEndpoint().getPort());
                 }
             }
@@ -159,6 +160,20 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
     }
 
 
+    /**
+     * @return true if the server socket has been bound
+     */
+    protected boolean isBound() {
+        return acceptThread != null;
+    }
+
+    /**
+     * Create the unbound server socket.
+     */
+    public ServerSocket createServerSocket() throws IOException {
+        return new ServerSocket();
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         super.doShutdown();
@@ -220,11 +235,11 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         }
     }
 
-    public void processMessage(byte[] hl7MessageBytes, TcpSocketConsumerRunnable consumerRunnable) {
+    public void processMessage(byte[] hl7MessageBytes, MllpServerConnection consumerRunnable) {
         long now = System.currentTimeMillis();
 
         getEndpoint().updateLastConnectionActivityTicks(now);
-        consumerRunnables.put(consumerRunnable, now);
+        consumerRunnable.updateLastActivityTicks(now);
 
         // Send the message on to Camel for processing and wait for the response
         log.debug("Populating the exchange with received message");
@@ -388,7 +403,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
     }
 
 
-    void sendAcknowledgement(byte[] originalHl7MessageBytes, Exchange exchange, TcpSocketConsumerRunnable consumerRunnable) {
+    void sendAcknowledgement(byte[] originalHl7MessageBytes, Exchange exchange, MllpServerConnection consumerRunnable) {
         log.trace("entering sendAcknowledgement(byte[], Exchange)");
 
         getEndpoint().checkBeforeSendProperties(exchange, consumerRunnable.getSocket(), log);
@@ -530,7 +545,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
             }
 
             try {
-                consumerRunnable.getMllpBuffer().writeTo(consumerRunnable.getSocket());
+                consumerRunnable.writeMllpBuffer();
             } catch (MllpSocketException acknowledgementDeliveryEx) {
                 Exception exchangeEx = new MllpAcknowledgementDeliveryException("Failure delivering acknowledgment", originalHl7MessageBytes, acknowledgementMessageBytes, acknowledgementDeliveryEx);
                 exchange.setProperty(MllpConstants.MLLP_ACKNOWLEDGEMENT_EXCEPTION, acknowledgementDeliveryEx);
@@ -550,7 +565,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
             try {
                 consumerRunnable.getMllpBuffer().setEnvelopedMessage(acknowledgementMessageBytes);
-                consumerRunnable.getMllpBuffer().writeTo(consumerRunnable.getSocket());
+                consumerRunnable.writeMllpBuffer();
             } catch (MllpSocketException acknowledgementDeliveryEx) {
                 Exception exchangeEx = new MllpAcknowledgementDeliveryException("Failure delivering acknowledgment", originalHl7MessageBytes, acknowledgementMessageBytes, acknowledgementDeliveryEx);
                 exchange.setProperty(MllpConstants.MLLP_ACKNOWLEDGEMENT_EXCEPTION, acknowledgementDeliveryEx);
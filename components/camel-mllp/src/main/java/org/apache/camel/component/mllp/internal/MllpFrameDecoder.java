@@ -0,0 +1,159 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.camel.component.mllp.MllpProtocolConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Incrementally extracts the MLLP enveloped payloads from the bytes read from a non-blocking channel.
+ * <p/>
+ * Any bytes received after an envelope are kept as the start of the next envelope, so pipelined messages are
+ * not lost.  Data received outside of an envelope is logged and ignored.
+ * <p/>
+ * This class is not thread safe - it is only used from the event loop thread serving the channel.
+ */
+public class MllpFrameDecoder {
+    static final int MIN_BUFFER_SIZE = 2048;
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final boolean requireEndOfData;
+
+    private byte[] buffer = new byte[MIN_BUFFER_SIZE];
+    private int size;
+    // the index where the search for the END_OF_BLOCK will continue
+    private int scanIndex = 1;
+
+    public MllpFrameDecoder(boolean requireEndOfData) {
+        this.requireEndOfData = requireEndOfData;
+    }
+
+    /**
+     * Append the remaining bytes of the source buffer.
+     */
+    public void append(ByteBuffer source) {
+        int count = source.remaining();
+        if (count > buffer.length - size) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + count));
+        }
+        source.get(buffer, size, count);
+        size += count;
+    }
+
+    /**
+     * Extract the next complete payload.
+     *
+     * @return the payload without the MLLP envelope, or null if a complete envelope has not been received yet
+     */
+    public byte[] nextPayload() {
+        if (!skipToStartOfBlock()) {
+            return null;
+        }
+
+        for (int i = scanIndex; i < size; ++i) {
+            if (buffer[i] == MllpProtocolConstants.END_OF_BLOCK) {
+                int consumed;
+                if (i + 1 < size && buffer[i + 1] == MllpProtocolConstants.END_OF_DATA) {
+                    consumed = i + 2;
+                } else if (!requireEndOfData) {
+                    consumed = i + 1;
+                } else {
+                    // Wait for the END_OF_DATA - if something else follows the END_OF_BLOCK the envelope
+                    // will never be complete, and the read timeout will discard it
+                    scanIndex = i;
+                    return null;
+                }
+
+                byte[] payload = Arrays.copyOfRange(buffer, 1, i);
+                discard(consumed);
+                return payload;
+            }
+        }
+
+        scanIndex = Math.max(1, size);
+        return null;
+    }
+
+    /**
+     * @return true if the start of an envelope has been received, but the envelope is not complete
+     */
+    public boolean hasPartialPayload() {
+        return size > 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArrayAndReset() {
+        byte[] answer = Arrays.copyOf(buffer, size);
+        reset();
+        return answer;
+    }
+
+    public void reset() {
+        size = 0;
+        scanIndex = 1;
+        if (buffer.length > MIN_BUFFER_SIZE) {
+            buffer = new byte[MIN_BUFFER_SIZE];
+        }
+    }
+
+    boolean skipToStartOfBlock() {
+        if (size == 0) {
+            return false;
+        }
+        if (buffer[0] == MllpProtocolConstants.START_OF_BLOCK) {
+            return true;
+        }
+
+        int startOfBlockIndex = -1;
+        for (int i = 0; i < size; ++i) {
+            if (buffer[i] == MllpProtocolConstants.START_OF_BLOCK) {
+                startOfBlockIndex = i;
+                break;
+            }
+        }
+
+        int outOfBandCount = startOfBlockIndex == -1 ? size : startOfBlockIndex;
+        // A END_OF_DATA arriving after the END_OF_BLOCK is expected when the END_OF_DATA is optional
+        if (outOfBandCount > 1 || buffer[0] != MllpProtocolConstants.END_OF_DATA) {
+            log.warn("Ignoring {} bytes of out-of-band data: {}", outOfBandCount, Hl7Util.convertToPrintFriendlyString(buffer, 0, outOfBandCount));
+        }
+        discard(outOfBandCount);
+
+        return startOfBlockIndex != -1;
+    }
+
+    void discard(int count) {
+        size -= count;
+        if (size > 0) {
+            System.arraycopy(buffer, count, buffer, 0, size);
+        } else if (buffer.length > MIN_BUFFER_SIZE) {
+            buffer = new byte[MIN_BUFFER_SIZE];
+        }
+        scanIndex = 1;
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single selector thread serving the channels of the NIO consumers and producers.
+ * <p/>
+ * All the channel registrations and interest changes are executed on the event loop thread.  Registered handlers
+ * are also called periodically so they can enforce the read and idle timeouts without a thread per connection.
+ */
+public class MllpNioEventLoop implements Runnable {
+    public static final long TICK_INTERVAL = 100;
+    static final int READ_BUFFER_SIZE = 8192;
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    // only accessed from the event loop thread
+    private final Set<Handler> handlers = new LinkedHashSet<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    private volatile Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * Callback for the channels registered with the event loop.  The methods are always called on the event loop thread.
+     */
+    public interface Handler {
+
+        /**
+         * Called when the channel is ready for one of the operations it is interested in.
+         */
+        void onSelect(SelectionKey key);
+
+        /**
+         * Called every {@link #TICK_INTERVAL} milliseconds.
+         *
+         * @return false if the handler is done, and should not be called again
+         */
+        boolean onTick(long now);
+    }
+
+    public MllpNioEventLoop() throws IOException {
+        selector = Selector.open();
+    }
+
+    /**
+     * Run the task on the event loop thread.
+     */
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (!inEventLoop()) {
+            selector.wakeup();
+        }
+    }
+
+    public boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Register the channel with the selector of the event loop.  The registration happens asynchronously on the
+     * event loop thread, and the handler is attached to the {@link SelectionKey}.
+     */
+    public void register(final SelectableChannel channel, final int interestOps, final Handler handler) {
+        execute(() -> {
+            try {
+                channel.register(selector, interestOps, handler);
+                handlers.add(handler);
+            } catch (ClosedChannelException closedEx) {
+                log.debug("Ignoring registration of closed channel {}", channel);
+            }
+        });
+    }
+
+    /**
+     * Get the key of a channel registered with the event loop.
+     *
+     * @return the key, or null if the channel is not registered (yet)
+     */
+    public SelectionKey keyFor(SelectableChannel channel) {
+        return channel.keyFor(selector);
+    }
+
+    /**
+     * Get the buffer used to read from the channels.  Must only be used on the event loop thread.
+     */
+    public ByteBuffer getReadBuffer() {
+        return readBuffer;
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        long lastTick = System.currentTimeMillis();
+        try {
+            while (running) {
+                runTasks();
+
+                selector.select(TICK_INTERVAL);
+
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    if (key.isValid()) {
+                        try {
+                            ((Handler) key.attachment()).onSelect(key);
+                        } catch (Exception unexpectedEx) {
+                            log.warn("Unexpected exception handling selected key {}", key, unexpectedEx);
+                        }
+                    }
+                }
+
+                long now = System.currentTimeMillis();
+                if (now - lastTick >= TICK_INTERVAL) {
+                    lastTick = now;
+                    tick(now);
+                }
+            }
+        } catch (IOException ioEx) {
+            log.error("Unexpected exception encountered selecting keys - stopping the event loop", ioEx);
+        } finally {
+            try {
+                selector.close();
+            } catch (IOException ignoredEx) {
+                // Nothing else we can do
+            }
+            handlers.clear();
+            tasks.clear();
+            thread = null;
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    void runTasks() {
+        Runnable task = tasks.poll();
+        while (task != null) {
+            try {
+                task.run();
+            } catch (Exception unexpectedEx) {
+                log.warn("Unexpected exception running event loop task", unexpectedEx);
+            }
+            task = tasks.poll();
+        }
+    }
+
+    void tick(long now) {
+        Iterator<Handler> iterator = handlers.iterator();
+        while (iterator.hasNext()) {
+            Handler handler = iterator.next();
+            try {
+                if (!handler.onTick(now)) {
+                    iterator.remove();
+                }
+            } catch (Exception unexpectedEx) {
+                log.warn("Unexpected exception checking timeouts of {}", handler, unexpectedEx);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.support.ServiceSupport;
+
+/**
+ * The event loops shared by the NIO consumers and producers of a MLLP component.
+ */
+public class MllpNioEventLoopGroup extends ServiceSupport {
+    private final CamelContext camelContext;
+    private final int size;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ExecutorService executorService;
+    private MllpNioEventLoop[] eventLoops;
+
+    public MllpNioEventLoopGroup(CamelContext camelContext, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The number of event loop threads must be positive - was " + size);
+        }
+        this.camelContext = camelContext;
+        this.size = size;
+    }
+
+    /**
+     * Select the event loop for a new channel in a round robin fashion.
+     */
+    public MllpNioEventLoop next() {
+        MllpNioEventLoop[] loops = eventLoops;
+        if (loops == null) {
+            throw new IllegalStateException("The MLLP event loops are not started");
+        }
+        return loops[Math.abs(next.getAndIncrement() % loops.length)];
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        executorService = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "MllpNioEventLoop", size);
+
+        MllpNioEventLoop[] loops = new MllpNioEventLoop[size];
+        for (int i = 0; i < size; ++i) {
+            loops[i] = new MllpNioEventLoop();
+            executorService.execute(loops[i]);
+        }
+        eventLoops = loops;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (eventLoops != null) {
+            for (MllpNioEventLoop eventLoop : eventLoops) {
+                eventLoop.shutdown();
+            }
+            eventLoops = null;
+        }
+
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+}
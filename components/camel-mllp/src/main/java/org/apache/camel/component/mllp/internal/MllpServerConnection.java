@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.net.Socket;
+
+import org.apache.camel.component.mllp.MllpSocketException;
+
+/**
+ * A TCP connection accepted by a MLLP consumer.
+ */
+public interface MllpServerConnection {
+
+    boolean hasLocalAddress();
+
+    String getLocalAddress();
+
+    boolean hasRemoteAddress();
+
+    String getRemoteAddress();
+
+    String getCombinedAddress();
+
+    Socket getSocket();
+
+    /**
+     * Get the buffer used to build the acknowledgement for the message being processed.
+     */
+    MllpSocketBuffer getMllpBuffer();
+
+    /**
+     * Write the content of the MLLP buffer to the connection.
+     */
+    void writeMllpBuffer() throws MllpSocketException;
+
+    /**
+     * Record the time a message was received on the connection.
+     */
+    void updateLastActivityTicks(long epochTicks);
+
+    void closeSocket();
+
+    void resetSocket();
+
+    void resetSocket(String logMessage);
+}
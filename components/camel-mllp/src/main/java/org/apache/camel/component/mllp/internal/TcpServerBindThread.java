@@ -68,7 +68,7 @@ public class TcpServerBindThread extends Thread {
         }
 
         try {
-            ServerSocket serverSocket = new ServerSocket();
+            ServerSocket serverSocket = consumer.createServerSocket();
             if (consumer.getConfiguration().hasReceiveBufferSize()) {
                 serverSocket.setReceiveBufferSize(consumer.getConfiguration().getReceiveBufferSize());
             }
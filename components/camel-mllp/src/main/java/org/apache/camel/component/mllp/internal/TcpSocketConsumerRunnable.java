@@ -49,7 +49,7 @@ import org.slf4j.MDC;
 /**
  * Runnable to read the Socket
  */
-public class TcpSocketConsumerRunnable implements Runnable {
+public class TcpSocketConsumerRunnable implements Runnable, MllpServerConnection {
     final Socket clientSocket;
     final MllpSocketBuffer mllpBuffer;
 
@@ -227,14 +227,27 @@ public class TcpSocketConsumerRunnable implements Runnable {
         }
     }
 
+    @Override
     public Socket getSocket() {
         return clientSocket;
     }
 
+    @Override
     public MllpSocketBuffer getMllpBuffer() {
         return mllpBuffer;
     }
 
+    @Override
+    public void writeMllpBuffer() throws MllpSocketException {
+        mllpBuffer.writeTo(clientSocket);
+    }
+
+    @Override
+    public void updateLastActivityTicks(long epochTicks) {
+        consumer.getConsumerRunnables().put(this, epochTicks);
+    }
+
+    @Override
     public void closeSocket() {
         mllpBuffer.closeSocket(clientSocket);
     }
@@ -243,10 +256,12 @@ public class TcpSocketConsumerRunnable implements Runnable {
         mllpBuffer.closeSocket(clientSocket, logMessage);
     }
 
+    @Override
     public void resetSocket() {
         mllpBuffer.resetSocket(clientSocket);
     }
 
+    @Override
     public void resetSocket(String logMessage) {
         mllpBuffer.resetSocket(clientSocket, logMessage);
     }
@@ -255,18 +270,22 @@ public class TcpSocketConsumerRunnable implements Runnable {
         running = false;
     }
 
+    @Override
     public boolean hasLocalAddress() {
         return localAddress != null && !localAddress.isEmpty();
     }
 
+    @Override
     public String getLocalAddress() {
         return localAddress;
     }
 
+    @Override
     public boolean hasRemoteAddress() {
         return remoteAddress != null && !remoteAddress.isEmpty();
     }
 
+    @Override
     public String getRemoteAddress() {
         return remoteAddress;
     }
@@ -275,6 +294,7 @@ public class TcpSocketConsumerRunnable implements Runnable {
         return combinedAddress != null && combinedAddress.isEmpty();
     }
 
+    @Override
     public String getCombinedAddress() {
         return combinedAddress;
     }
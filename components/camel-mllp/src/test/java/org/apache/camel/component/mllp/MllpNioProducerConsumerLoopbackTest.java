@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.test.mllp.Hl7TestMessageGenerator;
+import org.hamcrest.CoreMatchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MllpNioProducerConsumerLoopbackTest extends CamelTestSupport {
+    int mllpPort = AvailablePortFinder.getNextAvailable();
+    String mllpHost = "localhost";
+
+    @EndpointInject(uri = "direct://source")
+    ProducerTemplate source;
+
+    @EndpointInject(uri = "mock://acknowledged")
+    MockEndpoint acknowledged;
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                fromF("mllp://%s:%d?nio=true&autoAck=true&maxConcurrentConsumers=4", mllpHost, mllpPort).routeId("mllp-receiver")
+                    .convertBodyTo(String.class)
+                    .to(acknowledged);
+
+                from(source.getDefaultEndpoint()).routeId("mllp-sender")
+                    .toF("mllp://%s:%d?nio=true&synchronous=false", mllpHost, mllpPort)
+                    .process(exchange -> exchange.getIn().setHeader("continuedOn", Thread.currentThread().getName()))
+                    .setBody(header(MllpConstants.MLLP_ACKNOWLEDGEMENT_STRING));
+            }
+        };
+    }
+
+    @Test
+    public void testLoopbackWithOneMessage() throws Exception {
+        String testMessage = Hl7TestMessageGenerator.generateMessage();
+        acknowledged.expectedBodiesReceived(testMessage);
+
+        String acknowledgement = source.requestBody((Object) testMessage, String.class);
+        Assert.assertThat("Should be acknowledgment for message 1", acknowledgement, CoreMatchers.containsString("MSA|AA|00001"));
+
+        assertMockEndpointsSatisfied(60, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testContinueRoutingOffEventLoop() throws Exception {
+        acknowledged.expectedMessageCount(1);
+
+        Exchange exchange = source.request(source.getDefaultEndpoint(), e -> e.getIn().setBody(Hl7TestMessageGenerator.generateMessage()));
+        Assert.assertNull(exchange.getException());
+        String threadName = exchange.getOut().getHeader("continuedOn", String.class);
+        Assert.assertThat(threadName, CoreMatchers.containsString("MllpNioTcpClientProducer"));
+
+        assertMockEndpointsSatisfied(60, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testLoopbackWithMultipleMessages() throws Exception {
+        int messageCount = 500;
+        acknowledged.expectedMessageCount(messageCount);
+
+        for (int i = 1; i <= messageCount; ++i) {
+            String testMessage = Hl7TestMessageGenerator.generateMessage(i);
+            acknowledged.message(i - 1).body().isEqualTo(testMessage);
+            String acknowledgement = source.requestBody((Object) testMessage, String.class);
+            Assert.assertThat("Should be acknowledgment for message " + i, acknowledgement, CoreMatchers.containsString(String.format("MSA|AA|%05d", i)));
+        }
+
+        assertMockEndpointsSatisfied(60, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testPipelinedMessages() throws Exception {
+        int messageCount = 200;
+        acknowledged.expectedMessageCount(messageCount);
+
+        List<Future<String>> acknowledgements = new ArrayList<>(messageCount);
+        for (int i = 1; i <= messageCount; ++i) {
+            acknowledgements.add(source.asyncRequestBody(source.getDefaultEndpoint(), Hl7TestMessageGenerator.generateMessage(i), String.class));
+        }
+
+        for (int i = 1; i <= messageCount; ++i) {
+            String acknowledgement = acknowledgements.get(i - 1).get(30, TimeUnit.SECONDS);
+            Assert.assertThat("Should be acknowledgment for message " + i, acknowledgement, CoreMatchers.containsString(String.format("MSA|AA|%05d", i)));
+        }
+
+        assertMockEndpointsSatisfied(60, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testManyConnections() throws Exception {
+        int connectionCount = 50;
+        acknowledged.expectedMessageCount(connectionCount);
+
+        Endpoint endpoint = context.getEndpoint(String.format("mllp://%s:%d?nio=true", mllpHost, mllpPort));
+        List<MllpNioTcpClientProducer> producers = new ArrayList<>(connectionCount);
+        try {
+            for (int i = 1; i <= connectionCount; ++i) {
+                MllpNioTcpClientProducer producer = (MllpNioTcpClientProducer) endpoint.createProducer();
+                producer.start();
+                producers.add(producer);
+            }
+
+            int i = 1;
+            for (MllpNioTcpClientProducer producer : producers) {
+                Exchange exchange = producer.getEndpoint().createExchange();
+                exchange.getIn().setBody(Hl7TestMessageGenerator.generateMessage(i));
+                producer.process(exchange);
+                Assert.assertNull(exchange.getException());
+                Assert.assertThat(exchange.getIn().getHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_STRING, String.class),
+                    CoreMatchers.containsString(String.format("MSA|AA|%05d", i++)));
+            }
+
+            MllpNioTcpServerConsumer consumer = (MllpNioTcpServerConsumer) context.getRoute("mllp-receiver").getConsumer();
+            assertEquals(connectionCount, consumer.getConnectionCount());
+        } finally {
+            for (MllpNioTcpClientProducer producer : producers) {
+                producer.stop();
+            }
+        }
+
+        assertMockEndpointsSatisfied(60, TimeUnit.SECONDS);
+    }
+}
@@ -109,6 +109,11 @@ public abstract class TcpClientProducerEndOfDataAndValidationTestSupport extends
     protected int expectedFailedCount;
 
     abstract boolean requireEndOfData();
+
+    boolean nio() {
+        return false;
+    }
+
     abstract boolean validatePayload();
 
 
@@ -161,8 +166,8 @@ public abstract class TcpClientProducerEndOfDataAndValidationTestSupport extends
 
                 from(source.getDefaultEndpoint()).routeId(routeId)
                     .log(LoggingLevel.INFO, routeId, "Sending Message")
-                    .toF("mllp://%s:%d?receiveTimeout=%d&readTimeout=%d&validatePayload=%b&requireEndOfData=%b", mllpServer.getListenHost(), mllpServer.getListenPort(),
-                        RECEIVE_TIMEOUT, READ_TIMEOUT, validatePayload(), requireEndOfData())
+                    .toF("mllp://%s:%d?receiveTimeout=%d&readTimeout=%d&validatePayload=%b&requireEndOfData=%b&nio=%b", mllpServer.getListenHost(), mllpServer.getListenPort(),
+                        RECEIVE_TIMEOUT, READ_TIMEOUT, validatePayload(), requireEndOfData(), nio())
                     .log(LoggingLevel.INFO, routeId, "Received Acknowledgement")
                     .to(aa);
             }
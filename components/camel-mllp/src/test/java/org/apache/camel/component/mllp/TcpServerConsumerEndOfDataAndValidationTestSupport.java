@@ -87,8 +87,8 @@ public abstract class TcpServerConsumerEndOfDataAndValidationTestSupport extends
                 onCompletion().onFailureOnly()
                     .to(failed);
 
-                fromF("mllp://%s:%d?autoAck=true&connectTimeout=%d&receiveTimeout=%d&readTimeout=%d&validatePayload=%b&requireEndOfData=%b",
-                    mllpClient.getMllpHost(), mllpClient.getMllpPort(), CONNECT_TIMEOUT, RECEIVE_TIMEOUT, READ_TIMEOUT, validatePayload(), requireEndOfData())
+                fromF("mllp://%s:%d?autoAck=true&connectTimeout=%d&receiveTimeout=%d&readTimeout=%d&validatePayload=%b&requireEndOfData=%b&nio=%b",
+                    mllpClient.getMllpHost(), mllpClient.getMllpPort(), CONNECT_TIMEOUT, RECEIVE_TIMEOUT, READ_TIMEOUT, validatePayload(), requireEndOfData(), nio())
                     .routeId(routeId)
                     .log(LoggingLevel.INFO, routeId, "Test route received message")
                     .to(complete);
@@ -100,6 +100,10 @@ public abstract class TcpServerConsumerEndOfDataAndValidationTestSupport extends
     abstract boolean validatePayload();
     abstract boolean requireEndOfData();
 
+    boolean nio() {
+        return false;
+    }
+
     protected void setExpectedCounts() {
         complete.expectedMessageCount(expectedCompleteCount);
         failed.expectedMessageCount(expectedFailedCount);
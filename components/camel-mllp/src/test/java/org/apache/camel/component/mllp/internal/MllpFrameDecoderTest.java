@@ -0,0 +1,114 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the MllpFrameDecoder class.
+ */
+public class MllpFrameDecoderTest extends SocketBufferTestSupport {
+
+    @Test
+    public void testCompletePayload() throws Exception {
+        MllpFrameDecoder decoder = new MllpFrameDecoder(true);
+
+        decoder.append(ByteBuffer.wrap(buildTestBytes(true, true, true)));
+
+        assertArrayEquals(TEST_HL7_MESSAGE.getBytes(), decoder.nextPayload());
+        assertTrue(decoder.isEmpty());
+        assertNull(decoder.nextPayload());
+    }
+
+    @Test
+    public void testPayloadInMultipleReads() throws Exception {
+        MllpFrameDecoder decoder = new MllpFrameDecoder(true);
+        byte[] bytes = buildTestBytes(true, true, true);
+
+        for (int i = 0; i < bytes.length - 1; ++i) {
+            decoder.append(ByteBuffer.wrap(bytes, i, 1));
+            assertNull(decoder.nextPayload());
+            assertTrue(decoder.hasPartialPayload());
+        }
+
+        decoder.append(ByteBuffer.wrap(bytes, bytes.length - 1, 1));
+        assertArrayEquals(TEST_HL7_MESSAGE.getBytes(), decoder.nextPayload());
+        assertFalse(decoder.hasPartialPayload());
+    }
+
+    @Test
+    public void testPipelinedPayloads() throws Exception {
+        MllpFrameDecoder decoder = new MllpFrameDecoder(true);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(buildTestBytes("first", true, true, true));
+        bytes.write(buildTestBytes("second", true, true, true));
+        bytes.write(buildTestBytes("third", true, false, false));
+
+        decoder.append(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertArrayEquals("first".getBytes(), decoder.nextPayload());
+        assertArrayEquals("second".getBytes(), decoder.nextPayload());
+        assertNull(decoder.nextPayload());
+        assertEquals("third".length() + 1, decoder.size());
+    }
+
+    @Test
+    public void testOutOfBandData() throws Exception {
+        MllpFrameDecoder decoder = new MllpFrameDecoder(true);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write("garbage".getBytes());
+        bytes.write(buildTestBytes(true, true, true));
+        bytes.write("trailing".getBytes());
+
+        decoder.append(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertArrayEquals(TEST_HL7_MESSAGE.getBytes(), decoder.nextPayload());
+        assertNull(decoder.nextPayload());
+        assertTrue(decoder.isEmpty());
+    }
+
+    @Test
+    public void testRequiredEndOfData() throws Exception {
+        MllpFrameDecoder decoder = new MllpFrameDecoder(true);
+
+        decoder.append(ByteBuffer.wrap(buildTestBytes(true, true, false)));
+
+        assertNull(decoder.nextPayload());
+        assertTrue(decoder.hasPartialPayload());
+    }
+
+    @Test
+    public void testOptionalEndOfData() throws Exception {
+        MllpFrameDecoder decoder = new MllpFrameDecoder(false);
+
+        decoder.append(ByteBuffer.wrap(buildTestBytes(true, true, false)));
+        assertArrayEquals(TEST_HL7_MESSAGE.getBytes(), decoder.nextPayload());
+
+        decoder.append(ByteBuffer.wrap(buildTestBytes("second", true, true, true)));
+        assertArrayEquals("second".getBytes(), decoder.nextPayload());
+        assertTrue(decoder.isEmpty());
+    }
+}
@@ -85,6 +85,10 @@ public class MongoDbEndpoint extends DefaultEndpoint {
     private boolean dynamicity;
     @UriParam(label = "advanced")
     private boolean writeResultAsHeader;
+    @UriParam(label = "producer,advanced")
+    private int writeBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10")
+    private long writeBatchLingerTime = 10;
     // tailable cursor consumer by default
     private MongoDbConsumerType consumerType;
     @UriParam(label = "advanced", defaultValue = "1000")
@@ -618,6 +622,31 @@ public class MongoDbEndpoint extends DefaultEndpoint {
         this.writeResultAsHeader = writeResultAsHeader;
     }
 
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer coalesces insert, save and update exchanges which are processed
+     * concurrently and write to the same collection into unordered bulk writes of up to this size.
+     * Each exchange gets its own error, and inserted documents get their own id in the CamelMongoOid header.
+     * The result of save and update operations is the BulkWriteResult of the entire bulk write.
+     */
+    public void setWriteBatchSize(int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    public long getWriteBatchLingerTime() {
+        return writeBatchLingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to be added to a bulk write before its executed, when writeBatchSize is in use.
+     */
+    public void setWriteBatchLingerTime(long writeBatchLingerTime) {
+        this.writeBatchLingerTime = writeBatchLingerTime;
+    }
+
     public MongoDbOutputType getOutputType() {
         return outputType;
     }
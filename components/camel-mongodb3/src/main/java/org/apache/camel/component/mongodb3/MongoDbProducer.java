@@ -18,13 +18,19 @@ package org.apache.camel.component.mongodb3;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
@@ -32,19 +38,34 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.ThreadPoolRejectedPolicy;
 import org.apache.camel.TypeConverter;
-import org.apache.camel.impl.DefaultProducer;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.ExchangeBatcher;
 import org.apache.camel.util.MessageHelper;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.ServiceHelper;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,10 +94,13 @@ import static org.apache.camel.component.mongodb3.MongoDbConstants.WRITERESULT;
 /**
  * The MongoDb producer.
  */
-public class MongoDbProducer extends DefaultProducer {
+public class MongoDbProducer extends DefaultAsyncProducer {
     private static final Logger LOG = LoggerFactory.getLogger(MongoDbProducer.class);
     private final Map<MongoDbOperation, Processor> operations = new HashMap<>();
     private MongoDbEndpoint endpoint;
+    private ScheduledExecutorService batchExecutor;
+    private ExecutorService callbackExecutor;
+    private ExchangeBatcher<List<Object>> batcher;
 
     {
         bind(MongoDbOperation.aggregate, createDoAggregate());
@@ -100,7 +124,66 @@ public class MongoDbProducer extends DefaultProducer {
         this.endpoint = endpoint;
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (endpoint.getWriteBatchSize() > 0) {
+            batchExecutor = endpoint.getCamelContext().getExecutorServiceManager().newDefaultScheduledThreadPool(this, "MongoDbProducerWriteBatch");
+            batcher = new ExchangeBatcher<>(batchExecutor, (key, exchanges) -> processWriteBatch(exchanges));
+            batcher.setBatchSize(endpoint.getWriteBatchSize());
+            batcher.setLingerTime(endpoint.getWriteBatchLingerTime());
+            // continue routing the exchanges of a batch concurrently, and in the batch thread if the pool is saturated
+            callbackExecutor = endpoint.getCamelContext().getExecutorServiceManager().newThreadPool(this, "MongoDbProducerWriteBatchCallback",
+                new ThreadPoolProfileBuilder("MongoDbProducerWriteBatchCallback").rejectedPolicy(ThreadPoolRejectedPolicy.Abort).build());
+            batcher.setCallbackExecutor(callbackExecutor);
+            ServiceHelper.startService(batcher);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // stop the batcher first which executes the pending batches
+        ServiceHelper.stopService(batcher);
+        batcher = null;
+        if (batchExecutor != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdown(batchExecutor);
+            batchExecutor = null;
+        }
+        if (callbackExecutor != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdownGraceful(callbackExecutor);
+            callbackExecutor = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (batcher != null && isWriteBatchSupported(resolveOperation(exchange), exchange)) {
+                return batcher.add(getWriteBatchKey(exchange), exchange, callback);
+            }
+            process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    @Override
     public void process(Exchange exchange) throws Exception {
+        MongoDbOperation operation = resolveOperation(exchange);
+
+        try {
+            invokeOperation(operation, exchange);
+        } catch (Exception e) {
+            throw MongoDbComponent.wrapInCamelMongoDbException(e);
+        }
+
+    }
+
+    private MongoDbOperation resolveOperation(Exchange exchange) throws CamelMongoDbException {
         MongoDbOperation operation = endpoint.getOperation();
         Object header = exchange.getIn().getHeader(OPERATION_HEADER);
         if (header != null) {
@@ -116,13 +199,27 @@ public class MongoDbProducer extends DefaultProducer {
                 throw new CamelMongoDbException("Operation specified on header is not supported. Value: " + header, e);
             }
         }
+        return operation;
+    }
 
-        try {
-            invokeOperation(operation, exchange);
-        } catch (Exception e) {
-            throw MongoDbComponent.wrapInCamelMongoDbException(e);
+    /**
+     * Only exchanges which resolve to the same collection can be batched together, so the key holds the headers
+     * which are used to resolve the collection.
+     */
+    private List<Object> getWriteBatchKey(Exchange exchange) {
+        if (!endpoint.isDynamicity()) {
+            return Collections.emptyList();
         }
+        Message in = exchange.getIn();
+        return Arrays.asList(in.getHeader(DATABASE, String.class), in.getHeader(COLLECTION, String.class), in.getHeader(COLLECTION_INDEX));
+    }
 
+    private boolean isWriteBatchSupported(MongoDbOperation operation, Exchange exchange) {
+        if (operation == MongoDbOperation.insert) {
+            // a list of documents is already inserted using a single insertMany
+            return !(exchange.getIn().getBody() instanceof List);
+        }
+        return operation == MongoDbOperation.save || operation == MongoDbOperation.update;
     }
 
     /**
@@ -635,4 +732,135 @@ public class MongoDbProducer extends DefaultProducer {
             }
         };
     }
+
+    /**
+     * Executes the exchanges as a single unordered bulk write, and sets the result or error on each exchange.
+     */
+    @SuppressWarnings("unchecked")
+    protected void processWriteBatch(List<Exchange> exchanges) throws Exception {
+        // the exchanges which was added to the bulk write, as an exchange with an invalid payload fails on its own
+        List<Exchange> added = new ArrayList<>(exchanges.size());
+        List<MongoDbOperation> addedOperations = new ArrayList<>(exchanges.size());
+        List<WriteModel<Document>> requests = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            try {
+                MongoDbOperation operation = resolveOperation(exchange);
+                requests.add(createWriteModel(operation, exchange));
+                added.add(exchange);
+                addedOperations.add(operation);
+            } catch (Exception e) {
+                exchange.setException(MongoDbComponent.wrapInCamelMongoDbException(e));
+            }
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+
+        LOG.debug("Executing MongoDB bulk write of {} requests", requests.size());
+
+        // all the exchanges of the batch resolve to the same collection
+        MongoCollection<Document> dbCol = calculateCollection(added.get(0));
+        BulkWriteResult result;
+        Map<Integer, BulkWriteError> errors = new HashMap<>();
+        try {
+            result = dbCol.bulkWrite(requests, new BulkWriteOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteConcernError() != null) {
+                // the write concern was not satisfied for any of the requests
+                throw MongoDbComponent.wrapInCamelMongoDbException(e);
+            }
+            result = e.getWriteResult();
+            for (BulkWriteError error : e.getWriteErrors()) {
+                errors.put(error.getIndex(), error);
+            }
+        }
+
+        // the ids are only converted for save, as an upsert of an update may use any type of id
+        Map<Integer, BsonValue> upserts = new HashMap<>();
+        if (result.wasAcknowledged()) {
+            for (BulkWriteUpsert upsert : result.getUpserts()) {
+                upserts.put(upsert.getIndex(), upsert.getId());
+            }
+        }
+
+        for (int i = 0; i < added.size(); i++) {
+            Exchange exchange = added.get(i);
+            MongoDbOperation operation = addedOperations.get(i);
+            BulkWriteError error = errors.get(i);
+            if (error != null) {
+                exchange.setException(new CamelMongoDbException("MongoDB operation = " + operation + " failed with error code "
+                    + error.getCode() + ": " + error.getMessage()));
+                continue;
+            }
+
+            Object answer = result;
+            WriteModel<Document> request = requests.get(i);
+            if (request instanceof InsertOneModel) {
+                // the driver sets the id on the document when it was not provided
+                Document insertObject = ((InsertOneModel<Document>) request).getDocument();
+                exchange.getIn().setHeader(OID, insertObject.get(MONGO_ID));
+                answer = insertObject;
+            } else if (request instanceof ReplaceOneModel) {
+                Document saveObj = ((ReplaceOneModel<Document>) request).getReplacement();
+                Object id = saveObj.get(MONGO_ID);
+                if (id == null && upserts.containsKey(i)) {
+                    id = toJavaValue(upserts.get(i));
+                }
+                exchange.getIn().setHeader(OID, id);
+            }
+            copyHeaders(exchange);
+            moveBodyToOutIfResultIsReturnedAsHeader(exchange, operation);
+            processAndTransferResult(answer, exchange, operation);
+        }
+    }
+
+    private static Object toJavaValue(BsonValue value) {
+        // decode the value the same way as the values of the documents
+        BsonDocument document = new BsonDocument(MONGO_ID, value);
+        return new DocumentCodec().decode(new BsonDocumentReader(document), DecoderContext.builder().build()).get(MONGO_ID);
+    }
+
+    private WriteModel<Document> createWriteModel(MongoDbOperation operation, Exchange exchange) throws Exception {
+        if (operation == MongoDbOperation.insert) {
+            Document insertObject = exchange.getContext().getTypeConverter().tryConvertTo(Document.class, exchange, exchange.getIn().getBody());
+            if (insertObject == null) {
+                throw new CamelMongoDbException("MongoDB operation = insert, Body is not conversible to type Document");
+            }
+            return new InsertOneModel<>(insertObject);
+        } else if (operation == MongoDbOperation.save) {
+            Document saveObj = exchange.getIn().getMandatoryBody(Document.class);
+            UpdateOptions options = new UpdateOptions().upsert(true);
+            if (null == saveObj.get(MONGO_ID)) {
+                return new ReplaceOneModel<>(Filters.where("false"), saveObj, options);
+            } else {
+                return new ReplaceOneModel<>(eq(MONGO_ID, saveObj.get(MONGO_ID)), saveObj, options);
+            }
+        } else {
+            Bson updateCriteria = exchange.getIn().getHeader(CRITERIA, Bson.class);
+            Bson objNew;
+            if (null == updateCriteria) {
+                @SuppressWarnings("unchecked")
+                List<Bson> saveObj = exchange.getIn().getMandatoryBody((Class<List<Bson>>)Class.class.cast(List.class));
+                if (saveObj.size() != 2) {
+                    throw new CamelMongoDbException("MongoDB operation = update, failed because body is not a List of Document objects with size = 2");
+                }
+                updateCriteria = saveObj.get(0);
+                objNew = saveObj.get(1);
+            } else {
+                objNew = exchange.getIn().getMandatoryBody(Bson.class);
+            }
+
+            Boolean multi = exchange.getIn().getHeader(MULTIUPDATE, Boolean.class);
+            Boolean upsert = exchange.getIn().getHeader(UPSERT, Boolean.class);
+            UpdateOptions options = new UpdateOptions();
+            if (upsert != null) {
+                options.upsert(upsert);
+            }
+            if (multi == null || !multi) {
+                return new UpdateOneModel<>(updateCriteria, objNew, options);
+            } else {
+                return new UpdateManyModel<>(updateCriteria, objNew, options);
+            }
+        }
+    }
 }
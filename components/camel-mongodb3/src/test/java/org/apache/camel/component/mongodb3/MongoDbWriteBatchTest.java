@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.apache.camel.component.mongodb3.MongoDbConstants.MONGO_ID;
+
+public class MongoDbWriteBatchTest extends AbstractMongoDbTest {
+
+    @Test
+    public void testInsertIsBatched() throws Exception {
+        assertEquals(0, testCollection.count());
+
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Document document = new Document("scientist", "Einstein " + i);
+            futures.add(template.asyncSend("direct:insert", exchange -> exchange.getIn().setBody(document)));
+        }
+        for (Future<Exchange> future : futures) {
+            Exchange exchange = future.get();
+            assertNull(exchange.getException());
+            Document document = exchange.getOut().getBody(Document.class);
+            assertNotNull(document.get(MONGO_ID));
+            assertEquals(document.get(MONGO_ID), exchange.getOut().getHeader(MongoDbConstants.OID));
+        }
+        assertEquals(20, testCollection.count());
+    }
+
+    @Test
+    public void testErrorIsMappedToExchange() throws Exception {
+        testCollection.insertOne(new Document(MONGO_ID, "1").append("scientist", "Einstein"));
+
+        Future<Exchange> duplicate = template.asyncSend("direct:insert",
+            exchange -> exchange.getIn().setBody(new Document(MONGO_ID, "1").append("scientist", "Darwin")));
+        Future<Exchange> inserted = template.asyncSend("direct:insert",
+            exchange -> exchange.getIn().setBody(new Document(MONGO_ID, "2").append("scientist", "Curie")));
+
+        assertIsInstanceOf(CamelMongoDbException.class, duplicate.get().getException());
+        assertNull(inserted.get().getException());
+        assertEquals("Einstein", testCollection.find(eq(MONGO_ID, "1")).first().get("scientist"));
+        assertEquals("Curie", testCollection.find(eq(MONGO_ID, "2")).first().get("scientist"));
+    }
+
+    @Test
+    public void testSaveAndUpdateAreBatched() throws Exception {
+        testCollection.insertOne(new Document(MONGO_ID, "1").append("scientist", "Einstein"));
+
+        Future<Exchange> saved = template.asyncSend("direct:save",
+            exchange -> exchange.getIn().setBody(new Document("scientist", "Newton")));
+        Future<Exchange> updated = template.asyncSend("direct:update", exchange -> {
+            exchange.getIn().setHeader(MongoDbConstants.CRITERIA, eq(MONGO_ID, "1"));
+            exchange.getIn().setBody(new Document("$set", new Document("scientist", "Albert Einstein")));
+        });
+
+        assertNull(saved.get().getException());
+        assertNotNull(saved.get().getOut().getHeader(MongoDbConstants.OID));
+        assertIsInstanceOf(BulkWriteResult.class, updated.get().getOut().getBody());
+        assertEquals("Albert Einstein", testCollection.find(eq(MONGO_ID, "1")).first().get("scientist"));
+        assertEquals(2, testCollection.count());
+    }
+
+    @Test
+    public void testUpsertWithNonObjectIdIsBatched() throws Exception {
+        Future<Exchange> upserted = template.asyncSend("direct:update", exchange -> {
+            exchange.getIn().setHeader(MongoDbConstants.CRITERIA, eq(MONGO_ID, "7"));
+            exchange.getIn().setHeader(MongoDbConstants.UPSERT, true);
+            exchange.getIn().setBody(new Document("$set", new Document("scientist", "Curie")));
+        });
+        Future<Exchange> saved = template.asyncSend("direct:save",
+            exchange -> exchange.getIn().setBody(new Document("scientist", "Newton")));
+
+        assertNull(upserted.get().getException());
+        assertNull(saved.get().getException());
+        assertIsInstanceOf(ObjectId.class, saved.get().getOut().getHeader(MongoDbConstants.OID));
+        assertEquals("Curie", testCollection.find(eq(MONGO_ID, "7")).first().get("scientist"));
+        assertEquals(2, testCollection.count());
+    }
+
+    @Test
+    public void testDynamicCollectionIsPartOfTheBatch() throws Exception {
+        Future<Exchange> first = template.asyncSend("direct:dynamic",
+            exchange -> exchange.getIn().setBody(new Document("scientist", "Einstein")));
+        Future<Exchange> second = template.asyncSend("direct:dynamic", exchange -> {
+            exchange.getIn().setHeader(MongoDbConstants.COLLECTION, dynamicCollectionName);
+            exchange.getIn().setBody(new Document("scientist", "Darwin"));
+        });
+
+        assertNull(first.get().getException());
+        assertNull(second.get().getException());
+        assertEquals("Einstein", testCollection.find().first().get("scientist"));
+        assertEquals("Darwin", dynamicCollection.find().first().get("scientist"));
+        assertEquals(1, testCollection.count());
+        assertEquals(1, dynamicCollection.count());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                String uri = "mongodb3:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&writeBatchSize=10&writeBatchLingerTime=200";
+                from("direct:insert").to(uri + "&operation=insert");
+                from("direct:save").setHeader(MongoDbConstants.OPERATION_HEADER, constant("save")).to(uri + "&operation=insert");
+                from("direct:update").setHeader(MongoDbConstants.OPERATION_HEADER, constant("update")).to(uri + "&operation=insert");
+                from("direct:dynamic").to(uri + "&operation=insert&dynamicity=true");
+            }
+        };
+    }
+}
@@ -272,6 +272,12 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
         if (configuration.isDisableStreamCache()) {
             // keep the body as is, and use type converters
             answer.setBody(response.content());
+        } else if (configuration.isPassThroughResponseBuffer()) {
+            // facade the netty stream which is kept until the unit of work is done, so it can be written as is by a netty consumer
+            NettyChannelBufferStreamCache cache = new NettyChannelBufferStreamCache(response.content());
+            // add on completion to the cache which is needed for Camel to keep track of the lifecycle of the cache
+            exchange.addOnCompletion(new NettyChannelBufferStreamCacheOnCompletion(cache));
+            answer.setBody(cache);
         } else {
             // stores as byte array as the netty ByteBuf will be freed when the producer is done, and then we can no longer access the message body
             response.retain();
@@ -364,6 +370,9 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
 
         if (body instanceof ByteBuf) {
             buffer = (ByteBuf) body;
+        } else if (body instanceof NettyChannelBufferStreamCache) {
+            // write the netty stream as is without copying it, netty releases the slice when it has been written
+            buffer = ((NettyChannelBufferStreamCache) body).retainedSlice();
         } else {
             // try to convert to buffer first
             buffer = message.getBody(ByteBuf.class);
@@ -480,6 +489,9 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             ByteBuf buffer;
             if (body instanceof ByteBuf) {
                 buffer = (ByteBuf) body;
+            } else if (body instanceof NettyChannelBufferStreamCache) {
+                // send the netty stream as is without copying it, netty releases the slice when it has been written
+                buffer = ((NettyChannelBufferStreamCache) body).retainedSlice();
             } else {
                 // try to convert to buffer first
                 buffer = message.getBody(ByteBuf.class);
@@ -27,12 +27,14 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.apache.camel.component.netty4.ChannelHandlerFactory;
 import org.apache.camel.component.netty4.ClientInitializerFactory;
 import org.apache.camel.component.netty4.NettyConfiguration;
 import org.apache.camel.component.netty4.NettyProducer;
+import org.apache.camel.component.netty4.http.handlers.Http2ClientChannelHandler;
 import org.apache.camel.component.netty4.http.handlers.HttpClientChannelHandler;
 import org.apache.camel.component.netty4.ssl.SSLEngineFactory;
 import org.apache.camel.util.ObjectHelper;
@@ -48,6 +50,7 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
     protected NettyHttpConfiguration configuration;
     private NettyHttpProducer producer;
     private SSLContext sslContext;
+    private SslContext alpnSslContext;
 
     public HttpClientInitializerFactory() {
         // default constructor needed
@@ -65,6 +68,10 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
             LOG.info("Created SslContext {}", sslContext);
         }
         configuration = nettyProducer.getConfiguration();
+        if (sslContext != null && configuration.isHttp2()) {
+            // HTTP/2 over SSL is negotiated using ALPN
+            alpnSslContext = NettyHttpHelper.createAlpnSslContext(sslContext, true, false);
+        }
     }
 
     @Override
@@ -77,7 +84,7 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
         // create a new pipeline
         ChannelPipeline pipeline = ch.pipeline();
 
-        SslHandler sslHandler = configureClientSSLOnDemand();
+        SslHandler sslHandler = configureClientSSLOnDemand(ch);
         if (sslHandler != null) {
             //TODO must close on SSL exception
             //sslHandler.setCloseOnSSLException(true);
@@ -85,8 +92,13 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
             pipeline.addLast("ssl", sslHandler);
         }
         
-        pipeline.addLast("http", new HttpClientCodec());
-        
+        if (configuration.isHttp2()) {
+            // the HTTP/2 streams are translated from and into full HTTP/1.x messages
+            pipeline.addLast("http2", NettyHttpHelper.createHttp2ConnectionHandler(false, configuration.getChunkedMaxContentLength()));
+        } else {
+            pipeline.addLast("http", new HttpClientCodec());
+        }
+
         List<ChannelHandler> encoders = producer.getConfiguration().getEncoders();
         for (int x = 0; x < encoders.size(); x++) {
             ChannelHandler encoder = encoders.get(x);
@@ -106,6 +118,13 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
             }
             pipeline.addLast("decoder-" + x, decoder);
         }
+
+        if (configuration.isHttp2()) {
+            // the requests are multiplexed over the connection and the request timeout is per stream
+            pipeline.addLast("handler", new Http2ClientChannelHandler(producer));
+            return;
+        }
+
         pipeline.addLast("aggregator", new HttpObjectAggregator(configuration.getChunkedMaxContentLength()));
 
         if (producer.getConfiguration().getRequestTimeout() > 0) {
@@ -166,7 +185,7 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
         return answer;
     }
 
-    private SslHandler configureClientSSLOnDemand() throws Exception {
+    private SslHandler configureClientSSLOnDemand(Channel ch) throws Exception {
         if (!producer.getConfiguration().isSsl()) {
             return null;
         }
@@ -174,7 +193,12 @@ public class HttpClientInitializerFactory extends ClientInitializerFactory {
         if (producer.getConfiguration().getSslHandler() != null) {
             return producer.getConfiguration().getSslHandler();
         } else if (sslContext != null) {
-            SSLEngine engine = sslContext.createSSLEngine();
+            SSLEngine engine;
+            if (alpnSslContext != null) {
+                engine = alpnSslContext.newEngine(ch.alloc());
+            } else {
+                engine = sslContext.createSSLEngine();
+            }
             engine.setUseClientMode(true);
             if (producer.getConfiguration().getSslContextParameters() == null) {
                 // just set the enabledProtocols if the SslContextParameter doesn't set
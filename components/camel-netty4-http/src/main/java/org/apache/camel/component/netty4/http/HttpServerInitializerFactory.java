@@ -24,18 +24,29 @@ import javax.net.ssl.SSLEngine;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AsciiString;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.CamelContext;
 import org.apache.camel.component.netty4.ChannelHandlerFactory;
 import org.apache.camel.component.netty4.NettyConsumer;
 import org.apache.camel.component.netty4.NettyServerBootstrapConfiguration;
 import org.apache.camel.component.netty4.ServerInitializerFactory;
+import org.apache.camel.component.netty4.http.handlers.HttpServerUpgradeRequestHandler;
 import org.apache.camel.component.netty4.ssl.SSLEngineFactory;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -49,6 +60,7 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
     private static final Logger LOG = LoggerFactory.getLogger(HttpServerInitializerFactory.class);
     protected NettyHttpConsumer consumer;
     protected SSLContext sslContext;
+    protected SslContext alpnSslContext;
     protected NettyHttpConfiguration configuration;
 
     public HttpServerInitializerFactory() {
@@ -66,6 +78,10 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
 
         if (sslContext != null) {
             LOG.info("Created SslContext {}", sslContext);
+            if (configuration.isHttp2()) {
+                // HTTP/2 over SSL is negotiated using ALPN
+                alpnSslContext = NettyHttpHelper.createAlpnSslContext(sslContext, false, configuration.isNeedClientAuth());
+            }
         }
     }
 
@@ -79,7 +95,7 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
         // create a new pipeline
         ChannelPipeline pipeline = ch.pipeline();
         
-        SslHandler sslHandler = configureServerSSLOnDemand();
+        SslHandler sslHandler = configureServerSSLOnDemand(ch);
         if (sslHandler != null) {
             //TODO must close on SSL exception
             // sslHandler.setCloseOnSSLException(true);
@@ -87,7 +103,11 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
             pipeline.addLast("ssl", sslHandler);
         }
 
-        pipeline.addLast("decoder", new HttpRequestDecoder(4096, configuration.getMaxHeaderSize(), 8192));
+        if (configuration.isHttp2()) {
+            configureHttp2(pipeline, sslHandler != null);
+        } else {
+            pipeline.addLast("decoder", new HttpRequestDecoder(4096, configuration.getMaxHeaderSize(), 8192));
+        }
         List<ChannelHandler> decoders = consumer.getConfiguration().getDecoders();
         for (int x = 0; x < decoders.size(); x++) {
             ChannelHandler decoder = decoders.get(x);
@@ -97,7 +117,9 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
             }
             pipeline.addLast("decoder-" + x, decoder);
         }
-        pipeline.addLast("encoder", new HttpResponseEncoder());
+        if (!configuration.isHttp2()) {
+            pipeline.addLast("encoder", new HttpResponseEncoder());
+        }
         List<ChannelHandler> encoders = consumer.getConfiguration().getEncoders();
         for (int x = 0; x < encoders.size(); x++) {
             ChannelHandler encoder = encoders.get(x);
@@ -123,6 +145,42 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
         }
     }
 
+    /**
+     * Configures the pipeline to accept both HTTP/2 and HTTP/1.1, where the HTTP/2 streams are translated
+     * into full HTTP/1.x messages, so the rest of the pipeline can handle both protocols alike.
+     */
+    private void configureHttp2(ChannelPipeline pipeline, boolean ssl) {
+        final int maxContentLength = configuration.getChunkedMaxContentLength();
+        if (ssl) {
+            // the protocol has been negotiated using ALPN when the SSL handshake is done
+            pipeline.addLast("alpn", new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                @Override
+                protected void configurePipeline(ChannelHandlerContext ctx, String protocol) throws Exception {
+                    if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                        ctx.pipeline().addAfter(ctx.name(), "http2", NettyHttpHelper.createHttp2ConnectionHandler(true, maxContentLength));
+                    } else {
+                        ctx.pipeline().addAfter(ctx.name(), "codec", new HttpServerCodec(4096, configuration.getMaxHeaderSize(), 8192));
+                    }
+                }
+            });
+        } else {
+            // h2c either with prior knowledge, or by upgrading a HTTP/1.1 connection, otherwise HTTP/1.1 is used
+            HttpServerCodec codec = new HttpServerCodec(4096, configuration.getMaxHeaderSize(), 8192);
+            HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(codec, new HttpServerUpgradeHandler.UpgradeCodecFactory() {
+                @Override
+                public HttpServerUpgradeHandler.UpgradeCodec newUpgradeCodec(CharSequence protocol) {
+                    if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+                        return new Http2ServerUpgradeCodec(NettyHttpHelper.createHttp2ConnectionHandler(true, maxContentLength));
+                    }
+                    return null;
+                }
+            }, maxContentLength);
+            pipeline.addLast("h2c", new CleartextHttp2ServerUpgradeHandler(codec, upgradeHandler,
+                NettyHttpHelper.createHttp2ConnectionHandler(true, maxContentLength)));
+            pipeline.addLast("h2c-upgrade", new HttpServerUpgradeRequestHandler());
+        }
+    }
+
     private SSLContext createSSLContext(CamelContext camelContext, NettyServerBootstrapConfiguration configuration) throws Exception {
         if (!configuration.isSsl()) {
             return null;
@@ -167,7 +225,7 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
         return answer;
     }
 
-    private SslHandler configureServerSSLOnDemand() throws Exception {
+    private SslHandler configureServerSSLOnDemand(Channel ch) throws Exception {
         if (!consumer.getConfiguration().isSsl()) {
             return null;
         }
@@ -175,7 +233,12 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
         if (consumer.getConfiguration().getSslHandler() != null) {
             return consumer.getConfiguration().getSslHandler();
         } else if (sslContext != null) {
-            SSLEngine engine = sslContext.createSSLEngine();
+            SSLEngine engine;
+            if (alpnSslContext != null) {
+                engine = alpnSslContext.newEngine(ch.alloc());
+            } else {
+                engine = sslContext.createSSLEngine();
+            }
             engine.setUseClientMode(false);
             engine.setNeedClientAuth(consumer.getConfiguration().isNeedClientAuth());
             if (consumer.getConfiguration().getSslContextParameters() == null) {
@@ -33,11 +33,13 @@ import org.apache.camel.util.IOHelper;
 public final class NettyChannelBufferStreamCache extends InputStream implements StreamCache {
 
     private final ByteBuf buffer;
+    private final int start;
 
     public NettyChannelBufferStreamCache(ByteBuf buffer) {
         // retain the buffer so we keep it in use until we release it when we are done
         this.buffer = buffer.retain();
         this.buffer.markReaderIndex();
+        this.start = buffer.readerIndex();
     }
 
     @Override
@@ -58,13 +60,13 @@ public final class NettyChannelBufferStreamCache extends InputStream implements
     @Override
     public int read(byte[] b, int off, int len) throws IOException {
         // are we at end, then return -1
-        if (buffer.readerIndex() == buffer.capacity()) {
+        if (!buffer.isReadable()) {
             return -1;
         }
 
-        // ensure we don't read more than what we have in the buffer
+        // ensure we don't read more than what we have in the buffer, which may have a larger capacity
         int before = buffer.readerIndex();
-        int max = buffer.capacity() - before;
+        int max = buffer.readableBytes();
         len = Math.min(max, len);
 
         buffer.readBytes(b, off, len);
@@ -103,6 +105,16 @@ public final class NettyChannelBufferStreamCache extends InputStream implements
         return buffer.readableBytes();
     }
 
+    /**
+     * Gets a retained slice of the entire content of the buffer, which allows the content to be written
+     * to Netty without copying it. The slice has its own reader index, so reading this stream is not affected.
+     * <p/>
+     * The caller takes ownership of the slice and must release it, which Netty does when the slice has been written.
+     */
+    public ByteBuf retainedSlice() {
+        return buffer.retainedSlice(start, buffer.writerIndex() - start);
+    }
+
     /**
      * Release the buffer when we are done using it.
      */
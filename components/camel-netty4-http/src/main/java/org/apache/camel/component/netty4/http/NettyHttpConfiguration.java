@@ -67,6 +67,12 @@ public class NettyHttpConfiguration extends NettyConfiguration {
     private String okStatusCodeRange = "200-299";
     @UriParam(label = "producer,advanced")
     private boolean useRelativePath;
+    @UriParam(label = "producer,advanced")
+    private boolean passThroughResponseBuffer;
+    @UriParam(label = "advanced")
+    private boolean http2;
+    @UriParam(label = "producer,advanced", defaultValue = "1")
+    private int http2Connections = 1;
     
     public NettyHttpConfiguration() {
         // we need sync=true as http is request/reply by nature
@@ -327,4 +333,48 @@ public class NettyHttpConfiguration extends NettyConfiguration {
     public boolean isUseRelativePath() {
         return this.useRelativePath;        
     }
+
+    public boolean isPassThroughResponseBuffer() {
+        return passThroughResponseBuffer;
+    }
+
+    /**
+     * Whether the producer should keep the Netty buffer of the HTTP response as the message body, instead of copying
+     * the response into a byte array. The buffer is released when the unit of work of the {@link org.apache.camel.Exchange}
+     * is done, and is written as is, without copying, by a Netty HTTP consumer which makes this useful when proxying.
+     * Mind that the message body can then no longer be accessed after the exchange is done, such as the result of using
+     * a {@link org.apache.camel.ProducerTemplate} to call the producer.
+     * This option is not in use if disableStreamCache is enabled.
+     */
+    public void setPassThroughResponseBuffer(boolean passThroughResponseBuffer) {
+        this.passThroughResponseBuffer = passThroughResponseBuffer;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Whether to use HTTP/2. The consumer accepts HTTP/2 in addition to HTTP/1.1 on the same port, using h2c
+     * (with prior knowledge or by upgrading the connection) or, when using SSL, h2 negotiated with ALPN.
+     * The producer sends the requests as HTTP/2 streams which are multiplexed over a few connections, using h2c
+     * with prior knowledge or, when using SSL, h2 negotiated with ALPN. Mind that ALPN requires an SSL engine
+     * which supports it, such as from Java 9 or newer.
+     * This option is not in use for consumers using a shared Netty HTTP server.
+     */
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    public int getHttp2Connections() {
+        return http2Connections;
+    }
+
+    /**
+     * The number of connections the producer multiplexes the HTTP/2 requests over.
+     * The connections are opened on demand and the requests are spread over them in a round robin fashion.
+     */
+    public void setHttp2Connections(int http2Connections) {
+        this.http2Connections = http2Connections;
+    }
 }
@@ -28,6 +28,7 @@ public final class NettyHttpConstants {
     @Deprecated
     public static final String HTTP_RESPONSE_TEXT = Exchange.HTTP_RESPONSE_TEXT;
     public static final String HTTP_AUTHENTICATION = "CamelHttpAuthentication";
+    public static final String HTTP2_STREAM_ID = "CamelNettyHttp2StreamId";
 
     private NettyHttpConstants() {
     }
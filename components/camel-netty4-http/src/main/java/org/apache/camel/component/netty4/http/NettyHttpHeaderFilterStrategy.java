@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.netty4.http;
 
+import io.netty.handler.codec.http2.HttpConversionUtil;
 import org.apache.camel.impl.DefaultHeaderFilterStrategy;
 import org.apache.camel.spi.HeaderFilterStrategy;
 
@@ -44,6 +45,12 @@ public class NettyHttpHeaderFilterStrategy extends DefaultHeaderFilterStrategy {
         getOutFilter().add("via");
         getOutFilter().add("warning");
 
+        // the HTTP/2 extension headers are specific to the stream the message is received on
+        for (HttpConversionUtil.ExtensionHeaderNames name : HttpConversionUtil.ExtensionHeaderNames.values()) {
+            getInFilter().add(name.text().toString());
+            getOutFilter().add(name.text().toString());
+        }
+
         setLowerCase(true);
 
         // filter headers begin with "Camel" or "org.apache.camel"
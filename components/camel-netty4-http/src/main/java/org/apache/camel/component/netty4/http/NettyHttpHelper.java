@@ -22,11 +22,31 @@ import java.io.ObjectInputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import javax.net.ssl.SSLContext;
+
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandler;
+import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandlerBuilder;
+import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapterBuilder;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.RuntimeExchangeException;
@@ -292,4 +312,74 @@ public final class NettyHttpHelper {
         return false;
     }
 
+    /**
+     * Creates an empty response to the given request. When using HTTP/2 the response is sent on the same
+     * stream as the request.
+     *
+     * @param request the request, or <tt>null</tt> if not known
+     * @param status the status of the response
+     * @return the response
+     */
+    public static HttpResponse createEmptyResponse(HttpRequest request, HttpResponseStatus status) {
+        HttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status);
+        if (request != null) {
+            String streamId = request.headers().get(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text());
+            if (streamId != null) {
+                response.headers().set(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text(), streamId);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Creates the handler which translates between HTTP/2 streams and full HTTP/1.x messages, so the HTTP/2 requests
+     * and responses can be handled as any other HTTP message. The id of the stream is stored in the
+     * {@link io.netty.handler.codec.http2.HttpConversionUtil.ExtensionHeaderNames#STREAM_ID} header of the messages.
+     *
+     * @param server whether the handler is for the server or the client side of the connection
+     * @param maxContentLength the maximum length of the content of the messages
+     * @return the handler
+     */
+    public static HttpToHttp2ConnectionHandler createHttp2ConnectionHandler(boolean server, int maxContentLength) {
+        Http2Connection connection = new DefaultHttp2Connection(server);
+        return new HttpToHttp2ConnectionHandlerBuilder()
+            .connection(connection)
+            .frameListener(new InboundHttp2ToHttpAdapterBuilder(connection)
+                .maxContentLength(maxContentLength)
+                .propagateSettings(false)
+                .validateHttpHeaders(false)
+                .build())
+            // the client buffers the new streams until the server allows more concurrent streams
+            .encoderEnforceMaxConcurrentStreams(!server)
+            .build();
+    }
+
+    /**
+     * Wraps the SSL context so the HTTP/2 protocol can be negotiated using ALPN during the SSL handshake.
+     * The client only accepts HTTP/2, whereas the server falls back to HTTP/1.1.
+     *
+     * @param sslContext the SSL context
+     * @param client whether the context is for the client or the server side of the connection
+     * @param needClientAuth whether the server requires client authentication
+     * @return the SSL context supporting ALPN
+     */
+    public static SslContext createAlpnSslContext(SSLContext sslContext, boolean client, boolean needClientAuth) {
+        ApplicationProtocolConfig apn;
+        if (client) {
+            apn = new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.FATAL_ALERT,
+                ApplicationProtocolNames.HTTP_2);
+        } else {
+            apn = new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
+        }
+        // keep the cipher suites the SSL context is configured with
+        List<String> ciphers = Arrays.asList(sslContext.createSSLEngine().getEnabledCipherSuites());
+        ClientAuth clientAuth = needClientAuth ? ClientAuth.REQUIRE : ClientAuth.NONE;
+        return new JdkSslContext(sslContext, client, ciphers, IdentityCipherSuiteFilter.INSTANCE, apn, clientAuth);
+    }
+
 }
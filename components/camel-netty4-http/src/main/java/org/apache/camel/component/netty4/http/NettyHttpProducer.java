@@ -16,19 +16,26 @@
  */
 package org.apache.camel.component.netty4.http;
 
+import java.net.ConnectException;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.util.ReferenceCountUtil;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.component.netty4.NettyConfiguration;
 import org.apache.camel.component.netty4.NettyConstants;
 import org.apache.camel.component.netty4.NettyProducer;
+import org.apache.camel.component.netty4.http.handlers.Http2ClientChannelHandler;
 import org.apache.camel.support.SynchronizationAdapter;
 
 
@@ -37,6 +44,9 @@ import org.apache.camel.support.SynchronizationAdapter;
  */
 public class NettyHttpProducer extends NettyProducer {
 
+    private ChannelFuture[] http2Channels;
+    private int http2Index;
+
     public NettyHttpProducer(NettyHttpEndpoint nettyEndpoint, NettyConfiguration configuration) {
         super(nettyEndpoint, configuration);
     }
@@ -51,11 +61,118 @@ public class NettyHttpProducer extends NettyProducer {
         return (NettyHttpConfiguration) super.getConfiguration();
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (getConfiguration().isHttp2()) {
+            http2Channels = new ChannelFuture[Math.max(1, getConfiguration().getHttp2Connections())];
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // the HTTP/2 channels are closed together with all the other channels
+        super.doStop();
+        http2Channels = null;
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
+        if (getConfiguration().isHttp2()) {
+            return processHttp2(exchange, new NettyHttpProducerCallback(exchange, callback, getConfiguration()));
+        }
         return super.process(exchange, new NettyHttpProducerCallback(exchange, callback, getConfiguration()));
     }
 
+    /**
+     * Sends the request as a HTTP/2 stream over one of the connections, which are shared by all the exchanges
+     * instead of being borrowed from the pool.
+     */
+    private boolean processHttp2(final Exchange exchange, final AsyncCallback callback) {
+        if (!isRunAllowed()) {
+            if (exchange.getException() == null) {
+                exchange.setException(new RejectedExecutionException());
+            }
+            callback.done(true);
+            return true;
+        }
+
+        final ChannelFuture channelFuture;
+        final HttpRequest request;
+        try {
+            channelFuture = getHttp2Channel();
+            request = (HttpRequest) getRequestBody(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        channelFuture.addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                if (!future.isSuccess()) {
+                    ReferenceCountUtil.release(request);
+                    ConnectException cause = new ConnectException("Cannot connect to " + getConfiguration().getAddress());
+                    if (future.cause() != null) {
+                        cause.initCause(future.cause());
+                    }
+                    exchange.setException(cause);
+                    callback.done(false);
+                    return;
+                }
+                future.channel().pipeline().get(Http2ClientChannelHandler.class).send(request, exchange, callback);
+            }
+        });
+        return false;
+    }
+
+    /**
+     * Gets the next HTTP/2 channel in a round robin fashion, which is opened on demand.
+     */
+    private synchronized ChannelFuture getHttp2Channel() throws Exception {
+        http2Index = (http2Index + 1) % http2Channels.length;
+        ChannelFuture answer = http2Channels[http2Index];
+        if (answer == null || answer.isDone() && !isHttp2ChannelUsable(answer)) {
+            answer = openConnection().addListener(new ChannelFutureListener() {
+                @Override
+                public void operationComplete(ChannelFuture future) throws Exception {
+                    notifyChannelOpen(future);
+                }
+            });
+            http2Channels[http2Index] = answer;
+        }
+        return answer;
+    }
+
+    private static boolean isHttp2ChannelUsable(ChannelFuture channelFuture) {
+        Http2ClientChannelHandler handler = channelFuture.channel().pipeline().get(Http2ClientChannelHandler.class);
+        return channelFuture.isSuccess() && handler != null && handler.isUsable();
+    }
+
+    /**
+     * Stores the cookies of the response, and binds the response to the Camel message to set on the exchange.
+     *
+     * @param response the response received from the HTTP server
+     * @param exchange the exchange
+     * @return the Camel message to set as the response message on the exchange
+     * @throws Exception is thrown if error binding the response
+     */
+    public Message toCamelMessage(FullHttpResponse response, Exchange exchange) throws Exception {
+        // handle cookies
+        if (getEndpoint().getCookieHandler() != null) {
+            String actualUri = exchange.getIn().getHeader(Exchange.HTTP_URL, String.class);
+            URI uri = new URI(actualUri);
+            Map<String, List<String>> m = new HashMap<String, List<String>>();
+            for (String name : response.headers().names()) {
+                m.put(name, response.headers().getAll(name));
+            }
+            getEndpoint().getCookieHandler().storeCookies(exchange, uri, m);
+        }
+        // use the binding
+        return getEndpoint().getNettyHttpBinding().toCamelMessage(response, exchange, getConfiguration());
+    }
+
     @Override
     protected Object getRequestBody(Exchange exchange) throws Exception {
         // creating the url to use takes 2-steps
@@ -0,0 +1,262 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http2.Http2ConnectionAdapter;
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2Stream;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.component.netty4.NettyConstants;
+import org.apache.camel.component.netty4.http.NettyHttpProducer;
+import org.apache.camel.util.ExchangeHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Netty HTTP/2 client handler which multiplexes the requests of many exchanges over the same connection.
+ * Each request is sent on its own HTTP/2 stream, and the response is correlated with the exchange using
+ * the id of the stream.
+ * <p/>
+ * The state of the streams is only accessed from the event loop of the channel.
+ */
+public class Http2ClientChannelHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+    // use NettyHttpProducer as logger to make it easier to read the logs as this is part of the producer
+    private static final Logger LOG = LoggerFactory.getLogger(NettyHttpProducer.class);
+    private final NettyHttpProducer producer;
+    private final Map<Integer, PendingStream> streams = new HashMap<>();
+    private volatile ChannelHandlerContext ctx;
+    private volatile Http2ConnectionHandler http2Handler;
+
+    public Http2ClientChannelHandler(NettyHttpProducer producer) {
+        this.producer = producer;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        this.http2Handler = ctx.pipeline().get(Http2ConnectionHandler.class);
+        // a stream may be closed without a response, such as when the server is going away
+        http2Handler.connection().addListener(new Http2ConnectionAdapter() {
+            @Override
+            public void onStreamClosed(Http2Stream stream) {
+                // the streams which received a response are already removed
+                PendingStream pending = streams.get(stream.id());
+                if (pending != null) {
+                    fail(stream.id(), new CamelExchangeException("HTTP/2 stream " + stream.id() + " was closed without a response from remote server: "
+                        + producer.getConfiguration().getAddress(), pending.exchange));
+                }
+            }
+        });
+    }
+
+    /**
+     * Whether new requests can be sent using this connection.
+     */
+    public boolean isUsable() {
+        return ctx != null && ctx.channel().isActive() && !http2Handler.connection().goAwayReceived();
+    }
+
+    /**
+     * Sends the request on a new HTTP/2 stream, and signals the callback when the response has been received.
+     *
+     * @param request  the request, which is released if it could not be sent
+     * @param exchange the exchange
+     * @param callback the callback to signal when done
+     */
+    public void send(final HttpRequest request, final Exchange exchange, final AsyncCallback callback) {
+        // always queue the task, as when called from the connect listener the channel is not active yet,
+        // and the connection preface must be written before the request
+        ctx.executor().execute(new Runnable() {
+            @Override
+            public void run() {
+                doSend(request, exchange, callback);
+            }
+        });
+    }
+
+    private void doSend(HttpRequest request, Exchange exchange, AsyncCallback callback) {
+        // the stream ids must be created in increasing order, so they are assigned when writing from the event loop
+        int streamId = isUsable() ? http2Handler.connection().local().incrementAndGetNextStreamId() : -1;
+        if (streamId < 0) {
+            ReferenceCountUtil.release(request);
+            exchange.setException(new CamelExchangeException("Cannot send request as the HTTP/2 connection is no longer usable to remote server: "
+                + producer.getConfiguration().getAddress(), exchange));
+            callback.done(false);
+            return;
+        }
+
+        request.headers().setInt(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text(), streamId);
+        request.headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), producer.getConfiguration().isSsl() ? "https" : "http");
+
+        final PendingStream stream = new PendingStream(exchange, callback);
+        streams.put(streamId, stream);
+
+        long timeout = producer.getConfiguration().getRequestTimeout();
+        if (exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
+            timeout = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, Long.class);
+        }
+        if (timeout > 0) {
+            stream.timeout = ctx.executor().schedule(new RequestTimeoutTask(streamId), timeout, TimeUnit.MILLISECONDS);
+        }
+
+        final int id = streamId;
+        ctx.writeAndFlush(request).addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                if (!future.isSuccess()) {
+                    fail(id, future.cause());
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) throws Exception {
+        Integer streamId = response.headers().getInt(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text());
+        PendingStream stream = streamId != null ? streams.remove(streamId) : null;
+        if (stream == null) {
+            LOG.debug("Ignoring response on HTTP/2 stream {} as no exchange is waiting for it", streamId);
+            return;
+        }
+        stream.cancelTimeout();
+
+        Exchange exchange = stream.exchange;
+        try {
+            Message message = producer.toCamelMessage(response, exchange);
+            // set the result on either IN or OUT on the original exchange depending on its pattern
+            if (ExchangeHelper.isOutCapable(exchange)) {
+                exchange.setOut(message);
+            } else {
+                exchange.setIn(message);
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+        } finally {
+            // signal callback
+            stream.callback.done(false);
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        if (cause instanceof Http2Exception.StreamException) {
+            // only the stream failed, such as when it is reset by the server
+            fail(((Http2Exception.StreamException) cause).streamId(), cause);
+            return;
+        }
+
+        LOG.debug("Closing channel as an exception was thrown from Netty", cause);
+        failAll(cause);
+        ctx.close();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        LOG.trace("Channel closed: {}", ctx.channel());
+        if (!streams.isEmpty()) {
+            LOG.debug("Channel closed but no message received for {} streams from address: {}", streams.size(), producer.getConfiguration().getAddress());
+            failAll(null);
+        }
+        super.channelInactive(ctx);
+    }
+
+    private void fail(int streamId, Throwable cause) {
+        PendingStream stream = streams.remove(streamId);
+        if (stream != null) {
+            stream.cancelTimeout();
+            stream.exchange.setException(cause);
+            stream.callback.done(false);
+        }
+    }
+
+    private void failAll(Throwable cause) {
+        List<PendingStream> failed = new ArrayList<>(streams.values());
+        streams.clear();
+        for (PendingStream stream : failed) {
+            stream.cancelTimeout();
+            if (cause != null) {
+                stream.exchange.setException(cause);
+            } else {
+                stream.exchange.setException(new CamelExchangeException("No response received from remote server: "
+                    + producer.getConfiguration().getAddress(), stream.exchange));
+            }
+            stream.callback.done(false);
+        }
+    }
+
+    /**
+     * Task which fails the exchange and cancels the stream if no response has been received in time.
+     */
+    private final class RequestTimeoutTask implements Runnable {
+        private final int streamId;
+
+        private RequestTimeoutTask(int streamId) {
+            this.streamId = streamId;
+        }
+
+        @Override
+        public void run() {
+            if (!streams.containsKey(streamId)) {
+                return;
+            }
+            LOG.trace("Cancelling HTTP/2 stream {} as no response was received in time", streamId);
+            // fail the exchange before the stream is closed by cancelling it
+            fail(streamId, ReadTimeoutException.INSTANCE);
+            ChannelHandlerContext http2Ctx = ctx.pipeline().context(http2Handler);
+            http2Handler.encoder().writeRstStream(http2Ctx, streamId, Http2Error.CANCEL.code(), http2Ctx.newPromise());
+            http2Ctx.flush();
+        }
+    }
+
+    private static final class PendingStream {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private ScheduledFuture<?> timeout;
+
+        private PendingStream(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+
+        private void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+    }
+}
@@ -27,12 +27,12 @@ import javax.security.auth.login.LoginException;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.base64.Base64;
-import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http2.HttpConversionUtil;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.LoggingLevel;
@@ -40,7 +40,9 @@ import org.apache.camel.component.netty4.NettyConverter;
 import org.apache.camel.component.netty4.NettyHelper;
 import org.apache.camel.component.netty4.handlers.ServerChannelHandler;
 import org.apache.camel.component.netty4.http.HttpPrincipal;
+import org.apache.camel.component.netty4.http.NettyHttpConstants;
 import org.apache.camel.component.netty4.http.NettyHttpConsumer;
+import org.apache.camel.component.netty4.http.NettyHttpHelper;
 import org.apache.camel.component.netty4.http.NettyHttpSecurityConfiguration;
 import org.apache.camel.component.netty4.http.SecurityAuthenticator;
 import org.apache.camel.util.CamelLogger;
@@ -53,7 +55,6 @@ import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
-import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
 
 /**
  * Netty HTTP {@link ServerChannelHandler} that handles the incoming HTTP requests and routes
@@ -83,7 +84,7 @@ public class HttpServerChannelHandler extends ServerChannelHandler {
         if (consumer.isSuspended()) {
             // are we suspended?
             LOG.debug("Consumer suspended, cannot service request {}", request);
-            HttpResponse response = new DefaultHttpResponse(HTTP_1_1, SERVICE_UNAVAILABLE);
+            HttpResponse response = NettyHttpHelper.createEmptyResponse(request, SERVICE_UNAVAILABLE);
             response.headers().set(Exchange.CONTENT_TYPE, "text/plain");
             response.headers().set(Exchange.CONTENT_LENGTH, 0);
             ctx.writeAndFlush(response);
@@ -102,7 +103,7 @@ public class HttpServerChannelHandler extends ServerChannelHandler {
                 // allow them all
                 s = "GET,HEAD,POST,PUT,DELETE,TRACE,OPTIONS,CONNECT,PATCH";
             }
-            HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+            HttpResponse response = NettyHttpHelper.createEmptyResponse(request, OK);
             response.headers().set("Allow", s);
             // do not include content-type as that would indicate to the caller that we can only do text/plain
             response.headers().set(Exchange.CONTENT_LENGTH, 0);
@@ -111,7 +112,7 @@ public class HttpServerChannelHandler extends ServerChannelHandler {
         }
         if (consumer.getEndpoint().getHttpMethodRestrict() != null
                 && !consumer.getEndpoint().getHttpMethodRestrict().contains(request.method().name())) {
-            HttpResponse response = new DefaultHttpResponse(HTTP_1_1, METHOD_NOT_ALLOWED);
+            HttpResponse response = NettyHttpHelper.createEmptyResponse(request, METHOD_NOT_ALLOWED);
             response.headers().set(Exchange.CONTENT_TYPE, "text/plain");
             response.headers().set(Exchange.CONTENT_LENGTH, 0);
             ctx.writeAndFlush(response);
@@ -119,7 +120,7 @@ public class HttpServerChannelHandler extends ServerChannelHandler {
             return;
         }
         if ("TRACE".equals(request.method().name()) && !consumer.getEndpoint().isTraceEnabled()) {
-            HttpResponse response = new DefaultHttpResponse(HTTP_1_1, METHOD_NOT_ALLOWED);
+            HttpResponse response = NettyHttpHelper.createEmptyResponse(request, METHOD_NOT_ALLOWED);
             response.headers().set(Exchange.CONTENT_TYPE, "text/plain");
             response.headers().set(Exchange.CONTENT_LENGTH, 0);
             ctx.writeAndFlush(response);
@@ -128,7 +129,7 @@ public class HttpServerChannelHandler extends ServerChannelHandler {
         }
         // must include HOST header as required by HTTP 1.1
         if (!request.headers().contains(HttpHeaderNames.HOST.toString())) {
-            HttpResponse response = new DefaultHttpResponse(HTTP_1_1, BAD_REQUEST);
+            HttpResponse response = NettyHttpHelper.createEmptyResponse(request, BAD_REQUEST);
             //response.setChunked(false);
             response.headers().set(Exchange.CONTENT_TYPE, "text/plain");
             response.headers().set(Exchange.CONTENT_LENGTH, 0);
@@ -195,7 +196,7 @@ public class HttpServerChannelHandler extends ServerChannelHandler {
                         LOG.debug("Http Basic Auth not in role for username: {}", principal.getUsername());
                     }
                     // restricted resource, so send back 401 to require valid username/password
-                    HttpResponse response = new DefaultHttpResponse(HTTP_1_1, UNAUTHORIZED);
+                    HttpResponse response = NettyHttpHelper.createEmptyResponse(request, UNAUTHORIZED);
                     response.headers().set("WWW-Authenticate", "Basic realm=\"" + security.getRealm() + "\"");
                     response.headers().set(Exchange.CONTENT_TYPE, "text/plain");
                     response.headers().set(Exchange.CONTENT_LENGTH, 0);
@@ -296,6 +297,11 @@ public class HttpServerChannelHandler extends ServerChannelHandler {
             // Just make sure we close the connection this time.
             exchange.setProperty(HttpHeaderNames.CONNECTION.toString(), HttpHeaderValues.CLOSE.toString());
         }
+        // remember the HTTP/2 stream so the response is sent on the same stream
+        Integer streamId = request.headers().getInt(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text());
+        if (streamId != null) {
+            exchange.setProperty(NettyHttpConstants.HTTP2_STREAM_ID, streamId);
+        }
     }
 
     @Override
@@ -317,10 +323,16 @@ public class HttpServerChannelHandler extends ServerChannelHandler {
     @Override
     protected Object getResponseBody(Exchange exchange) throws Exception {
         // use the binding
+        HttpResponse response;
         if (exchange.hasOut()) {
-            return consumer.getEndpoint().getNettyHttpBinding().toNettyResponse(exchange.getOut(), consumer.getConfiguration());
+            response = consumer.getEndpoint().getNettyHttpBinding().toNettyResponse(exchange.getOut(), consumer.getConfiguration());
         } else {
-            return consumer.getEndpoint().getNettyHttpBinding().toNettyResponse(exchange.getIn(), consumer.getConfiguration());
+            response = consumer.getEndpoint().getNettyHttpBinding().toNettyResponse(exchange.getIn(), consumer.getConfiguration());
+        }
+        Integer streamId = exchange.getProperty(NettyHttpConstants.HTTP2_STREAM_ID, Integer.class);
+        if (streamId != null) {
+            response.headers().setInt(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text(), streamId);
         }
+        return response;
     }
 }
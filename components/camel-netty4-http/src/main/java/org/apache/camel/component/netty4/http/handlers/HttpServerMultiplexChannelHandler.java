@@ -26,7 +26,6 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
@@ -35,13 +34,13 @@ import io.netty.util.AttributeKey;
 import org.apache.camel.Exchange;
 import org.apache.camel.component.netty4.http.HttpServerConsumerChannelFactory;
 import org.apache.camel.component.netty4.http.NettyHttpConsumer;
+import org.apache.camel.component.netty4.http.NettyHttpHelper;
 import org.apache.camel.support.RestConsumerContextPathMatcher;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
-import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
 
 /**
  * A multiplex {@link org.apache.camel.component.netty4.http.HttpServerInitializerFactory} which keeps a list of handlers, and delegates to the
@@ -113,7 +112,7 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
             handler.channelRead(ctx, request);
         } else {
             // this resource is not found, so send empty response back
-            HttpResponse response = new DefaultHttpResponse(HTTP_1_1, NOT_FOUND);
+            HttpResponse response = NettyHttpHelper.createEmptyResponse(request, NOT_FOUND);
             response.headers().set(Exchange.CONTENT_TYPE, "text/plain");
             response.headers().set(Exchange.CONTENT_LENGTH, 0);
             ctx.writeAndFlush(response);
@@ -136,7 +135,7 @@ public class HttpServerMultiplexChannelHandler extends SimpleChannelInboundHandl
                 // we cannot throw the exception here
                 LOG.warn("HttpServerChannelHandler is not found as attachment to handle exception, send 404 back to the client.", cause);
                 // Now we just send 404 back to the client
-                HttpResponse response = new DefaultHttpResponse(HTTP_1_1, NOT_FOUND);
+                HttpResponse response = NettyHttpHelper.createEmptyResponse(null, NOT_FOUND);
                 response.headers().set(Exchange.CONTENT_TYPE, "text/plain");
                 response.headers().set(Exchange.CONTENT_LENGTH, 0);
                 ctx.writeAndFlush(response);
@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http.handlers;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+
+/**
+ * Handles the HTTP/1.1 request which upgraded the connection to HTTP/2, so the request is processed
+ * as any other request, and the response is sent on the first HTTP/2 stream, as the upgrade mandates.
+ */
+public class HttpServerUpgradeRequestHandler extends ChannelInboundHandlerAdapter {
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof HttpServerUpgradeHandler.UpgradeEvent) {
+            FullHttpRequest request = ((HttpServerUpgradeHandler.UpgradeEvent) evt).upgradeRequest().retain();
+            request.headers().remove(HttpHeaderNames.CONNECTION);
+            request.headers().remove(HttpHeaderNames.UPGRADE);
+            request.headers().remove(Http2CodecUtil.HTTP_UPGRADE_SETTINGS_HEADER);
+            request.headers().setInt(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text(), Http2CodecUtil.HTTP_UPGRADE_STREAM_ID);
+            ctx.fireChannelRead(request);
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+}
@@ -0,0 +1,168 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.netty4.NettyConstants;
+
+import org.junit.Test;
+
+public class NettyHttp2ProducerConsumerTest extends BaseNettyTest {
+
+    private final Set<SocketAddress> remoteAddresses = new HashSet<>();
+
+    @Test
+    public void testHttp2() throws Exception {
+        getMockEndpoint("mock:input").expectedBodiesReceived("Hello World");
+
+        String out = template.requestBody("netty4-http:http://localhost:{{port}}/foo?http2=true&requestTimeout=5000", "Hello World", String.class);
+        assertEquals("Bye Hello World", out);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testHttp2Multiplexing() throws Exception {
+        int size = 100;
+        getMockEndpoint("mock:input").expectedMessageCount(size);
+
+        List<Future<String>> replies = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            replies.add(template.asyncRequestBody("netty4-http:http://localhost:{{port}}/foo?http2=true&http2Connections=2", "Message " + i, String.class));
+        }
+        for (int i = 0; i < size; i++) {
+            assertEquals("Bye Message " + i, replies.get(i).get(20, TimeUnit.SECONDS));
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // all the requests should be multiplexed over the two connections
+        synchronized (remoteAddresses) {
+            assertTrue("Should use at most 2 connections but was " + remoteAddresses, remoteAddresses.size() <= 2);
+        }
+    }
+
+    @Test
+    public void testHttp11ClientToHttp2Server() throws Exception {
+        getMockEndpoint("mock:input").expectedBodiesReceived("Hello World");
+
+        String out = template.requestBody("netty4-http:http://localhost:{{port}}/foo", "Hello World", String.class);
+        assertEquals("Bye Hello World", out);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testHttp2Upgrade() throws Exception {
+        try (Socket socket = new Socket("localhost", getPort())) {
+            socket.setSoTimeout(10000);
+            OutputStream os = socket.getOutputStream();
+            os.write(("GET /foo HTTP/1.1\r\nHost: localhost\r\nConnection: Upgrade, HTTP2-Settings\r\n"
+                + "Upgrade: h2c\r\nHTTP2-Settings: AAMAAABkAAQAAP__\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            os.flush();
+
+            InputStream is = socket.getInputStream();
+            byte[] buffer = new byte[12];
+            int read = 0;
+            while (read < buffer.length) {
+                int n = is.read(buffer, read, buffer.length - read);
+                assertTrue("Should receive a response", n > 0);
+                read += n;
+            }
+            assertEquals("HTTP/1.1 101", new String(buffer, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    public void testHttp2RequestTimeout() throws Exception {
+        try {
+            template.requestBody("netty4-http:http://localhost:{{port}}/timeout?http2=true&requestTimeout=500", "Hello Camel", String.class);
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ReadTimeoutException.class, e.getCause());
+        }
+
+        // the connection is still usable after a stream has been cancelled
+        String out = template.requestBodyAndHeader("netty4-http:http://localhost:{{port}}/timeout?http2=true&requestTimeout=500", "Hello World",
+            NettyConstants.NETTY_REQUEST_TIMEOUT, 5000, String.class);
+        assertEquals("Bye World", out);
+    }
+
+    @Test
+    public void testHttp2Error() throws Exception {
+        Exchange out = template.request("netty4-http:http://localhost:{{port}}/foo?http2=true&throwExceptionOnFailure=false", new Processor() {
+            @Override
+            public void process(Exchange exchange) throws Exception {
+                exchange.getIn().setBody("Kaboom");
+            }
+        });
+        assertEquals(500, out.getOut().getHeader(Exchange.HTTP_RESPONSE_CODE));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("netty4-http:http://0.0.0.0:{{port}}/foo?http2=true")
+                    .process(new Processor() {
+                        @Override
+                        public void process(Exchange exchange) throws Exception {
+                            synchronized (remoteAddresses) {
+                                remoteAddresses.add(exchange.getIn().getHeader(NettyConstants.NETTY_REMOTE_ADDRESS, SocketAddress.class));
+                            }
+                            if ("Kaboom".equals(exchange.getIn().getBody(String.class))) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        }
+                    })
+                    .to("mock:input")
+                    .transform().simple("Bye ${body}");
+
+                from("netty4-http:http://0.0.0.0:{{port}}/timeout?http2=true")
+                    .process(new Processor() {
+                        @Override
+                        public void process(Exchange exchange) throws Exception {
+                            String body = exchange.getIn().getBody(String.class);
+                            if (body.contains("Camel")) {
+                                Thread.sleep(2000);
+                            }
+                        }
+                    })
+                    .transform().constant("Bye World");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class NettyHttpProducerBridgePassThroughTest extends BaseNettyTest {
+
+    private int port1;
+    private int port2;
+
+    @Test
+    public void testProxy() throws Exception {
+        MockEndpoint request = getMockEndpoint("mock:request");
+        request.message(0).body().isInstanceOf(NettyChannelBufferStreamCache.class);
+        MockEndpoint response = getMockEndpoint("mock:response");
+        response.message(0).body().isInstanceOf(NettyChannelBufferStreamCache.class);
+
+        String reply = template.requestBody("netty4-http:http://localhost:" + port1 + "/foo", "World", String.class);
+        assertEquals("Bye World", reply);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testProxyLargePayload() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 512 * 1024; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        String body = sb.toString();
+
+        for (int i = 0; i < 5; i++) {
+            String reply = template.requestBody("netty4-http:http://localhost:" + port1 + "/foo", body + i, String.class);
+            assertEquals("Bye " + body + i, reply);
+        }
+    }
+
+    @Test
+    public void testRetainedSlice() throws Exception {
+        ByteBuf buffer = Unpooled.copiedBuffer("Hello World".getBytes());
+        NettyChannelBufferStreamCache cache = new NettyChannelBufferStreamCache(buffer);
+        buffer.release();
+
+        // reading the stream does not affect the slice
+        assertEquals('H', cache.read());
+        ByteBuf slice = cache.retainedSlice();
+        assertEquals(2, buffer.refCnt());
+        assertEquals("Hello World", slice.toString(StandardCharsets.UTF_8));
+
+        // the buffer is freed when both the writer and the unit of work are done
+        slice.release();
+        cache.release();
+        assertEquals(0, buffer.refCnt());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                port1 = getPort();
+                port2 = getNextPort();
+
+                from("netty4-http:http://0.0.0.0:" + port1 + "/foo")
+                        .to("mock:request")
+                        .to("netty4-http:http://localhost:" + port2 + "/bar?bridgeEndpoint=true&passThroughResponseBuffer=true")
+                        .to("mock:response");
+
+                from("netty4-http:http://0.0.0.0:" + port2 + "/bar")
+                        .transform().simple("Bye ${body}");
+            }
+        };
+    }
+
+}
@@ -24,6 +24,7 @@ public final class ReactiveStreamsConstants {
     public static final String SCHEME = "reactive-streams";
     public static final String SERVICE_PATH = "META-INF/services/org/apache/camel/reactive-streams/";
     public static final String DEFAULT_SERVICE_NAME =  "default-service";
+    public static final String BOUNDED_SERVICE_NAME =  "bounded-service";
 
     /**
      * Every exchange consumed by Camel has this header set to indicate if the exchange
@@ -0,0 +1,44 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.reactive.streams.engine;
+
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.reactive.streams.ReactiveStreamsBackpressureStrategy;
+import org.reactivestreams.Subscriber;
+
+/**
+ * A Camel publisher whose subscriptions use bounded buffers.
+ */
+public class BoundedCamelPublisher extends CamelPublisher {
+
+    private final ReactiveStreamsEngineConfiguration configuration;
+
+    public BoundedCamelPublisher(ExecutorService workerPool, CamelContext context, String name, ReactiveStreamsEngineConfiguration configuration) {
+        super(workerPool, context, name);
+        this.configuration = configuration;
+    }
+
+    @Override
+    protected CamelSubscription createSubscription(String id, ExecutorService workerPool, String streamName,
+                                                   ReactiveStreamsBackpressureStrategy backpressureStrategy, Subscriber<? super Exchange> subscriber) {
+        return new BoundedCamelSubscription(id, workerPool, this, streamName, backpressureStrategy, subscriber,
+            configuration.getBufferSize(), configuration.getBufferLowWatermark(), configuration.getBufferFullTimeout());
+    }
+}
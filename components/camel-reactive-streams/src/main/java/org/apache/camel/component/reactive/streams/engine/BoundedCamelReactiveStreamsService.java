@@ -0,0 +1,49 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.reactive.streams.engine;
+
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.component.reactive.streams.ReactiveStreamsConstants;
+
+/**
+ * A reactive streams service that buffers the exchanges sent to each subscriber in
+ * bounded lock-free queues.
+ * <p/>
+ * With the BUFFER backpressure strategy, a full buffer suspends the consumer of the
+ * route that sends exchanges to the stream, until the subscriber catches up.
+ * A slow subscriber cannot then make the buffers grow without limit.
+ */
+@ManagedResource(description = "Managed CamelReactiveStreamsService")
+public class BoundedCamelReactiveStreamsService extends DefaultCamelReactiveStreamsService {
+
+    public BoundedCamelReactiveStreamsService(CamelContext context, ReactiveStreamsEngineConfiguration configuration) {
+        super(context, configuration);
+    }
+
+    @Override
+    public String getId() {
+        return ReactiveStreamsConstants.BOUNDED_SERVICE_NAME;
+    }
+
+    @Override
+    protected CamelPublisher createPublisher(ExecutorService workerPool, CamelContext context, String name) {
+        return new BoundedCamelPublisher(workerPool, context, name, getConfiguration());
+    }
+}
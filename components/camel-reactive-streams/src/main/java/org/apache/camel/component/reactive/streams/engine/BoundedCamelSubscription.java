@@ -0,0 +1,390 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.reactive.streams.engine;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.Route;
+import org.apache.camel.Suspendable;
+import org.apache.camel.component.reactive.streams.ReactiveStreamsBackpressureStrategy;
+import org.apache.camel.component.reactive.streams.ReactiveStreamsDiscardedException;
+import org.apache.camel.component.reactive.streams.ReactiveStreamsHelper;
+import org.apache.camel.util.ServiceHelper;
+import org.reactivestreams.Subscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A subscription that buffers exchanges in a bounded lock-free queue.
+ * <p/>
+ * Exchanges are delivered by a single drain loop running on the worker pool, that emits
+ * at most the number of exchanges requested by the subscriber. When the buffer is full:
+ * <ul>
+ *     <li>BUFFER: the exchange is kept and the consumer of the route that produced it is
+ *     suspended, until the buffer is drained below the low watermark. If the consumer cannot be
+ *     suspended, the calling thread waits for room in the buffer, and the exchange is discarded
+ *     if the buffer is still full after the timeout</li>
+ *     <li>OLDEST: the incoming exchange is discarded</li>
+ *     <li>LATEST: the oldest buffered exchange is discarded</li>
+ * </ul>
+ */
+public class BoundedCamelSubscription extends CamelSubscription {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BoundedCamelSubscription.class);
+
+    private final ExecutorService workerPool;
+
+    private final CamelPublisher publisher;
+
+    private final String streamName;
+
+    private final Subscriber<? super Exchange> subscriber;
+
+    private final MpscArrayQueue<Exchange> queue;
+
+    /**
+     * Exchanges that did not fit in the queue while their consumer is being suspended, which is
+     * bounded by the number of exchanges in flight in the suspended routes.
+     */
+    private final Queue<Exchange> overflow = new ConcurrentLinkedQueue<>();
+
+    private final Set<Consumer> suspendedConsumers = new HashSet<>();
+
+    private final int lowWatermark;
+
+    private final long bufferFullTimeout;
+
+    /**
+     * Route threads waiting for room in the queue, as their consumer cannot be suspended.
+     */
+    private final Object notFull = new Object();
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final AtomicLong requested = new AtomicLong();
+
+    /**
+     * Number of pending drain requests, the drain loop runs while it is greater than zero.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile ReactiveStreamsBackpressureStrategy backpressureStrategy;
+
+    private volatile Throwable error;
+
+    private volatile boolean terminating;
+
+    private volatile boolean terminated;
+
+    public BoundedCamelSubscription(String id, ExecutorService workerPool, CamelPublisher publisher, String streamName,
+                                    ReactiveStreamsBackpressureStrategy backpressureStrategy, Subscriber<? super Exchange> subscriber,
+                                    int bufferSize, double bufferLowWatermark, long bufferFullTimeout) {
+        super(id, workerPool, publisher, streamName, backpressureStrategy, subscriber);
+        this.workerPool = workerPool;
+        this.publisher = publisher;
+        this.streamName = streamName;
+        this.backpressureStrategy = backpressureStrategy;
+        this.subscriber = subscriber;
+        this.queue = new MpscArrayQueue<>(bufferSize);
+        this.lowWatermark = (int) Math.round(queue.capacity() * Math.max(0, Math.min(1, bufferLowWatermark)));
+        this.bufferFullTimeout = bufferFullTimeout;
+    }
+
+    @Override
+    public void request(long n) {
+        LOG.debug("Requested {} events from subscriber", n);
+        if (n <= 0) {
+            // signalled by the drain loop to keep the signals serialized
+            error = new IllegalArgumentException("3.9");
+        } else {
+            for (;;) {
+                long current = requested.get();
+                if (current == Long.MAX_VALUE) {
+                    break;
+                }
+                long next = current + n;
+                if (next < 0) {
+                    next = Long.MAX_VALUE;
+                }
+                if (requested.compareAndSet(current, next)) {
+                    break;
+                }
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        publisher.unsubscribe(this);
+        terminated = true;
+        drain();
+    }
+
+    @Override
+    public void signalCompletion() throws Exception {
+        terminating = true;
+        drain();
+    }
+
+    @Override
+    public void publish(Exchange message) {
+        if (terminating || terminated) {
+            discard(message, new ReactiveStreamsDiscardedException("Discarded: subscription closed", message, streamName));
+            return;
+        }
+
+        if (!overflow.isEmpty() || !queue.offer(message)) {
+            ReactiveStreamsBackpressureStrategy strategy = this.backpressureStrategy;
+            if (strategy == ReactiveStreamsBackpressureStrategy.OLDEST) {
+                discard(message, new ReactiveStreamsDiscardedException("Discarded by backpressure strategy", message, streamName));
+            } else if (strategy == ReactiveStreamsBackpressureStrategy.LATEST) {
+                // the drain loop discards the oldest exchange to make room for it
+                overflow.add(message);
+            } else {
+                Consumer consumer = getSuspendableConsumer(message);
+                if (consumer != null) {
+                    // the drain loop moves it to the queue, no more exchanges come from the suspended route
+                    overflow.add(message);
+                    suspendConsumer(consumer);
+                } else if (!offer(message)) {
+                    discard(message, new ReactiveStreamsDiscardedException("Discarded: buffer full", message, streamName));
+                    return;
+                }
+            }
+        }
+
+        drain();
+    }
+
+    /**
+     * Blocks the calling thread until there is room in the queue, the subscription is closed or the timeout elapses.
+     */
+    private boolean offer(Exchange message) {
+        LOG.debug("Buffer of stream '{}' is full and the exchange has no suspendable consumer: waiting to buffer {}", streamName, message);
+        long deadline = System.currentTimeMillis() + bufferFullTimeout;
+        synchronized (notFull) {
+            waiting.incrementAndGet();
+            try {
+                while (!queue.offer(message)) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0 || terminating || terminated) {
+                        return false;
+                    }
+                    drain();
+                    notFull.wait(remaining);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+    }
+
+    private void signalNotFull() {
+        if (waiting.get() > 0) {
+            synchronized (notFull) {
+                notFull.notifyAll();
+            }
+        }
+    }
+
+    protected void drain() {
+        if (wip.getAndIncrement() == 0) {
+            workerPool.execute(this::drainLoop);
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (!terminated) {
+                Throwable failure = error;
+                if (failure != null) {
+                    terminate();
+                    subscriber.onError(failure);
+                } else {
+                    emit();
+                }
+            }
+
+            if (terminated) {
+                clear();
+            } else if (overflow.isEmpty() && queue.size() <= lowWatermark && getSuspendedConsumers() > 0) {
+                resumeConsumers();
+            }
+            signalNotFull();
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void emit() {
+        if (backpressureStrategy == ReactiveStreamsBackpressureStrategy.LATEST) {
+            Exchange latest;
+            while ((latest = overflow.peek()) != null) {
+                if (queue.offer(latest)) {
+                    overflow.poll();
+                } else {
+                    Exchange oldest = queue.poll();
+                    if (oldest != null) {
+                        discard(oldest, new ReactiveStreamsDiscardedException("Discarded by backpressure strategy", oldest, streamName));
+                    }
+                }
+            }
+        }
+
+        long demand = requested.get();
+        long emitted = 0;
+        while (emitted != demand && !terminated) {
+            Exchange exchange = poll();
+            if (exchange == null) {
+                break;
+            }
+
+            try {
+                subscriber.onNext(exchange);
+            } catch (Throwable t) {
+                // rule 2.13: the subscription is considered cancelled
+                LOG.warn("Subscriber of stream '" + streamName + "' failed to handle an exchange: subscription cancelled", t);
+                terminate();
+                discard(exchange, t);
+                return;
+            }
+            emitted++;
+        }
+
+        if (emitted > 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+
+        if (terminating && !terminated && (isEmpty() || requested.get() == 0)) {
+            terminate();
+            subscriber.onComplete();
+        }
+    }
+
+    private Exchange poll() {
+        Exchange exchange = queue.poll();
+        if (exchange == null) {
+            return overflow.poll();
+        }
+
+        // keep the queue full while there are overflowing exchanges, preserving their order
+        Exchange next = overflow.peek();
+        if (next != null && queue.offer(next)) {
+            overflow.poll();
+        }
+        return exchange;
+    }
+
+    private boolean isEmpty() {
+        return queue.isEmpty() && overflow.isEmpty();
+    }
+
+    private void terminate() {
+        terminated = true;
+        publisher.unsubscribe(this);
+    }
+
+    private void clear() {
+        Exchange exchange;
+        while ((exchange = poll()) != null) {
+            discard(exchange, new IllegalStateException("Cannot process the exchange " + exchange + ": subscription cancelled"));
+        }
+        resumeConsumers();
+    }
+
+    private void discard(Exchange exchange, Throwable cause) {
+        ReactiveStreamsHelper.invokeDispatchCallback(exchange, cause);
+    }
+
+    private Consumer getSuspendableConsumer(Exchange exchange) {
+        String routeId = exchange.getFromRouteId();
+        Route route = routeId != null ? exchange.getContext().getRoute(routeId) : null;
+        Consumer consumer = route != null ? route.getConsumer() : null;
+        return consumer instanceof Suspendable ? consumer : null;
+    }
+
+    private void suspendConsumer(Consumer consumer) {
+        synchronized (suspendedConsumers) {
+            if (suspendedConsumers.add(consumer)) {
+                try {
+                    if (ServiceHelper.suspendService(consumer)) {
+                        LOG.debug("Buffer of stream '{}' is full: suspended consumer {}", streamName, consumer);
+                    }
+                } catch (Exception e) {
+                    LOG.warn("Cannot suspend consumer " + consumer + " of stream '" + streamName + "'", e);
+                }
+            }
+        }
+    }
+
+    private void resumeConsumers() {
+        synchronized (suspendedConsumers) {
+            for (Consumer consumer : suspendedConsumers) {
+                try {
+                    if (ServiceHelper.resumeService(consumer)) {
+                        LOG.debug("Buffer of stream '{}' drained: resumed consumer {}", streamName, consumer);
+                    }
+                } catch (Exception e) {
+                    LOG.warn("Cannot resume consumer " + consumer + " of stream '" + streamName + "'", e);
+                }
+            }
+            suspendedConsumers.clear();
+        }
+    }
+
+    @Override
+    public void setBackpressureStrategy(ReactiveStreamsBackpressureStrategy backpressureStrategy) {
+        this.backpressureStrategy = backpressureStrategy;
+    }
+
+    @Override
+    public ReactiveStreamsBackpressureStrategy getBackpressureStrategy() {
+        return backpressureStrategy;
+    }
+
+    @Override
+    public long getBufferSize() {
+        return queue.size() + overflow.size();
+    }
+
+    public long getRequested() {
+        return requested.get();
+    }
+
+    public int getSuspendedConsumers() {
+        synchronized (suspendedConsumers) {
+            return suspendedConsumers.size();
+        }
+    }
+}
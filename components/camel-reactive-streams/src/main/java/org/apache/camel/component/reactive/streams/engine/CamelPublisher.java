@@ -64,11 +64,16 @@ public class CamelPublisher implements Publisher<Exchange>, AutoCloseable {
     @Override
     public void subscribe(Subscriber<? super Exchange> subscriber) {
         Objects.requireNonNull(subscriber, "subscriber must not be null");
-        CamelSubscription sub = new CamelSubscription(UUID.randomUUID().toString(), workerPool, this, name, this.backpressureStrategy, subscriber);
+        CamelSubscription sub = createSubscription(UUID.randomUUID().toString(), workerPool, name, this.backpressureStrategy, subscriber);
         this.subscriptions.add(sub);
         subscriber.onSubscribe(sub);
     }
 
+    protected CamelSubscription createSubscription(String id, ExecutorService workerPool, String streamName,
+                                                   ReactiveStreamsBackpressureStrategy backpressureStrategy, Subscriber<? super Exchange> subscriber) {
+        return new CamelSubscription(id, workerPool, this, streamName, backpressureStrategy, subscriber);
+    }
+
     public void unsubscribe(CamelSubscription subscription) {
         subscriptions.remove(subscription);
     }
@@ -195,10 +195,18 @@ public class DefaultCamelReactiveStreamsService extends ServiceSupport implement
     }
 
     private CamelPublisher getPayloadPublisher(String name) {
-        publishers.computeIfAbsent(name, n -> new CamelPublisher(this.workerPool, this.context, n));
+        publishers.computeIfAbsent(name, n -> createPublisher(this.workerPool, this.context, n));
         return publishers.get(name);
     }
 
+    protected CamelPublisher createPublisher(ExecutorService workerPool, CamelContext context, String name) {
+        return new CamelPublisher(workerPool, context, name);
+    }
+
+    protected ReactiveStreamsEngineConfiguration getConfiguration() {
+        return configuration;
+    }
+
     @Override
     public Publisher<Exchange> from(String uri) {
         publishedUriToStream.computeIfAbsent(uri, u -> {
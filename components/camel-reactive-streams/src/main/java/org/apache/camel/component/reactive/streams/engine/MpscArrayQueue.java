@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.reactive.streams.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer queue backed by an array.
+ * <p/>
+ * Any number of threads can {@link #offer(Object)} concurrently, while {@link #poll()} must
+ * only be called by one thread at a time (the thread draining the queue).
+ * The capacity is rounded up to the next power of two.
+ */
+public final class MpscArrayQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    public MpscArrayQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds the element at the tail of the queue, if the queue is not full.
+     *
+     * @return <tt>true</tt> if the element has been added, <tt>false</tt> if the queue is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element must not be null");
+        }
+        final long capacity = mask + 1;
+        long consumed = consumerIndex.get();
+        for (;;) {
+            long produced = producerIndex.get();
+            if (produced - consumed >= capacity) {
+                // re-read the consumer index before giving up
+                consumed = consumerIndex.get();
+                if (produced - consumed >= capacity) {
+                    return false;
+                }
+            }
+            if (producerIndex.compareAndSet(produced, produced + 1)) {
+                buffer.lazySet((int) produced & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the element at the head of the queue. Must be called by a single thread at a time.
+     *
+     * @return the head of the queue or <tt>null</tt> if the queue is empty
+     */
+    public E poll() {
+        long consumed = consumerIndex.get();
+        int offset = (int) consumed & mask;
+        E element = buffer.get(offset);
+        if (element == null) {
+            if (consumed == producerIndex.get()) {
+                return null;
+            }
+            // a producer claimed the slot but has not stored the element yet
+            do {
+                element = buffer.get(offset);
+            } while (element == null);
+        }
+        buffer.lazySet(offset, null);
+        consumerIndex.lazySet(consumed + 1);
+        return element;
+    }
+
+    public int size() {
+        long consumed = consumerIndex.get();
+        long produced = producerIndex.get();
+        return (int) Math.max(0, Math.min(produced - consumed, mask + 1));
+    }
+
+    public boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
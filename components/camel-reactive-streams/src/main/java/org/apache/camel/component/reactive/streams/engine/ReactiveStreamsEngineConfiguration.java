@@ -24,6 +24,9 @@ public class ReactiveStreamsEngineConfiguration implements Cloneable {
     private String threadPoolName = "CamelReactiveStreamsWorker";
     private int threadPoolMinSize;
     private int threadPoolMaxSize = 10;
+    private int bufferSize = 1024;
+    private double bufferLowWatermark = 0.25;
+    private long bufferFullTimeout = 30000;
 
     public ReactiveStreamsEngineConfiguration() {
     }
@@ -60,4 +63,42 @@ public class ReactiveStreamsEngineConfiguration implements Cloneable {
     public void setThreadPoolMaxSize(int threadPoolMaxSize) {
         this.threadPoolMaxSize = threadPoolMaxSize;
     }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * The maximum number of exchanges buffered for each subscriber by the bounded engine (serviceType=bounded-service).
+     * It is rounded up to the next power of two.
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public double getBufferLowWatermark() {
+        return bufferLowWatermark;
+    }
+
+    /**
+     * Set the low watermark of the buffers of the bounded engine (serviceType=bounded-service), as a fraction of
+     * the buffer size: the route consumers suspended because of a full buffer are resumed when the buffer is drained
+     * below this watermark.
+     */
+    public void setBufferLowWatermark(double bufferLowWatermark) {
+        this.bufferLowWatermark = bufferLowWatermark;
+    }
+
+    public long getBufferFullTimeout() {
+        return bufferFullTimeout;
+    }
+
+    /**
+     * The maximum time in millis a route waits for room in a full buffer of the bounded engine (serviceType=bounded-service),
+     * when the backpressure strategy is BUFFER and the consumer of the route cannot be suspended.
+     * The exchange is discarded when the timeout elapses.
+     */
+    public void setBufferFullTimeout(long bufferFullTimeout) {
+        this.bufferFullTimeout = bufferFullTimeout;
+    }
 }
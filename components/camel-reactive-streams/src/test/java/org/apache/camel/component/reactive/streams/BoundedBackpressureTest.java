@@ -0,0 +1,227 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.reactive.streams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.StatefulService;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.reactive.streams.api.CamelReactiveStreams;
+import org.apache.camel.component.reactive.streams.engine.BoundedCamelReactiveStreamsService;
+import org.apache.camel.component.reactive.streams.support.TestSubscriber;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.Test;
+
+public class BoundedBackpressureTest extends CamelTestSupport {
+
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @Test
+    public void testBufferStrategySuspendsConsumer() throws Exception {
+        assertTrue(CamelReactiveStreams.get(context) instanceof BoundedCamelReactiveStreamsService);
+
+        addTimerRoute(100);
+
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+            @Override
+            public void onNext(Integer o) {
+                received.add(o);
+                latch.countDown();
+            }
+        };
+        CamelReactiveStreams.get(context).fromStream("integers", Integer.class).subscribe(subscriber);
+
+        context.start();
+
+        StatefulService consumer = (StatefulService) context.getRoute("source").getConsumer();
+        for (int i = 0; i < 50 && !consumer.isSuspended(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue("The consumer should be suspended when the buffer is full", consumer.isSuspended());
+
+        Thread.sleep(200);
+        // 8 exchanges in the buffer, plus the one that caused the suspension
+        assertEquals(9, generated.get());
+        assertEquals(0, received.size());
+
+        subscriber.request(100);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertFalse(consumer.isSuspended());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, received.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testBufferStrategyRejectsWhenConsumerCannotBeSuspended() throws Exception {
+        ReactiveStreamsComponent comp = (ReactiveStreamsComponent) context().getComponent("reactive-streams");
+        comp.getInternalEngineConfiguration().setBufferFullTimeout(300);
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        CamelReactiveStreams.get(context).fromStream("integers", Integer.class).subscribe(subscriber);
+
+        context.start();
+
+        // exchanges sent by a template have no route to suspend
+        List<Future<Object>> sent = sendWithoutRoute(9);
+        Thread.sleep(1000);
+        int rejected = 0;
+        for (Future<Object> future : sent) {
+            if (future.isDone()) {
+                try {
+                    future.get();
+                    fail("Only the exchange that found the buffer full should complete");
+                } catch (ExecutionException e) {
+                    assertNotNull(ObjectHelper.getException(ReactiveStreamsDiscardedException.class, e));
+                    rejected++;
+                }
+            }
+        }
+        assertEquals(1, rejected);
+    }
+
+    @Test
+    public void testBufferStrategyBlocksWhenConsumerCannotBeSuspended() throws Exception {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(9);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+            @Override
+            public void onNext(Integer o) {
+                received.add(o);
+                latch.countDown();
+            }
+        };
+        CamelReactiveStreams.get(context).fromStream("integers", Integer.class).subscribe(subscriber);
+
+        context.start();
+
+        List<Future<Object>> sent = sendWithoutRoute(9);
+        Thread.sleep(300);
+        assertEquals(0, received.size());
+
+        subscriber.request(100);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (Future<Object> future : sent) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private List<Future<Object>> sendWithoutRoute(int count) {
+        List<Future<Object>> sent = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            sent.add(template.asyncRequestBody("reactive-streams:integers", i));
+        }
+        return sent;
+    }
+
+    @Test
+    public void testOldestStrategyKeepsTheBufferedExchanges() throws Exception {
+        ReactiveStreamsComponent comp = (ReactiveStreamsComponent) context().getComponent("reactive-streams");
+        comp.setBackpressureStrategy(ReactiveStreamsBackpressureStrategy.OLDEST);
+
+        assertEquals(asList(1, 8), receiveAfterOverflow(20));
+    }
+
+    @Test
+    public void testLatestStrategyKeepsTheLatestExchanges() throws Exception {
+        ReactiveStreamsComponent comp = (ReactiveStreamsComponent) context().getComponent("reactive-streams");
+        comp.setBackpressureStrategy(ReactiveStreamsBackpressureStrategy.LATEST);
+
+        assertEquals(asList(13, 20), receiveAfterOverflow(20));
+    }
+
+    private List<Integer> receiveAfterOverflow(int count) throws Exception {
+        addTimerRoute(count);
+
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(8);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+            @Override
+            public void onNext(Integer o) {
+                received.add(o);
+                latch.countDown();
+            }
+        };
+        CamelReactiveStreams.get(context).fromStream("integers", Integer.class).subscribe(subscriber);
+
+        context.start();
+
+        for (int i = 0; i < 50 && generated.get() < count; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(count, generated.get());
+        // exchanges are never suspended with a discarding strategy
+        assertFalse(((StatefulService) context.getRoute("source").getConsumer()).isSuspended());
+        Thread.sleep(200);
+
+        subscriber.request(count);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200); // ensure no other items arrive
+        return received;
+    }
+
+    private static List<Integer> asList(int from, int to) {
+        List<Integer> list = new CopyOnWriteArrayList<>();
+        for (int i = from; i <= to; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private void addTimerRoute(int count) throws Exception {
+        new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:gen?period=5&repeatCount=" + count)
+                        .routeId("source")
+                        .process(e -> generated.incrementAndGet())
+                        .setBody().exchangeProperty(Exchange.TIMER_COUNTER)
+                        .to("reactive-streams:integers");
+            }
+        }.addRoutesToCamelContext(context);
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+
+        ReactiveStreamsComponent component = ReactiveStreamsComponent.withServiceType(ReactiveStreamsConstants.BOUNDED_SERVICE_NAME);
+        component.getInternalEngineConfiguration().setBufferSize(8);
+        context.addComponent(ReactiveStreamsConstants.SCHEME, component);
+
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * A {@link RowMapper} which maps each row to a {@link Map} that holds the column values in an array,
+ * and shares the column names with all the other rows from the same {@link ResultSet}.
+ * <p/>
+ * This uses a lot less memory than a map per row when consuming large result sets. The column names are looked
+ * up case insensitive, as with Spring's {@link org.springframework.jdbc.core.ColumnMapRowMapper}.
+ * The values of the columns can be changed in place. If a key is added or removed, then the row is copied to a
+ * regular case insensitive map once, which is used from then on.
+ * <p/>
+ * This mapper is not thread safe, and must only be used for a single result set.
+ */
+public class ColumnIndexRowMapper implements RowMapper<Map<String, Object>> {
+
+    private Schema schema;
+    private ResultSet resultSet;
+
+    @Override
+    public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (schema == null || resultSet != rs) {
+            schema = new Schema(rs.getMetaData());
+            resultSet = rs;
+        }
+        Object[] values = new Object[schema.names.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = JdbcUtils.getResultSetValue(rs, i + 1);
+        }
+        return new Row(schema, values);
+    }
+
+    /**
+     * The column names which are shared by all the rows of a result set.
+     */
+    static final class Schema {
+        private final String[] names;
+        private final Map<String, Integer> indexes;
+
+        Schema(ResultSetMetaData metaData) throws SQLException {
+            int count = metaData.getColumnCount();
+            names = new String[count];
+            indexes = new HashMap<String, Integer>(count * 2);
+            for (int i = 0; i < count; i++) {
+                names[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+                String key = names[i].toLowerCase(Locale.ENGLISH);
+                // first column wins as with a case insensitive map
+                if (!indexes.containsKey(key)) {
+                    indexes.put(key, i);
+                }
+            }
+        }
+
+        int indexOf(Object name) {
+            if (name instanceof String) {
+                Integer index = indexes.get(((String) name).toLowerCase(Locale.ENGLISH));
+                if (index != null) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A row which holds the values of the columns by their index, until a key is added or removed.
+     */
+    static final class Row extends AbstractMap<String, Object> {
+        private final Schema schema;
+        private final Object[] values;
+        // the copy of the row which is used when keys has been added or removed
+        private Map<String, Object> copy;
+
+        Row(Schema schema, Object[] values) {
+            this.schema = schema;
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return copy != null ? copy.size() : values.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return copy != null ? copy.containsKey(key) : schema.indexOf(key) >= 0;
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (copy != null) {
+                return copy.get(key);
+            }
+            int index = schema.indexOf(key);
+            return index >= 0 ? values[index] : null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            int index = copy != null ? -1 : schema.indexOf(key);
+            if (index < 0) {
+                return copyOnWrite().put(key, value);
+            }
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            return copyOnWrite().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            copyOnWrite().clear();
+        }
+
+        private Map<String, Object> copyOnWrite() {
+            if (copy == null) {
+                Map<String, Object> answer = new LinkedCaseInsensitiveMap<Object>(values.length + 4);
+                for (int i = 0; i < values.length; i++) {
+                    // first column wins as with a case insensitive map
+                    if (!answer.containsKey(schema.names[i])) {
+                        answer.put(schema.names[i], values[i]);
+                    }
+                }
+                copy = answer;
+            }
+            return copy;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            if (copy != null) {
+                return copy.entrySet();
+            }
+            return new AbstractSet<Map.Entry<String, Object>>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    return new Iterator<Map.Entry<String, Object>>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < values.length;
+                        }
+
+                        @Override
+                        public Map.Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int current = index++;
+                            return new AbstractMap.SimpleEntry<String, Object>(schema.names[current], values[current]) {
+                                private static final long serialVersionUID = 1L;
+
+                                @Override
+                                public Object setValue(Object value) {
+                                    values[current] = value;
+                                    return super.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException("Cannot remove columns from row while iterating");
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+    }
+}
@@ -78,6 +78,16 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private int expectedUpdateCount = -1;
     @UriParam(label = "consumer", description = "Sets whether to break batch if onConsume failed.")
     private boolean breakBatchOnConsumeFail;
+    @UriParam(label = "consumer", description = "Whether the consumer should stream the rows from the result set and route each row as soon as its read,"
+            + " instead of reading all the rows into memory first. The rows are mapped to maps which share the column names."
+            + " Use template.fetchSize to control how many rows the JDBC driver fetches at a time. This requires useIterator=true and outputType=SelectList.")
+    private boolean streaming;
+    @UriParam(label = "consumer", defaultValue = "1", description = "The maximum number of exchanges which are routed at the same time when using streaming."
+            + " The consumer stops reading rows from the result set until an exchange is done, when this limit is reached.")
+    private int maxInflightExchanges = 1;
+    @UriParam(label = "consumer,advanced", description = "If set greater than zero, then the onConsume and onConsumeFailed queries are executed"
+            + " as JDBC batches of up to this size, instead of one row at a time.")
+    private int onConsumeBatchSize;
     @UriParam(defaultValue = "true", description = "Whether to allow using named parameters in the queries.")
     private boolean allowNamedParameters = true;
     @UriParam(label = "producer,advanced",
@@ -102,6 +112,16 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     @UriParam(label = "producer,advanced", description = "If set greater than zero, then Camel will use this count value of parameters to replace instead of"
             + " querying via JDBC metadata API. This is useful if the JDBC vendor could not return correct parameters count, then user may override instead.")
     private int parametersCount;
+    @UriParam(label = "producer,advanced", description = "If set greater than zero, then the producer coalesces exchanges which are processed concurrently"
+            + " using the same SQL statement into JDBC batches of up to this size, each executed in its own transaction. Each exchange gets its own update count or error."
+            + " This should only be used for insert, update and delete statements, and is not used for transacted exchanges or when using batch mode.")
+    private int writeBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10", description = "The maximum time in millis to wait for more exchanges"
+            + " to be added to a batch before its executed, when writeBatchSize is in use.")
+    private long writeBatchLingerTime = 10;
+    @UriParam(label = "producer,advanced", defaultValue = "30000", description = "The maximum time in millis to wait for room in the write batches,"
+            + " when writeBatchSize is in use and all the batch threads are busy. The exchange fails with an ExchangeTimedOutException when the timeout elapses.")
+    private long writeBatchQueueTimeout = 30000;
     @UriParam(label = "producer", description = "If set, will ignore the results of the SQL query and use the existing IN message as the OUT message for the continuation of processing")
     private boolean noop;
     @UriParam(description = "Store the query result in a header instead of the message body. By default, outputHeader == null and the query result is stored"
@@ -305,6 +325,43 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.parametersCount = parametersCount;
     }
 
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer coalesces exchanges which are processed concurrently
+     * using the same SQL statement into JDBC batches of up to this size, each executed in its own transaction.
+     * Each exchange gets its own update count or error.
+     * This should only be used for insert, update and delete statements, and is not used for transacted exchanges or when using batch mode.
+     */
+    public void setWriteBatchSize(int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    public long getWriteBatchLingerTime() {
+        return writeBatchLingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to be added to a batch before its executed, when writeBatchSize is in use.
+     */
+    public void setWriteBatchLingerTime(long writeBatchLingerTime) {
+        this.writeBatchLingerTime = writeBatchLingerTime;
+    }
+
+    public long getWriteBatchQueueTimeout() {
+        return writeBatchQueueTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for room in the write batches, when writeBatchSize is in use and all the batch threads are busy.
+     * The exchange fails with an ExchangeTimedOutException when the timeout elapses.
+     */
+    public void setWriteBatchQueueTimeout(long writeBatchQueueTimeout) {
+        this.writeBatchQueueTimeout = writeBatchQueueTimeout;
+    }
+
     public boolean isNoop() {
         return noop;
     }
@@ -400,6 +457,43 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.expectedUpdateCount = expectedUpdateCount;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether the consumer should stream the rows from the result set and route each row as soon as its read,
+     * instead of reading all the rows into memory first. The rows are mapped to maps which share the column names.
+     * Use template.fetchSize to control how many rows the JDBC driver fetches at a time. This requires useIterator=true and outputType=SelectList.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public int getMaxInflightExchanges() {
+        return maxInflightExchanges;
+    }
+
+    /**
+     * The maximum number of exchanges which are routed at the same time when using streaming.
+     * The consumer stops reading rows from the result set until an exchange is done, when this limit is reached.
+     */
+    public void setMaxInflightExchanges(int maxInflightExchanges) {
+        this.maxInflightExchanges = maxInflightExchanges;
+    }
+
+    public int getOnConsumeBatchSize() {
+        return onConsumeBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the onConsume and onConsumeFailed queries are executed
+     * as JDBC batches of up to this size, instead of one row at a time.
+     */
+    public void setOnConsumeBatchSize(int onConsumeBatchSize) {
+        this.onConsumeBatchSize = onConsumeBatchSize;
+    }
+
     public boolean isBreakBatchOnConsumeFail() {
         return breakBatchOnConsumeFail;
     }
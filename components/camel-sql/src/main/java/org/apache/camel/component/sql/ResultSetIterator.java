@@ -50,6 +50,13 @@ public class ResultSetIterator implements Iterator, Closeable {
         loadNext();
     }
 
+    /**
+     * Creates an iterator which only closes the result set, as the statement and connection is managed by the caller.
+     */
+    public ResultSetIterator(ResultSet resultSet, RowMapper rowMapper) throws SQLException {
+        this(null, null, resultSet, rowMapper);
+    }
+
     @Override
     public boolean hasNext() {
         return !closed.get();
@@ -82,8 +89,12 @@ public class ResultSetIterator implements Iterator, Closeable {
     public void close() {
         if (closed.compareAndSet(false, true)) {
             safeCloseResultSet();
-            safeCloseStatement();
-            safeCloseConnection();
+            if (statement != null) {
+                safeCloseStatement();
+            }
+            if (connection != null) {
+                safeCloseConnection();
+            }
         }
     }
 
@@ -19,10 +19,18 @@ package org.apache.camel.component.sql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.Message;
@@ -32,8 +40,10 @@ import org.apache.camel.impl.ScheduledBatchPollingConsumer;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.ObjectHelper;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -56,10 +66,15 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     private boolean routeEmptyResultSet;
     private int expectedUpdateCount = -1;
     private boolean breakBatchOnConsumeFail;
+    private boolean streaming;
+    private int maxInflightExchanges = 1;
+    private int onConsumeBatchSize;
+    private final List<DataHolder> pendingOnConsume = new ArrayList<DataHolder>();
 
     private static final class DataHolder {
         private Exchange exchange;
         private Object data;
+        private String sql;
 
         private DataHolder() {
         }
@@ -105,6 +120,9 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         // must reset for each poll
         shutdownRunningTask = null;
         pendingExchanges = 0;
+        synchronized (pendingOnConsume) {
+            pendingOnConsume.clear();
+        }
 
         final String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(resolvedQuery, getEndpoint().isAllowNamedParameters(), null);
 
@@ -112,6 +130,15 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         final PreparedStatementCallback<Integer> callback = new PreparedStatementCallback<Integer>() {
             @Override
             public Integer doInPreparedStatement(PreparedStatement ps) throws SQLException, DataAccessException {
+                if (streaming && useIterator && getEndpoint().getOutputType() == SqlOutputType.SelectList) {
+                    log.debug("Executing streaming query: {}", preparedQuery);
+                    try {
+                        return processStreaming(ps);
+                    } catch (Exception e) {
+                        throw ObjectHelper.wrapRuntimeCamelException(e);
+                    }
+                }
+
                 Queue<DataHolder> answer = new LinkedList<DataHolder>();
 
                 log.debug("Executing query: {}", preparedQuery);
@@ -171,6 +198,102 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         return messagePolled;
     }
 
+    /**
+     * Routes each row as soon as its read from the result set, with at most maxInflightExchanges routed at the same time.
+     */
+    @SuppressWarnings("unchecked")
+    protected int processStreaming(PreparedStatement ps) throws Exception {
+        RowMapper<?> rowMapper;
+        if (getEndpoint().getOutputClass() != null) {
+            Class<?> outputClazz = getEndpoint().getCamelContext().getClassResolver().resolveMandatoryClass(getEndpoint().getOutputClass());
+            rowMapper = new BeanPropertyRowMapper<Object>((Class<Object>) outputClazz);
+        } else {
+            rowMapper = new ColumnIndexRowMapper();
+        }
+
+        // the statement and connection is released by the jdbc template, so the iterator only closes the result set
+        ResultSetIterator it = new ResultSetIterator(ps.executeQuery(), rowMapper);
+        try {
+            final int maxInflight = Math.max(1, maxInflightExchanges);
+            final Semaphore inflight = new Semaphore(maxInflight);
+            final AtomicReference<Exception> failure = new AtomicReference<Exception>();
+
+            int index = 0;
+            if (!it.hasNext() && routeEmptyResultSet) {
+                // route the empty result set as an empty list as when not using streaming
+                Exchange exchange = createExchange(new ArrayList<Object>());
+                exchange.setProperty(Exchange.BATCH_INDEX, 0);
+                exchange.setProperty(Exchange.BATCH_SIZE, 1);
+                exchange.setProperty(Exchange.BATCH_COMPLETE, true);
+                index++;
+
+                inflight.acquire();
+                processStreamingExchange(exchange, null, inflight, failure);
+            }
+
+            while (it.hasNext() && isBatchAllowed() && failure.get() == null) {
+                // the iterator reads ahead so we know if this is the last row
+                Object data = it.next();
+                boolean maxReached = maxMessagesPerPoll > 0 && index + 1 >= maxMessagesPerPoll;
+                boolean last = !it.hasNext() || maxReached;
+
+                Exchange exchange = createExchange(data);
+                exchange.setProperty(Exchange.BATCH_INDEX, index);
+                exchange.setProperty(Exchange.BATCH_COMPLETE, last);
+                if (last) {
+                    // the size is only known when we reach the last row
+                    exchange.setProperty(Exchange.BATCH_SIZE, index + 1);
+                }
+                index++;
+
+                inflight.acquire();
+                pendingExchanges = maxInflight - inflight.availablePermits();
+                processStreamingExchange(exchange, data, inflight, failure);
+
+                if (maxReached) {
+                    log.debug("Maximum messages to poll is {} and there were {} messages in this poll.", maxMessagesPerPoll, index);
+                    break;
+                }
+            }
+
+            // wait for the inflight exchanges to be done
+            inflight.acquire(maxInflight);
+            inflight.release(maxInflight);
+            pendingExchanges = 0;
+
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            if (index > 0) {
+                processBatchComplete();
+            }
+            return index;
+        } finally {
+            it.close();
+        }
+    }
+
+    private void processStreamingExchange(final Exchange exchange, final Object data, final Semaphore inflight, final AtomicReference<Exception> failure) {
+        AsyncCallback callback = new AsyncCallback() {
+            @Override
+            public void done(boolean doneSync) {
+                try {
+                    processExchangeDone(exchange, data);
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    inflight.release();
+                }
+            }
+        };
+        try {
+            getAsyncProcessor().process(exchange, callback);
+        } catch (Throwable e) {
+            exchange.setException(e);
+            callback.done(true);
+        }
+    }
+
     private void addListToQueue(Object data, Queue<DataHolder> answer) {
         if (data instanceof List) {
             // create a list of exchange objects with the data
@@ -235,31 +358,114 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                 exchange.setException(e);
             }
 
-            if (getEndpoint().isTransacted() && exchange.isFailed()) {
-                // break out as we are transacted and should rollback
-                Exception cause = exchange.getException();
-                if (cause != null) {
-                    throw cause;
+            processExchangeDone(exchange, data);
+        }
+
+        processBatchComplete();
+
+        return total;
+    }
+
+    /**
+     * Executes the onConsume or onConsumeFailed query for the exchange which is done.
+     */
+    protected void processExchangeDone(Exchange exchange, Object data) throws Exception {
+        if (getEndpoint().isTransacted() && exchange.isFailed()) {
+            // break out as we are transacted and should rollback
+            Exception cause = exchange.getException();
+            if (cause != null) {
+                throw cause;
+            } else {
+                throw new RollbackExchangeException("Rollback transaction due error processing exchange", exchange);
+            }
+        }
+
+        // pick the on consume to use
+        String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+
+        // we can only run on consume if there was data
+        if (data != null && sql != null && onConsumeBatchSize > 0 && namedJdbcTemplate == null) {
+            DataHolder holder = new DataHolder();
+            holder.exchange = exchange;
+            holder.data = data;
+            holder.sql = sql;
+            List<DataHolder> batch = null;
+            synchronized (pendingOnConsume) {
+                pendingOnConsume.add(holder);
+                if (pendingOnConsume.size() >= onConsumeBatchSize) {
+                    batch = new ArrayList<DataHolder>(pendingOnConsume);
+                    pendingOnConsume.clear();
+                }
+            }
+            if (batch != null) {
+                processOnConsumeBatch(batch);
+            }
+            return;
+        }
+
+        try {
+            if (data != null && sql != null) {
+                int updateCount;
+                if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
+                    SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
+                    updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate, parameterSource, sql);
                 } else {
-                    throw new RollbackExchangeException("Rollback transaction due error processing exchange", exchange);
+                    updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
                 }
+                if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
+                    String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount + " executing query: " + sql;
+                    throw new SQLException(msg);
+                }
+            }
+        } catch (Exception e) {
+            if (breakBatchOnConsumeFail) {
+                throw e;
+            } else {
+                handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
             }
+        }
+    }
+
+    /**
+     * Executes the onConsume and onConsumeFailed queries of the exchanges as JDBC batches.
+     */
+    protected void processOnConsumeBatch(List<DataHolder> holders) throws Exception {
+        // group by the query as the failed exchanges uses another query
+        Map<String, List<DataHolder>> groups = new LinkedHashMap<String, List<DataHolder>>();
+        for (DataHolder holder : holders) {
+            List<DataHolder> group = groups.get(holder.sql);
+            if (group == null) {
+                group = new ArrayList<DataHolder>();
+                groups.put(holder.sql, group);
+            }
+            group.add(holder);
+        }
 
-            // pick the on consume to use
-            String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+        for (Map.Entry<String, List<DataHolder>> entry : groups.entrySet()) {
+            final String sql = entry.getKey();
+            final List<DataHolder> group = entry.getValue();
             try {
-                // we can only run on consume if there was data
-                if (data != null && sql != null) {
-                    int updateCount;
-                    if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
-                        SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
-                        updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate, parameterSource, sql);
-                    } else {
-                        updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+                final String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), group.get(0).exchange);
+                int[] updateCounts = jdbcTemplate.execute(preparedQuery, new PreparedStatementCallback<int[]>() {
+                    public int[] doInPreparedStatement(PreparedStatement ps) throws SQLException {
+                        int expected = ps.getParameterMetaData().getParameterCount();
+                        for (DataHolder holder : group) {
+                            Iterator<?> iterator = sqlPrepareStatementStrategy.createPopulateIterator(sql, preparedQuery, expected, holder.exchange, holder.data);
+                            if (iterator != null) {
+                                sqlPrepareStatementStrategy.populateStatement(ps, iterator, expected);
+                                ps.addBatch();
+                            }
+                        }
+                        log.trace("Execute batch of {} rows: {}", group.size(), sql);
+                        return ps.executeBatch();
                     }
-                    if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
-                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount + " executing query: " + sql;
-                        throw new SQLException(msg);
+                });
+                if (expectedUpdateCount > -1) {
+                    for (int updateCount : updateCounts) {
+                        if (updateCount != Statement.SUCCESS_NO_INFO && updateCount != expectedUpdateCount) {
+                            String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount + " executing query: " + sql;
+                            throw new SQLException(msg);
+                        }
                     }
                 }
             } catch (Exception e) {
@@ -270,6 +476,20 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                 }
             }
         }
+    }
+
+    /**
+     * Executes the pending onConsume batch and then the onConsumeBatchComplete query.
+     */
+    protected void processBatchComplete() throws Exception {
+        List<DataHolder> batch;
+        synchronized (pendingOnConsume) {
+            batch = new ArrayList<DataHolder>(pendingOnConsume);
+            pendingOnConsume.clear();
+        }
+        if (!batch.isEmpty()) {
+            processOnConsumeBatch(batch);
+        }
 
         try {
             if (onConsumeBatchComplete != null) {
@@ -289,8 +509,6 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                 handleException("Error executing onConsumeBatchComplete query " + onConsumeBatchComplete, e);
             }
         }
-
-        return total;
     }
 
     public String getOnConsume() {
@@ -370,6 +588,39 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         this.breakBatchOnConsumeFail = breakBatchOnConsumeFail;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether to route each row as soon as its read from the result set.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public int getMaxInflightExchanges() {
+        return maxInflightExchanges;
+    }
+
+    /**
+     * Sets the maximum number of exchanges which are routed at the same time when using streaming.
+     */
+    public void setMaxInflightExchanges(int maxInflightExchanges) {
+        this.maxInflightExchanges = maxInflightExchanges;
+    }
+
+    public int getOnConsumeBatchSize() {
+        return onConsumeBatchSize;
+    }
+
+    /**
+     * Sets the number of rows to execute the onConsume and onConsumeFailed queries for in a single JDBC batch.
+     */
+    public void setOnConsumeBatchSize(int onConsumeBatchSize) {
+        this.onConsumeBatchSize = onConsumeBatchSize;
+    }
+
     @Override
     public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
         super.setMaxMessagesPerPoll(maxMessagesPerPoll);
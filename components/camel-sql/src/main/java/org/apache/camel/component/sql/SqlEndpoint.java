@@ -56,6 +56,9 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         consumer.setExpectedUpdateCount(getExpectedUpdateCount());
         consumer.setUseIterator(isUseIterator());
         consumer.setRouteEmptyResultSet(isRouteEmptyResultSet());
+        consumer.setStreaming(isStreaming());
+        consumer.setMaxInflightExchanges(getMaxInflightExchanges());
+        consumer.setOnConsumeBatchSize(getOnConsumeBatchSize());
         configureConsumer(consumer);
         return consumer;
     }
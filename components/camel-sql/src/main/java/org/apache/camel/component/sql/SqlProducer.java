@@ -16,27 +16,44 @@
  */
 package org.apache.camel.component.sql;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
-import org.apache.camel.impl.DefaultProducer;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.ThreadPoolRejectedPolicy;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.ExchangeBatcher;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.ServiceHelper;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.springframework.jdbc.support.JdbcUtils.closeConnection;
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
 
-public class SqlProducer extends DefaultProducer {
+public class SqlProducer extends DefaultAsyncProducer {
     private final String query;
     private String resolvedQuery;
     private final JdbcTemplate jdbcTemplate;
@@ -45,6 +62,11 @@ public class SqlProducer extends DefaultProducer {
     private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
     private final boolean useMessageBodyForSql;
     private int parametersCount;
+    private ScheduledExecutorService batchExecutor;
+    private ExecutorService callbackExecutor;
+    private ExchangeBatcher<BatchKey> batcher;
+    private Semaphore batchPermits;
+    private TransactionTemplate batchTransactionTemplate;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
                        boolean batch, boolean alwaysPopulateStatement, boolean useMessageBodyForSql) {
@@ -68,16 +90,93 @@ public class SqlProducer extends DefaultProducer {
 
         String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
         resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+
+        if (getEndpoint().getWriteBatchSize() > 0 && !batch) {
+            batchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultScheduledThreadPool(this, "SqlProducerWriteBatch");
+            batcher = new ExchangeBatcher<BatchKey>(batchExecutor, new ExchangeBatcher.BatchHandler<BatchKey>() {
+                public void processBatch(BatchKey key, List<Exchange> exchanges) throws Exception {
+                    processWriteBatch(key, exchanges);
+                }
+            });
+            batcher.setBatchSize(getEndpoint().getWriteBatchSize());
+            batcher.setLingerTime(getEndpoint().getWriteBatchLingerTime());
+            // continue routing the exchanges of a batch concurrently, and in the batch thread if the pool is saturated
+            callbackExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this, "SqlProducerWriteBatchCallback",
+                new ThreadPoolProfileBuilder("SqlProducerWriteBatchCallback").rejectedPolicy(ThreadPoolRejectedPolicy.Abort).build());
+            batcher.setCallbackExecutor(callbackExecutor);
+            // allow a full batch for each batch thread, and one more to fill while they are busy
+            int poolSize = getEndpoint().getCamelContext().getExecutorServiceManager().getDefaultThreadPoolProfile().getPoolSize();
+            batchPermits = new Semaphore(getEndpoint().getWriteBatchSize() * (poolSize + 1));
+            batchTransactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+            ServiceHelper.startService(batcher);
+        }
     }
 
-    public void process(final Exchange exchange) throws Exception {
-        final String sql;
+    @Override
+    protected void doStop() throws Exception {
+        // stop the batcher first which executes the pending batches
+        ServiceHelper.stopService(batcher);
+        batcher = null;
+        if (batchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(batchExecutor);
+            batchExecutor = null;
+        }
+        if (callbackExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(callbackExecutor);
+            callbackExecutor = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (batcher != null && isWriteBatchSupported(exchange)) {
+                String sql = resolveSql(exchange);
+                String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+                return addToBatch(new BatchKey(sql, preparedQuery), exchange, callback);
+            }
+            process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    private boolean addToBatch(BatchKey key, Exchange exchange, final AsyncCallback callback) throws InterruptedException, ExchangeTimedOutException {
+        // block the caller when all the batch threads are busy and the next batches are full, but not forever
+        final Semaphore permits = batchPermits;
+        long timeout = getEndpoint().getWriteBatchQueueTimeout();
+        if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            throw new ExchangeTimedOutException(exchange, timeout, "Timeout waiting to add the exchange to a write batch");
+        }
+        return batcher.add(key, exchange, new AsyncCallback() {
+            public void done(boolean doneSync) {
+                permits.release();
+                callback.done(doneSync);
+            }
+        });
+    }
+
+    private boolean isWriteBatchSupported(Exchange exchange) {
+        // transacted exchanges must use the connection bound to the transaction
+        return !exchange.isTransacted() && getEndpoint().getOutputType() != SqlOutputType.StreamList
+            && !exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+    }
+
+    private String resolveSql(Exchange exchange) {
         if (useMessageBodyForSql) {
-            sql = exchange.getIn().getBody(String.class);
+            return exchange.getIn().getBody(String.class);
         } else {
             String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
-            sql = queryHeader != null ? queryHeader : resolvedQuery;
+            return queryHeader != null ? queryHeader : resolvedQuery;
         }
+    }
+
+    @Override
+    public void process(final Exchange exchange) throws Exception {
+        final String sql = resolveSql(exchange);
         final String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
 
         final Boolean shouldRetrieveGeneratedKeys =
@@ -307,7 +406,116 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    /**
+     * Executes the exchanges as a single JDBC batch in a transaction, and sets the update count or error on each exchange.
+     */
+    protected void processWriteBatch(final BatchKey key, final List<Exchange> exchanges) {
+        // the exchanges which was added to the batch, as an exchange which cannot be populated fails on its own
+        final List<Exchange> added = new ArrayList<Exchange>(exchanges.size());
+        int[] updateCounts;
+        try {
+            updateCounts = batchTransactionTemplate.execute(new TransactionCallback<int[]>() {
+                public int[] doInTransaction(TransactionStatus status) {
+                    return executeWriteBatch(key, exchanges, added);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (ObjectHelper.getException(BatchUpdateException.class, e) == null) {
+                // nothing was committed
+                for (Exchange exchange : added) {
+                    exchange.setException(e);
+                }
+                return;
+            }
+            // the entire batch is rolled back, so execute each exchange on its own to find the one(s) which fails
+            for (Exchange exchange : added) {
+                try {
+                    process(exchange);
+                } catch (Exception ex) {
+                    exchange.setException(ex);
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < added.size() && i < updateCounts.length; i++) {
+            added.get(i).getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+        }
+    }
+
+    private int[] executeWriteBatch(final BatchKey key, final List<Exchange> exchanges, final List<Exchange> added) {
+        log.trace("jdbcTemplate.execute batch of {} exchanges: {}", exchanges.size(), key.preparedQuery);
+        return jdbcTemplate.execute(key.preparedQuery, new PreparedStatementCallback<int[]>() {
+            public int[] doInPreparedStatement(PreparedStatement ps) throws SQLException {
+                int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+
+                for (Exchange exchange : exchanges) {
+                    try {
+                        populateWriteBatchStatement(ps, key, expected, exchange);
+                        ps.addBatch();
+                        added.add(exchange);
+                    } catch (Exception e) {
+                        exchange.setException(e);
+                        ps.clearParameters();
+                    }
+                }
+                if (added.isEmpty()) {
+                    return new int[0];
+                }
+                return ps.executeBatch();
+            }
+        });
+    }
+
+    private void populateWriteBatchStatement(PreparedStatement ps, BatchKey key, int expected, Exchange exchange) throws SQLException {
+        if (alwaysPopulateStatement || expected > 0) {
+            Object value;
+            if (useMessageBodyForSql) {
+                value = exchange.getIn().getHeader(SqlConstants.SQL_PARAMETERS);
+            } else {
+                value = exchange.getIn().getBody();
+            }
+            Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(key.sql, key.preparedQuery, expected, exchange, value);
+            sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+        }
+    }
+
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
+
+    /**
+     * Exchanges are only batched together if they use the same statement populated in the same way.
+     */
+    protected static final class BatchKey {
+        private final String sql;
+        private final String preparedQuery;
+
+        BatchKey(String sql, String preparedQuery) {
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey that = (BatchKey) o;
+            return sql.equals(that.sql) && preparedQuery.equals(that.preparedQuery);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sql.hashCode() + preparedQuery.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return preparedQuery;
+        }
+    }
 }
@@ -20,9 +20,12 @@ import java.io.IOException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 
@@ -61,6 +64,7 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
     private static final String ID = "id";
     private static final String EXCHANGE = "exchange";
     private static final String BODY = "body";
+    private static final String DELTA_OFFSET = "delta_offset";
     private JdbcOptimisticLockingExceptionMapper jdbcOptimisticLockingExceptionMapper = new DefaultJdbcOptimisticLockingExceptionMapper();
     private PlatformTransactionManager transactionManager;
     private DataSource dataSource;
@@ -78,6 +82,9 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
     private List<String> headersToStoreAsText;
     private boolean storeBodyAsText;
     private boolean allowSerializedHeaders;
+    private boolean appendDelta;
+    // the size of the list body stored for each key, which is used in append delta mode
+    private final ConcurrentMap<String, Integer> storedSizes = new ConcurrentHashMap<String, Integer>();
 
     /**
      * Creates an aggregation repository
@@ -138,7 +145,10 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
 
     @Override
     public Exchange add(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
-        return transactionTemplate.execute(new TransactionCallback<Exchange>() {
+        // the stored size is only known again when the transaction has been committed
+        final Integer stored = isAppendDelta() ? storedSizes.remove(correlationId) : null;
+
+        Exchange answer = transactionTemplate.execute(new TransactionCallback<Exchange>() {
 
             public Exchange doInTransaction(TransactionStatus status) {
                 Exchange result = null;
@@ -155,8 +165,13 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
                         result = get(key, getRepositoryName(), camelContext);
                     }
 
-                    if (present) {
+                    if (present && isDelta(exchange, stored)) {
+                        insertDelta(camelContext, correlationId, exchange, stored);
+                    } else if (present) {
                         update(camelContext, correlationId, exchange, getRepositoryName());
+                        if (isAppendDelta()) {
+                            deleteDeltas(correlationId);
+                        }
                     } else {
                         insert(camelContext, correlationId, exchange, getRepositoryName());
                     }
@@ -168,6 +183,55 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
                 return result;
             }
         });
+
+        if (isAppendDelta() && exchange.getIn().getBody() instanceof List) {
+            storedSizes.put(correlationId, ((List<?>) exchange.getIn().getBody()).size());
+        }
+        return answer;
+    }
+
+    /**
+     * Whether only the elements appended to the list body since it was last stored can be stored
+     */
+    private boolean isDelta(Exchange exchange, Integer stored) {
+        if (stored == null || exchange.hasOut() || storeBodyAsText || hasHeadersToStoreAsText()) {
+            return false;
+        }
+        Object body = exchange.getIn().getBody();
+        return body instanceof List && ((List<?>) body).size() >= stored;
+    }
+
+    /**
+     * Inserts the elements appended to the list body since it was last stored, together with the current headers,
+     * into the delta table. The offset of the appended elements is part of the primary key, so concurrent
+     * appends to the same key fails as an optimistic locking error.
+     *
+     * @param camelContext the current CamelContext
+     * @param key          the correlation key
+     * @param exchange     the aggregated exchange
+     * @param offset       the size of the list body which is already stored
+     * @throws Exception
+     */
+    protected void insertDelta(final CamelContext camelContext, final String key, final Exchange exchange, final int offset) throws Exception {
+        List<?> list = (List<?>) exchange.getIn().getBody();
+        Exchange delta = exchange.copy();
+        delta.getIn().setBody(new ArrayList<Object>(list.subList(offset, list.size())));
+        final byte[] data = codec.marshallExchange(camelContext, delta, allowSerializedHeaders);
+
+        LOG.trace("Adding delta at offset {} for key {} to repository {}", offset, key, getRepositoryNameDelta());
+        jdbcTemplate.execute("INSERT INTO " + getRepositoryNameDelta() + " (" + ID + ", " + DELTA_OFFSET + ", " + EXCHANGE + ") VALUES (?, ?, ?)",
+                new AbstractLobCreatingPreparedStatementCallback(getLobHandler()) {
+                    @Override
+                    protected void setValues(PreparedStatement ps, LobCreator lobCreator) throws SQLException {
+                        ps.setString(1, key);
+                        ps.setInt(2, offset);
+                        lobCreator.setBlobAsBytes(ps, 3, data);
+                    }
+                });
+    }
+
+    private void deleteDeltas(String key) {
+        jdbcTemplate.update("DELETE FROM " + getRepositoryNameDelta() + " WHERE " + ID + " = ?", key);
     }
 
     /**
@@ -287,7 +351,11 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
                     final byte[] data = jdbcTemplate.queryForObject(
                             "SELECT " + EXCHANGE + " FROM " + repositoryName + " WHERE " + ID + " = ?",
                             new Object[]{key}, byte[].class);
-                    return codec.unmarshallExchange(camelContext, data);
+                    Exchange answer = codec.unmarshallExchange(camelContext, data);
+                    if (isAppendDelta() && repositoryName.equals(getRepositoryName())) {
+                        mergeDeltas(camelContext, key, answer);
+                    }
+                    return answer;
                 } catch (EmptyResultDataAccessException ex) {
                     return null;
                 } catch (IOException ex) {
@@ -301,6 +369,39 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         });
     }
 
+    @SuppressWarnings("unchecked")
+    private void mergeDeltas(final CamelContext camelContext, final String key, final Exchange answer) throws IOException, ClassNotFoundException {
+        Object body = answer.getIn().getBody();
+        if (!(body instanceof List)) {
+            storedSizes.remove(key);
+            return;
+        }
+
+        List<byte[]> deltas = jdbcTemplate.query(
+                "SELECT " + EXCHANGE + " FROM " + getRepositoryNameDelta() + " WHERE " + ID + " = ? ORDER BY " + DELTA_OFFSET,
+                new Object[]{key},
+                new RowMapper<byte[]>() {
+                    public byte[] mapRow(ResultSet rs, int rowNum) throws SQLException {
+                        return getLobHandler().getBlobAsBytes(rs, 1);
+                    }
+                });
+
+        List<Object> merged = (List<Object>) body;
+        if (!deltas.isEmpty()) {
+            merged = new ArrayList<Object>(merged);
+            for (byte[] data : deltas) {
+                Exchange delta = codec.unmarshallExchange(camelContext, data);
+                merged.addAll(delta.getIn().getBody(List.class));
+                // the latest delta has the current headers and properties
+                answer.getIn().setHeaders(delta.getIn().getHeaders());
+                answer.getProperties().putAll(delta.getProperties());
+                answer.setException(delta.getException());
+            }
+            answer.getIn().setBody(merged);
+        }
+        storedSizes.put(key, merged.size());
+    }
+
     @Override
     public void remove(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
@@ -311,6 +412,10 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
                     LOG.debug("Removing key [{}]", key);
 
                     jdbcTemplate.update("DELETE FROM " + getRepositoryName() + " WHERE " + ID + " = ?", key);
+                    if (isAppendDelta()) {
+                        deleteDeltas(key);
+                        storedSizes.remove(key);
+                    }
 
                     insert(camelContext, confirmKey, exchange, getRepositoryNameCompleted());
 
@@ -479,6 +584,35 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public boolean isUseBinaryCodec() {
+        return codec.isUseBinaryCodec();
+    }
+
+    /**
+     * Whether to store exchanges using the compact binary codec instead of Java serialization.
+     * Exchanges stored in either format can always be read, so this can be turned on for an existing repository.
+     * This is default false.
+     */
+    public void setUseBinaryCodec(boolean useBinaryCodec) {
+        codec.setUseBinaryCodec(useBinaryCodec);
+    }
+
+    public boolean isAppendDelta() {
+        return appendDelta;
+    }
+
+    /**
+     * Whether to only store the newly appended part of the aggregated exchange on each add, instead of the entire exchange.
+     * <p/>
+     * This requires that the aggregated message body is a {@link List} which the aggregation strategy only appends to.
+     * The appended elements are inserted into the delta table, which has the same name as the repository suffixed
+     * with <tt>_delta</tt>, and are merged when the exchange is read. If the body is not a list, the list has shrunk,
+     * or the body or headers are stored as text, then the entire exchange is stored as usual. This is default false.
+     */
+    public void setAppendDelta(boolean appendDelta) {
+        this.appendDelta = appendDelta;
+    }
+
    /**
      * @return the lobHandler
      */
@@ -509,6 +643,10 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         return getRepositoryName() + "_completed";
     }
 
+    public String getRepositoryNameDelta() {
+        return getRepositoryName() + "_delta";
+    }
+
     @Override
     protected void doStart() throws Exception {
         ObjectHelper.notNull(repositoryName, "RepositoryName");
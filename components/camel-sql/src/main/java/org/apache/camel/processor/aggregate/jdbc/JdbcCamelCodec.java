@@ -25,6 +25,7 @@ import java.io.ObjectOutputStream;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.impl.BinaryExchangeHolderCodec;
 import org.apache.camel.impl.DefaultExchange;
 import org.apache.camel.impl.DefaultExchangeHolder;
 import org.apache.camel.util.IOHelper;
@@ -34,6 +35,20 @@ import org.apache.camel.util.IOHelper;
  */
 public class JdbcCamelCodec {
 
+    private boolean useBinaryCodec;
+
+    public boolean isUseBinaryCodec() {
+        return useBinaryCodec;
+    }
+
+    /**
+     * Whether to marshal exchanges using the compact {@link BinaryExchangeHolderCodec} instead of Java serialization.
+     * Exchanges in either format can always be unmarshalled.
+     */
+    public void setUseBinaryCodec(boolean useBinaryCodec) {
+        this.useBinaryCodec = useBinaryCodec;
+    }
+
     public byte[] marshallExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders) throws IOException {
         // use DefaultExchangeHolder to marshal to a serialized object
         DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
@@ -69,7 +84,10 @@ public class JdbcCamelCodec {
         return answer;
     }
 
-    private byte[] encode(Object object) throws IOException {
+    private byte[] encode(DefaultExchangeHolder object) throws IOException {
+        if (useBinaryCodec) {
+            return BinaryExchangeHolderCodec.encode(object);
+        }
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
         ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut);
         objectOut.writeObject(object);
@@ -79,6 +97,9 @@ public class JdbcCamelCodec {
     }
 
     private DefaultExchangeHolder decode(CamelContext camelContext, byte[] dataIn) throws IOException, ClassNotFoundException {
+        if (BinaryExchangeHolderCodec.isBinary(dataIn, 0, dataIn.length)) {
+            return BinaryExchangeHolderCodec.decode(camelContext, dataIn);
+        }
         ByteArrayInputStream bytesIn = new ByteArrayInputStream(dataIn);
 
         ObjectInputStream objectIn = null;
@@ -0,0 +1,176 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class SqlConsumerStreamingTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Test
+    public void testStreamingConsume() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        context.startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> exchanges = mock.getReceivedExchanges();
+
+        Map<?, ?> row = exchanges.get(0).getIn().getBody(Map.class);
+        assertEquals(1, row.get("ID"));
+        assertEquals("Camel", row.get("PROJECT"));
+        // the column names are case insensitive
+        assertEquals("Camel", row.get("project"));
+        assertEquals(2, exchanges.get(1).getIn().getBody(Map.class).get("ID"));
+        assertEquals(3, exchanges.get(2).getIn().getBody(Map.class).get("ID"));
+
+        assertEquals(0, exchanges.get(0).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(Boolean.FALSE, exchanges.get(0).getProperty(Exchange.BATCH_COMPLETE));
+        assertNull(exchanges.get(0).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(2, exchanges.get(2).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(Boolean.TRUE, exchanges.get(2).getProperty(Exchange.BATCH_COMPLETE));
+        assertEquals(3, exchanges.get(2).getProperty(Exchange.BATCH_SIZE));
+
+        // some servers may be a bit slow for this
+        for (int i = 0; i < 5; i++) {
+            // give it a little time to delete
+            Thread.sleep(200);
+            int rows = jdbcTemplate.queryForObject("select count(*) from projects", Integer.class);
+            if (rows == 0) {
+                break;
+            }
+        }
+        assertEquals("Should have deleted all 3 rows", new Integer(0), jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testColumnIndexRowMapper() throws Exception {
+        List<Map<String, Object>> rows = jdbcTemplate.query("select * from projects order by id", new ColumnIndexRowMapper());
+        assertEquals(3, rows.size());
+
+        Map<String, Object> row = rows.get(1);
+        assertEquals(3, row.size());
+        assertEquals("[ID, PROJECT, LICENSE]", row.keySet().toString());
+        assertEquals("AMQ", row.get("Project"));
+        assertTrue(row.containsKey("license"));
+        assertFalse(row.containsKey("unknown"));
+
+        row.put("project", "ActiveMQ");
+        assertEquals("ActiveMQ", row.get("PROJECT"));
+
+        // adding and removing keys copies the row
+        row.put("Extra", "Camel");
+        assertEquals(4, row.size());
+        assertEquals("Camel", row.get("extra"));
+        assertEquals("ActiveMQ", row.get("project"));
+        assertEquals("ActiveMQ", row.remove("PROJECT"));
+        assertEquals("[ID, LICENSE, Extra]", row.keySet().toString());
+        assertNull(row.remove("unknown"));
+    }
+
+    @Test
+    public void testStreamingMaxMessagesPerPoll() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:max");
+        mock.expectedMinimumMessageCount(2);
+
+        context.startRoute("max");
+
+        assertMockEndpointsSatisfied();
+
+        Exchange first = mock.getReceivedExchanges().get(0);
+        Exchange second = mock.getReceivedExchanges().get(1);
+        assertEquals(1, first.getIn().getBody(Map.class).get("ID"));
+        assertEquals(Boolean.FALSE, first.getProperty(Exchange.BATCH_COMPLETE));
+        // the poll stops at the maximum messages even if there are more rows
+        assertEquals(2, second.getIn().getBody(Map.class).get("ID"));
+        assertEquals(Boolean.TRUE, second.getProperty(Exchange.BATCH_COMPLETE));
+        assertEquals(2, second.getProperty(Exchange.BATCH_SIZE));
+    }
+
+    @Test
+    public void testStreamingRouteEmptyResultSet() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:empty");
+        mock.expectedMinimumMessageCount(1);
+
+        context.startRoute("empty");
+
+        assertMockEndpointsSatisfied();
+
+        Exchange exchange = mock.getReceivedExchanges().get(0);
+        assertEquals(0, exchange.getIn().getBody(List.class).size());
+        assertEquals(Boolean.TRUE, exchange.getProperty(Exchange.BATCH_COMPLETE));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("sql:select * from projects order by id?consumer.initialDelay=0&consumer.delay=50"
+                    + "&streaming=true&maxInflightExchanges=2&onConsumeBatchSize=2&consumer.onConsume=delete from projects where id = :#id")
+                    .routeId("foo").noAutoStartup()
+                    .to("mock:result");
+
+                from("sql:select * from projects order by id?consumer.initialDelay=0&consumer.delay=50"
+                    + "&streaming=true&maxMessagesPerPoll=2")
+                    .routeId("max").noAutoStartup()
+                    .to("mock:max");
+
+                from("sql:select * from projects where id > 10?consumer.initialDelay=0&consumer.delay=50"
+                    + "&streaming=true&routeEmptyResultSet=true")
+                    .routeId("empty").noAutoStartup()
+                    .to("mock:empty");
+            }
+        };
+    }
+}
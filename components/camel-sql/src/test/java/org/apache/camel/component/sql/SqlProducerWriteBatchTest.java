@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class SqlProducerWriteBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Test
+    public void testWriteBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader("seda:start", "Project" + i, "id", 100 + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(23, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testWriteBatchFailure() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.message(0).header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+        MockEndpoint error = getMockEndpoint("mock:error");
+        error.expectedMessageCount(1);
+        error.message(0).header("id").isEqualTo(1);
+
+        // the row with id 1 already exists, so only that exchange fails
+        template.sendBodyAndHeader("seda:start", "New", "id", 200);
+        template.sendBodyAndHeader("seda:start", "Camel", "id", 1);
+
+        assertMockEndpointsSatisfied();
+        // the failed batch is rolled back, and the other exchange is inserted once
+        assertEquals(4, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testUpdateCountPerExchange() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:update");
+        mock.expectedMessageCount(2);
+
+        template.sendBodyAndHeader("seda:update", "Foo", "license", "XXX");
+        template.sendBodyAndHeader("seda:update", "Bar", "license", "ASF");
+
+        assertMockEndpointsSatisfied();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            int expected = "XXX".equals(exchange.getIn().getHeader("license")) ? 1 : 2;
+            assertEquals(expected, exchange.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                onException(Exception.class).handled(true).to("mock:error");
+
+                from("seda:start?concurrentConsumers=20")
+                    .to("sql:insert into projects (id, project, license) values (:#id, :#${body}, 'ASF')?writeBatchSize=5&writeBatchLingerTime=100")
+                    .to("mock:result");
+
+                from("seda:update?concurrentConsumers=2")
+                    .to("sql:update projects set project = :#${body} where license = :#license?writeBatchSize=5")
+                    .to("mock:update");
+            }
+        };
+    }
+}
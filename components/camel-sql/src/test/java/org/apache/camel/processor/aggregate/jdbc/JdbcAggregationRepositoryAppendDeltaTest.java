@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultExchange;
+import org.apache.camel.processor.aggregate.AggregationStrategy;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JdbcAggregationRepositoryAppendDeltaTest extends AbstractJdbcAggregationTestSupport {
+
+    @Override
+    void configureJdbcAggregationRepository() {
+        repo.setAppendDelta(true);
+        repo.setUseBinaryCodec(true);
+    }
+
+    @Test
+    public void testAppendDelta() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ArrayList<Object>(Arrays.asList("A")));
+        exchange.getIn().setHeader("count", 1);
+        repo.add(context, "foo", exchange);
+
+        // only the appended element is stored
+        for (int i = 2; i <= 5; i++) {
+            exchange = repo.get(context, "foo");
+            exchange.getIn().getBody(List.class).add(String.valueOf((char) ('A' + i - 1)));
+            exchange.getIn().setHeader("count", i);
+            repo.add(context, "foo", exchange);
+        }
+        assertEquals(4, countDeltas("foo"));
+
+        exchange = repo.get(context, "foo");
+        assertEquals(Arrays.asList("A", "B", "C", "D", "E"), exchange.getIn().getBody());
+        assertEquals(5, exchange.getIn().getHeader("count"));
+
+        // replacing the body stores the entire exchange and removes the deltas
+        exchange.getIn().setBody(new ArrayList<Object>(Arrays.asList("X")));
+        repo.add(context, "foo", exchange);
+        assertEquals(0, countDeltas("foo"));
+        assertEquals(Arrays.asList("X"), repo.get(context, "foo").getIn().getBody());
+
+        exchange = repo.get(context, "foo");
+        exchange.getIn().getBody(List.class).add("Y");
+        repo.add(context, "foo", exchange);
+        assertEquals(1, countDeltas("foo"));
+
+        exchange = repo.get(context, "foo");
+        assertEquals(Arrays.asList("X", "Y"), exchange.getIn().getBody());
+        repo.remove(context, "foo", exchange);
+        assertNull(repo.get(context, "foo"));
+        assertEquals(0, countDeltas("foo"));
+
+        // the completed exchange is stored in full so it can be recovered
+        assertEquals(Arrays.asList("X", "Y"), repo.recover(context, exchange.getExchangeId()).getIn().getBody());
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        getMockEndpoint("mock:aggregated").expectedMessageCount(1);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("direct:start", "Message " + i, "id", 123);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        List<?> body = getMockEndpoint("mock:aggregated").getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(10, body.size());
+        assertEquals("Message 0", body.get(0));
+        assertEquals("Message 9", body.get(9));
+        assertEquals(0, countDeltas("123"));
+    }
+
+    private int countDeltas(String key) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(applicationContext.getBean("dataSource1", DataSource.class));
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM aggregationRepo1_delta WHERE id = ?", Integer.class, key);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .aggregate(header("id"), new MyAppendStrategy())
+                        .aggregationRepository(repo)
+                        .completionSize(10)
+                        .to("mock:aggregated");
+            }
+        };
+    }
+
+    public static class MyAppendStrategy implements AggregationStrategy {
+
+        @SuppressWarnings("unchecked")
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                List<Object> list = new ArrayList<Object>();
+                list.add(newExchange.getIn().getBody());
+                newExchange.getIn().setBody(list);
+                return newExchange;
+            }
+            oldExchange.getIn().getBody(List.class).add(newExchange.getIn().getBody());
+            return oldExchange;
+        }
+    }
+}
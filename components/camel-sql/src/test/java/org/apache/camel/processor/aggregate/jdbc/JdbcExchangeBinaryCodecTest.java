@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.util.Date;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultExchange;
+import org.junit.Test;
+
+public class JdbcExchangeBinaryCodecTest extends AbstractJdbcAggregationTestSupport {
+
+    @Test
+    public void testBinaryCodec() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Olivier");
+        exchange.getIn().setHeader("number", 123);
+        Date now = new Date();
+        exchange.getIn().setHeader("date", now);
+
+        // stored using java serialization
+        repo.add(context, "foo", exchange);
+
+        // and can be read when using the binary codec
+        repo.setUseBinaryCodec(true);
+        Exchange actual = repo.get(context, "foo");
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Olivier", actual.getIn().getHeader("name"));
+
+        // stored using the binary codec
+        exchange.getIn().setBody("Bye World");
+        repo.add(context, "foo", exchange);
+
+        actual = repo.get(context, "foo");
+        assertEquals("Bye World", actual.getIn().getBody());
+        assertEquals("Olivier", actual.getIn().getHeader("name"));
+        assertEquals(123, actual.getIn().getHeader("number"));
+        assertEquals(now.getTime(), actual.getIn().getHeader("date", Date.class).getTime());
+        assertSame(context, actual.getContext());
+
+        // and can be read when not using the binary codec
+        repo.setUseBinaryCodec(false);
+        actual = repo.get(context, "foo");
+        assertEquals("Bye World", actual.getIn().getBody());
+    }
+}
@@ -24,4 +24,11 @@ CREATE TABLE aggregationRepo1_completed (
     id varchar(255) NOT NULL,
     exchange blob NOT NULL,
     constraint aggregationRepo1_completed_pk PRIMARY KEY (id)
-);
\ No newline at end of file
+);
+
+CREATE TABLE aggregationRepo1_delta (
+    id varchar(255) NOT NULL,
+    delta_offset integer NOT NULL,
+    exchange blob NOT NULL,
+    constraint aggregationRepo1_delta_pk PRIMARY KEY (id, delta_offset)
+);
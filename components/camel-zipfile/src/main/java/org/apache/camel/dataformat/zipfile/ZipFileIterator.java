@@ -0,0 +1,183 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.impl.DefaultMessage;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Iterator which goes through the entries of a ZIP file using random access by {@link ZipFile},
+ * instead of reading the ZIP file from start to end as {@link ZipIterator} does.
+ * <p/>
+ * The entries are independent of each other, so they can be inflated in parallel. When given an executor service
+ * the entries ahead of the current one are inflated into memory, and at most twice the number of inflaters
+ * are held in memory at any time. Otherwise each entry is inflated when its message is processed.
+ */
+public class ZipFileIterator implements Iterator<Message>, Closeable {
+    static final Logger LOGGER = LoggerFactory.getLogger(ZipFileIterator.class);
+
+    private final Exchange exchange;
+    private final ZipFile zipFile;
+    private final Enumeration<? extends ZipEntry> entries;
+    private final Deque<Future<Message>> pending = new ArrayDeque<Future<Message>>();
+    private final int maxPending;
+    private final ExecutorService executorService;
+    private boolean allowEmptyDirectory;
+
+    public ZipFileIterator(Exchange exchange, File file, ExecutorService executorService, int parallelInflaters) throws IOException {
+        this.exchange = exchange;
+        this.zipFile = new ZipFile(file);
+        this.entries = zipFile.entries();
+        this.executorService = executorService;
+        this.maxPending = executorService != null ? Math.max(parallelInflaters, 1) * 2 : 1;
+        // the splitter closes the iterator as soon as the last entry has been taken, before it is processed,
+        // so the ZIP file must be kept open for the entry streams until the exchange is done
+        exchange.addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                IOHelper.close(zipFile);
+            }
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+        return !pending.isEmpty();
+    }
+
+    @Override
+    public Message next() {
+        fill();
+        Future<Message> future = pending.poll();
+        if (future == null) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeCamelException(e);
+        } catch (ExecutionException e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e.getCause());
+        } finally {
+            // keep the inflaters busy while the message is processed
+            fill();
+        }
+    }
+
+    private void fill() {
+        while (pending.size() < maxPending) {
+            final ZipEntry entry = getNextEntry();
+            if (entry == null) {
+                return;
+            }
+            LOGGER.debug("read zipEntry {}", entry.getName());
+            if (executorService != null) {
+                pending.add(executorService.submit(new Callable<Message>() {
+                    @Override
+                    public Message call() throws Exception {
+                        InputStream in = zipFile.getInputStream(entry);
+                        try {
+                            ByteArrayOutputStream bos = new ByteArrayOutputStream(entry.getSize() > 0 ? (int) entry.getSize() : IOHelper.DEFAULT_BUFFER_SIZE);
+                            IOHelper.copy(in, bos);
+                            return createMessage(entry, bos.toByteArray());
+                        } finally {
+                            IOHelper.close(in);
+                        }
+                    }
+                }));
+            } else {
+                try {
+                    pending.add(CompletableFuture.completedFuture(createMessage(entry, zipFile.getInputStream(entry))));
+                } catch (IOException exception) {
+                    //Just wrap the IOException as CamelRuntimeException
+                    throw new RuntimeCamelException(exception);
+                }
+            }
+        }
+    }
+
+    private ZipEntry getNextEntry() {
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() || allowEmptyDirectory) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private Message createMessage(ZipEntry entry, Object body) {
+        Message answer = new DefaultMessage(exchange.getContext());
+        answer.getHeaders().putAll(exchange.getIn().getHeaders());
+        answer.setHeader("zipFileName", entry.getName());
+        answer.setHeader(Exchange.FILE_NAME, entry.getName());
+        answer.setBody(body);
+        return answer;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Future<Message> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        if (executorService != null) {
+            // the inflated entries are in memory so the ZIP file is no longer needed
+            zipFile.close();
+        }
+    }
+
+    public boolean isSupportIteratorForEmptyDirectory() {
+        return allowEmptyDirectory;
+    }
+
+    public void setAllowEmptyDirectory(boolean allowEmptyDirectory) {
+        this.allowEmptyDirectory = allowEmptyDirectory;
+    }
+}
@@ -16,11 +16,16 @@
  */
 package org.apache.camel.dataformat.zipfile;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.WrappedFile;
 
 /**
  * ZipSplitter the expression builder which can be used after the splitter
@@ -30,15 +35,86 @@ import org.apache.camel.Message;
  */
 public class ZipSplitter implements Expression {
 
+    private boolean randomAccess;
+    private int parallelInflaters;
+    private volatile ExecutorService executorService;
+
     public ZipSplitter() {
     }
 
     public Object evaluate(Exchange exchange) {
         Message inputMessage = exchange.getIn();
+        if (randomAccess) {
+            Object body = inputMessage.getBody();
+            if (body instanceof WrappedFile) {
+                body = ((WrappedFile<?>) body).getFile();
+            }
+            if (body instanceof File) {
+                try {
+                    ExecutorService inflaters = parallelInflaters > 1 ? getOrCreateExecutorService(exchange) : null;
+                    return new ZipFileIterator(exchange, (File) body, inflaters, parallelInflaters);
+                } catch (IOException exception) {
+                    //Just wrap the IOException as CamelRuntimeException
+                    throw new RuntimeCamelException(exception);
+                }
+            }
+            // not a local file so fallback to read the stream
+        }
         InputStream inputStream = inputMessage.getBody(InputStream.class);
         return new ZipIterator(exchange, inputStream);
     }
 
+    public boolean isRandomAccess() {
+        return randomAccess;
+    }
+
+    /**
+     * Whether to read the entries using random access by {@link java.util.zip.ZipFile} when the message body
+     * is a local file, instead of reading the ZIP file as a stream from start to end.
+     */
+    public void setRandomAccess(boolean randomAccess) {
+        this.randomAccess = randomAccess;
+    }
+
+    public int getParallelInflaters() {
+        return parallelInflaters;
+    }
+
+    /**
+     * The number of threads inflating the entries ahead of the one being processed, when using random access.
+     * The inflated entries are held in memory until they are processed, so the message bodies are byte arrays.
+     */
+    public void setParallelInflaters(int parallelInflaters) {
+        this.parallelInflaters = parallelInflaters;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The thread pool inflating the entries when using parallel inflaters. The pool is shared by all the
+     * exchanges split by this splitter, and is created from the {@link org.apache.camel.CamelContext} when not set.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    private ExecutorService getOrCreateExecutorService(Exchange exchange) {
+        ExecutorService answer = executorService;
+        if (answer == null) {
+            synchronized (this) {
+                answer = executorService;
+                if (answer == null) {
+                    // shutdown by the executor service manager when the camel context is stopped
+                    answer = exchange.getContext().getExecutorServiceManager().newFixedThreadPool(this, "ZipInflater", parallelInflaters);
+                    executorService = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
     @Override
     public <T> T evaluate(Exchange exchange, Class<T> type) {
         Object result = evaluate(exchange);
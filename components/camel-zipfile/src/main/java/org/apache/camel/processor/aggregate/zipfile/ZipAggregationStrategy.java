@@ -16,6 +16,7 @@
  */
 package org.apache.camel.processor.aggregate.zipfile;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -32,7 +33,8 @@ import org.apache.camel.component.file.FileConsumer;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileMessage;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
-import org.apache.camel.processor.aggregate.AggregationStrategy;
+import org.apache.camel.processor.aggregate.CompletionAwareAggregationStrategy;
+import org.apache.camel.processor.aggregate.TimeoutAwareAggregationStrategy;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
@@ -45,13 +47,19 @@ import org.apache.camel.util.IOHelper;
  * useFilenameHeader is set to true.</p>
  * <p><b>Note:</b> Please note that this aggregation strategy requires eager 
  * completion check to work properly.</p>
+ * <p>By default the ZIP file is rewritten for every aggregated exchange. In streaming
+ * mode the ZIP file is kept open while aggregating and the entries are appended as they
+ * arrive, which is much faster when aggregating many entries.</p>
  */
-public class ZipAggregationStrategy implements AggregationStrategy {
+public class ZipAggregationStrategy implements CompletionAwareAggregationStrategy, TimeoutAwareAggregationStrategy {
+
+    private static final String ZIP_OUTPUT_STREAM = "CamelZipAggregationOutputStream";
 
     private String filePrefix;
     private String fileSuffix = ".zip";
     private boolean preserveFolderStructure;
     private boolean useFilenameHeader;
+    private boolean streaming;
 
     public ZipAggregationStrategy() {
         this(false, false);
@@ -108,6 +116,25 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         this.fileSuffix = fileSuffix;
     }
 
+    /**
+     * Whether the ZIP file is kept open while aggregating.
+     * @return true if in streaming mode
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether to keep the ZIP file open while aggregating, and append each entry as it arrives,
+     * instead of rewriting the ZIP file for every aggregated exchange. The ZIP file is completed when
+     * the aggregation completes. As the open ZIP file is kept on the aggregated exchange, this requires
+     * the default in-memory aggregation repository.
+     * @param streaming true to use streaming mode
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     @Override
     public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
         File zipFile;
@@ -142,7 +169,11 @@ public class ZipAggregationStrategy implements AggregationStrategy {
                 // do not try to append empty files
                 if (appendFile.length() > 0) {
                     String entryName = preserveFolderStructure ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class) : newExchange.getIn().getMessageId();
-                    addFileToZip(zipFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    if (streaming) {
+                        appendFileToZip(getZipOutputStream(answer, zipFile), appendFile, this.preserveFolderStructure ? entryName : null);
+                    } else {
+                        addFileToZip(zipFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    }
                     GenericFile<File> genericFile = 
                         FileConsumer.asGenericFile(
                             zipFile.getParent(), zipFile, Charset.defaultCharset().toString(), false);
@@ -158,7 +189,11 @@ public class ZipAggregationStrategy implements AggregationStrategy {
                 // do not try to append empty data
                 if (buffer.length > 0) {
                     String entryName = useFilenameHeader ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class) : newExchange.getIn().getMessageId();
-                    addEntryToZip(zipFile, entryName, buffer, buffer.length);
+                    if (streaming) {
+                        appendEntryToZip(getZipOutputStream(answer, zipFile), entryName, buffer, buffer.length);
+                    } else {
+                        addEntryToZip(zipFile, entryName, buffer, buffer.length);
+                    }
                     GenericFile<File> genericFile = FileConsumer.asGenericFile(
                             zipFile.getParent(), zipFile, Charset.defaultCharset().toString(), false);
                     genericFile.bindToExchange(answer);
@@ -170,7 +205,62 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         
         return answer;
     }
-    
+
+    @Override
+    public void onCompletion(Exchange exchange) {
+        closeZipOutputStream(exchange);
+    }
+
+    @Override
+    public void timeout(Exchange oldExchange, int index, int total, long timeout) {
+        // complete the ZIP file also when the aggregated exchange is discarded
+        closeZipOutputStream(oldExchange);
+    }
+
+    private static ZipOutputStream getZipOutputStream(Exchange answer, File zipFile) throws IOException {
+        ZipOutputStream out = answer.getProperty(ZIP_OUTPUT_STREAM, ZipOutputStream.class);
+        if (out == null) {
+            out = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zipFile)));
+            answer.setProperty(ZIP_OUTPUT_STREAM, out);
+        }
+        return out;
+    }
+
+    private static void closeZipOutputStream(Exchange exchange) {
+        ZipOutputStream out = (ZipOutputStream) exchange.removeProperty(ZIP_OUTPUT_STREAM);
+        if (out == null) {
+            return;
+        }
+        try {
+            // writes the central directory of the ZIP file
+            out.close();
+            // bind the file again so the file headers such as the length are up to date
+            File zipFile = exchange.getIn().getBody(File.class);
+            GenericFile<File> genericFile = FileConsumer.asGenericFile(
+                    zipFile.getParent(), zipFile, Charset.defaultCharset().toString(), false);
+            genericFile.bindToExchange(exchange);
+        } catch (Exception e) {
+            exchange.setException(new GenericFileOperationFailedException(e.getMessage(), e));
+        }
+    }
+
+    private static void appendFileToZip(ZipOutputStream out, File file, String fileName) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            out.putNextEntry(new ZipEntry(fileName == null ? file.getName() : fileName));
+            IOHelper.copy(in, out);
+            out.closeEntry();
+        } finally {
+            IOHelper.close(in);
+        }
+    }
+
+    private static void appendEntryToZip(ZipOutputStream out, String entryName, byte[] buffer, int length) throws IOException {
+        out.putNextEntry(new ZipEntry(entryName));
+        out.write(buffer, 0, length);
+        out.closeEntry();
+    }
+
     private static void addFileToZip(File source, File file, String fileName) throws IOException {
         File tmpZip = File.createTempFile(source.getName(), null);
         tmpZip.delete();
@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+
+public class ZipSplitterRandomAccessTest extends CamelTestSupport {
+
+    private static final int ENTRIES = 100;
+
+    private ZipSplitter parallel;
+
+    @Override
+    public void setUp() throws Exception {
+        deleteDirectory("target/zip-random-access");
+        createDirectory("target/zip-random-access/sequential");
+        createDirectory("target/zip-random-access/parallel");
+        super.setUp();
+    }
+
+    @Test
+    public void testSplitWithRandomAccess() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:sequential");
+        expectEntries(mock);
+
+        createZipFile(new File("target/zip-random-access/sequential/entries.zip"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitWithParallelInflaters() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:parallel");
+        expectEntries(mock);
+        mock.message(0).body().isInstanceOf(byte[].class);
+
+        createZipFile(new File("target/zip-random-access/parallel/entries.zip"));
+
+        assertMockEndpointsSatisfied();
+
+        // the inflaters are shared by the exchanges split afterwards
+        ExecutorService inflaters = parallel.getExecutorService();
+        assertNotNull(inflaters);
+
+        mock.reset();
+        expectEntries(mock);
+
+        createZipFile(new File("target/zip-random-access/parallel/more-entries.zip"));
+
+        assertMockEndpointsSatisfied();
+        assertSame(inflaters, parallel.getExecutorService());
+        assertFalse(inflaters.isShutdown());
+    }
+
+    private void expectEntries(MockEndpoint mock) {
+        // the entries are split in the order of the ZIP file even when inflated in parallel
+        Object[] bodies = new Object[ENTRIES];
+        Object[] names = new Object[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            bodies[i] = "Hello " + i;
+            names[i] = "dir/entry-" + i + ".txt";
+        }
+        mock.expectedBodiesReceived(bodies);
+        mock.expectedHeaderValuesReceivedInAnyOrder("zipFileName", names);
+    }
+
+    private void createZipFile(File file) throws Exception {
+        File tmp = new File(file.getPath() + ".tmp");
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(tmp));
+        try {
+            out.putNextEntry(new ZipEntry("dir/"));
+            out.closeEntry();
+            for (int i = 0; i < ENTRIES; i++) {
+                out.putNextEntry(new ZipEntry("dir/entry-" + i + ".txt"));
+                out.write(("Hello " + i).getBytes("UTF-8"));
+                out.closeEntry();
+            }
+        } finally {
+            IOHelper.close(out);
+        }
+        assertTrue(tmp.renameTo(file));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                ZipSplitter sequential = new ZipSplitter();
+                sequential.setRandomAccess(true);
+
+                from("file:target/zip-random-access/sequential?antInclude=*.zip&initialDelay=0&delay=10")
+                    .split(sequential).streaming()
+                        .convertBodyTo(String.class).to("mock:sequential")
+                    .end();
+
+                parallel = new ZipSplitter();
+                parallel.setRandomAccess(true);
+                parallel.setParallelInflaters(4);
+
+                from("file:target/zip-random-access/parallel?antInclude=*.zip&initialDelay=0&delay=10")
+                    .split(parallel).streaming()
+                        .to("mock:parallel")
+                    .end();
+            }
+        };
+    }
+
+}
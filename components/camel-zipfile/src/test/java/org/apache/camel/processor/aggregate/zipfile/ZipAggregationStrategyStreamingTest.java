@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.zipfile;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.IOConverter;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+
+public class ZipAggregationStrategyStreamingTest extends CamelTestSupport {
+
+    private static final int ENTRIES = 500;
+
+    @Override
+    public void setUp() throws Exception {
+        deleteDirectory("target/out-streaming");
+        super.setUp();
+    }
+
+    @Test
+    public void testStreamingAggregation() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregateToZipEntry");
+        mock.expectedMessageCount(2);
+
+        // interleave two correlations which are each written to their own ZIP file
+        for (int i = 0; i < ENTRIES; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello " + i, Exchange.FILE_NAME, "a-" + i + ".txt");
+            template.sendBodyAndHeader("direct:start", "Bye " + i, Exchange.FILE_NAME, "b-" + i + ".txt");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        assertZipFile(new File("target/out-streaming/a.zip"), "a-", "Hello ", ENTRIES);
+        assertZipFile(new File("target/out-streaming/b.zip"), "b-", "Bye ", ENTRIES);
+    }
+
+    @Test
+    public void testStreamingAggregationCompletionTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregateToZipEntryTimeout");
+        mock.expectedMessageCount(1);
+
+        for (int i = 0; i < 3; i++) {
+            template.sendBodyAndHeader("direct:timeout", "Hello " + i, Exchange.FILE_NAME, "t-" + i + ".txt");
+        }
+
+        // the ZIP file is also completed when the aggregation times out
+        assertMockEndpointsSatisfied();
+
+        assertZipFile(new File("target/out-streaming/timeout/t.zip"), "t-", "Hello ", 3);
+    }
+
+    private void assertZipFile(File file, String namePrefix, String bodyPrefix, int entries) throws Exception {
+        ZipInputStream zin = new ZipInputStream(new FileInputStream(file));
+        try {
+            int count = 0;
+            for (ZipEntry ze = zin.getNextEntry(); ze != null; ze = zin.getNextEntry()) {
+                // the entries are appended in the order they were aggregated
+                assertEquals(namePrefix + count + ".txt", ze.getName());
+                assertEquals(bodyPrefix + count, IOConverter.toString(IOConverter.toBytes(zin), null));
+                count++;
+            }
+            assertEquals(entries, count);
+        } finally {
+            IOHelper.close(zin);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                ZipAggregationStrategy strategy = new ZipAggregationStrategy(false, true);
+                strategy.setStreaming(true);
+
+                from("direct:start")
+                    .setHeader("group", simple("${header.CamelFileName.substring(0, 1)}"))
+                    .aggregate(header("group"), strategy)
+                        .completionSize(ENTRIES)
+                        .eagerCheckCompletion()
+                    .setHeader(Exchange.FILE_NAME, simple("${header.group}.zip"))
+                    .to("file:target/out-streaming")
+                    .to("mock:aggregateToZipEntry");
+
+                ZipAggregationStrategy timeoutStrategy = new ZipAggregationStrategy(false, true);
+                timeoutStrategy.setStreaming(true);
+
+                from("direct:timeout")
+                    .aggregate(constant("t"), timeoutStrategy)
+                        .completionTimeout(500)
+                        .eagerCheckCompletion()
+                    .setHeader(Exchange.FILE_NAME, constant("t.zip"))
+                    .to("file:target/out-streaming/timeout")
+                    .to("mock:aggregateToZipEntryTimeout");
+            }
+        };
+    }
+}
@@ -243,6 +243,15 @@ public class AMQPComponentConfiguration
      * when timeout occurred when using request/reply over JMS.
      */
     private Integer replyOnTimeoutToMaxConcurrentConsumers = 1;
+    /**
+     * Specifies the number of shards the correlation ids of pending requests
+     * are spread over when using request/reply over JMS. Each shard has its own
+     * lock and timeout checker, which reduces contention when doing
+     * request/reply at high rates. The reply message listener uses at least one
+     * concurrent consumer per shard. The shards can be monitored from JMX. The
+     * default value of 1 uses a single correlation map.
+     */
+    private Integer replyToCorrelationShards = 1;
     /**
      * The number of messages per task. -1 is unlimited. If you use a range for
      * concurrent consumers (eg min max), then this option can be used to set a
@@ -612,6 +621,31 @@ public class AMQPComponentConfiguration
      * standard.
      */
     private Boolean formatDateHeadersToIso8601 = false;
+    /**
+     * Sets the maximum number of messages to receive within the same JMS
+     * session and route as a single batch. When enabled the messages are routed
+     * as a grouped exchange, where the message body is a List of exchanges (one
+     * per JMS message), and the JMS session is committed (or rolled back) once
+     * for the entire batch. No reply is sent back for messages consumed as a
+     * batch. This requires consumerType=Default, and is typically used with
+     * transacted=true. The default value of 0 disables batch consuming.
+     */
+    private Integer consumerBatchSize;
+    /**
+     * The maximum time in millis to wait for more messages to complete a batch,
+     * when consumerBatchSize is enabled. The batch is routed when either
+     * consumerBatchSize messages has been received or this timeout elapsed
+     * since the first message of the batch was received.
+     */
+    private Long consumerBatchTimeout = 1000L;
+    /**
+     * When enabled and the message body is an Iterable (such as a
+     * java.util.List), then each element is sent as a separate JMS message
+     * using the same JMS session and message producer. In combination with
+     * transacted=true, all the messages are committed at once. Only applicable
+     * when sending using InOnly (eg fire and forget).
+     */
+    private Boolean producerBatch = false;
     /**
      * To use a custom org.apache.camel.spi.HeaderFilterStrategy to filter
      * header to and from Camel message.
@@ -869,6 +903,14 @@ public class AMQPComponentConfiguration
         this.replyOnTimeoutToMaxConcurrentConsumers = replyOnTimeoutToMaxConcurrentConsumers;
     }
 
+    public Integer getReplyToCorrelationShards() {
+        return replyToCorrelationShards;
+    }
+
+    public void setReplyToCorrelationShards(Integer replyToCorrelationShards) {
+        this.replyToCorrelationShards = replyToCorrelationShards;
+    }
+
     public Integer getMaxMessagesPerTask() {
         return maxMessagesPerTask;
     }
@@ -1262,6 +1304,30 @@ public class AMQPComponentConfiguration
         this.formatDateHeadersToIso8601 = formatDateHeadersToIso8601;
     }
 
+    public Integer getConsumerBatchSize() {
+        return consumerBatchSize;
+    }
+
+    public void setConsumerBatchSize(Integer consumerBatchSize) {
+        this.consumerBatchSize = consumerBatchSize;
+    }
+
+    public Long getConsumerBatchTimeout() {
+        return consumerBatchTimeout;
+    }
+
+    public void setConsumerBatchTimeout(Long consumerBatchTimeout) {
+        this.consumerBatchTimeout = consumerBatchTimeout;
+    }
+
+    public Boolean getProducerBatch() {
+        return producerBatch;
+    }
+
+    public void setProducerBatch(Boolean producerBatch) {
+        this.producerBatch = producerBatch;
+    }
+
     public HeaderFilterStrategy getHeaderFilterStrategy() {
         return headerFilterStrategy;
     }
@@ -105,15 +105,29 @@ public class S3ComponentConfiguration
     public static class S3ConfigurationNestedConfiguration {
         public static final Class CAMEL_NESTED_CLASS = org.apache.camel.component.aws.s3.S3Configuration.class;
         /**
-         * Setup the partSize which is used in multi part upload, the default
-         * size is 25M.
+         * Setup the partSize which is used in multi part upload and download,
+         * the default size is 25M.
          */
         private Long partSize = 26214400L;
         /**
          * If it is true, camel will upload the file with multi part format, the
-         * part size is decided by the option of `partSize`
+         * part size is decided by the option of `partSize`. The message body
+         * can be a file or any stream, in which case the parts are read from
+         * the stream while the previous parts are being uploaded.
          */
         private Boolean multiPartUpload = false;
+        /**
+         * If it is true, camel will download objects larger than `partSize`
+         * using ranged GET requests in parallel, which are reassembled in order
+         * into the message body. At most `multiPartConcurrency` parts are
+         * buffered in memory at any time.
+         */
+        private Boolean multiPartDownload = false;
+        /**
+         * The number of parts which are transferred concurrently when using
+         * multi part upload or download.
+         */
+        private Integer multiPartConcurrency = 4;
         /**
          * Amazon AWS Access Key
          */
@@ -267,6 +281,22 @@ public class S3ComponentConfiguration
             this.multiPartUpload = multiPartUpload;
         }
 
+        public Boolean getMultiPartDownload() {
+            return multiPartDownload;
+        }
+
+        public void setMultiPartDownload(Boolean multiPartDownload) {
+            this.multiPartDownload = multiPartDownload;
+        }
+
+        public Integer getMultiPartConcurrency() {
+            return multiPartConcurrency;
+        }
+
+        public void setMultiPartConcurrency(Integer multiPartConcurrency) {
+            this.multiPartConcurrency = multiPartConcurrency;
+        }
+
         public String getAccessKey() {
             return accessKey;
         }
@@ -63,6 +63,22 @@ public class XPathLanguageConfiguration
      * prevented by turning this option on.
      */
     private Boolean threadSafety = false;
+    /**
+     * Whether to evaluate the expression directly over a StAX stream of the
+     * message, without building a DOM. Only simple paths using the child axis,
+     * optionally ending with an attribute or text step, and optionally compared
+     * to a string literal are supported in streaming mode, and only for
+     * boolean, string and number results. Other expressions are evaluated as
+     * usual.
+     */
+    private Boolean streaming = false;
+    /**
+     * Whether to cache the DOM document parsed from the message body on the
+     * exchange, so multiple xpath expressions evaluated on the same message
+     * body, such as the predicates in a content based router, only parse the
+     * message once.
+     */
+    private Boolean documentCache = false;
     /**
      * Whether to trim the value to remove leading and trailing whitespaces and
      * line breaks
@@ -117,6 +133,22 @@ public class XPathLanguageConfiguration
         this.threadSafety = threadSafety;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public Boolean getDocumentCache() {
+        return documentCache;
+    }
+
+    public void setDocumentCache(Boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
     public Boolean getTrim() {
         return trim;
     }
@@ -144,6 +144,15 @@ public class GsonDataFormatConfiguration
      * fastjson and xstream.
      */
     private String timezone;
+    /**
+     * If enabled then Jackson unmarshals a JSON array to an Iterator which
+     * reads the elements one at a time, instead of reading the whole array into
+     * a List. This allows to split big JSON arrays using the streaming mode of
+     * the splitter. The unmarshal type is the type of the elements. This option
+     * will have no effect on the others Json DataFormat, like gson, fastjson
+     * and xstream.
+     */
+    private Boolean streaming = false;
     /**
      * Whether the data format should set the Content-Type header with the type
      * from the data format if the data format is capable of doing so. For
@@ -296,6 +305,14 @@ public class GsonDataFormatConfiguration
         this.timezone = timezone;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public Boolean getContentTypeHeader() {
         return contentTypeHeader;
     }
@@ -248,6 +248,16 @@ public class JmsComponentConfiguration
      * when timeout occurred when using request/reply over JMS.
      */
     private Integer replyOnTimeoutToMaxConcurrentConsumers = 1;
+    /**
+     * Specifies the number of shards the correlation ids of pending requests
+     * are spread over when using request/reply over JMS. Each shard has its own
+     * lock and keeps its correlation ids ordered by timeout, which reduces
+     * contention when doing request/reply at high rates. The reply message
+     * listener uses at least one concurrent consumer per shard. The shards can
+     * be monitored from JMX. The default value of 1 uses a single correlation
+     * map.
+     */
+    private Integer replyToCorrelationShards = 1;
     /**
      * The number of messages per task. -1 is unlimited. If you use a range for
      * concurrent consumers (eg min max), then this option can be used to set a
@@ -615,6 +625,31 @@ public class JmsComponentConfiguration
      * standard.
      */
     private Boolean formatDateHeadersToIso8601 = false;
+    /**
+     * Sets the maximum number of messages to receive within the same JMS
+     * session and route as a single batch. When enabled the messages are routed
+     * as a grouped exchange, where the message body is a List of exchanges (one
+     * per JMS message), and the JMS session is committed (or rolled back) once
+     * for the entire batch. No reply is sent back for messages consumed as a
+     * batch. This requires consumerType=Default, and is typically used with
+     * transacted=true. The default value of 0 disables batch consuming.
+     */
+    private Integer consumerBatchSize;
+    /**
+     * The maximum time in millis to wait for more messages to complete a batch,
+     * when consumerBatchSize is enabled. The batch is routed when either
+     * consumerBatchSize messages has been received or this timeout elapsed
+     * since the first message of the batch was received.
+     */
+    private Long consumerBatchTimeout = 1000L;
+    /**
+     * When enabled and the message body is an Iterable (such as a
+     * java.util.List), then each element is sent as a separate JMS message
+     * using the same JMS session and message producer. In combination with
+     * transacted=true, all the messages are committed at once. Only applicable
+     * when sending using InOnly (eg fire and forget).
+     */
+    private Boolean producerBatch = false;
     /**
      * To use a custom org.apache.camel.spi.HeaderFilterStrategy to filter
      * header to and from Camel message.
@@ -873,6 +908,14 @@ public class JmsComponentConfiguration
         this.replyOnTimeoutToMaxConcurrentConsumers = replyOnTimeoutToMaxConcurrentConsumers;
     }
 
+    public Integer getReplyToCorrelationShards() {
+        return replyToCorrelationShards;
+    }
+
+    public void setReplyToCorrelationShards(Integer replyToCorrelationShards) {
+        this.replyToCorrelationShards = replyToCorrelationShards;
+    }
+
     public Integer getMaxMessagesPerTask() {
         return maxMessagesPerTask;
     }
@@ -1266,6 +1309,30 @@ public class JmsComponentConfiguration
         this.formatDateHeadersToIso8601 = formatDateHeadersToIso8601;
     }
 
+    public Integer getConsumerBatchSize() {
+        return consumerBatchSize;
+    }
+
+    public void setConsumerBatchSize(Integer consumerBatchSize) {
+        this.consumerBatchSize = consumerBatchSize;
+    }
+
+    public Long getConsumerBatchTimeout() {
+        return consumerBatchTimeout;
+    }
+
+    public void setConsumerBatchTimeout(Long consumerBatchTimeout) {
+        this.consumerBatchTimeout = consumerBatchTimeout;
+    }
+
+    public Boolean getProducerBatch() {
+        return producerBatch;
+    }
+
+    public void setProducerBatch(Boolean producerBatch) {
+        this.producerBatch = producerBatch;
+    }
+
     public HeaderFilterStrategy getHeaderFilterStrategy() {
         return headerFilterStrategy;
     }
@@ -1507,6 +1574,16 @@ public class JmsComponentConfiguration
          * routing when timeout occurred when using request/reply over JMS.
          */
         private Integer replyToOnTimeoutMaxConcurrentConsumers = 1;
+        /**
+         * Specifies the number of shards the correlation ids of pending
+         * requests are spread over when using request/reply over JMS. Each
+         * shard has its own lock and keeps its correlation ids ordered by
+         * timeout, which reduces contention when doing request/reply at high
+         * rates. The reply message listener uses at least one concurrent
+         * consumer per shard. The shards can be monitored from JMX. The default
+         * value of 1 uses a single correlation map.
+         */
+        private Integer replyToCorrelationShards = 1;
         /**
          * Specifies whether persistent delivery is used by default.
          */
@@ -1966,6 +2043,32 @@ public class JmsComponentConfiguration
          * 8601 standard.
          */
         private Boolean formatDateHeadersToIso8601 = false;
+        /**
+         * Sets the maximum number of messages to receive within the same JMS
+         * session and route as a single batch. When enabled the messages are
+         * routed as a grouped exchange, where the message body is a List of
+         * exchanges (one per JMS message), and the JMS session is committed (or
+         * rolled back) once for the entire batch. No reply is sent back for
+         * messages consumed as a batch. This requires consumerType=Default, and
+         * is typically used with transacted=true. The default value of 0
+         * disables batch consuming.
+         */
+        private Integer consumerBatchSize;
+        /**
+         * The maximum time in millis to wait for more messages to complete a
+         * batch, when consumerBatchSize is enabled. The batch is routed when
+         * either consumerBatchSize messages has been received or this timeout
+         * elapsed since the first message of the batch was received.
+         */
+        private Long consumerBatchTimeout = 1000L;
+        /**
+         * When enabled and the message body is an Iterable (such as a
+         * java.util.List), then each element is sent as a separate JMS message
+         * using the same JMS session and message producer. In combination with
+         * transacted=true, all the messages are committed at once. Only
+         * applicable when sending using InOnly (eg fire and forget).
+         */
+        private Boolean producerBatch = false;
 
         public ConsumerType getConsumerType() {
             return consumerType;
@@ -2267,6 +2370,14 @@ public class JmsComponentConfiguration
             this.replyToOnTimeoutMaxConcurrentConsumers = replyToOnTimeoutMaxConcurrentConsumers;
         }
 
+        public Integer getReplyToCorrelationShards() {
+            return replyToCorrelationShards;
+        }
+
+        public void setReplyToCorrelationShards(Integer replyToCorrelationShards) {
+            this.replyToCorrelationShards = replyToCorrelationShards;
+        }
+
         public Boolean getDeliveryPersistent() {
             return deliveryPersistent;
         }
@@ -2729,5 +2840,29 @@ public class JmsComponentConfiguration
                 Boolean formatDateHeadersToIso8601) {
             this.formatDateHeadersToIso8601 = formatDateHeadersToIso8601;
         }
+
+        public Integer getConsumerBatchSize() {
+            return consumerBatchSize;
+        }
+
+        public void setConsumerBatchSize(Integer consumerBatchSize) {
+            this.consumerBatchSize = consumerBatchSize;
+        }
+
+        public Long getConsumerBatchTimeout() {
+            return consumerBatchTimeout;
+        }
+
+        public void setConsumerBatchTimeout(Long consumerBatchTimeout) {
+            this.consumerBatchTimeout = consumerBatchTimeout;
+        }
+
+        public Boolean getProducerBatch() {
+            return producerBatch;
+        }
+
+        public void setProducerBatch(Boolean producerBatch) {
+            this.producerBatch = producerBatch;
+        }
     }
 }
\ No newline at end of file
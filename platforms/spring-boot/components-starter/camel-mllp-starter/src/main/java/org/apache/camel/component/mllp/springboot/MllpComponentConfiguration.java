@@ -35,6 +35,11 @@ public class MllpComponentConfiguration
         extends
             ComponentConfigurationPropertiesCommon {
 
+    /**
+     * Set the number of selector threads used to serve the connections of the
+     * endpoints using the NIO transport.
+     */
+    private Integer nioEventLoopThreads = 2;
     /**
      * Set the component to log PHI data.
      */
@@ -59,6 +64,14 @@ public class MllpComponentConfiguration
      */
     private Boolean resolvePropertyPlaceholders = true;
 
+    public Integer getNioEventLoopThreads() {
+        return nioEventLoopThreads;
+    }
+
+    public void setNioEventLoopThreads(Integer nioEventLoopThreads) {
+        this.nioEventLoopThreads = nioEventLoopThreads;
+    }
+
     public Boolean getLogPhi() {
         return logPhi;
     }
@@ -268,6 +281,19 @@ public class MllpComponentConfiguration
          *            used
          */
         private Integer sendBufferSize = 8192;
+        /**
+         * Enable/Disable the non-blocking (NIO) transport. If enabled, the TCP
+         * connections are served by the small pool of selector threads shared
+         * by the component instead of a thread per connection. For consumers
+         * the maxConcurrentConsumers parameter limits the number of messages
+         * processed concurrently rather than the number of connections. The
+         * producer pipelines messages on a single connection and correlates the
+         * acknowledgements in the order the messages were sent.
+         * 
+         * @param nio
+         *            enabled if true, otherwise disabled
+         */
+        private Boolean nio = false;
         /**
          * Enable/Disable the automatic generation of a MLLP Acknowledgement
          * MLLP Consumers only
@@ -495,6 +521,14 @@ public class MllpComponentConfiguration
             this.sendBufferSize = sendBufferSize;
         }
 
+        public Boolean getNio() {
+            return nio;
+        }
+
+        public void setNio(Boolean nio) {
+            this.nio = nio;
+        }
+
         public Boolean getAutoAck() {
             return autoAck;
         }
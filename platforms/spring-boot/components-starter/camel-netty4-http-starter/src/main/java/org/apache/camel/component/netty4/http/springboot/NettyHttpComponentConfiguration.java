@@ -150,6 +150,105 @@ public class NettyHttpComponentConfiguration
         this.resolvePropertyPlaceholders = resolvePropertyPlaceholders;
     }
 
+    public static class NettyHttpSecurityConfigurationNestedConfiguration {
+        public static final Class CAMEL_NESTED_CLASS = org.apache.camel.component.netty4.http.NettyHttpSecurityConfiguration.class;
+        /**
+         * Whether to enable authentication
+         * <p/>
+         * This is by default enabled.
+         */
+        private Boolean authenticate;
+        /**
+         * The supported restricted.
+         * <p/>
+         * Currently only Basic is supported.
+         */
+        private String constraint;
+        /**
+         * Sets the name of the realm to use.
+         */
+        private String realm;
+        /**
+         * Sets a {@link SecurityConstraint} to use for checking if a web
+         * resource is restricted or not
+         * <p/>
+         * By default this is <tt>null</tt>, which means all resources is
+         * restricted.
+         */
+        private SecurityConstraint securityConstraint;
+        /**
+         * Sets the {@link SecurityAuthenticator} to use for authenticating the
+         * {@link HttpPrincipal} .
+         */
+        private SecurityAuthenticator securityAuthenticator;
+        /**
+         * Sets a logging level to use for logging denied login attempts (incl
+         * stacktraces)
+         * <p/>
+         * This level is by default DEBUG.
+         */
+        private LoggingLevel loginDeniedLoggingLevel;
+        private String roleClassName;
+
+        public Boolean getAuthenticate() {
+            return authenticate;
+        }
+
+        public void setAuthenticate(Boolean authenticate) {
+            this.authenticate = authenticate;
+        }
+
+        public String getConstraint() {
+            return constraint;
+        }
+
+        public void setConstraint(String constraint) {
+            this.constraint = constraint;
+        }
+
+        public String getRealm() {
+            return realm;
+        }
+
+        public void setRealm(String realm) {
+            this.realm = realm;
+        }
+
+        public SecurityConstraint getSecurityConstraint() {
+            return securityConstraint;
+        }
+
+        public void setSecurityConstraint(SecurityConstraint securityConstraint) {
+            this.securityConstraint = securityConstraint;
+        }
+
+        public SecurityAuthenticator getSecurityAuthenticator() {
+            return securityAuthenticator;
+        }
+
+        public void setSecurityAuthenticator(
+                SecurityAuthenticator securityAuthenticator) {
+            this.securityAuthenticator = securityAuthenticator;
+        }
+
+        public LoggingLevel getLoginDeniedLoggingLevel() {
+            return loginDeniedLoggingLevel;
+        }
+
+        public void setLoginDeniedLoggingLevel(
+                LoggingLevel loginDeniedLoggingLevel) {
+            this.loginDeniedLoggingLevel = loginDeniedLoggingLevel;
+        }
+
+        public String getRoleClassName() {
+            return roleClassName;
+        }
+
+        public void setRoleClassName(String roleClassName) {
+            this.roleClassName = roleClassName;
+        }
+    }
+
     public static class NettyHttpConfigurationNestedConfiguration {
         public static final Class CAMEL_NESTED_CLASS = org.apache.camel.component.netty4.http.NettyHttpConfiguration.class;
         /**
@@ -278,6 +377,35 @@ public class NettyHttpComponentConfiguration
          * Sets whether to use a relative path in HTTP requests.
          */
         private Boolean useRelativePath = false;
+        /**
+         * Whether the producer should keep the Netty buffer of the HTTP
+         * response as the message body, instead of copying the response into a
+         * byte array. The buffer is released when the unit of work of the
+         * {@link org.apache.camel.Exchange} is done, and is written as is,
+         * without copying, by a Netty HTTP consumer which makes this useful
+         * when proxying. Mind that the message body can then no longer be
+         * accessed after the exchange is done, such as the result of using a
+         * {@link org.apache.camel.ProducerTemplate} to call the producer. This
+         * option is not in use if disableStreamCache is enabled.
+         */
+        private Boolean passThroughResponseBuffer = false;
+        /**
+         * Whether to use HTTP/2. The consumer accepts HTTP/2 in addition to
+         * HTTP/1.1 on the same port, using h2c (with prior knowledge or by
+         * upgrading the connection) or, when using SSL, h2 negotiated with
+         * ALPN. The producer sends the requests as HTTP/2 streams which are
+         * multiplexed over a few connections, using h2c with prior knowledge
+         * or, when using SSL, h2 negotiated with ALPN. Mind that ALPN requires
+         * an SSL engine which supports it, such as from Java 9 or newer. This
+         * option is not in use for consumers using a shared Netty HTTP server.
+         */
+        private Boolean http2 = false;
+        /**
+         * The number of connections the producer multiplexes the HTTP/2
+         * requests over. The connections are opened on demand and the requests
+         * are spread over them in a round robin fashion.
+         */
+        private Integer http2Connections = 1;
 
         public String getProtocol() {
             return protocol;
@@ -422,104 +550,30 @@ public class NettyHttpComponentConfiguration
         public void setUseRelativePath(Boolean useRelativePath) {
             this.useRelativePath = useRelativePath;
         }
-    }
-
-    public static class NettyHttpSecurityConfigurationNestedConfiguration {
-        public static final Class CAMEL_NESTED_CLASS = org.apache.camel.component.netty4.http.NettyHttpSecurityConfiguration.class;
-        /**
-         * Whether to enable authentication
-         * <p/>
-         * This is by default enabled.
-         */
-        private Boolean authenticate;
-        /**
-         * The supported restricted.
-         * <p/>
-         * Currently only Basic is supported.
-         */
-        private String constraint;
-        /**
-         * Sets the name of the realm to use.
-         */
-        private String realm;
-        /**
-         * Sets a {@link SecurityConstraint} to use for checking if a web
-         * resource is restricted or not
-         * <p/>
-         * By default this is <tt>null</tt>, which means all resources is
-         * restricted.
-         */
-        private SecurityConstraint securityConstraint;
-        /**
-         * Sets the {@link SecurityAuthenticator} to use for authenticating the
-         * {@link HttpPrincipal} .
-         */
-        private SecurityAuthenticator securityAuthenticator;
-        /**
-         * Sets a logging level to use for logging denied login attempts (incl
-         * stacktraces)
-         * <p/>
-         * This level is by default DEBUG.
-         */
-        private LoggingLevel loginDeniedLoggingLevel;
-        private String roleClassName;
-
-        public Boolean getAuthenticate() {
-            return authenticate;
-        }
-
-        public void setAuthenticate(Boolean authenticate) {
-            this.authenticate = authenticate;
-        }
-
-        public String getConstraint() {
-            return constraint;
-        }
-
-        public void setConstraint(String constraint) {
-            this.constraint = constraint;
-        }
-
-        public String getRealm() {
-            return realm;
-        }
-
-        public void setRealm(String realm) {
-            this.realm = realm;
-        }
-
-        public SecurityConstraint getSecurityConstraint() {
-            return securityConstraint;
-        }
 
-        public void setSecurityConstraint(SecurityConstraint securityConstraint) {
-            this.securityConstraint = securityConstraint;
-        }
-
-        public SecurityAuthenticator getSecurityAuthenticator() {
-            return securityAuthenticator;
+        public Boolean getPassThroughResponseBuffer() {
+            return passThroughResponseBuffer;
         }
 
-        public void setSecurityAuthenticator(
-                SecurityAuthenticator securityAuthenticator) {
-            this.securityAuthenticator = securityAuthenticator;
+        public void setPassThroughResponseBuffer(
+                Boolean passThroughResponseBuffer) {
+            this.passThroughResponseBuffer = passThroughResponseBuffer;
         }
 
-        public LoggingLevel getLoginDeniedLoggingLevel() {
-            return loginDeniedLoggingLevel;
+        public Boolean getHttp2() {
+            return http2;
         }
 
-        public void setLoginDeniedLoggingLevel(
-                LoggingLevel loginDeniedLoggingLevel) {
-            this.loginDeniedLoggingLevel = loginDeniedLoggingLevel;
+        public void setHttp2(Boolean http2) {
+            this.http2 = http2;
         }
 
-        public String getRoleClassName() {
-            return roleClassName;
+        public Integer getHttp2Connections() {
+            return http2Connections;
         }
 
-        public void setRoleClassName(String roleClassName) {
-            this.roleClassName = roleClassName;
+        public void setHttp2Connections(Integer http2Connections) {
+            this.http2Connections = http2Connections;
         }
     }
 }
\ No newline at end of file
@@ -108,6 +108,26 @@ public class ReactiveStreamsComponentConfiguration
          * engine.
          */
         private Integer threadPoolMaxSize;
+        /**
+         * The maximum number of exchanges buffered for each subscriber by the
+         * bounded engine (serviceType=bounded-service). It is rounded up to the
+         * next power of two.
+         */
+        private Integer bufferSize;
+        /**
+         * Set the low watermark of the buffers of the bounded engine
+         * (serviceType=bounded-service), as a fraction of the buffer size: the
+         * route consumers suspended because of a full buffer are resumed when
+         * the buffer is drained below this watermark.
+         */
+        private Double bufferLowWatermark;
+        /**
+         * The maximum time in millis a route waits for room in a full buffer of
+         * the bounded engine (serviceType=bounded-service), when the
+         * backpressure strategy is BUFFER and the consumer of the route cannot
+         * be suspended. The exchange is discarded when the timeout elapses.
+         */
+        private Long bufferFullTimeout;
 
         public String getThreadPoolName() {
             return threadPoolName;
@@ -132,5 +152,29 @@ public class ReactiveStreamsComponentConfiguration
         public void setThreadPoolMaxSize(Integer threadPoolMaxSize) {
             this.threadPoolMaxSize = threadPoolMaxSize;
         }
+
+        public Integer getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(Integer bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public Double getBufferLowWatermark() {
+            return bufferLowWatermark;
+        }
+
+        public void setBufferLowWatermark(Double bufferLowWatermark) {
+            this.bufferLowWatermark = bufferLowWatermark;
+        }
+
+        public Long getBufferFullTimeout() {
+            return bufferFullTimeout;
+        }
+
+        public void setBufferFullTimeout(Long bufferFullTimeout) {
+            this.bufferFullTimeout = bufferFullTimeout;
+        }
     }
 }
\ No newline at end of file